@@ -20,7 +20,6 @@ import io.micronaut.http.context.ServerRequestContext
 import jakarta.annotation.PreDestroy
 import jakarta.inject.Named
 import jakarta.inject.Singleton
-import java.lang.Thread.sleep
 import java.time.Instant
 import java.util.Optional
 import java.util.UUID
@@ -231,6 +230,9 @@ class SegmentAnalyticsClient(
  * has been sent to Segment.  This can be used on shutdown to verify that we are not
  * dropping any enqueued or in-flight events are delivered to Segment before
  * stopping.
+ *
+ * The plugin keeps a future that is completed by the Segment callback as soon as
+ * the in-flight messages drain, so that waiting for the flush does not poll.
  */
 @Singleton
 @Requires(property = "airbyte.tracking.strategy", pattern = "(?i)^segment$")
@@ -238,16 +240,20 @@ class BlockingShutdownAnalyticsPlugin(
   @Value("\${airbyte.tracking.flush-interval-sec:10}") private val flushInterval: Long,
 ) : Plugin {
   private val inflightMessageCount = AtomicLong(0L)
+  private val drainedLock = Any()
+
+  @Volatile
+  private var drained: CompletableFuture<Unit> = CompletableFuture.completedFuture(Unit)
 
   override fun configure(builder: Analytics.Builder) {
     builder.messageTransformer {
-      inflightMessageCount.incrementAndGet()
+      messageEnqueued()
       true
     }
     builder.callback(
       object : Callback {
         override fun success(message: Message) {
-          inflightMessageCount.decrementAndGet()
+          messageDelivered()
         }
 
         override fun failure(
@@ -257,16 +263,40 @@ class BlockingShutdownAnalyticsPlugin(
           logger.error(throwable) {
             "Failed to send analytics message to Segment (userId = ${message.userId()}, type = ${message.type()}, messageId = ${message.messageId()})"
           }
-          inflightMessageCount.decrementAndGet()
+          messageDelivered()
         }
       },
     )
   }
 
+  private fun messageEnqueued() {
+    synchronized(drainedLock) {
+      if (inflightMessageCount.getAndIncrement() == 0L) {
+        drained = CompletableFuture()
+      }
+    }
+  }
+
+  private fun messageDelivered() {
+    synchronized(drainedLock) {
+      if (inflightMessageCount.decrementAndGet() == 0L) {
+        drained.complete(Unit)
+      }
+    }
+  }
+
   fun currentInflightMessageCount(): Long {
     return inflightMessageCount.get()
   }
 
+  /**
+   * Returns a future that completes as soon as the messages currently in flight have been
+   * sent (or have failed to be sent) to Segment.  It is already complete if there are none.
+   */
+  fun flushFuture(): CompletableFuture<Unit> {
+    return drained.copy()
+  }
+
   fun waitForFlush() {
     // Wait 2 x the flush interval for the flush to occur before moving along to avoid
     // blocking indefinitely on shutdown if something goes wrong
@@ -274,17 +304,7 @@ class BlockingShutdownAnalyticsPlugin(
 
     try {
       logger.info { "Waiting for Segment analytic client to flush enqueued messages..." }
-      val future =
-        CompletableFuture.supplyAsync {
-          var completed = false
-          while (!completed) {
-            completed = inflightMessageCount.get() == 0L
-            if (!completed) {
-              sleep(1)
-            }
-          }
-        }
-      future.get(timeout, TimeUnit.SECONDS)
+      flushFuture().get(timeout, TimeUnit.SECONDS)
       logger.info { "Segment analytic client flush complete." }
     } catch (e: TimeoutException) {
       logger.warn { "Timed out waiting for Segment analytic client to flush enqueued messages (timeout = $timeout seconds)" }
@@ -5,11 +5,16 @@
 package io.airbyte.analytics
 
 import com.segment.analytics.Analytics
+import com.segment.analytics.Callback
+import com.segment.analytics.MessageTransformer
 import com.segment.analytics.messages.TrackMessage
 import io.micronaut.http.HttpStatus
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.slot
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
 import retrofit.client.Client
@@ -29,6 +34,47 @@ class BlockingShutdownAnalyticsPluginTest {
     }
   }
 
+  @Test
+  fun `test that the flush future is complete when there are no in-flight messages`() {
+    val blockingShutdownAnalyticsPlugin = BlockingShutdownAnalyticsPlugin(10L)
+
+    assertTrue(blockingShutdownAnalyticsPlugin.flushFuture().isDone)
+  }
+
+  @Test
+  fun `test that the flush future completes when an in-flight message is sent`() {
+    val plugin = BlockingShutdownAnalyticsPlugin(10L)
+    val (messageTransformer, callback) = configure(plugin)
+    val message = TrackMessage.builder("track").userId("user-id")
+
+    messageTransformer.transform(message)
+    val flushFuture = plugin.flushFuture()
+    assertFalse(flushFuture.isDone)
+
+    callback.success(message.build())
+    assertTrue(flushFuture.isDone)
+    assertEquals(0, plugin.currentInflightMessageCount())
+  }
+
+  @Test
+  fun `test that the flush future completes when an in-flight message fails to be sent`() {
+    val plugin = BlockingShutdownAnalyticsPlugin(10L)
+    val (messageTransformer, callback) = configure(plugin)
+    val message = TrackMessage.builder("track").userId("user-id")
+
+    messageTransformer.transform(message)
+    messageTransformer.transform(message)
+    val flushFuture = plugin.flushFuture()
+
+    callback.failure(message.build(), RuntimeException("bang"))
+    // one message is still in flight
+    assertFalse(flushFuture.isDone)
+
+    callback.failure(message.build(), RuntimeException("bang"))
+    assertTrue(flushFuture.isDone)
+    assertEquals(0, plugin.currentInflightMessageCount())
+  }
+
   @Test
   fun `test that all in-flight messages are flushed before shutdown`() {
     val body: TypedInput = mockk()
@@ -67,5 +113,18 @@ class BlockingShutdownAnalyticsPluginTest {
       plugin.waitForFlush()
     }
     assertEquals(0, plugin.currentInflightMessageCount())
+    assertTrue(plugin.flushFuture().isDone)
+  }
+
+  private fun configure(plugin: BlockingShutdownAnalyticsPlugin): Pair<MessageTransformer, Callback> {
+    val builder: Analytics.Builder = mockk()
+    val messageTransformer = slot<MessageTransformer>()
+    val callback = slot<Callback>()
+    every { builder.messageTransformer(capture(messageTransformer)) } returns builder
+    every { builder.callback(capture(callback)) } returns builder
+
+    plugin.configure(builder)
+
+    return Pair(messageTransformer.captured, callback.captured)
   }
 }
@@ -6,6 +6,7 @@ package io.airbyte.commons.server.converters;
 
 import io.airbyte.api.model.generated.AttemptFailureSummary;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusRead;
 import io.airbyte.api.model.generated.AttemptRead;
 import io.airbyte.api.model.generated.AttemptStats;
@@ -23,7 +24,6 @@ import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
-import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
 import io.airbyte.api.model.generated.StreamDescriptor;
@@ -43,6 +43,7 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.Job;
@@ -69,18 +70,17 @@ public class JobConverter {
     this.logConfigs = logConfigs;
   }
 
+  /**
+   * Job reads leave out the logs of the attempts, which are read page by page with
+   * {@link #getAttemptLogsRead}, so that reading a job with many attempts does not load all their
+   * logs.
+   */
   public JobInfoRead getJobInfoRead(final Job job) {
     return new JobInfoRead()
         .job(getJobWithAttemptsRead(job).getJob())
         .attempts(job.getAttempts().stream().map(this::getAttemptInfoRead).collect(Collectors.toList()));
   }
 
-  public JobInfoRead getJobInfoWithoutLogsRead(final Job job) {
-    return new JobInfoRead()
-        .job(getJobWithAttemptsRead(job).getJob())
-        .attempts(job.getAttempts().stream().map(this::getAttemptInfoWithoutLogsRead).collect(Collectors.toList()));
-  }
-
   public JobInfoLightRead getJobInfoLightRead(final Job job) {
     return new JobInfoLightRead().job(getJobRead(job));
   }
@@ -151,13 +151,10 @@ public class JobConverter {
     }
   }
 
+  /**
+   * Attempt reads leave out the logs, which are read page by page with {@link #getAttemptLogsRead}.
+   */
   public AttemptInfoRead getAttemptInfoRead(final Attempt attempt) {
-    return new AttemptInfoRead()
-        .attempt(getAttemptRead(attempt))
-        .logs(getLogRead(attempt.getLogPath()));
-  }
-
-  public AttemptInfoRead getAttemptInfoWithoutLogsRead(final Attempt attempt) {
     return new AttemptInfoRead()
         .attempt(getAttemptRead(attempt));
   }
@@ -236,9 +233,17 @@ public class JobConverter {
         .partialSuccess(failureSummary.getPartialSuccess());
   }
 
-  public LogRead getLogRead(final Path logPath) {
+  public AttemptLogsRead getAttemptLogsRead(final Path logPath,
+                                            final @Nullable Long offset,
+                                            final LogPage.Direction direction,
+                                            final int limit) {
     try {
-      return new LogRead().logLines(LogClientSingleton.getInstance().getJobLogFile(workerEnvironment, logConfigs, logPath));
+      final LogPage page = LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, offset, direction, limit);
+      return new AttemptLogsRead()
+          .logLines(page.lines())
+          .startOffset(page.startOffset())
+          .endOffset(page.endOffset())
+          .totalBytes(page.totalBytes());
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
@@ -262,6 +267,10 @@ public class JobConverter {
     return getSynchronousJobRead(response.getMetadata());
   }
 
+  /**
+   * Synchronous job reads leave out the logs, which are read page by page with
+   * {@link #getAttemptLogsRead}.
+   */
   public SynchronousJobRead getSynchronousJobRead(final SynchronousJobMetadata metadata) {
     final JobConfigType configType = Enums.convertTo(metadata.getConfigType(), JobConfigType.class);
 
@@ -273,7 +282,6 @@ public class JobConverter {
         .endedAt(metadata.getEndedAt())
         .succeeded(metadata.isSucceeded())
         .connectorConfigurationUpdated(metadata.isConnectorConfigurationUpdated())
-        .logs(getLogRead(metadata.getLogPath()))
         .failureReason(getFailureReason(metadata.getFailureReason()));
   }
 
@@ -4,13 +4,19 @@
 
 package io.airbyte.commons.server.handlers;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.InternalOperationResult;
+import io.airbyte.api.model.generated.LogReadDirection;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
+import io.airbyte.api.model.generated.SynchronousJobLogsRequestBody;
+import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.converters.JobConverter;
@@ -25,8 +31,10 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.Job;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -45,6 +53,10 @@ public class AttemptHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AttemptHandler.class);
 
+  private static final int DEFAULT_LOG_PAGE_SIZE = 1000;
+  @VisibleForTesting
+  static final int MAX_LOG_PAGE_SIZE = 10_000;
+
   private final JobPersistence jobPersistence;
 
   private final JobConverter jobConverter;
@@ -91,6 +103,41 @@ public class AttemptHandler {
     return read.get();
   }
 
+  public AttemptLogsRead getAttemptLogs(final AttemptLogsRequestBody requestBody) throws IOException {
+    final long jobId = requestBody.getJobId();
+    final int attemptNo = requestBody.getAttemptNumber();
+    final int limit = getLogPageLimit(requestBody.getLimit());
+
+    final Attempt attempt = jobPersistence.getAttemptForJob(jobId, attemptNo)
+        .orElseThrow(() -> new IdNotFoundKnownException(
+            String.format("Could not find attempt for job_id: %d and attempt no: %d", jobId, attemptNo),
+            String.format("%d_%d", jobId, attemptNo)));
+
+    return jobConverter.getAttemptLogsRead(attempt.getLogPath(), requestBody.getOffset(), getLogPageDirection(requestBody.getDirection()), limit);
+  }
+
+  public AttemptLogsRead getSynchronousJobLogs(final SynchronousJobLogsRequestBody requestBody) {
+    final int limit = getLogPageLimit(requestBody.getLimit());
+    // Synchronous jobs are not persisted. They run as the only attempt of their job, so their logs are
+    // found from the job id, the same way the Temporal client finds them when it runs the job.
+    final Path jobRoot = TemporalUtils.getJobRoot(workspaceRoot, requestBody.getJobId().toString(), 0);
+    final Path logPath = TemporalUtils.getLogPath(jobRoot);
+
+    return jobConverter.getAttemptLogsRead(logPath, requestBody.getOffset(), getLogPageDirection(requestBody.getDirection()), limit);
+  }
+
+  private static int getLogPageLimit(final Integer requestedLimit) {
+    final int limit = requestedLimit == null ? DEFAULT_LOG_PAGE_SIZE : requestedLimit;
+    if (limit < 0 || limit > MAX_LOG_PAGE_SIZE) {
+      throw new BadRequestException(String.format("Log page limit must be between 0 and %d, got %d", MAX_LOG_PAGE_SIZE, limit));
+    }
+    return limit;
+  }
+
+  private static LogPage.Direction getLogPageDirection(final LogReadDirection direction) {
+    return direction == null ? LogPage.Direction.BACKWARD : Enums.convertTo(direction, LogPage.Direction.class);
+  }
+
   public AttemptStats getAttemptCombinedStats(final long jobId, final int attemptNo) throws IOException {
     final SyncStats stats = jobPersistence.getAttemptCombinedStats(jobId, attemptNo);
 
@@ -48,10 +48,10 @@ import io.airbyte.commons.converters.ConnectionHelper;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
-import io.airbyte.commons.server.converters.CatalogDiffConverters;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper.UpdateSchemaResult;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.CatalogDiffHelper;
 import io.airbyte.commons.server.handlers.helpers.ConnectionScheduleHelper;
 import io.airbyte.commons.server.handlers.helpers.PaginationHelper;
 import io.airbyte.commons.server.scheduler.EventRunner;
@@ -63,7 +63,6 @@ import io.airbyte.config.FieldSelectionData;
 import io.airbyte.config.Geography;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
-import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.Schedule;
 import io.airbyte.config.ScheduleData;
@@ -74,7 +73,6 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardWorkspace;
-import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
@@ -90,12 +88,11 @@ import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.models.Attempt;
-import io.airbyte.persistence.job.models.AttemptWithJobInfo;
+import io.airbyte.persistence.job.models.ConnectionStatusSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.persistence.job.models.JobsRecordsCommitted;
-import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.context.annotation.Value;
@@ -117,9 +114,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -720,12 +717,7 @@ public class ConnectionsHandler {
 
   public CatalogDiff getDiff(final AirbyteCatalog oldCatalog, final AirbyteCatalog newCatalog, final ConfiguredAirbyteCatalog configuredCatalog)
       throws JsonValidationException {
-    return new CatalogDiff().transforms(CatalogHelpers.getCatalogDiff(
-        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(oldCatalog)),
-        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(newCatalog)), configuredCatalog)
-        .stream()
-        .map(CatalogDiffConverters::streamTransformToApi)
-        .toList());
+    return new CatalogDiff().transforms(CatalogDiffHelper.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog));
   }
 
   /**
@@ -868,42 +860,35 @@ public class ConnectionsHandler {
                                                           final ConnectionStatusesRequestBody connectionStatusesRequestBody)
       throws IOException, JsonValidationException, ConfigNotFoundException {
     final List<UUID> connectionIds = connectionStatusesRequestBody.getConnectionIds();
+    final Map<UUID, ConnectionStatusSummary> summariesByConnectionId = jobPersistence.getConnectionStatusSummaries(connectionIds,
+        Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION),
+        maxJobLookback)
+        .stream()
+        .collect(Collectors.toMap(ConnectionStatusSummary::connectionId, Function.identity()));
+
     final List<ConnectionStatusRead> result = new ArrayList<>();
     for (final UUID connectionId : connectionIds) {
-      final List<Job> jobs = jobPersistence.listJobs(Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION),
-          connectionId.toString(),
-          maxJobLookback);
-      final boolean isRunning = jobs.stream().anyMatch(job -> JobStatus.NON_TERMINAL_STATUSES.contains(job.getStatus()));
-
-      final Optional<Job> lastSucceededOrFailedJob =
-          jobs.stream().filter(job -> JobStatus.TERMINAL_STATUSES.contains(job.getStatus()) && job.getStatus() != JobStatus.CANCELLED).findFirst();
-      final Optional<JobStatus> lastSyncStatus = lastSucceededOrFailedJob.map(job -> job.getStatus());
-
-      final Optional<Job> lastSuccessfulJob = jobs.stream().filter(job -> job.getStatus() == JobStatus.SUCCEEDED).findFirst();
-      final Optional<Long> lastSuccessTimestamp = lastSuccessfulJob.map(job -> job.getUpdatedAtInSecond());
-
+      final ConnectionStatusSummary summary = summariesByConnectionId.get(connectionId);
       final ConnectionStatusRead connectionStatus = new ConnectionStatusRead()
           .connectionId(connectionId)
-          .isRunning(isRunning)
-          .lastSyncJobStatus(Enums.convertTo(lastSyncStatus.orElse(null),
-              io.airbyte.api.model.generated.JobStatus.class))
-          .lastSuccessfulSync(lastSuccessTimestamp.orElse(null))
+          .isRunning(false)
           .nextSync(null)
-          .isLastCompletedJobReset(lastSucceededOrFailedJob.map(job -> job.getConfigType() == ConfigType.RESET_CONNECTION).orElse(false));
-      if (lastSucceededOrFailedJob.isPresent()) {
-        connectionStatus.lastSyncJobId(lastSucceededOrFailedJob.get().getId());
-        final Optional<Attempt> lastAttempt = lastSucceededOrFailedJob.get().getLastAttempt();
-        if (lastAttempt.isPresent()) {
-          connectionStatus.lastSyncAttemptNumber(lastAttempt.get().getAttemptNumber());
+          .isLastCompletedJobReset(false);
+      if (summary != null) {
+        connectionStatus
+            .isRunning(summary.isRunning())
+            .lastSyncJobStatus(Enums.convertTo(summary.lastCompletedJobStatus(), io.airbyte.api.model.generated.JobStatus.class))
+            .lastSuccessfulSync(summary.lastSuccessfulJobUpdatedAtInSecond())
+            .isLastCompletedJobReset(summary.lastCompletedJobConfigType() == ConfigType.RESET_CONNECTION)
+            .lastSyncJobId(summary.lastCompletedJobId())
+            .lastSyncAttemptNumber(summary.lastCompletedJobLastAttemptNumber());
+        if (summary.lastCompletedJobStatus() == JobStatus.FAILED && summary.lastCompletedJobFailureSummary() != null) {
+          summary.lastCompletedJobFailureSummary().getFailures().stream()
+              .findFirst()
+              .map(this::mapFailureReason)
+              .ifPresent(connectionStatus::setFailureReason);
         }
       }
-      final Optional<io.airbyte.api.model.generated.FailureReason> failureReason = lastSucceededOrFailedJob.flatMap(Job::getLastFailedAttempt)
-          .flatMap(Attempt::getFailureSummary)
-          .flatMap(s -> s.getFailures().stream().findFirst())
-          .map(reason -> mapFailureReason(reason));
-      if (failureReason.isPresent() && lastSucceededOrFailedJob.get().getStatus() == JobStatus.FAILED) {
-        connectionStatus.setFailureReason(failureReason.get());
-      }
       result.add(connectionStatus);
     }
 
@@ -979,77 +964,21 @@ public class ConnectionsHandler {
                                                                           final ConnectionStreamHistoryRequestBody connectionStreamHistoryRequestBody)
       throws IOException {
 
-    // Start time in designated timezone
-    final ZonedDateTime endTimeInUserTimeZone = Instant.now().atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()));
-    final ZonedDateTime startTimeInUserTimeZone = endTimeInUserTimeZone.minusDays(30);
-    // Convert start time to UTC (since that's what the database uses)
-    final Instant startTimeInUTC = startTimeInUserTimeZone.toInstant();
-
-    final List<AttemptWithJobInfo> attempts = jobPersistence.listAttemptsForConnectionAfterTimestamp(
-        connectionStreamHistoryRequestBody.getConnectionId(),
-        ConfigType.SYNC,
-        startTimeInUTC);
-
-    final TreeMap<LocalDate, Map<List<String>, Long>> connectionStreamHistoryReadItemsByDate = new TreeMap<>();
     final ZoneId userTimeZone = ZoneId.of(connectionStreamHistoryRequestBody.getTimezone());
+    // Start time in designated timezone, converted to an instant since that's what the database uses
+    final Instant startTime = Instant.now().atZone(userTimeZone).minusDays(30).toInstant();
 
-    final LocalDate startDate = startTimeInUserTimeZone.toLocalDate();
-    final LocalDate endDate = endTimeInUserTimeZone.toLocalDate();
-    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-      connectionStreamHistoryReadItemsByDate.put(date, new HashMap<>());
-    }
-
-    for (final AttemptWithJobInfo attempt : attempts) {
-      final Optional<Long> endedAtOptional = attempt.getAttempt().getEndedAtInSecond();
-
-      if (endedAtOptional.isPresent()) {
-        // Convert the endedAt timestamp from the database to the designated timezone
-        final Instant attemptEndedAt = Instant.ofEpochSecond(endedAtOptional.get());
-        final LocalDate attemptDateInUserTimeZone = attemptEndedAt.atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()))
-            .toLocalDate();
-
-        // Merge it with the records synced from the attempt
-        final Optional<JobOutput> attemptOutput = attempt.getAttempt().getOutput();
-        if (attemptOutput.isPresent()) {
-          final List<StreamSyncStats> streamSyncStats = attemptOutput.get().getSync().getStandardSyncSummary().getStreamStats();
-          for (final StreamSyncStats streamSyncStat : streamSyncStats) {
-            final String streamName = streamSyncStat.getStreamName();
-            final String streamNamespace = streamSyncStat.getStreamNamespace();
-            final long recordsCommitted = streamSyncStat.getStats().getRecordsCommitted();
-
-            // Update the records loaded for the corresponding stream for that day
-            final Map<List<String>, Long> existingItem = connectionStreamHistoryReadItemsByDate.get(attemptDateInUserTimeZone);
-            final List<String> key = List.of(streamNamespace, streamName);
-            if (existingItem.containsKey(key)) {
-              existingItem.put(key, existingItem.get(key) + recordsCommitted);
-            } else {
-              existingItem.put(key, recordsCommitted);
-            }
-          }
-        }
-      }
-    }
-
-    final List<ConnectionStreamHistoryReadItem> result = new ArrayList<>();
-    for (final Entry<LocalDate, Map<List<String>, Long>> entry : connectionStreamHistoryReadItemsByDate.entrySet()) {
-      final LocalDate date = entry.getKey();
-      final Map<List<String>, Long> streamRecordsByStream = entry.getValue();
-
-      streamRecordsByStream.entrySet().stream()
-          .sorted(Comparator.comparing((Entry<List<String>, Long> e) -> e.getKey().get(0))
-              .thenComparing(e -> e.getKey().get(1)))
-          .forEach(streamRecords -> {
-            final List<String> streamNamespaceAndName = streamRecords.getKey();
-            final Long recordsCommitted = streamRecords.getValue();
-
-            result.add(new ConnectionStreamHistoryReadItem()
-                .timestamp(Math.toIntExact(date.atStartOfDay(userTimeZone).toEpochSecond()))
-                .streamNamespace(streamNamespaceAndName.get(0))
-                .streamName(streamNamespaceAndName.get(1))
-                .recordsCommitted(recordsCommitted));
-          });
-    }
-    return result;
+    return jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(
+        connectionStreamHistoryRequestBody.getConnectionId(),
+        startTime,
+        userTimeZone)
+        .stream()
+        .map(streamRecords -> new ConnectionStreamHistoryReadItem()
+            .timestamp(Math.toIntExact(streamRecords.date().atStartOfDay(userTimeZone).toEpochSecond()))
+            .streamNamespace(streamRecords.streamNamespace())
+            .streamName(streamRecords.streamName())
+            .recordsCommitted(streamRecords.recordsCommitted()))
+        .toList();
   }
 
   public ConnectionAutoPropagateResult applySchemaChange(final ConnectionAutoPropagateSchemaChange request)
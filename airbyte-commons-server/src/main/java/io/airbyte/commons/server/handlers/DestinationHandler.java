@@ -23,12 +23,14 @@ import io.airbyte.api.model.generated.DestinationSearch;
 import io.airbyte.api.model.generated.DestinationSnippetRead;
 import io.airbyte.api.model.generated.DestinationUpdate;
 import io.airbyte.api.model.generated.ListResourcesForWorkspacesRequestBody;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.PartialDestinationUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
 import io.airbyte.commons.server.handlers.helpers.OAuthSecretHelper;
+import io.airbyte.commons.server.handlers.helpers.PaginationHelper;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -39,6 +41,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.ResourcesQueryPaginated;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.UseIconUrlInApiResponse;
 import io.airbyte.featureflag.Workspace;
@@ -49,11 +52,13 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * DestinationHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -270,58 +275,56 @@ public class DestinationHandler {
   public DestinationReadList listDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<DestinationRead> destinationReads = new ArrayList<>();
     final List<DestinationConnection> destinationConnections =
         configRepository.listWorkspaceDestinationConnection(workspaceIdRequestBody.getWorkspaceId());
-    for (final DestinationConnection destinationConnection : destinationConnections) {
-      destinationReads.add(buildDestinationRead(destinationConnection));
-    }
 
-    return new DestinationReadList().destinations(destinationReads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList listDestinationsForWorkspaces(final ListResourcesForWorkspacesRequestBody listResourcesForWorkspacesRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<DestinationRead> reads = Lists.newArrayList();
     final List<DestinationConnection> destinationConnections = configRepository.listWorkspacesDestinationConnections(
         new ResourcesQueryPaginated(
             listResourcesForWorkspacesRequestBody.getWorkspaceIds(),
             listResourcesForWorkspacesRequestBody.getIncludeDeleted(),
             listResourcesForWorkspacesRequestBody.getPagination().getPageSize(),
             listResourcesForWorkspacesRequestBody.getPagination().getRowOffset(), null));
-    for (final DestinationConnection destinationConnection : destinationConnections) {
-      reads.add(buildDestinationRead(destinationConnection));
-    }
-    return new DestinationReadList().destinations(reads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList listDestinationsForDestinationDefinition(final DestinationDefinitionIdRequestBody destinationDefinitionIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
-    final List<DestinationRead> reads = Lists.newArrayList();
-
-    for (final DestinationConnection destinationConnection : configRepository
-        .listDestinationsForDefinition(destinationDefinitionIdRequestBody.getDestinationDefinitionId())) {
-      reads.add(buildDestinationRead(destinationConnection));
-    }
+    final List<DestinationConnection> destinationConnections =
+        configRepository.listDestinationsForDefinition(destinationDefinitionIdRequestBody.getDestinationDefinitionId());
 
-    return new DestinationReadList().destinations(reads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList searchDestinations(final DestinationSearch destinationSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<DestinationRead> reads = Lists.newArrayList();
+    // The configuration is matched against the sanitized configuration of the reads, so it is the only
+    // criterion not pushed down to the database. When it is set, the page is cut once reads are matched.
+    final boolean matchConfiguration = destinationSearch.getConnectionConfiguration() != null;
+    final Pagination pagination = destinationSearch.getPagination();
+    final ActorSearchQuery query = new ActorSearchQuery(
+        destinationSearch.getDestinationId(),
+        destinationSearch.getDestinationDefinitionId(),
+        destinationSearch.getWorkspaceId(),
+        destinationSearch.getName(),
+        destinationSearch.getDestinationName(),
+        pagination == null || matchConfiguration ? null : PaginationHelper.pageSize(pagination),
+        matchConfiguration ? 0 : PaginationHelper.rowOffset(pagination));
 
-    for (final DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getTombstone()) {
-        final DestinationRead destinationRead = buildDestinationRead(dci);
-        if (MatchSearchHandler.matchSearch(destinationSearch, destinationRead)) {
-          reads.add(destinationRead);
-        }
+    final List<DestinationRead> reads = Lists.newArrayList();
+    for (final DestinationConnection dci : destinationService.searchDestinationConnections(query)) {
+      final DestinationRead destinationRead = buildDestinationRead(dci);
+      if (!matchConfiguration || MatchSearchHandler.matchSearch(destinationSearch, destinationRead)) {
+        reads.add(destinationRead);
       }
     }
 
-    return new DestinationReadList().destinations(reads);
+    return new DestinationReadList().destinations(matchConfiguration ? PaginationHelper.page(reads, pagination) : reads);
   }
 
   private void validateDestination(final ConnectorSpecification spec, final JsonNode configuration) throws JsonValidationException {
@@ -392,6 +395,45 @@ public class DestinationHandler {
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
+  /**
+   * Build the reads of several destinations. The definitions, versions and breaking changes are
+   * loaded once and shared by the destinations using them, instead of being loaded for each
+   * destination.
+   */
+  private List<DestinationRead> buildDestinationReads(final List<DestinationConnection> destinationConnections)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final Map<UUID, List<DestinationConnection>> destinationConnectionsByDefinitionId =
+        destinationConnections.stream().collect(Collectors.groupingBy(DestinationConnection::getDestinationDefinitionId));
+
+    final Map<UUID, DestinationRead> readsByDestinationId = new HashMap<>();
+    final Map<UUID, Optional<ActorDefinitionVersionBreakingChanges>> breakingChangesByVersionId = new HashMap<>();
+    for (final Map.Entry<UUID, List<DestinationConnection>> entry : destinationConnectionsByDefinitionId.entrySet()) {
+      final StandardDestinationDefinition standardDestinationDefinition = configRepository.getStandardDestinationDefinition(entry.getKey());
+      final Map<UUID, ActorDefinitionVersionWithOverrideStatus> destinationVersions =
+          actorDefinitionVersionHelper.getDestinationVersionsWithOverrideStatus(standardDestinationDefinition, entry.getValue());
+
+      for (final DestinationConnection destinationConnection : entry.getValue()) {
+        final ActorDefinitionVersionWithOverrideStatus destinationVersionWithOverrideStatus =
+            destinationVersions.get(destinationConnection.getDestinationId());
+        final ActorDefinitionVersion destinationVersion = destinationVersionWithOverrideStatus.actorDefinitionVersion();
+        if (!breakingChangesByVersionId.containsKey(destinationVersion.getVersionId())) {
+          breakingChangesByVersionId.put(destinationVersion.getVersionId(), actorDefinitionHandlerHelper.getVersionBreakingChanges(destinationVersion));
+        }
+
+        // remove secrets from config before returning the read
+        final DestinationConnection dci = Jsons.clone(destinationConnection);
+        dci.setConfiguration(
+            secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(), destinationVersion.getSpec().getConnectionSpecification()));
+        readsByDestinationId.put(dci.getDestinationId(), toDestinationRead(dci, standardDestinationDefinition,
+            destinationVersionWithOverrideStatus, breakingChangesByVersionId.get(destinationVersion.getVersionId())));
+      }
+    }
+
+    return destinationConnections.stream()
+        .map(destinationConnection -> readsByDestinationId.get(destinationConnection.getDestinationId()))
+        .collect(Collectors.toList());
+  }
+
   @SuppressWarnings("PMD.PreserveStackTrace")
   private DestinationRead buildDestinationReadWithSecrets(final UUID destinationId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
@@ -416,11 +458,18 @@ public class DestinationHandler {
         actorDefinitionVersionHelper.getDestinationVersionWithOverrideStatus(
             standardDestinationDefinition, destinationConnection.getWorkspaceId(), destinationConnection.getDestinationId());
 
-    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
-
     final Optional<ActorDefinitionVersionBreakingChanges> breakingChanges =
         actorDefinitionHandlerHelper.getVersionBreakingChanges(destinationVersionWithOverrideStatus.actorDefinitionVersion());
 
+    return toDestinationRead(destinationConnection, standardDestinationDefinition, destinationVersionWithOverrideStatus, breakingChanges);
+  }
+
+  private DestinationRead toDestinationRead(final DestinationConnection destinationConnection,
+                                            final StandardDestinationDefinition standardDestinationDefinition,
+                                            final ActorDefinitionVersionWithOverrideStatus destinationVersionWithOverrideStatus,
+                                            final Optional<ActorDefinitionVersionBreakingChanges> breakingChanges) {
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+
     return new DestinationRead()
         .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
         .destinationId(destinationConnection.getDestinationId())
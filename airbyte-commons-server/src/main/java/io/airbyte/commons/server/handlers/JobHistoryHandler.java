@@ -40,7 +40,9 @@ import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.converters.WorkflowStateConverter;
 import io.airbyte.commons.server.handlers.helpers.StatsAggregationHelper;
 import io.airbyte.commons.server.handlers.helpers.StatsAggregationHelper.StreamStatsRecord;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.commons.temporal.TemporalClient;
+import io.airbyte.commons.temporal.scheduling.state.WorkflowState;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.JobConfig;
@@ -59,6 +61,7 @@ import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -69,6 +72,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
@@ -90,6 +96,7 @@ public class JobHistoryHandler {
   private final WorkflowStateConverter workflowStateConverter;
   private final AirbyteVersion airbyteVersion;
   private final TemporalClient temporalClient;
+  private final ExecutorService workflowStateExecutor;
   private final FeatureFlagClient featureFlagClient;
 
   public JobHistoryHandler(final JobPersistence jobPersistence,
@@ -102,6 +109,7 @@ public class JobHistoryHandler {
                            final DestinationDefinitionsHandler destinationDefinitionsHandler,
                            final AirbyteVersion airbyteVersion,
                            final TemporalClient temporalClient,
+                           @Named(AirbyteTaskExecutors.IO) final ExecutorService workflowStateExecutor,
                            final FeatureFlagClient featureFlagClient) {
     this.featureFlagClient = featureFlagClient;
     jobConverter = new JobConverter(workerEnvironment, logConfigs);
@@ -114,6 +122,7 @@ public class JobHistoryHandler {
     this.destinationDefinitionsHandler = destinationDefinitionsHandler;
     this.airbyteVersion = airbyteVersion;
     this.temporalClient = temporalClient;
+    this.workflowStateExecutor = workflowStateExecutor;
   }
 
   @Deprecated(forRemoval = true)
@@ -128,7 +137,7 @@ public class JobHistoryHandler {
                            final AirbyteVersion airbyteVersion,
                            final FeatureFlagClient featureFlagClient) {
     this(jobPersistence, workerEnvironment, logConfigs, connectionsHandler, sourceHandler, sourceDefinitionsHandler, destinationHandler,
-        destinationDefinitionsHandler, airbyteVersion, null, featureFlagClient);
+        destinationDefinitionsHandler, airbyteVersion, null, null, featureFlagClient);
   }
 
   @SuppressWarnings("UnstableApiUsage")
@@ -353,7 +362,7 @@ public class JobHistoryHandler {
 
   public JobInfoRead getJobInfoWithoutLogs(final JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
-    return jobConverter.getJobInfoWithoutLogsRead(job);
+    return jobConverter.getJobInfoRead(job);
   }
 
   public JobInfoLightRead getJobInfoLight(final JobIdRequestBody jobIdRequestBody) throws IOException {
@@ -371,26 +380,51 @@ public class JobHistoryHandler {
 
   }
 
+  /**
+   * Builds the debug view of a job. The workflow state is queried from Temporal while the stats of
+   * all the attempts are read in one batch and the connection is resolved, and the attempts are
+   * returned without their logs, which are read page by page.
+   */
   public JobDebugInfoRead getJobDebugInfo(final JobIdRequestBody jobIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
-    final JobInfoRead jobinfoRead = jobConverter.getJobInfoRead(job);
-
-    for (final AttemptInfoRead a : jobinfoRead.getAttempts()) {
-      final int attemptNumber = a.getAttempt().getId().intValue();
-      final var attemptStats = jobPersistence.getAttemptStats(job.getId(), attemptNumber);
-      hydrateWithStats(a.getAttempt(), attemptStats);
-    }
+    final CompletableFuture<Optional<WorkflowState>> workflowState = temporalClient == null
+        ? CompletableFuture.completedFuture(Optional.empty())
+        : CompletableFuture.supplyAsync(() -> temporalClient.getWorkflowState(UUID.fromString(job.getScope())), workflowStateExecutor);
+
+    try {
+      final JobInfoRead jobinfoRead = jobConverter.getJobInfoRead(job);
+
+      final Map<JobAttemptPair, JobPersistence.AttemptStats> stats = jobPersistence.getAttemptStats(List.of(job.getId()));
+      for (final AttemptInfoRead a : jobinfoRead.getAttempts()) {
+        final int attemptNumber = a.getAttempt().getId().intValue();
+        hydrateWithStats(a.getAttempt(), stats.getOrDefault(new JobAttemptPair(job.getId(), attemptNumber),
+            new JobPersistence.AttemptStats(null, List.of())));
+      }
 
-    final JobDebugInfoRead jobDebugInfoRead = buildJobDebugInfoRead(jobinfoRead);
-    if (temporalClient != null) {
-      final UUID connectionId = UUID.fromString(job.getScope());
-      temporalClient.getWorkflowState(connectionId)
+      final JobDebugInfoRead jobDebugInfoRead = buildJobDebugInfoRead(jobinfoRead);
+      awaitWorkflowState(workflowState)
           .map(workflowStateConverter::getWorkflowStateRead)
           .ifPresent(jobDebugInfoRead::setWorkflowState);
+
+      return jobDebugInfoRead;
+    } finally {
+      // Only stops waiting on the lookup when building the rest failed: cancelling a CompletableFuture
+      // does not interrupt its task, so a Temporal query still in flight keeps its IO thread until it
+      // returns or hits the RPC timeout of the Temporal service stubs.
+      workflowState.cancel(true);
     }
+  }
 
-    return jobDebugInfoRead;
+  private static Optional<WorkflowState> awaitWorkflowState(final CompletableFuture<Optional<WorkflowState>> workflowState) {
+    try {
+      return workflowState.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
   }
 
   public Optional<JobRead> getLatestRunningSyncJob(final UUID connectionId) throws IOException {
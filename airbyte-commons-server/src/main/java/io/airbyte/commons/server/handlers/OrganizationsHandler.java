@@ -10,6 +10,7 @@ import io.airbyte.api.model.generated.OrganizationIdRequestBody;
 import io.airbyte.api.model.generated.OrganizationRead;
 import io.airbyte.api.model.generated.OrganizationReadList;
 import io.airbyte.api.model.generated.OrganizationUpdateRequestBody;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.Organization;
 import io.airbyte.config.Permission;
@@ -42,15 +43,18 @@ public class OrganizationsHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(OrganizationsHandler.class);
   private final PermissionPersistence permissionPersistence;
   private final OrganizationPersistence organizationPersistence;
+  private final RbacRoleCache rbacRoleCache;
 
   private final Supplier<UUID> uuidGenerator;
 
   @Inject
   public OrganizationsHandler(final OrganizationPersistence organizationPersistence,
                               final PermissionPersistence permissionPersistence,
+                              final RbacRoleCache rbacRoleCache,
                               @Named("uuidGenerator") final Supplier<UUID> uuidGenerator) {
     this.organizationPersistence = organizationPersistence;
     this.permissionPersistence = permissionPersistence;
+    this.rbacRoleCache = rbacRoleCache;
     this.uuidGenerator = uuidGenerator;
   }
 
@@ -87,6 +91,7 @@ public class OrganizationsHandler {
         .withOrganizationId(orgId)
         .withPermissionType(PermissionType.ORGANIZATION_ADMIN);
     permissionPersistence.writePermission(orgAdminPermission);
+    rbacRoleCache.invalidateAll();
     return buildOrganizationRead(organization);
   }
 
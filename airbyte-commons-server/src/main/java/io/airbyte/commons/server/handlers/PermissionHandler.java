@@ -18,6 +18,7 @@ import io.airbyte.api.model.generated.PermissionsCheckMultipleWorkspacesRequest;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.server.errors.OperationNotAllowedException;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.Permission;
 import io.airbyte.config.helpers.PermissionHelper;
@@ -31,7 +32,10 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -50,14 +54,17 @@ public class PermissionHandler {
   private final Supplier<UUID> uuidGenerator;
   private final PermissionPersistence permissionPersistence;
   private final WorkspaceService workspaceService;
+  private final RbacRoleCache rbacRoleCache;
 
   public PermissionHandler(
                            final PermissionPersistence permissionPersistence,
                            final WorkspaceService workspaceService,
+                           final RbacRoleCache rbacRoleCache,
                            @Named("uuidGenerator") final Supplier<UUID> uuidGenerator) {
     this.uuidGenerator = uuidGenerator;
     this.permissionPersistence = permissionPersistence;
     this.workspaceService = workspaceService;
+    this.rbacRoleCache = rbacRoleCache;
   }
 
   /**
@@ -92,6 +99,7 @@ public class PermissionHandler {
         .withOrganizationId(permissionCreate.getOrganizationId());
 
     permissionPersistence.writePermission(permission);
+    rbacRoleCache.invalidateAll();
     final PermissionRead result;
     try {
       result = buildPermissionRead(permissionId);
@@ -208,6 +216,7 @@ public class PermissionHandler {
         .withUserId(existingPermission.getUserId()); // cannot be updated
     try {
       permissionPersistence.writePermission(updatedPermission);
+      rbacRoleCache.invalidateAll();
     } catch (final DataAccessException e) {
       if (e.getCause() instanceof SQLOperationNotAllowedException) {
         throw new OperationNotAllowedException(e.getCause().getMessage(), e);
@@ -323,38 +332,62 @@ public class PermissionHandler {
   /**
    * Given multiple workspaceIds, checks whether the user has at least the given permissionType for
    * all workspaceIds.
+   * <p>
+   * Equivalent to a {@link #checkPermissions(PermissionCheckRequest)} per workspace, but the user
+   * permissions are loaded once and the organizations of the workspaces that are only reachable
+   * through an organization-level permission are resolved with a single query.
    *
    * @param multiRequest The permissions check request with multiple workspaces
    * @return The result of the permission check.
-   * @throws IOException If unable to check the permission.
    */
-  @SuppressWarnings("LineLength")
   public PermissionCheckRead permissionsCheckMultipleWorkspaces(final PermissionsCheckMultipleWorkspacesRequest multiRequest) {
+    final Permission.PermissionType targetPermissionType =
+        Enums.convertTo(multiRequest.getPermissionType(), Permission.PermissionType.class);
+
+    try {
+      final List<Permission> grantingPermissions = permissionPersistence.listPermissionsByUser(multiRequest.getUserId()).stream()
+          .filter(userPermission -> userPermission.getPermissionType() == Permission.PermissionType.INSTANCE_ADMIN
+              || PermissionHelper.definedPermissionGrantsTargetPermission(userPermission.getPermissionType(), targetPermissionType))
+          .toList();
+
+      // instance admins have access to everything by definition, and so does a permission that is not
+      // scoped to a workspace or organization.
+      if (grantingPermissions.stream()
+          .anyMatch(userPermission -> userPermission.getPermissionType() == Permission.PermissionType.INSTANCE_ADMIN
+              || (userPermission.getWorkspaceId() == null && userPermission.getOrganizationId() == null))) {
+        return new PermissionCheckRead().status(StatusEnum.SUCCEEDED);
+      }
+
+      final Set<UUID> grantedWorkspaceIds = grantingPermissions.stream()
+          .map(Permission::getWorkspaceId)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet());
+      final Set<UUID> remainingWorkspaceIds = multiRequest.getWorkspaceIds().stream()
+          .filter(workspaceId -> !grantedWorkspaceIds.contains(workspaceId))
+          .collect(Collectors.toSet());
+      if (remainingWorkspaceIds.isEmpty()) {
+        return new PermissionCheckRead().status(StatusEnum.SUCCEEDED);
+      }
 
-    // Turn the multiple-request into a list of individual requests, one per workspace
-    final List<PermissionCheckRequest> permissionCheckRequests = multiRequest.getWorkspaceIds().stream()
-        .map(workspaceId -> new PermissionCheckRequest()
-            .userId(multiRequest.getUserId())
-            .permissionType(multiRequest.getPermissionType())
-            .workspaceId(workspaceId))
-        .toList();
-
-    // Perform the individual permission checks and store the results in a list
-    final List<PermissionCheckRead> results = permissionCheckRequests.stream()
-        .map(permissionCheckRequest -> {
-          try {
-            return checkPermissions(permissionCheckRequest);
-          } catch (final IOException e) {
-            LOGGER.error("Error checking permissions for request: {}", permissionCheckRequest);
-            return new PermissionCheckRead().status(StatusEnum.FAILED);
-          }
-        }).toList();
-
-    // If each individual workspace check succeeded, return an overall success. Otherwise, return an
-    // overall failure.
-    return results.stream().allMatch(result -> result.getStatus().equals(StatusEnum.SUCCEEDED))
-        ? new PermissionCheckRead().status(StatusEnum.SUCCEEDED)
-        : new PermissionCheckRead().status(StatusEnum.FAILED);
+      final Set<UUID> grantedOrganizationIds = grantingPermissions.stream()
+          .filter(userPermission -> userPermission.getWorkspaceId() == null)
+          .map(Permission::getOrganizationId)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet());
+      if (grantedOrganizationIds.isEmpty()) {
+        return new PermissionCheckRead().status(StatusEnum.FAILED);
+      }
+
+      // workspaces that do not exist or are not in an organization are missing from the map, and fail
+      // the check.
+      final Map<UUID, UUID> workspaceOrganizationIds = workspaceService.getOrganizationIdsForWorkspaceIds(remainingWorkspaceIds);
+      final boolean allGranted = remainingWorkspaceIds.stream()
+          .allMatch(workspaceId -> grantedOrganizationIds.contains(workspaceOrganizationIds.get(workspaceId)));
+      return new PermissionCheckRead().status(allGranted ? StatusEnum.SUCCEEDED : StatusEnum.FAILED);
+    } catch (final IOException e) {
+      LOGGER.error("Error checking permissions for request: {}", multiRequest, e);
+      return new PermissionCheckRead().status(StatusEnum.FAILED);
+    }
   }
 
   public Boolean isUserInstanceAdmin(final UUID userId) throws IOException {
@@ -405,6 +438,7 @@ public class PermissionHandler {
   public void deletePermission(final PermissionIdRequestBody permissionIdRequestBody) throws IOException {
     try {
       permissionPersistence.deletePermissionById(permissionIdRequestBody.getPermissionId());
+      rbacRoleCache.invalidateAll();
     } catch (final DataAccessException e) {
       if (e.getCause() instanceof SQLOperationNotAllowedException) {
         throw new OperationNotAllowedException(e.getCause().getMessage(), e);
@@ -422,9 +456,14 @@ public class PermissionHandler {
     final UUID workspaceId = deleteUserFromWorkspaceRequestBody.getWorkspaceId();
 
     // delete all workspace-level permissions that match the userId and workspaceId
-    permissionPersistence.listPermissionsByUser(userId).stream()
-        .filter(permission -> permission.getWorkspaceId() != null && permission.getWorkspaceId().equals(workspaceId))
-        .forEach(permission -> Exceptions.toRuntime(() -> permissionPersistence.deletePermissionById(permission.getPermissionId())));
+    try {
+      permissionPersistence.listPermissionsByUser(userId).stream()
+          .filter(permission -> permission.getWorkspaceId() != null && permission.getWorkspaceId().equals(workspaceId))
+          .forEach(permission -> Exceptions.toRuntime(() -> permissionPersistence.deletePermissionById(permission.getPermissionId())));
+    } finally {
+      // some permissions may have been deleted even if others failed
+      rbacRoleCache.invalidateAll();
+    }
   }
 
 }
@@ -16,6 +16,7 @@ import io.airbyte.api.model.generated.CompleteOAuthResponse;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.DiscoverCatalogResult;
 import io.airbyte.api.model.generated.ListResourcesForWorkspacesRequestBody;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.PartialSourceUpdate;
 import io.airbyte.api.model.generated.SourceCloneConfiguration;
 import io.airbyte.api.model.generated.SourceCloneRequestBody;
@@ -34,6 +35,7 @@ import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.handlers.helpers.OAuthSecretHelper;
+import io.airbyte.commons.server.handlers.helpers.PaginationHelper;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ScopeType;
 import io.airbyte.config.SecretPersistenceConfig;
@@ -51,6 +53,7 @@ import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Organization;
 import io.airbyte.featureflag.UseIconUrlInApiResponse;
@@ -64,10 +67,13 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * SourceHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -293,12 +299,7 @@ public class SourceHandler {
 
     final List<SourceConnection> sourceConnections = configRepository.listWorkspaceSourceConnection(workspaceIdRequestBody.getWorkspaceId());
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sc : sourceConnections) {
-      reads.add(buildSourceRead(sc));
-    }
-
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList listSourcesForWorkspaces(final ListResourcesForWorkspacesRequestBody listResourcesForWorkspacesRequestBody)
@@ -310,39 +311,42 @@ public class SourceHandler {
             listResourcesForWorkspacesRequestBody.getPagination().getPageSize(),
             listResourcesForWorkspacesRequestBody.getPagination().getRowOffset(), null));
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sc : sourceConnections) {
-      reads.add(buildSourceRead(sc));
-    }
-
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList listSourcesForSourceDefinition(final SourceDefinitionIdRequestBody sourceDefinitionIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sourceConnection : configRepository.listSourcesForDefinition(sourceDefinitionIdRequestBody.getSourceDefinitionId())) {
-      reads.add(buildSourceRead(sourceConnection));
-    }
+    final List<SourceConnection> sourceConnections =
+        configRepository.listSourcesForDefinition(sourceDefinitionIdRequestBody.getSourceDefinitionId());
 
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList searchSources(final SourceSearch sourceSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<SourceRead> reads = Lists.newArrayList();
+    // The configuration is matched against the sanitized configuration of the reads, so it is the only
+    // criterion not pushed down to the database. When it is set, the page is cut once reads are matched.
+    final boolean matchConfiguration = sourceSearch.getConnectionConfiguration() != null;
+    final Pagination pagination = sourceSearch.getPagination();
+    final ActorSearchQuery query = new ActorSearchQuery(
+        sourceSearch.getSourceId(),
+        sourceSearch.getSourceDefinitionId(),
+        sourceSearch.getWorkspaceId(),
+        sourceSearch.getName(),
+        sourceSearch.getSourceName(),
+        pagination == null || matchConfiguration ? null : PaginationHelper.pageSize(pagination),
+        matchConfiguration ? 0 : PaginationHelper.rowOffset(pagination));
 
-    for (final SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getTombstone()) {
-        final SourceRead sourceRead = buildSourceRead(sci);
-        if (MatchSearchHandler.matchSearch(sourceSearch, sourceRead)) {
-          reads.add(sourceRead);
-        }
+    final List<SourceRead> reads = Lists.newArrayList();
+    for (final SourceConnection sci : sourceService.searchSourceConnections(query)) {
+      final SourceRead sourceRead = buildSourceRead(sci);
+      if (!matchConfiguration || MatchSearchHandler.matchSearch(sourceSearch, sourceRead)) {
+        reads.add(sourceRead);
       }
     }
 
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(matchConfiguration ? PaginationHelper.page(reads, pagination) : reads);
   }
 
   public void deleteSource(final SourceIdRequestBody sourceIdRequestBody)
@@ -431,6 +435,41 @@ public class SourceHandler {
     return toSourceRead(sourceConnection, standardSourceDefinition);
   }
 
+  /**
+   * Build the reads of several sources. The definitions, versions and breaking changes are loaded
+   * once and shared by the sources using them, instead of being loaded for each source.
+   */
+  private List<SourceRead> buildSourceReads(final List<SourceConnection> sourceConnections)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final Map<UUID, List<SourceConnection>> sourceConnectionsByDefinitionId =
+        sourceConnections.stream().collect(Collectors.groupingBy(SourceConnection::getSourceDefinitionId));
+
+    final Map<UUID, SourceRead> readsBySourceId = new HashMap<>();
+    final Map<UUID, Optional<ActorDefinitionVersionBreakingChanges>> breakingChangesByVersionId = new HashMap<>();
+    for (final Map.Entry<UUID, List<SourceConnection>> entry : sourceConnectionsByDefinitionId.entrySet()) {
+      final StandardSourceDefinition standardSourceDefinition = configRepository.getStandardSourceDefinition(entry.getKey());
+      final Map<UUID, ActorDefinitionVersionWithOverrideStatus> sourceVersions =
+          actorDefinitionVersionHelper.getSourceVersionsWithOverrideStatus(standardSourceDefinition, entry.getValue());
+
+      for (final SourceConnection sourceConnection : entry.getValue()) {
+        final ActorDefinitionVersionWithOverrideStatus sourceVersionWithOverrideStatus = sourceVersions.get(sourceConnection.getSourceId());
+        final ActorDefinitionVersion sourceVersion = sourceVersionWithOverrideStatus.actorDefinitionVersion();
+        if (!breakingChangesByVersionId.containsKey(sourceVersion.getVersionId())) {
+          breakingChangesByVersionId.put(sourceVersion.getVersionId(), actorDefinitionHandlerHelper.getVersionBreakingChanges(sourceVersion));
+        }
+
+        // remove secrets from config before returning the read
+        final SourceConnection sci = Jsons.clone(sourceConnection);
+        sci.setConfiguration(
+            secretsProcessor.prepareSecretsForOutput(sci.getConfiguration(), sourceVersion.getSpec().getConnectionSpecification()));
+        readsBySourceId.put(sci.getSourceId(), toSourceRead(sci, standardSourceDefinition,
+            sourceVersionWithOverrideStatus, breakingChangesByVersionId.get(sourceVersion.getVersionId())));
+      }
+    }
+
+    return sourceConnections.stream().map(sourceConnection -> readsBySourceId.get(sourceConnection.getSourceId())).collect(Collectors.toList());
+  }
+
   @SuppressWarnings("PMD.PreserveStackTrace")
   private SourceRead buildSourceReadWithSecrets(final UUID sourceId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
@@ -498,11 +537,18 @@ public class SourceHandler {
     final ActorDefinitionVersionWithOverrideStatus sourceVersionWithOverrideStatus = actorDefinitionVersionHelper.getSourceVersionWithOverrideStatus(
         standardSourceDefinition, sourceConnection.getWorkspaceId(), sourceConnection.getSourceId());
 
-    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
-
     final Optional<ActorDefinitionVersionBreakingChanges> breakingChanges =
         actorDefinitionHandlerHelper.getVersionBreakingChanges(sourceVersionWithOverrideStatus.actorDefinitionVersion());
 
+    return toSourceRead(sourceConnection, standardSourceDefinition, sourceVersionWithOverrideStatus, breakingChanges);
+  }
+
+  private SourceRead toSourceRead(final SourceConnection sourceConnection,
+                                  final StandardSourceDefinition standardSourceDefinition,
+                                  final ActorDefinitionVersionWithOverrideStatus sourceVersionWithOverrideStatus,
+                                  final Optional<ActorDefinitionVersionBreakingChanges> breakingChanges) {
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+
     return new SourceRead()
         .sourceDefinitionId(standardSourceDefinition.getSourceDefinitionId())
         .sourceName(standardSourceDefinition.getName())
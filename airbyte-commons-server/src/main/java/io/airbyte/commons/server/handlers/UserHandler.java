@@ -36,6 +36,7 @@ import io.airbyte.commons.auth.config.InitialUserConfiguration;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.errors.OperationNotAllowedException;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.commons.server.support.UserAuthenticationResolver;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.Organization;
@@ -77,6 +78,7 @@ public class UserHandler {
   private final PermissionHandler permissionHandler;
   private final WorkspacesHandler workspacesHandler;
   private final OrganizationPersistence organizationPersistence;
+  private final RbacRoleCache rbacRoleCache;
 
   private final UserAuthenticationResolver userAuthenticationResolver;
   private final Optional<InitialUserConfiguration> initialUserConfiguration;
@@ -88,6 +90,7 @@ public class UserHandler {
                      final OrganizationPersistence organizationPersistence,
                      final PermissionHandler permissionHandler,
                      final WorkspacesHandler workspacesHandler,
+                     final RbacRoleCache rbacRoleCache,
                      @Named("uuidGenerator") final Supplier<UUID> uuidGenerator,
                      final UserAuthenticationResolver userAuthenticationResolver,
                      final Optional<InitialUserConfiguration> initialUserConfiguration) {
@@ -97,6 +100,7 @@ public class UserHandler {
     this.permissionPersistence = permissionPersistence;
     this.workspacesHandler = workspacesHandler;
     this.permissionHandler = permissionHandler;
+    this.rbacRoleCache = rbacRoleCache;
     this.userAuthenticationResolver = userAuthenticationResolver;
     this.initialUserConfiguration = initialUserConfiguration;
   }
@@ -488,6 +492,7 @@ public class UserHandler {
         .withPermissionType(Permission.PermissionType.INSTANCE_ADMIN)
         .withOrganizationId(null)
         .withWorkspaceId(null));
+    rbacRoleCache.invalidateAll();
   }
 
   private WorkspaceUserReadList buildWorkspaceUserReadList(final List<UserPermission> userPermissions, final UUID workspaceId) {
@@ -309,6 +309,23 @@ public class CatalogConverter {
     return toConfiguredProtocol(clone);
   }
 
+  /**
+   * Converts a single stream of an API catalog into a protocol stream the way
+   * {@link #toProtocolKeepAllStreams} does, regardless of whether it is selected. Only the stream is
+   * cloned, and only when field selection has to prune its schema.
+   *
+   * @param streamAndConfiguration api stream and its configuration
+   * @return protocol stream
+   */
+  public static io.airbyte.protocol.models.AirbyteStream toProtocolKeepAllStreams(final AirbyteStreamAndConfiguration streamAndConfiguration)
+      throws JsonValidationException {
+    final AirbyteStreamConfiguration config = streamAndConfiguration.getConfig();
+    if (config.getFieldSelectionEnabled() != null && config.getFieldSelectionEnabled()) {
+      return toConfiguredProtocol(Jsons.clone(streamAndConfiguration.getStream()), config);
+    }
+    return toConfiguredProtocol(streamAndConfiguration.getStream(), config);
+  }
+
   /**
    * To convert AirbyteCatalog from APIs to model. This is to differentiate between
    * toConfiguredProtocol as the other one converts to ConfiguredAirbyteCatalog object instead.
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.airbyte.api.model.generated.AirbyteCatalog;
+import io.airbyte.api.model.generated.AirbyteStreamAndConfiguration;
+import io.airbyte.api.model.generated.StreamTransform;
+import io.airbyte.commons.server.converters.CatalogDiffConverters;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.StreamDescriptor;
+import io.airbyte.validation.json.JsonValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * Diffs API catalogs stream by stream, with the same result as running
+ * {@link CatalogHelpers#getCatalogDiff} on their protocol versions.
+ * <p>
+ * Streams are indexed by descriptor to find the added and removed ones. A stream present in both
+ * catalogs is only compared if it is in the configured catalog, since changes to other streams are
+ * not reported, and it is first compared by fingerprint. Only the streams whose fingerprint changed
+ * are handed to {@link CatalogHelpers#getCatalogDiff} to walk their fields. Streams are converted to
+ * the protocol one at a time, so neither catalog is copied as a whole.
+ */
+public class CatalogDiffHelper {
+
+  private static final HashFunction FINGERPRINT_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * Computes the diff between two catalogs of a connection.
+   *
+   * @param oldCatalog catalog before the change
+   * @param newCatalog catalog after the change
+   * @param configuredCatalog configured catalog of the connection, whose streams are checked for
+   *        updates
+   * @return the stream transforms, in no particular order
+   * @throws JsonValidationException if the field selection of a compared stream is invalid
+   */
+  public static List<StreamTransform> getCatalogDiff(final AirbyteCatalog oldCatalog,
+                                                     final AirbyteCatalog newCatalog,
+                                                     final ConfiguredAirbyteCatalog configuredCatalog)
+      throws JsonValidationException {
+    final Map<StreamDescriptor, AirbyteStreamAndConfiguration> oldStreams = indexByDescriptor(oldCatalog);
+    final Map<StreamDescriptor, AirbyteStreamAndConfiguration> newStreams = indexByDescriptor(newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> configuredStreams = new HashMap<>();
+    for (final ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
+      configuredStreams.putIfAbsent(descriptor(configuredStream.getStream().getName(), configuredStream.getStream().getNamespace()),
+          configuredStream);
+    }
+
+    final List<StreamTransform> transforms = new ArrayList<>();
+    for (final StreamDescriptor descriptor : oldStreams.keySet()) {
+      if (!newStreams.containsKey(descriptor)) {
+        transforms.add(CatalogDiffConverters.streamTransformToApi(
+            io.airbyte.protocol.models.transform_models.StreamTransform.createRemoveStreamTransform(descriptor)));
+      }
+    }
+    for (final Map.Entry<StreamDescriptor, AirbyteStreamAndConfiguration> entry : newStreams.entrySet()) {
+      final StreamDescriptor descriptor = entry.getKey();
+      final AirbyteStreamAndConfiguration oldStream = oldStreams.get(descriptor);
+      if (oldStream == null) {
+        transforms.add(CatalogDiffConverters.streamTransformToApi(
+            io.airbyte.protocol.models.transform_models.StreamTransform.createAddStreamTransform(descriptor)));
+        continue;
+      }
+      final ConfiguredAirbyteStream configuredStream = configuredStreams.get(descriptor);
+      if (configuredStream == null) {
+        continue;
+      }
+
+      final AirbyteStream oldProtocolStream = CatalogConverter.toProtocolKeepAllStreams(oldStream);
+      final AirbyteStream newProtocolStream = CatalogConverter.toProtocolKeepAllStreams(entry.getValue());
+      if (!fingerprint(oldProtocolStream).equals(fingerprint(newProtocolStream))) {
+        CatalogHelpers.getCatalogDiff(
+            new io.airbyte.protocol.models.AirbyteCatalog().withStreams(List.of(oldProtocolStream)),
+            new io.airbyte.protocol.models.AirbyteCatalog().withStreams(List.of(newProtocolStream)),
+            new ConfiguredAirbyteCatalog().withStreams(List.of(configuredStream)))
+            .stream()
+            .map(CatalogDiffConverters::streamTransformToApi)
+            .forEach(transforms::add);
+      }
+    }
+    return transforms;
+  }
+
+  /**
+   * Computes a fingerprint of everything the catalog diff compares in a stream. Streams that are
+   * equal have the same fingerprint: the keys of the json schema objects are hashed in sorted order.
+   *
+   * @param stream protocol stream
+   * @return 128 bits fingerprint
+   */
+  public static HashCode fingerprint(final AirbyteStream stream) {
+    final Hasher hasher = FINGERPRINT_FUNCTION.newHasher();
+    putNullableString(hasher, stream.getName());
+    putNullableString(hasher, stream.getNamespace());
+    putJson(hasher, stream.getJsonSchema());
+    putList(hasher, stream.getSupportedSyncModes(), Enum::name);
+    putNullableString(hasher, stream.getSourceDefinedCursor() == null ? null : stream.getSourceDefinedCursor().toString());
+    putList(hasher, stream.getDefaultCursorField(), Function.identity());
+    if (stream.getSourceDefinedPrimaryKey() == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(stream.getSourceDefinedPrimaryKey().size());
+      stream.getSourceDefinedPrimaryKey().forEach(key -> putList(hasher, key, Function.identity()));
+    }
+    return hasher.hash();
+  }
+
+  private static Map<StreamDescriptor, AirbyteStreamAndConfiguration> indexByDescriptor(final AirbyteCatalog catalog) {
+    return catalog.getStreams().stream().collect(Collectors.toMap(
+        stream -> descriptor(stream.getStream().getName(), stream.getStream().getNamespace()),
+        Function.identity(),
+        (first, second) -> {
+          throw new IllegalStateException(String.format("Duplicate stream %s in catalog", first.getStream().getName()));
+        },
+        LinkedHashMap::new));
+  }
+
+  private static StreamDescriptor descriptor(final String name, @Nullable final String namespace) {
+    return new StreamDescriptor().withName(name).withNamespace(namespace);
+  }
+
+  private static void putNullableString(final Hasher hasher, @Nullable final String value) {
+    if (value == null) {
+      hasher.putBoolean(false);
+    } else {
+      hasher.putBoolean(true).putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static <T> void putList(final Hasher hasher, @Nullable final List<T> values, final Function<T, String> toString) {
+    if (values == null) {
+      hasher.putInt(-1);
+      return;
+    }
+    hasher.putInt(values.size());
+    values.forEach(value -> putNullableString(hasher, value == null ? null : toString.apply(value)));
+  }
+
+  private static void putJson(final Hasher hasher, @Nullable final JsonNode node) {
+    if (node == null) {
+      hasher.putInt(-1);
+      return;
+    }
+    hasher.putInt(node.getNodeType().ordinal());
+    if (node.isObject()) {
+      final TreeMap<String, JsonNode> sortedFields = new TreeMap<>();
+      final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      fields.forEachRemaining(field -> sortedFields.put(field.getKey(), field.getValue()));
+      hasher.putInt(sortedFields.size());
+      sortedFields.forEach((name, value) -> {
+        putNullableString(hasher, name);
+        putJson(hasher, value);
+      });
+    } else if (node.isArray()) {
+      hasher.putInt(node.size());
+      node.forEach(element -> putJson(hasher, element));
+    } else {
+      if (node.isNumber()) {
+        hasher.putInt(node.numberType().ordinal());
+      }
+      putNullableString(hasher, node.asText());
+    }
+  }
+
+}
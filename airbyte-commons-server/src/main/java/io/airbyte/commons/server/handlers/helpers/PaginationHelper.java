@@ -5,6 +5,7 @@
 package io.airbyte.commons.server.handlers.helpers;
 
 import io.airbyte.api.model.generated.Pagination;
+import java.util.List;
 
 /**
  * Helper to get data out of pagination objects.
@@ -22,4 +23,18 @@ public class PaginationHelper {
     return (pagination != null && pagination.getPageSize() != null) ? pagination.getPageSize() : DEFAULT_PAGE_SIZE;
   }
 
+  /**
+   * Cut the page out of a list already loaded in memory.
+   *
+   * @param items all the items
+   * @param pagination page to cut, or null to keep all the items
+   * @return items of the page
+   */
+  public static <T> List<T> page(final List<T> items, final Pagination pagination) {
+    if (pagination == null) {
+      return items;
+    }
+    return items.stream().skip(rowOffset(pagination)).limit(pageSize(pagination)).toList();
+  }
+
 }
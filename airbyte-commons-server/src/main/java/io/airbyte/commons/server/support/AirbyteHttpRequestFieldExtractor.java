@@ -4,10 +4,16 @@
 
 package io.airbyte.commons.server.support;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.micronaut.core.util.StringUtils;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -26,42 +32,58 @@ public class AirbyteHttpRequestFieldExtractor {
       Set.of(AuthenticationFields.WORKSPACE_IDS_FIELD_NAME, AuthenticationFields.CONNECTION_IDS_FIELD_NAME);
 
   /**
-   * Extracts the requested ID from the HTTP request, if present.
+   * Extracts the requested top-level ID fields from the HTTP request in a single streaming pass,
+   * without building a tree of the whole content. The workspace and connection ID lists are returned
+   * as serialized JSON and the other IDs as text, and empty values are ignored. Reading stops as soon
+   * as all the fields have been found.
    *
-   * @param content The raw HTTP request as a string.
-   * @param idFieldName The name of the field/header that contains the ID.
-   * @return An {@link Optional} that may or may not contain the ID value extracted from the raw HTTP
-   *         request.
+   * @param content The raw HTTP request body.
+   * @param idFieldNames The names of the fields/headers that contain the IDs.
+   * @return The ID values that were found, keyed by field name. Empty if the content is not a JSON
+   *         object.
    */
-  public Optional<String> extractId(final String content, final String idFieldName) {
-    try {
-      final JsonNode json = Jsons.deserialize(content);
-      if (json != null) {
+  public Map<String, String> extractIds(final InputStream content, final Set<String> idFieldNames) {
+    final Map<String, String> ids = new HashMap<>();
+    try (final JsonParser parser = Jsons.createParser(content)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Map.of();
+      }
 
-        final Optional<String> idValue = extract(json, idFieldName);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        parser.nextToken();
+        if (!idFieldNames.contains(fieldName)) {
+          parser.skipChildren();
+          continue;
+        }
 
-        if (idValue.isEmpty()) {
-          log.debug("No match for field name '{}' in content '{}'.", idFieldName, content);
-        } else {
-          log.debug("Found '{}' for field '{}'", idValue, idFieldName);
-          return idValue;
+        // like the tree, the last occurrence of a duplicated field wins
+        ids.remove(fieldName);
+        extract(parser, fieldName).ifPresent(id -> ids.put(fieldName, id));
+        if (ids.size() == idFieldNames.size()) {
+          break;
         }
       }
-    } catch (final RuntimeException e) {
-      log.debug("Unable to extract ID field '{}' from content '{}'.", idFieldName, content, e);
+    } catch (final IOException | RuntimeException e) {
+      log.debug("Unable to extract ID fields '{}' from content.", idFieldNames, e);
+      return Map.of();
     }
 
-    return Optional.empty();
+    log.debug("Found IDs '{}'", ids);
+    return ids;
   }
 
-  private Optional<String> extract(JsonNode jsonNode, String idFieldName) {
+  private Optional<String> extract(final JsonParser parser, final String idFieldName) throws IOException {
     if (ARRAY_FIELDS.contains(idFieldName)) {
-      log.debug("Try to extract list of ids for field {}", idFieldName);
-      return Optional.ofNullable(jsonNode.get(idFieldName))
+      return Optional.ofNullable(parser.<JsonNode>readValueAsTree())
           .map(Jsons::serialize)
           .filter(StringUtils::hasText);
+    } else if (parser.currentToken().isStructStart()) {
+      // containers have no text
+      parser.skipChildren();
+      return Optional.empty();
     } else {
-      return Optional.ofNullable(jsonNode.get(idFieldName))
+      return Optional.ofNullable(parser.<JsonNode>readValueAsTree())
           .map(JsonNode::asText)
           .filter(StringUtils::hasText);
     }
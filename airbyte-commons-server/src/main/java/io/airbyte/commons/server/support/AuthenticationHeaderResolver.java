@@ -27,6 +27,7 @@ import io.airbyte.api.model.generated.PermissionIdRequestBody;
 import io.airbyte.api.model.generated.PermissionRead;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.handlers.PermissionHandler;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ScopeType;
 import io.airbyte.config.User;
 import io.airbyte.config.persistence.ConfigNotFoundException;
@@ -94,12 +95,15 @@ public class AuthenticationHeaderResolver {
         return null;
       }
 
+      // workspaces whose organization cannot be resolved are skipped
+      final Map<UUID, UUID> organizationIdsByWorkspaceId = workspaceHelper.getOrganizationsForWorkspaces(workspaceIds);
       final List<UUID> organizationIds = new ArrayList<>();
-      for (UUID workspaceId : workspaceIds) {
-        try {
-          organizationIds.add(workspaceHelper.getOrganizationForWorkspace(workspaceId));
-        } catch (final Exception e) {
-          log.debug("Unable to resolve organization ID for workspace ID: {}", workspaceId, e);
+      for (final UUID workspaceId : workspaceIds) {
+        final UUID organizationId = organizationIdsByWorkspaceId.get(workspaceId);
+        if (organizationId != null) {
+          organizationIds.add(organizationId);
+        } else {
+          log.debug("Unable to resolve organization ID for workspace ID: {}", workspaceId);
         }
       }
       return organizationIds;
@@ -251,16 +255,18 @@ public class AuthenticationHeaderResolver {
     return null;
   }
 
-  private List<UUID> resolveConnectionIds(final Map<String, String> properties) {
+  private List<UUID> resolveConnectionIds(final Map<String, String> properties) throws IOException {
     final String connectionIds = properties.get(CONNECTION_IDS_HEADER);
     if (connectionIds != null) {
       final List<String> deserialized = Jsons.deserialize(connectionIds, List.class);
-      return deserialized.stream().map(connectionId -> {
-        try {
-          return workspaceHelper.getWorkspaceForConnectionId(UUID.fromString(connectionId));
-        } catch (JsonValidationException | ConfigNotFoundException e) {
-          throw new RuntimeException(e);
+      final List<UUID> connectionUuids = deserialized.stream().map(UUID::fromString).toList();
+      final Map<UUID, UUID> workspaceIdsByConnectionId = workspaceHelper.getWorkspacesForConnectionIds(connectionUuids);
+      return connectionUuids.stream().map(connectionId -> {
+        final UUID workspaceId = workspaceIdsByConnectionId.get(connectionId);
+        if (workspaceId == null) {
+          throw new RuntimeException(new ConfigNotFoundException(ConfigSchema.STANDARD_SYNC, connectionId));
         }
+        return workspaceId;
       }).toList();
     }
     return null;
@@ -4,14 +4,17 @@
 
 package io.airbyte.commons.server.support;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaders;
 import jakarta.inject.Singleton;
-import java.nio.charset.StandardCharsets;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,6 +26,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AuthorizationServerHandler extends ChannelDuplexHandler {
 
+  private static final Set<String> ID_FIELD_NAMES = Arrays.stream(AuthenticationId.values())
+      .map(AuthenticationId::getFieldName)
+      .collect(Collectors.toUnmodifiableSet());
+
   private final AirbyteHttpRequestFieldExtractor airbyteHttpRequestFieldExtractor;
 
   public AuthorizationServerHandler(final AirbyteHttpRequestFieldExtractor airbyteHttpRequestFieldExtractor) {
@@ -52,14 +59,18 @@ public class AuthorizationServerHandler extends ChannelDuplexHandler {
    * @return The potentially modified raw HTTP request as a {@link FullHttpRequest}.
    */
   protected FullHttpRequest updateHeaders(final FullHttpRequest httpRequest) {
+    if (!httpRequest.content().isReadable()) {
+      return httpRequest;
+    }
+
+    // duplicate so that the reader index of the request is left untouched
+    final Map<String, String> ids = airbyteHttpRequestFieldExtractor.extractIds(
+        new ByteBufInputStream(httpRequest.content().duplicate()), ID_FIELD_NAMES);
     for (final AuthenticationId authenticationId : AuthenticationId.values()) {
-      final String contentAsString = StandardCharsets.UTF_8.decode(httpRequest.content().nioBuffer()).toString();
-      log.debug("Checking HTTP request '{}' for field '{}'...", contentAsString, authenticationId.getFieldName());
-      final Optional<String> id =
-          airbyteHttpRequestFieldExtractor.extractId(contentAsString, authenticationId.getFieldName());
-      if (id.isPresent()) {
-        log.debug("Found field '{}' with value '{}' in HTTP request body.", authenticationId.getFieldName(), id.get());
-        addHeaderToRequest(authenticationId.getHttpHeader(), id.get(), httpRequest);
+      final String id = ids.get(authenticationId.getFieldName());
+      if (id != null) {
+        log.debug("Found field '{}' with value '{}' in HTTP request body.", authenticationId.getFieldName(), id);
+        addHeaderToRequest(authenticationId.getHttpHeader(), id, httpRequest);
       } else {
         log.debug("Field '{}' not found in content.", authenticationId.getFieldName());
       }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.support;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, short-lived cache of the roles that an auth user has in a scope, i.e. a set of workspaces
+ * and organizations. The UI sends many requests for the same scope in a row, which then only need
+ * to look up the permissions once.
+ * <p>
+ * Permissions written by this instance (through
+ * {@link io.airbyte.commons.server.handlers.PermissionHandler}, or the grants made when creating a
+ * user or an organization) invalidate its cache right away; changes made by other instances are
+ * picked up once the entries expire.
+ */
+@Singleton
+public class RbacRoleCache {
+
+  private final Cache<Key, Set<String>> cache;
+
+  public RbacRoleCache(@Value("${airbyte.server.rbac-role-cache.max-size:10000}") final long maxSize,
+                       @Value("${airbyte.server.rbac-role-cache.expire-after-write:10s}") final Duration expireAfterWrite) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(expireAfterWrite)
+        .build();
+  }
+
+  /**
+   * Get the roles of the auth user in the scope, loading them if they are not cached yet.
+   *
+   * @param authUserId the auth user id
+   * @param workspaceIds the workspaces of the scope
+   * @param organizationIds the organizations of the scope
+   * @param loader computes the roles on a cache miss
+   * @return the roles
+   */
+  public Set<String> get(final String authUserId,
+                         final Collection<UUID> workspaceIds,
+                         final Collection<UUID> organizationIds,
+                         final Supplier<Set<String>> loader) {
+    final Key key = new Key(authUserId, Set.copyOf(workspaceIds), Set.copyOf(organizationIds));
+    final Set<String> cachedRoles = cache.getIfPresent(key);
+    if (cachedRoles != null) {
+      return cachedRoles;
+    }
+
+    // concurrent misses on the same key may both load, which is cheaper than holding a lock over a db
+    // query
+    final Set<String> roles = Set.copyOf(loader.get());
+    cache.put(key, roles);
+    return roles;
+  }
+
+  /**
+   * Drop all cached roles, to be called whenever a permission is created, updated or deleted.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private record Key(String authUserId, Set<UUID> workspaceIds, Set<UUID> organizationIds) {}
+
+}
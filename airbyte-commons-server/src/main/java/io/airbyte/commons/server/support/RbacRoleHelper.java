@@ -24,6 +24,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -32,38 +34,29 @@ public class RbacRoleHelper {
 
   private final AuthenticationHeaderResolver headerResolver;
   private final PermissionPersistence permissionPersistence;
+  private final RbacRoleCache rbacRoleCache;
 
-  public RbacRoleHelper(final AuthenticationHeaderResolver headerResolver, final PermissionPersistence permissionPersistence) {
+  public RbacRoleHelper(final AuthenticationHeaderResolver headerResolver,
+                        final PermissionPersistence permissionPersistence,
+                        final RbacRoleCache rbacRoleCache) {
     this.headerResolver = headerResolver;
     this.permissionPersistence = permissionPersistence;
+    this.rbacRoleCache = rbacRoleCache;
   }
 
   public Collection<String> getRbacRoles(final String authUserId, final HttpRequest<?> request) {
     final Map<String, String> headerMap = request.getHeaders().asMap(String.class, String.class);
 
-    final List<UUID> workspaceIds = headerResolver.resolveWorkspace(headerMap);
-    final List<UUID> organizationIds = headerResolver.resolveOrganization(headerMap);
+    final List<UUID> workspaceIds = Objects.requireNonNullElse(headerResolver.resolveWorkspace(headerMap), List.of());
+    final List<UUID> organizationIds = Objects.requireNonNullElse(headerResolver.resolveOrganization(headerMap), List.of());
     final Set<String> targetAuthUserIds = headerResolver.resolveAuthUserIds(headerMap);
 
-    final Set<String> roles = new HashSet<>();
+    final Set<String> roles = new HashSet<>(
+        rbacRoleCache.get(authUserId, workspaceIds, organizationIds, () -> getPermissionRoles(authUserId, workspaceIds, organizationIds)));
 
-    if (workspaceIds != null && !workspaceIds.isEmpty()) {
-      roles.addAll(getWorkspaceAuthRoles(authUserId, workspaceIds));
-    }
-    if (organizationIds != null && !organizationIds.isEmpty()) {
-      roles.addAll(getOrganizationAuthRoles(authUserId, organizationIds));
-    }
     if (targetAuthUserIds != null && targetAuthUserIds.contains(authUserId)) {
       roles.add(AuthRoleConstants.SELF);
     }
-    try {
-      if (permissionPersistence.isAuthUserInstanceAdmin(authUserId)) {
-        roles.addAll(getInstanceAdminRoles());
-      }
-    } catch (final IOException ex) {
-      log.error("Failed to get instance admin roles for user {}", authUserId, ex);
-      throw new RuntimeException(ex);
-    }
 
     return roles;
   }
@@ -80,11 +73,43 @@ public class RbacRoleHelper {
     return roles;
   }
 
-  private Set<String> getWorkspaceAuthRoles(final String authUserId, final List<UUID> workspaceIds) {
-    final List<PermissionType> workspacePermissionTypes = workspaceIds.stream()
-        .map(workspaceId -> fetchWorkspacePermission(authUserId, workspaceId))
-        .toList();
+  /**
+   * Resolve the roles granted by the permissions of the user on the workspaces and organizations,
+   * with a single query.
+   */
+  private Set<String> getPermissionRoles(final String authUserId, final List<UUID> workspaceIds, final List<UUID> organizationIds) {
+    final List<Permission> permissions;
+    try {
+      permissions = permissionPersistence.listPermissionsForAuthUser(authUserId, workspaceIds, organizationIds);
+    } catch (final IOException ex) {
+      log.error("Failed to get permissions for user {}, workspaces {} and organizations {}", authUserId, workspaceIds, organizationIds, ex);
+      throw new RuntimeException(ex);
+    }
+
+    final Set<String> roles = new HashSet<>();
+
+    if (!workspaceIds.isEmpty()) {
+      final Map<UUID, PermissionType> workspacePermissionTypes = toPermissionTypes(permissions, Permission::getWorkspaceId);
+      roles.addAll(getWorkspaceAuthRoles(workspaceIds.stream().map(workspacePermissionTypes::get).toList()));
+    }
+    if (!organizationIds.isEmpty()) {
+      final Map<UUID, PermissionType> orgPermissionTypes = toPermissionTypes(permissions, Permission::getOrganizationId);
+      roles.addAll(getOrganizationAuthRoles(organizationIds.stream().map(orgPermissionTypes::get).toList()));
+    }
+    if (permissions.stream().anyMatch(permission -> permission.getPermissionType() == PermissionType.INSTANCE_ADMIN)) {
+      roles.addAll(getInstanceAdminRoles());
+    }
 
+    return roles;
+  }
+
+  private static Map<UUID, PermissionType> toPermissionTypes(final List<Permission> permissions, final Function<Permission, UUID> scopeId) {
+    return permissions.stream()
+        .filter(permission -> scopeId.apply(permission) != null && permission.getPermissionType() != null)
+        .collect(Collectors.toMap(scopeId, Permission::getPermissionType, (first, second) -> first));
+  }
+
+  private Set<String> getWorkspaceAuthRoles(final List<PermissionType> workspacePermissionTypes) {
     // if any workspace permission type is null, the user should not have any workspace roles for this
     // request at all.
     if (workspacePermissionTypes.stream().anyMatch(Objects::isNull)) {
@@ -99,24 +124,11 @@ public class RbacRoleHelper {
     return WorkspaceAuthRole.buildWorkspaceAuthRolesSet(authRole);
   }
 
-  private Permission.PermissionType fetchWorkspacePermission(final String authUserId, final UUID workspaceId) {
-    try {
-      return permissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId, authUserId);
-    } catch (IOException ex) {
-      log.error("Failed to get permission for user {} and workspaces {}", authUserId, workspaceId, ex);
-      throw new RuntimeException(ex);
-    }
-  }
-
   private WorkspaceAuthRole convertToWorkspaceAuthRole(final Permission.PermissionType permissionType) {
     return Enums.convertTo(permissionType, WorkspaceAuthRole.class);
   }
 
-  private Set<String> getOrganizationAuthRoles(final String authUserId, final List<UUID> organizationIds) {
-    final List<PermissionType> orgPermissionTypes = organizationIds.stream()
-        .map(orgId -> fetchOrganizationPermission(authUserId, orgId))
-        .toList();
-
+  private Set<String> getOrganizationAuthRoles(final List<PermissionType> orgPermissionTypes) {
     // if any org permission type is null, the user should not have any org roles for this request at
     // all.
     if (orgPermissionTypes.stream().anyMatch(Objects::isNull)) {
@@ -131,15 +143,6 @@ public class RbacRoleHelper {
     return OrganizationAuthRole.buildOrganizationAuthRolesSet(authRole);
   }
 
-  private Permission.PermissionType fetchOrganizationPermission(final String authUserId, final UUID orgId) {
-    try {
-      return permissionPersistence.findPermissionTypeForUserAndOrganization(orgId, authUserId);
-    } catch (IOException ex) {
-      log.error("Failed to get permission for user {} and organization {}", authUserId, orgId, ex);
-      throw new RuntimeException(ex);
-    }
-  }
-
   private OrganizationAuthRole convertToOrganizationAuthRole(final Permission.PermissionType permissionType) {
     return Enums.convertTo(permissionType, OrganizationAuthRole.class);
   }
@@ -23,7 +23,6 @@ import io.airbyte.api.model.generated.JobInfoLightRead;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
-import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
 import io.airbyte.api.model.generated.StreamDescriptor;
@@ -55,7 +54,6 @@ import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -172,8 +170,7 @@ class JobConverterTest {
                             .externalMessage(FAILURE_EXTERNAL_MESSAGE)
                             .stacktrace(FAILURE_STACKTRACE)
                             .timestamp(FAILURE_TIMESTAMP)))
-                        .partialSuccess(PARTIAL_SUCCESS)))
-                .logs(new LogRead().logLines(new ArrayList<>()))));
+                        .partialSuccess(PARTIAL_SUCCESS)))));
 
     private static final String version = "0.33.4";
     private static final AirbyteVersion airbyteVersion = new AirbyteVersion(version);
@@ -307,7 +304,6 @@ class JobConverterTest {
         .endedAt(CREATED_AT)
         .succeeded(JOB_SUCCEEDED)
         .connectorConfigurationUpdated(CONNECTOR_CONFIG_UPDATED)
-        .logs(new LogRead().logLines(new ArrayList<>()))
         .failureReason(new io.airbyte.api.model.generated.FailureReason()
             .failureOrigin(io.airbyte.api.model.generated.FailureOrigin.SOURCE)
             .failureType(io.airbyte.api.model.generated.FailureType.SYSTEM_ERROR)
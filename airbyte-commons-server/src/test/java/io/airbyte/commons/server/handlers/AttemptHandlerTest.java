@@ -18,15 +18,18 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.GlobalState;
-import io.airbyte.api.model.generated.LogRead;
+import io.airbyte.api.model.generated.LogReadDirection;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
+import io.airbyte.api.model.generated.SynchronousJobLogsRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.converters.JobConverter;
@@ -45,6 +48,7 @@ import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptStatus;
@@ -247,12 +251,8 @@ class AttemptHandlerTest {
         Instant.now().getEpochSecond(),
         Instant.now().getEpochSecond());
 
-    final var logs = new LogRead();
-    logs.addLogLinesItem("log line 1");
-    logs.addLogLinesItem("log line 2");
     final var infoRead = new AttemptInfoRead();
     infoRead.setAttempt(JobConverter.getAttemptRead(attempt));
-    infoRead.setLogs(logs);
 
     when(jobPersistence.getAttemptForJob(anyLong(), anyInt())).thenReturn(Optional.of(attempt));
     when(jobConverter.getAttemptInfoRead(attempt)).thenReturn(infoRead);
@@ -263,7 +263,60 @@ class AttemptHandlerTest {
     assertEquals(attempt.getCreatedAtInSecond(), result.getAttempt().getCreatedAt());
     assertEquals(attempt.getUpdatedAtInSecond(), result.getAttempt().getUpdatedAt());
     assertEquals(io.airbyte.api.model.generated.AttemptStatus.SUCCEEDED, result.getAttempt().getStatus());
-    assertEquals(logs, result.getLogs());
+  }
+
+  @Test
+  void getAttemptLogs() throws Exception {
+    final Path logPath = Path.of("/tmp/logs/all/the/way/down");
+    final Attempt attempt = new Attempt(2, 1L, logPath, null, null, AttemptStatus.SUCCEEDED, null, null,
+        Instant.now().getEpochSecond(), Instant.now().getEpochSecond(), Instant.now().getEpochSecond());
+    final AttemptLogsRead logs = new AttemptLogsRead().logLines(List.of("log line 1", "log line 2")).startOffset(10L).endOffset(32L).totalBytes(32L);
+
+    when(jobPersistence.getAttemptForJob(1L, 2)).thenReturn(Optional.of(attempt));
+    when(jobConverter.getAttemptLogsRead(logPath, 10L, LogPage.Direction.FORWARD, 2)).thenReturn(logs);
+
+    assertEquals(logs, handler.getAttemptLogs(new AttemptLogsRequestBody()
+        .jobId(1L)
+        .attemptNumber(2)
+        .offset(10L)
+        .direction(LogReadDirection.FORWARD)
+        .limit(2)));
+  }
+
+  @Test
+  void getAttemptLogsThrowsNotFound() throws Exception {
+    when(jobPersistence.getAttemptForJob(anyLong(), anyInt())).thenReturn(Optional.empty());
+
+    assertThrows(IdNotFoundKnownException.class, () -> handler.getAttemptLogs(new AttemptLogsRequestBody().jobId(1L).attemptNumber(2)));
+  }
+
+  @Test
+  void getSynchronousJobLogs() {
+    final UUID jobId = UUID.randomUUID();
+    final Path workspaceRoot = Path.of("/tmp/workspace");
+    final Path logPath = workspaceRoot.resolve(jobId.toString()).resolve("0").resolve(LogClientSingleton.LOG_FILENAME);
+    final AttemptLogsRead logs = new AttemptLogsRead().logLines(List.of("log line 1", "log line 2")).startOffset(0L).endOffset(22L).totalBytes(22L);
+
+    when(jobConverter.getAttemptLogsRead(logPath, null, LogPage.Direction.BACKWARD, 1000)).thenReturn(logs);
+
+    assertEquals(logs, new AttemptHandler(jobPersistence, jobConverter, helper, workspaceRoot)
+        .getSynchronousJobLogs(new SynchronousJobLogsRequestBody().workspaceId(UUID.randomUUID()).jobId(jobId)));
+  }
+
+  @Test
+  void getSynchronousJobLogsRejectsTooLargePages() {
+    assertThrows(BadRequestException.class, () -> handler.getSynchronousJobLogs(new SynchronousJobLogsRequestBody()
+        .workspaceId(UUID.randomUUID())
+        .jobId(UUID.randomUUID())
+        .limit(AttemptHandler.MAX_LOG_PAGE_SIZE + 1)));
+  }
+
+  @Test
+  void getAttemptLogsRejectsTooLargePages() {
+    assertThrows(BadRequestException.class, () -> handler.getAttemptLogs(new AttemptLogsRequestBody()
+        .jobId(1L)
+        .attemptNumber(2)
+        .limit(AttemptHandler.MAX_LOG_PAGE_SIZE + 1)));
   }
 
   @Test
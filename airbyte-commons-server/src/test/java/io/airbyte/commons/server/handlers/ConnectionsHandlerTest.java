@@ -103,7 +103,6 @@ import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.StandardWorkspace;
-import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper.ActorDefinitionVersionWithOverrideStatus;
@@ -123,10 +122,12 @@ import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
+import io.airbyte.persistence.job.models.ConnectionStatusSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.persistence.job.models.JobsRecordsCommitted;
+import io.airbyte.persistence.job.models.StreamRecordsCommittedPerDay;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
@@ -144,7 +145,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -1517,26 +1517,6 @@ class ConnectionsHandlerTest {
       return new Attempt(0, 0, null, null, jobOutput, AttemptStatus.FAILED, null, null, 0, 0, attemptTime.getEpochSecond());
     }
 
-    private Attempt generateMockAttemptWithStreamStats(final Instant attemptTime, final List<Map<List<String>, Long>> streamsToRecordsSynced) {
-      final List<StreamSyncStats> streamSyncStatsList = streamsToRecordsSynced.stream().map(streamToRecordsSynced -> {
-        final List<String> streamKey = new ArrayList<>(streamToRecordsSynced.keySet().iterator().next());
-        final String streamNamespace = streamKey.get(0);
-        final String streamName = streamKey.get(1);
-        final long recordsSynced = streamToRecordsSynced.get(streamKey);
-
-        return new StreamSyncStats()
-            .withStreamName(streamName)
-            .withStreamNamespace(streamNamespace)
-            .withStats(new SyncStats().withRecordsCommitted(recordsSynced));
-      }).collect(Collectors.toList());
-
-      final StandardSyncSummary standardSyncSummary = new StandardSyncSummary().withStreamStats(streamSyncStatsList);
-      final StandardSyncOutput standardSyncOutput = new StandardSyncOutput().withStandardSyncSummary(standardSyncSummary);
-      final JobOutput jobOutput = new JobOutput().withOutputType(OutputType.SYNC).withSync(standardSyncOutput);
-
-      return new Attempt(0, 0, null, null, jobOutput, AttemptStatus.FAILED, null, null, 0, 0, attemptTime.getEpochSecond());
-    }
-
     private Job generateMockJob(final UUID connectionId, final Attempt attempt) {
       return new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(attempt), JobStatus.RUNNING, 1001L, 1000L, 1002L);
     }
@@ -1642,8 +1622,9 @@ class ConnectionsHandlerTest {
             .connectionId(connectionId)
             .timezone(timezone);
 
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
-            .thenReturn(Collections.emptyList());
+        when(jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(eq(connectionId), any(Instant.class),
+            eq(ZoneId.of(timezone))))
+                .thenReturn(Collections.emptyList());
 
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
 
@@ -1653,82 +1634,51 @@ class ConnectionsHandlerTest {
       }
 
       @Test
-      @DisplayName("Aggregates data correctly")
+      @DisplayName("Maps the aggregated records to the start of each day in the given timezone")
       void testStreamHistoryAggregation() throws IOException {
         final UUID connectionId = UUID.randomUUID();
+        final ZoneId timezone = ZoneId.of(TIMEZONE_LOS_ANGELES);
         final Instant endTime = Instant.now();
-        final Instant startTime = endTime.minus(30, ChronoUnit.DAYS);
-        final long attempt1Records = 100L;
-        final long attempt2Records = 150L;
-        final long attempt3Records = 200L;
-        final long attempt4Records = 125L;
+        final LocalDate day1 = endTime.minus(29, ChronoUnit.DAYS).atZone(timezone).toLocalDate();
+        final LocalDate day2 = day1.plusDays(1);
         final String streamName = "testStream";
         final String streamNamespace = "testNamespace";
         final String streamName2 = "testStream2";
 
-        // First Attempt - Day 1
-        final Attempt attempt1 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt1Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo1 = new AttemptWithJobInfo(attempt1, generateMockJob(connectionId, attempt1));
-
-        // Second Attempt - Same Day as First, same stream as first
-        final Attempt attempt2 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt2Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo2 = new AttemptWithJobInfo(attempt2, generateMockJob(connectionId, attempt2));
-
-        // Third Attempt - Same Day, different stream
-        final Attempt attempt3 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName2),
-                attempt3Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo3 = new AttemptWithJobInfo(attempt3, generateMockJob(connectionId, attempt3));
-
-        // Fourth Attempt - Different day, first stream
-        final Attempt attempt4 = generateMockAttemptWithStreamStats(startTime.plus(2, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt4Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo4 = new AttemptWithJobInfo(attempt4, generateMockJob(connectionId, attempt4));
-
-        final List<AttemptWithJobInfo> attempts = Arrays.asList(attemptWithJobInfo1, attemptWithJobInfo2, attemptWithJobInfo3, attemptWithJobInfo4);
-
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
-            .thenReturn(attempts);
+        when(jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(eq(connectionId), any(Instant.class), eq(timezone)))
+            .thenReturn(List.of(
+                new StreamRecordsCommittedPerDay(day1, streamNamespace, streamName, 250L),
+                new StreamRecordsCommittedPerDay(day1, streamNamespace, streamName2, 200L),
+                new StreamRecordsCommittedPerDay(day2, streamNamespace, streamName, 125L)));
 
         final ConnectionStreamHistoryRequestBody requestBody = new ConnectionStreamHistoryRequestBody()
             .connectionId(connectionId)
             .timezone(TIMEZONE_LOS_ANGELES);
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
 
-        final List<ConnectionStreamHistoryReadItem> expected = new ArrayList<>();
-        // expect the first entry to contain stream 1, day 1, 250 records... next item should be stream 2,
-        // day 1, 200 records, and final entry should be stream 1, day 2, 125 records
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt1Records + attempt2Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName2)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt3Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(2, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt4Records));
-
-        assertEquals(actual, expected);
+        final List<ConnectionStreamHistoryReadItem> expected = List.of(
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(day1.atStartOfDay(timezone).toEpochSecond()))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(250L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(day1.atStartOfDay(timezone).toEpochSecond()))
+                .streamName(streamName2)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(200L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(day2.atStartOfDay(timezone).toEpochSecond()))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(125L));
+
+        assertEquals(expected, actual);
+
+        final ArgumentCaptor<Instant> startTimeCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(jobPersistence).listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(eq(connectionId), startTimeCaptor.capture(),
+            eq(timezone));
+        assertTrue(startTimeCaptor.getValue().isBefore(endTime.minus(29, ChronoUnit.DAYS)));
       }
 
     }
@@ -2136,18 +2086,17 @@ class ConnectionsHandlerTest {
     void testConnectionStatus()
         throws JsonValidationException, ConfigNotFoundException, IOException {
       final UUID connectionId = UUID.randomUUID();
+      final UUID connectionWithoutJobsId = UUID.randomUUID();
       final AttemptFailureSummary failureSummary = new AttemptFailureSummary();
       failureSummary.setFailures(List.of(new FailureReason().withFailureOrigin(FailureReason.FailureOrigin.DESTINATION)));
-      final Attempt failedAttempt = new Attempt(0, 0, null, null, null, AttemptStatus.FAILED, null, failureSummary, 0, 0, 0L);
-      final List<Job> jobs = List.of(
-          new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.RUNNING, 1001L, 1000L, 1002L),
-          new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(failedAttempt), JobStatus.FAILED, 901L, 900L, 902L),
-          new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.SUCCEEDED, 801L, 800L, 802L));
-      when(jobPersistence.listJobs(Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION), connectionId.toString(), 10))
-          .thenReturn(jobs);
-      final ConnectionStatusesRequestBody req = new ConnectionStatusesRequestBody().connectionIds(List.of(connectionId));
+      when(jobPersistence.getConnectionStatusSummaries(List.of(connectionId, connectionWithoutJobsId),
+          Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION), 10))
+              .thenReturn(List.of(new ConnectionStatusSummary(connectionId, true, 1L, JobStatus.FAILED, JobConfig.ConfigType.SYNC, 2,
+                  failureSummary, 802L)));
+      final ConnectionStatusesRequestBody req =
+          new ConnectionStatusesRequestBody().connectionIds(List.of(connectionId, connectionWithoutJobsId));
       final List<ConnectionStatusRead> status = connectionsHandler.getConnectionStatuses(req);
-      assertEquals(1, status.size());
+      assertEquals(2, status.size());
 
       final ConnectionStatusRead connectionStatus = status.get(0);
       assertEquals(connectionId, connectionStatus.getConnectionId());
@@ -2155,6 +2104,18 @@ class ConnectionsHandlerTest {
       assertEquals(802L, connectionStatus.getLastSuccessfulSync());
       assertEquals(true, connectionStatus.getIsRunning());
       assertNull(connectionStatus.getNextSync());
+      assertEquals(1L, connectionStatus.getLastSyncJobId());
+      assertEquals(2, connectionStatus.getLastSyncAttemptNumber());
+      assertEquals(false, connectionStatus.getIsLastCompletedJobReset());
+      assertEquals(io.airbyte.api.model.generated.FailureOrigin.DESTINATION, connectionStatus.getFailureReason().getFailureOrigin());
+
+      final ConnectionStatusRead connectionWithoutJobsStatus = status.get(1);
+      assertEquals(connectionWithoutJobsId, connectionWithoutJobsStatus.getConnectionId());
+      assertEquals(false, connectionWithoutJobsStatus.getIsRunning());
+      assertEquals(false, connectionWithoutJobsStatus.getIsLastCompletedJobReset());
+      assertNull(connectionWithoutJobsStatus.getLastSyncJobStatus());
+      assertNull(connectionWithoutJobsStatus.getLastSuccessfulSync());
+      assertNull(connectionWithoutJobsStatus.getFailureReason());
     }
 
     private AirbyteStreamAndConfiguration getStreamAndConfig(final String name, final AirbyteStreamConfiguration config) {
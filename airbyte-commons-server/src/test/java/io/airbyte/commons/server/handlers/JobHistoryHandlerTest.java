@@ -6,13 +6,18 @@ package io.airbyte.commons.server.handlers;
 
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.api.model.generated.AttemptInfoRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusReadList;
@@ -32,17 +37,19 @@ import io.airbyte.api.model.generated.JobListRequestBody;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
-import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
 import io.airbyte.api.model.generated.SourceRead;
 import io.airbyte.api.model.generated.StreamDescriptor;
 import io.airbyte.api.model.generated.StreamStats;
+import io.airbyte.api.model.generated.WorkflowStateRead;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
+import io.airbyte.commons.temporal.TemporalClient;
+import io.airbyte.commons.temporal.scheduling.state.WorkflowState;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.DestinationConnection;
@@ -77,7 +84,6 @@ import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -113,7 +119,6 @@ class JobHistoryHandlerTest {
                   .withSyncMode(SyncMode.INCREMENTAL)
                   .withStream(new AirbyteStream().withName("stream2"))))));
   private static final Path LOG_PATH = Path.of("log_path");
-  private static final LogRead EMPTY_LOG_READ = new LogRead().logLines(new ArrayList<>());
   private static final long CREATED_AT = System.currentTimeMillis() / 1000;
 
   private static final AttemptStats FIRST_ATTEMPT_STATS = new AttemptStats(new SyncStats()
@@ -228,7 +233,7 @@ class JobHistoryHandlerTest {
   private static List<AttemptInfoRead> toAttemptInfoList(final List<Attempt> attempts) {
     final List<AttemptRead> attemptReads = attempts.stream().map(JobHistoryHandlerTest::toAttemptRead).collect(Collectors.toList());
 
-    final Function<AttemptRead, AttemptInfoRead> toAttemptInfoRead = (AttemptRead a) -> new AttemptInfoRead().attempt(a).logs(EMPTY_LOG_READ);
+    final Function<AttemptRead, AttemptInfoRead> toAttemptInfoRead = (AttemptRead a) -> new AttemptInfoRead().attempt(a);
     return attemptReads.stream().map(toAttemptInfoRead).collect(Collectors.toList());
   }
 
@@ -580,7 +585,7 @@ class JobHistoryHandlerTest {
     destinationIdRequestBody.setDestinationId(connectionRead.getDestinationId());
     when(destinationHandler.getDestination(destinationIdRequestBody)).thenReturn(destinationRead);
     when(jobPersistence.getJob(JOB_ID)).thenReturn(job);
-    when(jobPersistence.getAttemptStats(anyLong(), anyInt())).thenReturn(FIRST_ATTEMPT_STATS);
+    when(jobPersistence.getAttemptStats(List.of(JOB_ID))).thenReturn(Map.of(new JobAttemptPair(JOB_ID, 0), FIRST_ATTEMPT_STATS));
 
     final JobIdRequestBody requestBody = new JobIdRequestBody().id(JOB_ID);
     final JobDebugInfoRead jobDebugInfoActual = jobHistoryHandler.getJobDebugInfo(requestBody);
@@ -589,6 +594,37 @@ class JobHistoryHandlerTest {
     final JobDebugInfoRead exp = new JobDebugInfoRead().job(toDebugJobInfo(job)).attempts(attemptInfoReads);
 
     assertEquals(exp, jobDebugInfoActual);
+    verify(jobPersistence, never()).getAttemptStats(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should return the workflow state and empty stats for attempts without stats to debug this job")
+  void testGetDebugJobInfoWithWorkflowState() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final Attempt secondAttempt = createAttempt(1, JOB_ID, CREATED_AT, AttemptStatus.FAILED);
+    final Job job = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, ImmutableList.of(testJobAttempt, secondAttempt),
+        JOB_STATUS, null, CREATED_AT, CREATED_AT);
+    final ConnectionRead connectionRead = ConnectionHelpers.generateExpectedConnectionRead(
+        ConnectionHelpers.generateSyncWithSourceId(UUID.randomUUID()));
+    when(connectionsHandler.getConnection(UUID.fromString(job.getScope()))).thenReturn(connectionRead);
+    when(sourceHandler.getSource(any())).thenReturn(new SourceRead().sourceDefinitionId(UUID.randomUUID()));
+    when(destinationHandler.getDestination(any())).thenReturn(new DestinationRead().destinationDefinitionId(UUID.randomUUID()));
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(job);
+    when(jobPersistence.getAttemptStats(List.of(JOB_ID))).thenReturn(Map.of(new JobAttemptPair(JOB_ID, 0), FIRST_ATTEMPT_STATS));
+
+    final TemporalClient temporalClient = mock(TemporalClient.class);
+    final WorkflowState workflowState = mock(WorkflowState.class);
+    when(workflowState.isRunning()).thenReturn(true);
+    when(temporalClient.getWorkflowState(UUID.fromString(job.getScope()))).thenReturn(Optional.of(workflowState));
+    final JobHistoryHandler handler = new JobHistoryHandler(jobPersistence, WorkerEnvironment.DOCKER, LogConfigs.EMPTY, connectionsHandler,
+        sourceHandler, mock(SourceDefinitionsHandler.class), destinationHandler, mock(DestinationDefinitionsHandler.class),
+        mock(AirbyteVersion.class), temporalClient, MoreExecutors.newDirectExecutorService(), featureFlagClient);
+
+    final JobDebugInfoRead jobDebugInfoActual = handler.getJobDebugInfo(new JobIdRequestBody().id(JOB_ID));
+
+    assertEquals(new WorkflowStateRead().running(true), jobDebugInfoActual.getWorkflowState());
+    assertEquals(FIRST_ATTEMPT_STATS_API, jobDebugInfoActual.getAttempts().get(0).getAttempt().getTotalStats());
+    assertEquals(new io.airbyte.api.model.generated.AttemptStats(), jobDebugInfoActual.getAttempts().get(1).getAttempt().getTotalStats());
+    assertNull(jobDebugInfoActual.getAttempts().get(1).getLogs());
   }
 
   @Test
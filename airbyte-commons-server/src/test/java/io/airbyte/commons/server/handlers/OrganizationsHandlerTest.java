@@ -7,6 +7,7 @@ package io.airbyte.commons.server.handlers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +18,7 @@ import io.airbyte.api.model.generated.OrganizationRead;
 import io.airbyte.api.model.generated.OrganizationReadList;
 import io.airbyte.api.model.generated.OrganizationUpdateRequestBody;
 import io.airbyte.api.model.generated.Pagination;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.config.Organization;
 import io.airbyte.config.persistence.OrganizationPersistence;
 import io.airbyte.config.persistence.PermissionPersistence;
@@ -26,6 +28,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 @SuppressWarnings("PMD")
 class OrganizationsHandlerTest {
@@ -38,6 +41,7 @@ class OrganizationsHandlerTest {
       new Organization().withOrganizationId(ORGANIZATION_ID_1).withEmail(ORGANIZATION_EMAIL).withName(ORGANIZATION_NAME);
   private PermissionPersistence permissionPersistence;
   private OrganizationPersistence organizationPersistence;
+  private RbacRoleCache rbacRoleCache;
   private Supplier<UUID> uuidSupplier;
   private OrganizationsHandler organizationsHandler;
 
@@ -46,7 +50,8 @@ class OrganizationsHandlerTest {
     permissionPersistence = mock(PermissionPersistence.class);
     uuidSupplier = mock(Supplier.class);
     organizationPersistence = mock(OrganizationPersistence.class);
-    organizationsHandler = new OrganizationsHandler(organizationPersistence, permissionPersistence, uuidSupplier);
+    rbacRoleCache = mock(RbacRoleCache.class);
+    organizationsHandler = new OrganizationsHandler(organizationPersistence, permissionPersistence, rbacRoleCache, uuidSupplier);
   }
 
   @Test
@@ -63,6 +68,11 @@ class OrganizationsHandlerTest {
     assertEquals(ORGANIZATION_ID_1, result.getOrganizationId());
     assertEquals(ORGANIZATION_NAME, result.getOrganizationName());
     assertEquals(ORGANIZATION_EMAIL, result.getEmail());
+
+    // the org admin grant must be visible to the role checks right away
+    final InOrder inOrder = inOrder(permissionPersistence, rbacRoleCache);
+    inOrder.verify(permissionPersistence).writePermission(any());
+    inOrder.verify(rbacRoleCache).invalidateAll();
   }
 
   @Test
@@ -7,9 +7,11 @@ package io.airbyte.commons.server.handlers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,7 @@ import io.airbyte.api.model.generated.PermissionUpdate;
 import io.airbyte.api.model.generated.PermissionsCheckMultipleWorkspacesRequest;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.errors.OperationNotAllowedException;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.config.Permission;
 import io.airbyte.config.Permission.PermissionType;
 import io.airbyte.config.StandardWorkspace;
@@ -35,6 +38,7 @@ import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -54,6 +58,7 @@ class PermissionHandlerTest {
   private Supplier<UUID> uuidSupplier;
   private PermissionPersistence permissionPersistence;
   private WorkspaceService workspaceService;
+  private RbacRoleCache rbacRoleCache;
   private PermissionHandler permissionHandler;
 
   @BeforeEach
@@ -61,7 +66,8 @@ class PermissionHandlerTest {
     permissionPersistence = mock(PermissionPersistence.class);
     uuidSupplier = mock(Supplier.class);
     workspaceService = mock(WorkspaceService.class);
-    permissionHandler = new PermissionHandler(permissionPersistence, workspaceService, uuidSupplier);
+    rbacRoleCache = mock(RbacRoleCache.class);
+    permissionHandler = new PermissionHandler(permissionPersistence, workspaceService, rbacRoleCache, uuidSupplier);
   }
 
   @Test
@@ -105,6 +111,7 @@ class PermissionHandlerTest {
           .workspaceId(WORKSPACE_ID);
 
       assertEquals(expectedRead, actualRead);
+      verify(rbacRoleCache).invalidateAll();
     }
 
     @Test
@@ -186,6 +193,7 @@ class PermissionHandlerTest {
           .withUserId(PERMISSION_WORKSPACE_READER.getUserId())
           .withWorkspaceId(PERMISSION_WORKSPACE_READER.getWorkspaceId())
           .withOrganizationId(null));
+      verify(rbacRoleCache).invalidateAll();
       assertEquals(expectedPermissionRead, actualPermissionRead);
     }
 
@@ -272,6 +280,7 @@ class PermissionHandlerTest {
       permissionHandler.deletePermission(new PermissionIdRequestBody().permissionId(PERMISSION_WORKSPACE_READER.getPermissionId()));
 
       verify(permissionPersistence).deletePermissionById(PERMISSION_WORKSPACE_READER.getPermissionId());
+      verify(rbacRoleCache).invalidateAll();
     }
 
     @Test
@@ -372,7 +381,7 @@ class PermissionHandlerTest {
     }
 
     @Test
-    void permissionsCheckMultipleWorkspacesOrgPermission() throws IOException, JsonValidationException, ConfigNotFoundException {
+    void permissionsCheckMultipleWorkspacesOrgPermission() throws IOException {
       final UUID otherWorkspaceId = UUID.randomUUID();
       when(permissionPersistence.listPermissionsByUser(USER_ID)).thenReturn(List.of(
           new Permission()
@@ -385,8 +394,8 @@ class PermissionHandlerTest {
               .withOrganizationId(ORGANIZATION_ID)));
 
       // otherWorkspace is in the user's organization, so the user's Org Reader permission should apply
-      when(workspaceService.getStandardWorkspaceNoSecrets(otherWorkspaceId, false))
-          .thenReturn(new StandardWorkspace().withOrganizationId(ORGANIZATION_ID));
+      when(workspaceService.getOrganizationIdsForWorkspaceIds(Set.of(otherWorkspaceId)))
+          .thenReturn(Map.of(otherWorkspaceId, ORGANIZATION_ID));
 
       // EDITOR fails because READER is below editor
       final PermissionCheckRead editorResult = permissionHandler.permissionsCheckMultipleWorkspaces(new PermissionsCheckMultipleWorkspacesRequest()
@@ -405,6 +414,80 @@ class PermissionHandlerTest {
       assertEquals(StatusEnum.SUCCEEDED, readerResult.getStatus());
     }
 
+    @Test
+    void permissionsCheckMultipleWorkspacesOrgPermissionOtherOrganization() throws IOException {
+      final UUID otherOrgWorkspaceId = UUID.randomUUID();
+      final UUID missingWorkspaceId = UUID.randomUUID();
+      when(permissionPersistence.listPermissionsByUser(USER_ID)).thenReturn(List.of(
+          new Permission()
+              .withPermissionType(PermissionType.ORGANIZATION_ADMIN)
+              .withUserId(USER_ID)
+              .withOrganizationId(ORGANIZATION_ID)));
+
+      // one workspace belongs to another organization, the other one does not exist
+      when(workspaceService.getOrganizationIdsForWorkspaceIds(Set.of(WORKSPACE_ID, otherOrgWorkspaceId)))
+          .thenReturn(Map.of(WORKSPACE_ID, ORGANIZATION_ID, otherOrgWorkspaceId, UUID.randomUUID()));
+      when(workspaceService.getOrganizationIdsForWorkspaceIds(Set.of(WORKSPACE_ID, missingWorkspaceId)))
+          .thenReturn(Map.of(WORKSPACE_ID, ORGANIZATION_ID));
+
+      final PermissionCheckRead otherOrgResult = permissionHandler.permissionsCheckMultipleWorkspaces(new PermissionsCheckMultipleWorkspacesRequest()
+          .permissionType(io.airbyte.api.model.generated.PermissionType.WORKSPACE_READER)
+          .userId(USER_ID)
+          .workspaceIds(List.of(WORKSPACE_ID, otherOrgWorkspaceId)));
+
+      assertEquals(StatusEnum.FAILED, otherOrgResult.getStatus());
+
+      final PermissionCheckRead missingResult = permissionHandler.permissionsCheckMultipleWorkspaces(new PermissionsCheckMultipleWorkspacesRequest()
+          .permissionType(io.airbyte.api.model.generated.PermissionType.WORKSPACE_READER)
+          .userId(USER_ID)
+          .workspaceIds(List.of(WORKSPACE_ID, missingWorkspaceId)));
+
+      assertEquals(StatusEnum.FAILED, missingResult.getStatus());
+    }
+
+    @Test
+    void permissionsCheckMultipleWorkspacesInstanceAdmin() throws IOException {
+      when(permissionPersistence.listPermissionsByUser(USER_ID)).thenReturn(List.of(
+          new Permission()
+              .withPermissionType(PermissionType.INSTANCE_ADMIN)
+              .withUserId(USER_ID)));
+
+      final PermissionCheckRead result = permissionHandler.permissionsCheckMultipleWorkspaces(new PermissionsCheckMultipleWorkspacesRequest()
+          .permissionType(io.airbyte.api.model.generated.PermissionType.WORKSPACE_ADMIN)
+          .userId(USER_ID)
+          .workspaceIds(List.of(WORKSPACE_ID, UUID.randomUUID())));
+
+      assertEquals(StatusEnum.SUCCEEDED, result.getStatus());
+      verify(workspaceService, never()).getOrganizationIdsForWorkspaceIds(any());
+    }
+
+    @Test
+    void permissionsCheckMultipleWorkspacesLoadsPermissionsOnce() throws IOException, JsonValidationException, ConfigNotFoundException {
+      final List<UUID> workspaceIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+      when(permissionPersistence.listPermissionsByUser(USER_ID)).thenReturn(List.of(
+          new Permission()
+              .withPermissionType(PermissionType.WORKSPACE_ADMIN)
+              .withUserId(USER_ID)
+              .withWorkspaceId(workspaceIds.get(0)),
+          new Permission()
+              .withPermissionType(PermissionType.ORGANIZATION_EDITOR)
+              .withUserId(USER_ID)
+              .withOrganizationId(ORGANIZATION_ID)));
+      when(workspaceService.getOrganizationIdsForWorkspaceIds(Set.of(workspaceIds.get(1), workspaceIds.get(2))))
+          .thenReturn(Map.of(workspaceIds.get(1), ORGANIZATION_ID, workspaceIds.get(2), ORGANIZATION_ID));
+
+      final PermissionCheckRead result = permissionHandler.permissionsCheckMultipleWorkspaces(new PermissionsCheckMultipleWorkspacesRequest()
+          .permissionType(io.airbyte.api.model.generated.PermissionType.WORKSPACE_EDITOR)
+          .userId(USER_ID)
+          .workspaceIds(workspaceIds));
+
+      assertEquals(StatusEnum.SUCCEEDED, result.getStatus());
+      verify(permissionPersistence, times(1)).listPermissionsByUser(USER_ID);
+      // the workspace granted directly is not looked up
+      verify(workspaceService, times(1)).getOrganizationIdsForWorkspaceIds(any());
+      verify(workspaceService, never()).getStandardWorkspaceNoSecrets(any(), anyBoolean());
+    }
+
     @Test
     void workspaceNotInOrganization() throws IOException, JsonValidationException, ConfigNotFoundException {
       when(permissionPersistence.listPermissionsByUser(USER_ID)).thenReturn(List.of(new Permission()
@@ -755,6 +838,7 @@ class PermissionHandlerTest {
       verify(permissionPersistence, never()).deletePermissionById(otherWorkspacePermission.getPermissionId());
       verify(permissionPersistence, never()).deletePermissionById(otherUserPermission.getPermissionId());
       verify(permissionPersistence, never()).deletePermissionById(orgPermission.getPermissionId());
+      verify(rbacRoleCache).invalidateAll();
     }
 
     @Test
@@ -51,7 +51,6 @@ import io.airbyte.api.model.generated.JobCreate;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobRead;
-import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.NonBreakingChangesPreference;
 import io.airbyte.api.model.generated.SourceAutoPropagateChange;
 import io.airbyte.api.model.generated.SourceCoreConfig;
@@ -135,7 +134,6 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -610,8 +608,7 @@ class SchedulerHandlerTest {
         .configType(JobConfigType.CHECK_CONNECTION_SOURCE)
         .createdAt(CREATED_AT)
         .endedAt(CREATED_AT)
-        .connectorConfigurationUpdated(CONNECTOR_CONFIG_UPDATED)
-        .logs(new LogRead().logLines(new ArrayList<>()));
+        .connectorConfigurationUpdated(CONNECTOR_CONFIG_UPDATED);
   }
 
   private static final FailureReason mockFailureReasonFromTrace = new FailureReason()
@@ -38,6 +38,7 @@ import io.airbyte.api.model.generated.WorkspaceUserReadList;
 import io.airbyte.commons.auth.config.InitialUserConfiguration;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.support.JwtUserAuthenticationResolver;
+import io.airbyte.commons.server.support.RbacRoleCache;
 import io.airbyte.config.AuthProvider;
 import io.airbyte.config.Organization;
 import io.airbyte.config.Permission;
@@ -83,6 +84,7 @@ class UserHandlerTest {
   OrganizationsHandler organizationsHandler;
   JwtUserAuthenticationResolver jwtUserAuthenticationResolver;
   InitialUserConfiguration initialUserConfiguration;
+  RbacRoleCache rbacRoleCache;
 
   private static final UUID USER_ID = UUID.randomUUID();
   private static final String USER_NAME = "user 1";
@@ -110,9 +112,10 @@ class UserHandlerTest {
     uuidSupplier = mock(Supplier.class);
     jwtUserAuthenticationResolver = mock(JwtUserAuthenticationResolver.class);
     initialUserConfiguration = mock(InitialUserConfiguration.class);
+    rbacRoleCache = mock(RbacRoleCache.class);
 
     userHandler = new UserHandler(userPersistence, permissionPersistence, organizationPersistence, permissionHandler, workspacesHandler,
-        uuidSupplier, jwtUserAuthenticationResolver, Optional.of(initialUserConfiguration));
+        rbacRoleCache, uuidSupplier, jwtUserAuthenticationResolver, Optional.of(initialUserConfiguration));
   }
 
   @Test
@@ -352,7 +355,7 @@ class UserHandlerTest {
           // replace default user handler with one that doesn't use initial user config (ie to test what
           // happens in Cloud)
           userHandler = new UserHandler(userPersistence, permissionPersistence, organizationPersistence, permissionHandler, workspacesHandler,
-              uuidSupplier, jwtUserAuthenticationResolver, Optional.empty());
+              rbacRoleCache, uuidSupplier, jwtUserAuthenticationResolver, Optional.empty());
         }
 
         if (isFirstOrgUser) {
@@ -451,10 +454,13 @@ class UserHandlerTest {
         if (!initialUserPresent || initialUserEmail == null || !initialUserEmail.equalsIgnoreCase(NEW_EMAIL)) {
           verify(permissionPersistence, never())
               .writePermission(argThat(permission -> permission.getPermissionType().equals(PermissionType.INSTANCE_ADMIN)));
+          verify(rbacRoleCache, never()).invalidateAll();
         } else {
-          // otherwise, instance_admin permission should be created
+          // otherwise, instance_admin permission should be created, and the cached roles dropped so that the
+          // user is an instance admin right away
           verify(permissionPersistence).writePermission(argThat(
               permission -> permission.getPermissionType().equals(PermissionType.INSTANCE_ADMIN) && permission.getUserId().equals(NEW_USER_ID)));
+          verify(rbacRoleCache).invalidateAll();
         }
       }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.api.model.generated.AirbyteCatalog;
+import io.airbyte.api.model.generated.AirbyteStreamAndConfiguration;
+import io.airbyte.api.model.generated.SelectedFieldInfo;
+import io.airbyte.api.model.generated.StreamDescriptor;
+import io.airbyte.api.model.generated.StreamTransform;
+import io.airbyte.api.model.generated.StreamTransform.TransformTypeEnum;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.converters.CatalogDiffConverters;
+import io.airbyte.commons.server.helpers.ConnectionHelpers;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.validation.json.JsonValidationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class CatalogDiffHelperTest {
+
+  private static final int STREAMS = 5;
+
+  private final AirbyteCatalog oldCatalog = ConnectionHelpers.generateMultipleStreamsApiCatalog(STREAMS);
+  private final AirbyteCatalog newCatalog = ConnectionHelpers.generateMultipleStreamsApiCatalog(STREAMS);
+  private final ConfiguredAirbyteCatalog configuredCatalog = ConnectionHelpers.generateMultipleStreamsConfiguredAirbyteCatalog(STREAMS);
+
+  /**
+   * The diff of the whole catalogs, as computed before they were diffed stream by stream.
+   */
+  private Set<StreamTransform> getCatalogDiffOfWholeCatalogs() throws JsonValidationException {
+    return new HashSet<>(CatalogHelpers.getCatalogDiff(
+        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(oldCatalog)),
+        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(newCatalog)), configuredCatalog)
+        .stream()
+        .map(CatalogDiffConverters::streamTransformToApi)
+        .toList());
+  }
+
+  private Set<StreamTransform> getCatalogDiff() throws JsonValidationException {
+    final List<StreamTransform> transforms = CatalogDiffHelper.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog);
+    final Set<StreamTransform> transformSet = new HashSet<>(transforms);
+    assertEquals(transforms.size(), transformSet.size());
+    assertEquals(getCatalogDiffOfWholeCatalogs(), transformSet);
+    return transformSet;
+  }
+
+  private static AirbyteStreamAndConfiguration stream(final AirbyteCatalog catalog, final int index) {
+    return catalog.getStreams().get(index);
+  }
+
+  private static StreamDescriptor descriptor(final AirbyteStreamAndConfiguration stream) {
+    return new StreamDescriptor().name(stream.getStream().getName()).namespace(stream.getStream().getNamespace());
+  }
+
+  private static JsonNode schemaWithFields(final String... fieldNames) {
+    return CatalogHelpers.fieldsToJsonSchema(Stream.of(fieldNames).map(name -> Field.of(name, JsonSchemaType.STRING)).toArray(Field[]::new));
+  }
+
+  @Test
+  void testNoDiffForEqualCatalogs() throws JsonValidationException {
+    assertEquals(Set.of(), getCatalogDiff());
+  }
+
+  @Test
+  void testAddedAndRemovedStreams() throws JsonValidationException {
+    final AirbyteStreamAndConfiguration added = oldCatalog.getStreams().remove(1);
+    final AirbyteStreamAndConfiguration removed = newCatalog.getStreams().remove(3);
+
+    final Set<StreamTransform> transforms = getCatalogDiff();
+
+    assertEquals(Set.of(
+        List.of(TransformTypeEnum.ADD_STREAM, descriptor(added)),
+        List.of(TransformTypeEnum.REMOVE_STREAM, descriptor(removed))),
+        transforms.stream().map(transform -> List.of(transform.getTransformType(), transform.getStreamDescriptor())).collect(Collectors.toSet()));
+  }
+
+  @Test
+  void testFieldChangesOfConfiguredStreams() throws JsonValidationException {
+    stream(newCatalog, 0).getStream().jsonSchema(schemaWithFields(ConnectionHelpers.FIELD_NAME, ConnectionHelpers.SECOND_FIELD_NAME));
+    stream(newCatalog, 2).getStream().jsonSchema(schemaWithFields(ConnectionHelpers.SECOND_FIELD_NAME));
+
+    final Set<StreamTransform> transforms = getCatalogDiff();
+
+    assertEquals(Set.of(descriptor(stream(newCatalog, 0)), descriptor(stream(newCatalog, 2))),
+        transforms.stream().map(StreamTransform::getStreamDescriptor).collect(Collectors.toSet()));
+    transforms.forEach(transform -> assertEquals(TransformTypeEnum.UPDATE_STREAM, transform.getTransformType()));
+  }
+
+  @Test
+  void testChangesOfStreamsThatAreNotConfiguredAreIgnored() throws JsonValidationException {
+    configuredCatalog.getStreams().remove(0);
+    stream(newCatalog, 0).getStream().jsonSchema(schemaWithFields(ConnectionHelpers.SECOND_FIELD_NAME));
+
+    assertEquals(Set.of(), getCatalogDiff());
+  }
+
+  @Test
+  void testChangesOutsideOfTheFieldsAreIgnored() throws JsonValidationException {
+    stream(newCatalog, 0).getStream().sourceDefinedPrimaryKey(List.of(List.of(ConnectionHelpers.FIELD_NAME)));
+
+    assertEquals(Set.of(), getCatalogDiff());
+  }
+
+  @Test
+  void testChangesOfDeselectedFieldsAreIgnored() throws JsonValidationException {
+    for (final AirbyteCatalog catalog : List.of(oldCatalog, newCatalog)) {
+      stream(catalog, 0).getConfig()
+          .fieldSelectionEnabled(true)
+          .selectedFields(List.of(new SelectedFieldInfo().addFieldPathItem(ConnectionHelpers.FIELD_NAME)));
+    }
+    stream(oldCatalog, 0).getStream().jsonSchema(schemaWithFields(ConnectionHelpers.FIELD_NAME, "deselected"));
+    stream(newCatalog, 0).getStream().jsonSchema(schemaWithFields(ConnectionHelpers.FIELD_NAME, ConnectionHelpers.SECOND_FIELD_NAME));
+
+    assertEquals(Set.of(), getCatalogDiff());
+    // the schemas of the catalogs are left as they are
+    assertEquals(schemaWithFields(ConnectionHelpers.FIELD_NAME, "deselected"), stream(oldCatalog, 0).getStream().getJsonSchema());
+  }
+
+  @Test
+  void testFingerprintIgnoresTheOrderOfKeys() {
+    final AirbyteStream stream = new AirbyteStream()
+        .withName("stream")
+        .withJsonSchema(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"type\": \"string\"}, \"b\": {\"type\": \"number\"}}}"));
+    final AirbyteStream reordered = Jsons.clone(stream)
+        .withJsonSchema(Jsons.deserialize("{\"properties\": {\"b\": {\"type\": \"number\"}, \"a\": {\"type\": \"string\"}}, \"type\": \"object\"}"));
+
+    assertEquals(stream, reordered);
+    assertEquals(CatalogDiffHelper.fingerprint(stream), CatalogDiffHelper.fingerprint(reordered));
+  }
+
+  @Test
+  void testFingerprintChangesWithTheStream() {
+    final AirbyteStream stream = new AirbyteStream()
+        .withName("stream")
+        .withJsonSchema(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"type\": \"string\"}}}"));
+
+    for (final AirbyteStream changed : List.of(
+        Jsons.clone(stream).withName("other"),
+        Jsons.clone(stream).withNamespace("namespace"),
+        Jsons.clone(stream).withJsonSchema(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"type\": \"integer\"}}}")),
+        Jsons.clone(stream).withJsonSchema(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"a\": {\"type\": [\"string\"]}}}")),
+        Jsons.clone(stream).withSourceDefinedCursor(true),
+        Jsons.clone(stream).withDefaultCursorField(List.of("a")),
+        Jsons.clone(stream).withSourceDefinedPrimaryKey(List.of(List.of("a"))))) {
+      assertNotEquals(CatalogDiffHelper.fingerprint(stream), CatalogDiffHelper.fingerprint(changed), changed.toString());
+    }
+  }
+
+}
@@ -4,14 +4,19 @@
 
 package io.airbyte.commons.server.support;
 
+import static io.airbyte.commons.server.support.AuthenticationFields.CONNECTION_IDS_FIELD_NAME;
 import static io.airbyte.commons.server.support.AuthenticationFields.WORKSPACE_IDS_FIELD_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,7 +44,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, String> content = Map.of(idFieldName, match.toString(), OTHER_ID, other.toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertTrue(extractedId.isPresent());
     assertEquals(match, UUID.fromString(extractedId.get()));
@@ -53,7 +58,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, String> content = Map.of(idFieldName, match.toString(), OTHER_ID, other.toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertTrue(extractedId.isPresent());
     assertEquals(match, Long.valueOf(extractedId.get()));
@@ -61,7 +66,7 @@ class AirbyteHttpRequestFieldExtractorTest {
 
   @Test
   void testExtractionWithEmptyContent() {
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId("", SOME_ID);
+    final Optional<String> extractedId = extractId("", SOME_ID);
     assertTrue(extractedId.isEmpty());
   }
 
@@ -73,7 +78,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, String> content = Map.of(idFieldName, match.toString(), OTHER_ID, other.toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, "unknownFieldId");
+    final Optional<String> extractedId = extractId(contentAsString, "unknownFieldId");
 
     assertTrue(extractedId.isEmpty());
   }
@@ -84,7 +89,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, String> content = Map.of(OTHER_ID, UUID.randomUUID().toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertTrue(extractedId.isEmpty());
   }
@@ -94,7 +99,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final String idFieldName = SOME_ID;
     final String contentAsString = "{ \"someInvalidJson\" : \" ], \"foo\" }";
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertTrue(extractedId.isEmpty());
   }
@@ -107,7 +112,7 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, String> content = Map.of(OTHER_ID, other.toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertTrue(extractedId.isEmpty());
   }
@@ -122,9 +127,63 @@ class AirbyteHttpRequestFieldExtractorTest {
     final Map<String, ?> content = Map.of(WORKSPACE_IDS_FIELD_NAME, valueList, OTHER_ID, other.toString());
     final String contentAsString = Jsons.serialize(content);
 
-    final Optional<String> extractedId = airbyteHttpRequestFieldExtractor.extractId(contentAsString, idFieldName);
+    final Optional<String> extractedId = extractId(contentAsString, idFieldName);
 
     assertEquals(extractedId, Optional.of(valueString));
   }
 
+  @Test
+  void testExtractIdsInSinglePass() {
+    final UUID workspaceId = UUID.randomUUID();
+    final List<UUID> connectionIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    final String content = Jsons.serialize(Map.of(
+        SOME_ID, workspaceId.toString(),
+        CONNECTION_IDS_FIELD_NAME, connectionIds,
+        "numericId", 12345L,
+        "syncCatalog", Map.of(SOME_ID, "nested", "streams", List.of(Map.of(OTHER_ID, "nested")))));
+
+    final Map<String, String> ids = airbyteHttpRequestFieldExtractor.extractIds(
+        streamOf(content), Set.of(SOME_ID, OTHER_ID, CONNECTION_IDS_FIELD_NAME, "numericId", "syncCatalog"));
+
+    assertEquals(Map.of(
+        SOME_ID, workspaceId.toString(),
+        CONNECTION_IDS_FIELD_NAME, Jsons.serialize(connectionIds),
+        "numericId", "12345"), ids);
+  }
+
+  @Test
+  void testExtractIdsLikeTheTreeDoes() {
+    final String content = "{\"a\": \"x\", \"b\": null, \"c\": true, \"d\": 1.5, \"e\": \"\", \"a\": \"y\", "
+        + "\"" + WORKSPACE_IDS_FIELD_NAME + "\": [\"w1\", \"w2\"]}";
+
+    final Map<String, String> ids = airbyteHttpRequestFieldExtractor.extractIds(
+        streamOf(content), Set.of("a", "b", "c", "d", "e", "missing", WORKSPACE_IDS_FIELD_NAME));
+
+    // the last occurrence of a duplicated field wins, scalars are read as text and empty values are
+    // ignored
+    assertEquals(Map.of(
+        "a", "y",
+        "b", "null",
+        "c", "true",
+        "d", "1.5",
+        WORKSPACE_IDS_FIELD_NAME, "[\"w1\",\"w2\"]"), ids);
+  }
+
+  @Test
+  void testExtractIdsWithInvalidContent() {
+    assertTrue(airbyteHttpRequestFieldExtractor.extractIds(streamOf(""), Set.of(SOME_ID)).isEmpty());
+    assertTrue(airbyteHttpRequestFieldExtractor.extractIds(streamOf("[{\"some_id\": \"a\"}]"), Set.of(SOME_ID)).isEmpty());
+    assertTrue(airbyteHttpRequestFieldExtractor
+        .extractIds(streamOf("{\"some_id\": \"a\", \"someInvalidJson\" : \" ], \"foo\" }"), Set.of(SOME_ID, OTHER_ID))
+        .isEmpty());
+  }
+
+  private Optional<String> extractId(final String content, final String idFieldName) {
+    return Optional.ofNullable(airbyteHttpRequestFieldExtractor.extractIds(streamOf(content), Set.of(idFieldName)).get(idFieldName));
+  }
+
+  private static InputStream streamOf(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
 }
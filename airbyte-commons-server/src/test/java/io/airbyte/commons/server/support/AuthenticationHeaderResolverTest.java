@@ -22,6 +22,7 @@ import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSP
 import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_ID_HEADER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -81,19 +82,33 @@ class AuthenticationHeaderResolverTest {
   }
 
   @Test
-  void testResolvingFromConnectionIds() throws JsonValidationException, ConfigNotFoundException {
+  void testResolvingFromConnectionIds() throws IOException {
     final UUID workspaceId = UUID.randomUUID();
     final UUID connectionId = UUID.randomUUID();
     final UUID connectionId2 = UUID.randomUUID();
 
     final Map<String, String> properties = Map.of(CONNECTION_IDS_HEADER, Jsons.serialize(List.of(connectionId.toString(), connectionId2.toString())));
-    when(workspaceHelper.getWorkspaceForConnectionId(connectionId)).thenReturn(workspaceId);
-    when(workspaceHelper.getWorkspaceForConnectionId(connectionId2)).thenReturn(workspaceId);
+    when(workspaceHelper.getWorkspacesForConnectionIds(List.of(connectionId, connectionId2)))
+        .thenReturn(Map.of(connectionId, workspaceId, connectionId2, workspaceId));
 
     final List<UUID> result = resolver.resolveWorkspace(properties);
     assertEquals(List.of(workspaceId, workspaceId), result);
   }
 
+  @Test
+  void testResolvingFromConnectionIdsWithMissingConnection() throws IOException {
+    final UUID workspaceId = UUID.randomUUID();
+    final UUID connectionId = UUID.randomUUID();
+    final UUID missingConnectionId = UUID.randomUUID();
+
+    final Map<String, String> properties =
+        Map.of(CONNECTION_IDS_HEADER, Jsons.serialize(List.of(connectionId.toString(), missingConnectionId.toString())));
+    when(workspaceHelper.getWorkspacesForConnectionIds(List.of(connectionId, missingConnectionId)))
+        .thenReturn(Map.of(connectionId, workspaceId));
+
+    assertThrows(RuntimeException.class, () -> resolver.resolveWorkspace(properties));
+  }
+
   @Test
   void testResolvingFromSourceAndDestinationId() throws JsonValidationException, ConfigNotFoundException {
     final UUID workspaceId = UUID.randomUUID();
@@ -186,16 +201,29 @@ class AuthenticationHeaderResolverTest {
   }
 
   @Test
-  void testResolvingOrganizationFromWorkspaceHeader() throws ConfigNotFoundException {
+  void testResolvingOrganizationFromWorkspaceHeader() throws IOException {
     final UUID organizationId = UUID.randomUUID();
     final UUID workspaceId = UUID.randomUUID();
     final Map<String, String> properties = Map.of(WORKSPACE_ID_HEADER, workspaceId.toString());
-    when(workspaceHelper.getOrganizationForWorkspace(workspaceId)).thenReturn(organizationId);
+    when(workspaceHelper.getOrganizationsForWorkspaces(List.of(workspaceId))).thenReturn(Map.of(workspaceId, organizationId));
 
     final List<UUID> result = resolver.resolveOrganization(properties);
     assertEquals(List.of(organizationId), result);
   }
 
+  @Test
+  void testResolvingOrganizationsFromWorkspaceIdsHeader() throws IOException {
+    final UUID organizationId = UUID.randomUUID();
+    final List<UUID> workspaceIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    final Map<String, String> properties = Map.of(WORKSPACE_IDS_HEADER, Jsons.serialize(workspaceIds));
+    // the last workspace is not in an organization
+    when(workspaceHelper.getOrganizationsForWorkspaces(workspaceIds))
+        .thenReturn(Map.of(workspaceIds.get(0), organizationId, workspaceIds.get(1), organizationId));
+
+    final List<UUID> result = resolver.resolveOrganization(properties);
+    assertEquals(List.of(organizationId, organizationId), result);
+  }
+
   @Test
   void testResolvingWorkspaceFromPermissionHeader() throws ConfigNotFoundException, IOException {
     final UUID workspaceId = UUID.randomUUID();
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.support;
+
+import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.CONNECTION_ID_HEADER;
+import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.JOB_ID_HEADER;
+import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.SOURCE_ID_HEADER;
+import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_IDS_HEADER;
+import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_ID_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for the {@link AuthorizationServerHandler} class.
+ */
+class AuthorizationServerHandlerTest {
+
+  private AuthorizationServerHandler handler;
+
+  @BeforeEach
+  void setup() {
+    handler = new AuthorizationServerHandler(new AirbyteHttpRequestFieldExtractor());
+  }
+
+  @Test
+  void testHeadersAreAddedFromBody() {
+    final UUID connectionId = UUID.randomUUID();
+    final UUID workspaceId = UUID.randomUUID();
+    final List<UUID> workspaceIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    final FullHttpRequest request = requestWithBody(Jsons.serialize(Map.of(
+        AuthenticationFields.CONNECTION_ID_FIELD_NAME, connectionId.toString(),
+        AuthenticationFields.WORKSPACE_ID_FIELD_NAME, workspaceId.toString(),
+        AuthenticationFields.WORKSPACE_IDS_FIELD_NAME, workspaceIds,
+        "syncCatalog", Map.of(AuthenticationFields.SOURCE_ID_FIELD_NAME, UUID.randomUUID().toString()))));
+    final int readerIndex = request.content().readerIndex();
+
+    handler.updateHeaders(request);
+
+    assertEquals(connectionId.toString(), request.headers().get(CONNECTION_ID_HEADER));
+    assertEquals(workspaceId.toString(), request.headers().get(WORKSPACE_ID_HEADER));
+    assertEquals(Jsons.serialize(workspaceIds), request.headers().get(WORKSPACE_IDS_HEADER));
+    assertFalse(request.headers().contains(SOURCE_ID_HEADER));
+    assertEquals(readerIndex, request.content().readerIndex());
+  }
+
+  @Test
+  void testExistingHeadersAreKept() {
+    final FullHttpRequest request = requestWithBody(Jsons.serialize(Map.of(
+        AuthenticationFields.JOB_ID_FIELD_NAME, "1",
+        AuthenticationFields.JOB_ID_ALT_FIELD_NAME, "2")));
+
+    handler.updateHeaders(request);
+
+    assertEquals(List.of("1"), request.headers().getAll(JOB_ID_HEADER));
+  }
+
+  @Test
+  void testEmptyAndInvalidBodies() {
+    final FullHttpRequest emptyRequest = requestWithBody("");
+    final FullHttpRequest invalidRequest = requestWithBody("{ \"connectionId\" : \" ], \"foo\" }");
+
+    handler.updateHeaders(emptyRequest);
+    handler.updateHeaders(invalidRequest);
+
+    assertTrue(emptyRequest.headers().isEmpty());
+    assertTrue(invalidRequest.headers().isEmpty());
+  }
+
+  private static FullHttpRequest requestWithBody(final String body) {
+    return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/api/v1/test",
+        Unpooled.copiedBuffer(body, StandardCharsets.UTF_8));
+  }
+
+}
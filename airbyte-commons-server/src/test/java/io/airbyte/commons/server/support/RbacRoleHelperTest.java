@@ -5,22 +5,31 @@
 package io.airbyte.commons.server.support;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.auth.AuthRole;
 import io.airbyte.commons.auth.AuthRoleConstants;
 import io.airbyte.commons.auth.OrganizationAuthRole;
 import io.airbyte.commons.auth.WorkspaceAuthRole;
+import io.airbyte.config.Permission;
 import io.airbyte.config.Permission.PermissionType;
 import io.airbyte.config.persistence.PermissionPersistence;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.netty.NettyHttpHeaders;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,12 +60,37 @@ class RbacRoleHelperTest {
   @Mock
   private NettyHttpHeaders mHeaders;
 
+  private final Map<UUID, PermissionType> workspacePermissionTypes = new HashMap<>();
+  private final Map<UUID, PermissionType> organizationPermissionTypes = new HashMap<>();
+  private final AtomicBoolean instanceAdmin = new AtomicBoolean();
+
   private RbacRoleHelper rbacRoleHelper;
 
   @BeforeEach
-  void setUp() {
-    rbacRoleHelper = new RbacRoleHelper(mHeaderResolver, mPermissionPersistence);
+  void setUp() throws IOException {
+    // caching disabled, see getRbacRolesIsCached
+    rbacRoleHelper = new RbacRoleHelper(mHeaderResolver, mPermissionPersistence, new RbacRoleCache(0, Duration.ZERO));
     Mockito.lenient().when(mRequest.getHeaders()).thenReturn(mHeaders);
+    Mockito.lenient().when(mPermissionPersistence.listPermissionsForAuthUser(eq(AUTH_USER_ID), any(), any()))
+        .thenAnswer(invocation -> listPermissions(invocation.getArgument(1), invocation.getArgument(2)));
+  }
+
+  private List<Permission> listPermissions(final Collection<UUID> workspaceIds, final Collection<UUID> organizationIds) {
+    final List<Permission> permissions = new ArrayList<>();
+    workspaceIds.stream()
+        .filter(workspaceId -> workspacePermissionTypes.get(workspaceId) != null)
+        .forEach(workspaceId -> permissions.add(new Permission()
+            .withWorkspaceId(workspaceId)
+            .withPermissionType(workspacePermissionTypes.get(workspaceId))));
+    organizationIds.stream()
+        .filter(organizationId -> organizationPermissionTypes.get(organizationId) != null)
+        .forEach(organizationId -> permissions.add(new Permission()
+            .withOrganizationId(organizationId)
+            .withPermissionType(organizationPermissionTypes.get(organizationId))));
+    if (instanceAdmin.get()) {
+      permissions.add(new Permission().withPermissionType(PermissionType.INSTANCE_ADMIN));
+    }
+    return permissions;
   }
 
   @ParameterizedTest
@@ -71,16 +105,14 @@ class RbacRoleHelperTest {
 
     if (hasWorkspacePermission) {
       when(mHeaderResolver.resolveWorkspace(any())).thenReturn(List.of(WORKSPACE_ID));
-      when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(WORKSPACE_ID, AUTH_USER_ID))
-          .thenReturn(PermissionType.WORKSPACE_ADMIN);
+      workspacePermissionTypes.put(WORKSPACE_ID, PermissionType.WORKSPACE_ADMIN);
 
       // expect all workspace roles that are admin and below
       expectedRoles.addAll(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_ADMIN));
     }
     if (hasOrganizationPermission) {
       when(mHeaderResolver.resolveOrganization(any())).thenReturn(List.of(ORGANIZATION_ID));
-      when(mPermissionPersistence.findPermissionTypeForUserAndOrganization(ORGANIZATION_ID, AUTH_USER_ID))
-          .thenReturn(PermissionType.ORGANIZATION_EDITOR);
+      organizationPermissionTypes.put(ORGANIZATION_ID, PermissionType.ORGANIZATION_EDITOR);
 
       // expect all org roles that are editor and below
       expectedRoles.addAll(OrganizationAuthRole.buildOrganizationAuthRolesSet(OrganizationAuthRole.ORGANIZATION_EDITOR));
@@ -95,7 +127,7 @@ class RbacRoleHelperTest {
       when(mHeaderResolver.resolveAuthUserIds(any())).thenReturn(Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
     }
     if (isInstanceAdmin) {
-      when(mPermissionPersistence.isAuthUserInstanceAdmin(AUTH_USER_ID)).thenReturn(true);
+      instanceAdmin.set(true);
 
       // expect all roles that are admin and below
       expectedRoles.addAll(AuthRole.buildAuthRolesSet(AuthRole.ADMIN));
@@ -117,12 +149,9 @@ class RbacRoleHelperTest {
     final UUID workspaceId3 = UUID.randomUUID();
 
     when(mHeaderResolver.resolveWorkspace(any())).thenReturn(List.of(workspaceId1, workspaceId2, workspaceId3));
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId1, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_ADMIN);
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId2, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_EDITOR);
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId3, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_READER);
+    workspacePermissionTypes.put(workspaceId1, PermissionType.WORKSPACE_ADMIN);
+    workspacePermissionTypes.put(workspaceId2, PermissionType.WORKSPACE_EDITOR);
+    workspacePermissionTypes.put(workspaceId3, PermissionType.WORKSPACE_READER);
 
     Collection<String> actualRoles = new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
 
@@ -130,8 +159,7 @@ class RbacRoleHelperTest {
     Assertions.assertEquals(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_READER), actualRoles);
 
     // change reader to admin, now expect editor as minimum role set.
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId3, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_ADMIN);
+    workspacePermissionTypes.put(workspaceId3, PermissionType.WORKSPACE_ADMIN);
 
     actualRoles = new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
     Assertions.assertEquals(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_EDITOR), actualRoles);
@@ -142,10 +170,8 @@ class RbacRoleHelperTest {
     final UUID organizationId2 = UUID.randomUUID();
 
     when(mHeaderResolver.resolveOrganization(any())).thenReturn(List.of(organizationId1, organizationId2));
-    when(mPermissionPersistence.findPermissionTypeForUserAndOrganization(organizationId1, AUTH_USER_ID))
-        .thenReturn(PermissionType.ORGANIZATION_EDITOR);
-    when(mPermissionPersistence.findPermissionTypeForUserAndOrganization(organizationId2, AUTH_USER_ID))
-        .thenReturn(PermissionType.ORGANIZATION_MEMBER);
+    organizationPermissionTypes.put(organizationId1, PermissionType.ORGANIZATION_EDITOR);
+    organizationPermissionTypes.put(organizationId2, PermissionType.ORGANIZATION_MEMBER);
 
     actualRoles = new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
     final Set<String> expectedRoles = new HashSet<>();
@@ -180,12 +206,9 @@ class RbacRoleHelperTest {
     final UUID workspaceId3 = UUID.randomUUID();
 
     when(mHeaderResolver.resolveWorkspace(any())).thenReturn(List.of(workspaceId1, workspaceId2, workspaceId3));
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId1, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_ADMIN);
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId2, AUTH_USER_ID))
-        .thenReturn(PermissionType.WORKSPACE_EDITOR);
-    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId3, AUTH_USER_ID))
-        .thenReturn(null); // should cause overall role to be NONE
+    workspacePermissionTypes.put(workspaceId1, PermissionType.WORKSPACE_ADMIN);
+    workspacePermissionTypes.put(workspaceId2, PermissionType.WORKSPACE_EDITOR);
+    workspacePermissionTypes.put(workspaceId3, null); // should cause overall role to be NONE
 
     Set<String> actualRoles = new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
 
@@ -197,15 +220,43 @@ class RbacRoleHelperTest {
     final UUID organizationId2 = UUID.randomUUID();
 
     when(mHeaderResolver.resolveOrganization(any())).thenReturn(List.of(organizationId1, organizationId2));
-    when(mPermissionPersistence.findPermissionTypeForUserAndOrganization(organizationId1, AUTH_USER_ID))
-        .thenReturn(PermissionType.ORGANIZATION_EDITOR);
-    when(mPermissionPersistence.findPermissionTypeForUserAndOrganization(organizationId2, AUTH_USER_ID))
-        .thenReturn(null);
+    organizationPermissionTypes.put(organizationId1, PermissionType.ORGANIZATION_EDITOR);
+    organizationPermissionTypes.put(organizationId2, null);
 
     actualRoles = new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
     Assertions.assertEquals(Set.of(OrganizationAuthRole.NONE.getLabel()), actualRoles);
   }
 
+  @Test
+  void getRbacRolesIsCached() throws IOException {
+    final RbacRoleCache rbacRoleCache = new RbacRoleCache(100, Duration.ofMinutes(1));
+    rbacRoleHelper = new RbacRoleHelper(mHeaderResolver, mPermissionPersistence, rbacRoleCache);
+
+    when(mHeaderResolver.resolveWorkspace(any())).thenReturn(List.of(WORKSPACE_ID));
+    when(mHeaderResolver.resolveOrganization(any())).thenReturn(List.of(ORGANIZATION_ID));
+    workspacePermissionTypes.put(WORKSPACE_ID, PermissionType.WORKSPACE_ADMIN);
+    organizationPermissionTypes.put(ORGANIZATION_ID, PermissionType.ORGANIZATION_READER);
+
+    final Set<String> expectedRoles = new HashSet<>();
+    expectedRoles.addAll(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_ADMIN));
+    expectedRoles.addAll(OrganizationAuthRole.buildOrganizationAuthRolesSet(OrganizationAuthRole.ORGANIZATION_READER));
+
+    Assertions.assertEquals(expectedRoles, new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest)));
+    Assertions.assertEquals(expectedRoles, new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest)));
+    // both workspace and organization permissions are resolved with a single query, once
+    verify(mPermissionPersistence, times(1)).listPermissionsForAuthUser(AUTH_USER_ID, List.of(WORKSPACE_ID), List.of(ORGANIZATION_ID));
+
+    // permission changes invalidate the cache
+    workspacePermissionTypes.put(WORKSPACE_ID, PermissionType.WORKSPACE_READER);
+    rbacRoleCache.invalidateAll();
+
+    final Set<String> updatedRoles = new HashSet<>();
+    updatedRoles.addAll(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_READER));
+    updatedRoles.addAll(OrganizationAuthRole.buildOrganizationAuthRolesSet(OrganizationAuthRole.ORGANIZATION_READER));
+    Assertions.assertEquals(updatedRoles, new HashSet<>(rbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest)));
+    verify(mPermissionPersistence, times(2)).listPermissionsForAuthUser(AUTH_USER_ID, List.of(WORKSPACE_ID), List.of(ORGANIZATION_ID));
+  }
+
   @Test
   void getInstanceAdminRoles() {
     final Set<String> expectedRoles = Set.of(
@@ -40,6 +40,7 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +50,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -72,6 +74,18 @@ public class TemporalClient {
    */
   private static final int DELAY_BETWEEN_QUERY_MS = 10;
 
+  /**
+   * The delay between 2 queries doubles while the workflow has not reached the expected state, up to
+   * this value. It is kept low so that callers waiting on a fast state change do not wait much longer
+   * than the change itself.
+   */
+  private static final int MAX_DELAY_BETWEEN_QUERY_MS = 50;
+
+  /**
+   * How long to wait for a workflow to reach the expected state after a signal before giving up.
+   */
+  private static final Duration WORKFLOW_STATE_CHANGE_TIMEOUT = Duration.ofMinutes(5);
+
   private final Path workspaceRoot;
   private final WorkflowClientWrapped workflowClientWrapped;
   private final WorkflowServiceStubsWrapped serviceStubsWrapped;
@@ -80,6 +94,7 @@ public class TemporalClient {
   private final NotificationClient notificationClient;
   private final StreamResetRecordsHelper streamResetRecordsHelper;
   private final MetricClient metricClient;
+  private Duration workflowStateChangeTimeout = WORKFLOW_STATE_CHANGE_TIMEOUT;
 
   public TemporalClient(@Named("workspaceRootTemporal") final Path workspaceRoot,
                         final WorkflowClientWrapped workflowClientWrapped,
@@ -237,15 +252,17 @@ public class TemporalClient {
           Optional.empty(), Optional.of(ErrorCode.WORKFLOW_DELETED));
     }
 
-    do {
-      try {
-        Thread.sleep(DELAY_BETWEEN_QUERY_MS);
-      } catch (final InterruptedException e) {
+    try {
+      if (!awaitWorkflowState(() -> connectionManagerUtils.isWorkflowStateRunning(connectionId))) {
         return new ManualOperationResult(
-            Optional.of("Didn't managed to start a sync for: " + connectionId),
+            Optional.of("Timed out waiting for a sync to start for: " + connectionId),
             Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
       }
-    } while (!connectionManagerUtils.isWorkflowStateRunning(connectionId));
+    } catch (final InterruptedException e) {
+      return new ManualOperationResult(
+          Optional.of("Didn't managed to start a sync for: " + connectionId),
+          Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
+    }
 
     log.info("end of manual schedule");
 
@@ -276,15 +293,17 @@ public class TemporalClient {
           Optional.empty(), Optional.of(ErrorCode.WORKFLOW_DELETED));
     }
 
-    do {
-      try {
-        Thread.sleep(DELAY_BETWEEN_QUERY_MS);
-      } catch (final InterruptedException e) {
+    try {
+      if (!awaitWorkflowState(() -> !connectionManagerUtils.isWorkflowStateRunning(connectionId))) {
         return new ManualOperationResult(
-            Optional.of("Didn't manage to cancel a sync for: " + connectionId),
+            Optional.of("Timed out waiting for the sync to be cancelled for: " + connectionId),
             Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
       }
-    } while (connectionManagerUtils.isWorkflowStateRunning(connectionId));
+    } catch (final InterruptedException e) {
+      return new ManualOperationResult(
+          Optional.of("Didn't manage to cancel a sync for: " + connectionId),
+          Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
+    }
 
     streamResetRecordsHelper.deleteStreamResetRecordsForJob(jobId, connectionId);
 
@@ -333,18 +352,19 @@ public class TemporalClient {
           Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
     }
 
-    Optional<Long> newJobId;
-
-    do {
-      try {
-        Thread.sleep(DELAY_BETWEEN_QUERY_MS);
-      } catch (final InterruptedException e) {
-        return new ManualOperationResult(
-            Optional.of("Didn't manage to reset a sync for: " + connectionId),
-            Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
-      }
-      newJobId = getNewJobId(connectionId, oldJobId);
-    } while (newJobId.isEmpty());
+    final Optional<Long> newJobId;
+    try {
+      newJobId = awaitWorkflowState(() -> getNewJobId(connectionId, oldJobId));
+    } catch (final InterruptedException e) {
+      return new ManualOperationResult(
+          Optional.of("Didn't manage to reset a sync for: " + connectionId),
+          Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
+    }
+    if (newJobId.isEmpty()) {
+      return new ManualOperationResult(
+          Optional.of("Timed out waiting for the reset to start for: " + connectionId),
+          Optional.empty(), Optional.of(ErrorCode.UNKNOWN));
+    }
 
     log.info("end of reset submission");
 
@@ -353,6 +373,46 @@ public class TemporalClient {
         newJobId, Optional.empty());
   }
 
+  @VisibleForTesting
+  void setWorkflowStateChangeTimeout(final Duration workflowStateChangeTimeout) {
+    this.workflowStateChangeTimeout = workflowStateChangeTimeout;
+  }
+
+  /**
+   * Wait for a workflow to reach the expected state after a signal. Since temporal signals are async,
+   * the workflow is queried until it is, backing off between queries.
+   *
+   * @param condition whether the workflow reached the expected state
+   * @return true if the workflow reached the expected state, false if it timed out
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private boolean awaitWorkflowState(final BooleanSupplier condition) throws InterruptedException {
+    return awaitWorkflowState(() -> condition.getAsBoolean() ? Optional.of(true) : Optional.empty()).isPresent();
+  }
+
+  /**
+   * Wait for a workflow to reach the expected state after a signal. Since temporal signals are async,
+   * the workflow is queried until it is, backing off between queries.
+   *
+   * @param query returns a value once the workflow reached the expected state
+   * @return the value, or empty if it timed out
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private <T> Optional<T> awaitWorkflowState(final Supplier<Optional<T>> query) throws InterruptedException {
+    final long deadline = System.nanoTime() + workflowStateChangeTimeout.toNanos();
+    long delayMs = DELAY_BETWEEN_QUERY_MS;
+    do {
+      Thread.sleep(delayMs);
+      final Optional<T> result = query.get();
+      if (result.isPresent()) {
+        return result;
+      }
+      delayMs = Math.min(delayMs * 2, MAX_DELAY_BETWEEN_QUERY_MS);
+    } while (System.nanoTime() < deadline);
+
+    return Optional.empty();
+  }
+
   private Optional<Long> getNewJobId(final UUID connectionId, final long oldJobId) {
     final long currentJobId = connectionManagerUtils.getCurrentJobId(connectionId);
     if (currentJobId == NON_RUNNING_JOB_ID || currentJobId == oldJobId) {
@@ -530,9 +590,7 @@ public class TemporalClient {
     try {
       CompletableFuture.supplyAsync(() -> {
         try {
-          do {
-            Thread.sleep(DELAY_BETWEEN_QUERY_MS);
-          } while (!isWorkflowReachable(connectionId));
+          awaitWorkflowState(() -> isWorkflowReachable(connectionId));
         } catch (final InterruptedException e) {
           // no op
         }
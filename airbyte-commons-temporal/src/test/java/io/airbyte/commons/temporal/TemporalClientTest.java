@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -58,6 +59,7 @@ import io.temporal.workflow.Functions.Proc;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -507,6 +509,26 @@ public class TemporalClientTest {
       verify(streamResetRecordsHelper).deleteStreamResetRecordsForJob(JOB_ID, CONNECTION_ID);
     }
 
+    @Test
+    @DisplayName("Test startNewCancellation reports a timeout when the sync is not cancelled in time")
+    void testStartNewCancellationTimeout() {
+      final ConnectionManagerWorkflow mConnectionManagerWorkflow = mock(ConnectionManagerWorkflow.class);
+      final WorkflowState mWorkflowState = mock(WorkflowState.class);
+      when(mConnectionManagerWorkflow.getState()).thenReturn(mWorkflowState);
+      when(mWorkflowState.isDeleted()).thenReturn(false);
+      when(mWorkflowState.isRunning()).thenReturn(true);
+      when(mConnectionManagerWorkflow.getJobInformation()).thenReturn(new JobInformation(JOB_ID, ATTEMPT_ID));
+      when(workflowClient.newWorkflowStub(any(), anyString())).thenReturn(mConnectionManagerWorkflow);
+      temporalClient.setWorkflowStateChangeTimeout(Duration.ofMillis(100));
+
+      final ManualOperationResult result = temporalClient.startNewCancellation(CONNECTION_ID);
+
+      assertFalse(result.getJobId().isPresent());
+      assertTrue(result.getFailingReason().orElseThrow().startsWith("Timed out"));
+      verify(mConnectionManagerWorkflow).cancelJob();
+      verify(streamResetRecordsHelper, never()).deleteStreamResetRecordsForJob(JOB_ID, CONNECTION_ID);
+    }
+
     @Test
     @DisplayName("Test startNewCancellation repairs the workflow if it is in a bad state")
     void testStartNewCancellationRepairsBadWorkflowState() {
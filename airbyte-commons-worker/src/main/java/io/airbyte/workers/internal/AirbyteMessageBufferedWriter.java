@@ -18,4 +18,9 @@ public interface AirbyteMessageBufferedWriter {
 
   void close() throws IOException;
 
+  /**
+   * Number of serialized bytes written so far, including those still buffered.
+   */
+  long getBytesWritten();
+
 }
@@ -4,13 +4,14 @@
 
 package io.airbyte.workers.internal;
 
-import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Factory for creating airbyte message writers. Base class that the versioned writers build upon.
  */
 public interface AirbyteMessageBufferedWriterFactory {
 
-  AirbyteMessageBufferedWriter createWriter(BufferedWriter bufferedWriter);
+  AirbyteMessageBufferedWriter createWriter(OutputStream outputStream) throws IOException;
 
 }
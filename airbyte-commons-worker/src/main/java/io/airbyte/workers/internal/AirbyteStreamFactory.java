@@ -4,8 +4,10 @@
 
 package io.airbyte.workers.internal;
 
+import io.airbyte.commons.io.IOs;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.util.stream.Stream;
 
 /**
@@ -15,4 +17,12 @@ public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Create the AirbyteStream straight from a process stream. Factories that can frame lines at the
+   * byte level (see {@link LineFramedInputStream}) override this to skip the Reader.
+   */
+  default Stream<AirbyteMessage> createFromInputStream(final InputStream inputStream) {
+    return create(IOs.newBufferedReader(inputStream));
+  }
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the periodic checks of the replication worker chaperones ({@link HeartbeatTimeoutChaperone}
+ * and {@link DestinationTimeoutMonitor}). The checks only read a few timestamps, so a single thread
+ * shared by every sync of the process runs them, instead of each chaperone of each sync sleeping on
+ * its own thread.
+ */
+final class ChaperoneScheduler {
+
+  private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+      .setNameFormat("replication-chaperone-%d")
+      .setDaemon(true)
+      .build());
+
+  private ChaperoneScheduler() {}
+
+  /**
+   * Run a check every period until it returns true.
+   *
+   * @param check returns true once the chaperone should stop waiting, e.g. on timeout
+   * @param period time between two checks
+   * @return a future completed once the check returned true, or exceptionally if the check threw.
+   *         Cancelling it stops the checks.
+   */
+  static CompletableFuture<Void> checkPeriodically(final BooleanSupplier check, final Duration period) {
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    final long periodMillis = Math.max(period.toMillis(), 1);
+    final ScheduledFuture<?> checks = SCHEDULER.scheduleWithFixedDelay(() -> {
+      try {
+        if (check.getAsBoolean()) {
+          done.complete(null);
+        }
+      } catch (final RuntimeException e) {
+        done.completeExceptionally(e);
+      }
+    }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    done.whenComplete((result, throwable) -> checks.cancel(false));
+    return done;
+  }
+
+}
@@ -5,10 +5,8 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import io.airbyte.commons.constants.WorkerConstants;
-import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.LoggingHelper;
@@ -24,9 +22,7 @@ import io.airbyte.workers.WorkerUtils;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import io.airbyte.workers.process.IntegrationLauncher;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.net.SocketException;
 import java.nio.file.Path;
 import java.util.Iterator;
@@ -107,10 +103,10 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     // stdout logs are logged elsewhere since stdout also contains data
     LineGobbler.gobble(destinationProcess.getErrorStream(), LOGGER::error, "airbyte-destination", CONTAINER_LOG_MDC_BUILDER);
 
-    writer = messageWriterFactory.createWriter(new BufferedWriter(new OutputStreamWriter(destinationProcess.getOutputStream(), Charsets.UTF_8)));
+    writer = messageWriterFactory.createWriter(destinationProcess.getOutputStream());
 
     final List<Type> acceptedMessageTypes = List.of(Type.STATE, Type.TRACE, Type.CONTROL);
-    messageIterator = streamFactory.create(IOs.newBufferedReader(destinationProcess.getInputStream()))
+    messageIterator = streamFactory.createFromInputStream(destinationProcess.getInputStream())
         .filter(message -> acceptedMessageTypes.contains(message.getType()))
         .iterator();
   }
@@ -145,6 +141,7 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     writer.flush();
     writer.close();
     inputHasEnded.set(true);
+    LOGGER.info("Wrote {} bytes to the destination", writer.getBytesWritten());
   }
 
   @Override
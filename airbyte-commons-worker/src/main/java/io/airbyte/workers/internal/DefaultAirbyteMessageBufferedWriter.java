@@ -4,36 +4,52 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteMessage;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Default writer that serializes airbyte messages to JSON.
+ * <p>
+ * Messages are streamed through a single {@link JsonGenerator} for the lifetime of the writer, so
+ * no intermediate String is built per message. The generator encodes straight into its recycled
+ * byte buffer, which is only handed to the output stream once it is full or on flush.
  */
 public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBufferedWriter {
 
-  protected final BufferedWriter writer;
+  protected static final char NEW_LINE = '\n';
 
-  public DefaultAirbyteMessageBufferedWriter(final BufferedWriter writer) {
-    this.writer = writer;
+  protected final JsonGenerator generator;
+  private final CountingOutputStream countingOutputStream;
+
+  public DefaultAirbyteMessageBufferedWriter(final OutputStream outputStream) throws IOException {
+    // Counting happens once per buffer handed over by the generator, not per message.
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.generator = Jsons.createGenerator(countingOutputStream);
   }
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
-    writer.newLine();
+    Jsons.serialize(message, generator);
+    generator.writeRaw(NEW_LINE);
   }
 
   @Override
   public void flush() throws IOException {
-    writer.flush();
+    generator.flush();
   }
 
   @Override
   public void close() throws IOException {
-    writer.close();
+    generator.close();
+  }
+
+  @Override
+  public long getBytesWritten() {
+    return countingOutputStream.getCount() + generator.getOutputBuffered();
   }
 
 }
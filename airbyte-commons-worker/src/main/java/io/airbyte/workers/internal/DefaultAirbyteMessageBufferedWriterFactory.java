@@ -4,7 +4,8 @@
 
 package io.airbyte.workers.internal;
 
-import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Factory that provides the default writer.
@@ -12,8 +13,8 @@ import java.io.BufferedWriter;
 public class DefaultAirbyteMessageBufferedWriterFactory implements AirbyteMessageBufferedWriterFactory {
 
   @Override
-  public AirbyteMessageBufferedWriter createWriter(BufferedWriter writer) {
-    return new DefaultAirbyteMessageBufferedWriter(writer);
+  public AirbyteMessageBufferedWriter createWriter(final OutputStream outputStream) throws IOException {
+    return new DefaultAirbyteMessageBufferedWriter(outputStream);
   }
 
 }
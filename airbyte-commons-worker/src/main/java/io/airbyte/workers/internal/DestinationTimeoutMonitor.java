@@ -4,8 +4,6 @@
 
 package io.airbyte.workers.internal;
 
-import static java.lang.Thread.sleep;
-
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -16,9 +14,6 @@ import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,7 +32,7 @@ import org.slf4j.LoggerFactory;
  * {@link #startAcceptTimer} and {@link #resetAcceptTimer}. These methods would be considered as
  * Timed out when either timer goes over {@link #timeout}.
  *
- * The monitor checks for a timeout every {@link #pollInterval}.
+ * The monitor checks for a timeout every {@link #pollInterval}, on the {@link ChaperoneScheduler}.
  */
 public class DestinationTimeoutMonitor implements AutoCloseable {
 
@@ -47,7 +42,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
   private final AtomicReference<Long> currentAcceptCallStartTime = new AtomicReference<>(null);
   private final AtomicReference<Long> currentNotifyEndOfInputCallStartTime = new AtomicReference<>(null);
   private final UUID workspaceId;
-  private ExecutorService lazyExecutorService;
+  private CompletableFuture<Void> timeoutMonitorFuture;
   private final UUID connectionId;
   private final MetricClient metricClient;
   private final Duration pollInterval;
@@ -109,7 +104,7 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
    *
    */
   public void runWithTimeoutThread(final CompletableFuture<Void> runnableFuture) throws ExecutionException {
-    final CompletableFuture<Void> timeoutMonitorFuture = CompletableFuture.runAsync(this::pollForTimeout, getLazyExecutorService());
+    timeoutMonitorFuture = ChaperoneScheduler.checkPeriodically(this::hasTimedOut, pollInterval);
 
     try {
       CompletableFuture.anyOf(runnableFuture, timeoutMonitorFuture).get();
@@ -195,21 +190,6 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
     }
   }
 
-  private void pollForTimeout() {
-    while (true) {
-      try {
-        sleep(pollInterval.toMillis());
-      } catch (final InterruptedException e) {
-        LOGGER.info("Stopping timeout monitor");
-        return;
-      }
-
-      if (hasTimedOut()) {
-        return;
-      }
-    }
-  }
-
   private boolean hasTimedOut() {
     if (hasTimedOutOnAccept()) {
       return true;
@@ -258,13 +238,9 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
 
   @Override
   public void close() throws Exception {
-    if (lazyExecutorService != null) {
-      lazyExecutorService.shutdownNow();
-      try {
-        lazyExecutorService.awaitTermination(10, TimeUnit.SECONDS);
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-      }
+    if (timeoutMonitorFuture != null) {
+      LOGGER.info("Stopping timeout monitor");
+      timeoutMonitorFuture.cancel(true);
     }
   }
 
@@ -276,15 +252,4 @@ public class DestinationTimeoutMonitor implements AutoCloseable {
 
   }
 
-  /**
-   * Return an executor service which is initialized in a lazy way.
-   */
-  private ExecutorService getLazyExecutorService() {
-    if (lazyExecutorService == null) {
-      lazyExecutorService = Executors.newFixedThreadPool(1);
-    }
-
-    return lazyExecutorService;
-  }
-
 }
@@ -8,6 +8,7 @@ import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import lombok.Getter;
@@ -16,6 +17,11 @@ import lombok.Getter;
  * Tracks heartbeats and, when asked, says if it has been too long since the last heartbeat. He's
  * dead Jim!
  *
+ * Beats are called for every record, so they only increment a counter. The clock is read when the
+ * monitor is asked, and a beat is considered to have happened at the first check that saw the
+ * counter change. The precision of the time since the last beat is thus the interval between two
+ * checks, which is much smaller than the freshness threshold.
+ *
  * It is ThreadSafe.
  */
 public class HeartbeatMonitor {
@@ -24,6 +30,8 @@ public class HeartbeatMonitor {
   private final Duration heartbeatFreshnessThreshold;
   private final Supplier<Instant> nowSupplier;
   private final AtomicReference<Instant> lastBeat;
+  private final AtomicLong beatCount;
+  private final AtomicLong lastCheckedBeatCount;
 
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold) {
     this(heartbeatFreshnessThreshold, Instant::now);
@@ -34,6 +42,8 @@ public class HeartbeatMonitor {
     this.heartbeatFreshnessThreshold = heartbeatFreshnessThreshold;
     this.nowSupplier = nowSupplier;
     this.lastBeat = new AtomicReference<>(null);
+    this.beatCount = new AtomicLong(0);
+    this.lastCheckedBeatCount = new AtomicLong(0);
     lastBeat.set(nowSupplier.get());
   }
 
@@ -41,7 +51,7 @@ public class HeartbeatMonitor {
    * Register a heartbeat.
    */
   public void beat() {
-    lastBeat.set(nowSupplier.get());
+    beatCount.incrementAndGet();
   }
 
   /**
@@ -58,12 +68,18 @@ public class HeartbeatMonitor {
    * Return the time since the last beat. It returns empty is no beat has been performed.
    */
   public Optional<Duration> getTimeSinceLastBeat() {
+    final Instant now = nowSupplier.get();
+    final long currentBeatCount = beatCount.get();
+    if (lastCheckedBeatCount.getAndSet(currentBeatCount) != currentBeatCount) {
+      lastBeat.set(now);
+    }
+
     final Instant instantFetched = lastBeat.get();
 
     if (instantFetched == null) {
       return Optional.empty();
     } else {
-      return Optional.ofNullable(Duration.between(lastBeat.get(), nowSupplier.get()));
+      return Optional.ofNullable(Duration.between(instantFetched, now));
     }
   }
 
@@ -4,8 +4,6 @@
 
 package io.airbyte.workers.internal;
 
-import static java.lang.Thread.sleep;
-
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
@@ -22,18 +20,15 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link HeartbeatTimeoutChaperone} takes in an arbitrary runnable and a heartbeat monitor. It
- * runs each in separate threads. If the heartbeat monitor thread completes before the runnable,
- * that means that the heartbeat has stopped. If this occurs the chaperone cancels the runnable
- * thread and then throws an exception. If the runnable thread completes first, the chaperone
- * cancels the heartbeat and then returns.
+ * checks the heartbeat periodically on the {@link ChaperoneScheduler} while the runnable runs. If
+ * the heartbeat check completes before the runnable, that means that the heartbeat has stopped. If
+ * this occurs the chaperone cancels the runnable thread and then throws an exception. If the
+ * runnable thread completes first, the chaperone cancels the heartbeat and then returns.
  * <p>
  * This allows us to run an arbitrary runnable that we can kill if a heartbeat stops. This is useful
  * in cases like the platform reading from the source. The thread that reads from the source is
@@ -49,7 +44,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
   private final Duration timeoutCheckDuration;
   private final FeatureFlagClient featureFlagClient;
   private final UUID workspaceId;
-  private ExecutorService lazyExecutorService;
+  private CompletableFuture<Void> heartbeatFuture;
   private final Optional<Runnable> customMonitor;
   private final UUID connectionId;
   private final String sourceDockerImage;
@@ -100,7 +95,7 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
    */
   public void runWithHeartbeatThread(final CompletableFuture<Void> runnableFuture) throws ExecutionException {
     LOGGER.info("Starting source heartbeat check. Will check every {} minutes.", timeoutCheckDuration.toMinutes());
-    final CompletableFuture<Void> heartbeatFuture = CompletableFuture.runAsync(customMonitor.orElse(this::monitor), getLazyExecutorService());
+    heartbeatFuture = customMonitor.map(CompletableFuture::runAsync).orElseGet(this::monitor);
 
     try {
       CompletableFuture.anyOf(runnableFuture, heartbeatFuture).get();
@@ -143,40 +138,35 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
     heartbeatFuture.cancel(true);
   }
 
-  @SuppressWarnings("BusyWait")
+  /**
+   * Check the heartbeat every {@link #timeoutCheckDuration}.
+   *
+   * @return a future completed once the source has stopped heart beating
+   */
   @VisibleForTesting
-  void monitor() {
-    while (true) {
-      try {
-        sleep(timeoutCheckDuration.toMillis());
-      } catch (final InterruptedException e) {
-        LOGGER.info("Stopping the heartbeat monitor");
-        return;
-      }
+  CompletableFuture<Void> monitor() {
+    return ChaperoneScheduler.checkPeriodically(this::hasStoppedBeating, timeoutCheckDuration);
+  }
 
-      heartbeatMonitor.getTimeSinceLastBeat()
-          .ifPresent(duration -> metricClient.distribution(OssMetricsRegistry.SOURCE_TIME_SINCE_LAST_HEARTBEAT_MILLIS, duration.toMillis(),
-              new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()),
-              new MetricAttribute(MetricTags.SOURCE_IMAGE, sourceDockerImage)));
+  private boolean hasStoppedBeating() {
+    heartbeatMonitor.getTimeSinceLastBeat()
+        .ifPresent(duration -> metricClient.distribution(OssMetricsRegistry.SOURCE_TIME_SINCE_LAST_HEARTBEAT_MILLIS, duration.toMillis(),
+            new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()),
+            new MetricAttribute(MetricTags.SOURCE_IMAGE, sourceDockerImage)));
 
-      // if not beating, return. otherwise, if it is beating or heartbeat hasn't started, continue.
-      if (!heartbeatMonitor.isBeating().orElse(true)) {
-        LOGGER.error("Source has stopped heart beating.");
-        return;
-      }
+    // if not beating, stop. otherwise, if it is beating or heartbeat hasn't started, continue.
+    if (!heartbeatMonitor.isBeating().orElse(true)) {
+      LOGGER.error("Source has stopped heart beating.");
+      return true;
     }
+    return false;
   }
 
   @Override
   public void close() throws Exception {
-    if (lazyExecutorService != null) {
-      lazyExecutorService.shutdownNow();
-      try {
-        lazyExecutorService.awaitTermination(10, TimeUnit.SECONDS);
-      } catch (final InterruptedException e) {
-        // Propagate the status if we were interrupted
-        Thread.currentThread().interrupt();
-      }
+    if (heartbeatFuture != null) {
+      LOGGER.info("Stopping the heartbeat monitor");
+      heartbeatFuture.cancel(true);
     }
   }
 
@@ -191,15 +181,4 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
 
   }
 
-  /**
-   * Return an executor service which is initialized in a lazy way.
-   */
-  private ExecutorService getLazyExecutorService() {
-    if (lazyExecutorService == null) {
-      lazyExecutorService = Executors.newFixedThreadPool(2);
-    }
-
-    return lazyExecutorService;
-  }
-
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * InputStream over a {@link ReadableByteChannel} that reads into a single direct {@link ByteBuffer}
+ * and frames newline-delimited lines at the byte level.
+ * <p>
+ * Lines are decoded from UTF-8 in one step once the newline is found, which avoids the char
+ * decoding and copying of a {@link java.io.BufferedReader}. A trailing carriage return is stripped
+ * so that CRLF-terminated lines are handled like the reader does; a lone carriage return is not a
+ * line terminator, which is fine for the newline-delimited Airbyte protocol.
+ * <p>
+ * This class is not thread safe. Mixing {@link #readLine()} and the plain {@link InputStream} reads
+ * is allowed since both consume from the same buffer.
+ */
+public class LineFramedInputStream extends InputStream {
+
+  private static final int INITIAL_LINE_CAPACITY = 8 * 1024;
+  // Do not hold onto the backing array of an unusually large record after it has been decoded.
+  private static final int MAX_RETAINED_LINE_CAPACITY = 1024 * 1024;
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+  private byte[] lineBuffer = new byte[INITIAL_LINE_CAPACITY];
+  private int lastLineByteCount = 0;
+  private boolean endOfStream = false;
+
+  public LineFramedInputStream(final ReadableByteChannel channel, final int bufferSize) {
+    this(channel, ByteBuffer.allocateDirect(bufferSize));
+  }
+
+  /**
+   * Reads through the given buffer instead of allocating one, e.g. to reuse the buffer of a stream
+   * that has been fully read. Whatever the buffer holds is discarded.
+   */
+  public LineFramedInputStream(final ReadableByteChannel channel, final ByteBuffer buffer) {
+    this.channel = channel;
+    this.buffer = buffer;
+    // start out empty, the buffer is always kept in read mode between calls
+    this.buffer.clear().flip();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!buffer.hasRemaining() && !fill()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining() && !fill()) {
+      return -1;
+    }
+    final int count = Math.min(len, buffer.remaining());
+    buffer.get(b, off, count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Read the next line without its terminator.
+   *
+   * @return the line, or null if the end of the stream has been reached
+   * @throws IOException if the channel cannot be read
+   */
+  public String readLine() throws IOException {
+    int length = 0;
+    boolean readAnything = false;
+    while (true) {
+      if (!buffer.hasRemaining() && !fill()) {
+        return readAnything ? decode(length) : null;
+      }
+      readAnything = true;
+
+      final int start = buffer.position();
+      final int limit = buffer.limit();
+      int newline = start;
+      while (newline < limit && buffer.get(newline) != '\n') {
+        newline++;
+      }
+
+      final int chunk = newline - start;
+      ensureLineCapacity(length + chunk);
+      buffer.get(lineBuffer, length, chunk);
+      length += chunk;
+
+      if (newline < limit) {
+        // consume the newline itself
+        buffer.get();
+        return decode(length);
+      }
+    }
+  }
+
+  /**
+   * Size in bytes of the last line returned by {@link #readLine()}, excluding its terminator. Lets
+   * callers account for message sizes without re-encoding the decoded string.
+   */
+  public int getLastLineByteCount() {
+    return lastLineByteCount;
+  }
+
+  /**
+   * Lazily populated stream of lines, equivalent to {@link java.io.BufferedReader#lines()}.
+   */
+  public Stream<String> lines() {
+    final Iterator<String> iterator = new Iterator<>() {
+
+      private String nextLine = null;
+
+      @Override
+      public boolean hasNext() {
+        if (nextLine != null) {
+          return true;
+        }
+        try {
+          nextLine = readLine();
+          return nextLine != null;
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public String next() {
+        if (nextLine != null || hasNext()) {
+          final String line = nextLine;
+          nextLine = null;
+          return line;
+        }
+        throw new NoSuchElementException();
+      }
+
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  private boolean fill() throws IOException {
+    if (endOfStream) {
+      return false;
+    }
+    buffer.clear();
+    int read;
+    do {
+      read = channel.read(buffer);
+    } while (read == 0);
+    buffer.flip();
+    if (read < 0) {
+      endOfStream = true;
+      return false;
+    }
+    return true;
+  }
+
+  private void ensureLineCapacity(final int capacity) {
+    if (capacity > lineBuffer.length) {
+      final byte[] grown = new byte[Math.max(capacity, lineBuffer.length * 2)];
+      System.arraycopy(lineBuffer, 0, grown, 0, lineBuffer.length);
+      lineBuffer = grown;
+    }
+  }
+
+  private String decode(final int length) {
+    final int end = length > 0 && lineBuffer[length - 1] == '\r' ? length - 1 : length;
+    final String line = new String(lineBuffer, 0, end, StandardCharsets.UTF_8);
+    lastLineByteCount = end;
+    if (lineBuffer.length > MAX_RETAINED_LINE_CAPACITY) {
+      lineBuffer = new byte[INITIAL_LINE_CAPACITY];
+    }
+    return line;
+  }
+
+}
@@ -8,8 +8,8 @@ import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
 import io.airbyte.commons.protocol.serde.AirbyteMessageSerializer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 
 /**
@@ -23,11 +23,12 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
   private final AirbyteMessageVersionedMigrator<T> migrator;
   private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
 
-  public VersionedAirbyteMessageBufferedWriter(final BufferedWriter writer,
+  public VersionedAirbyteMessageBufferedWriter(final OutputStream outputStream,
                                                final AirbyteMessageSerializer<T> serializer,
                                                final AirbyteMessageVersionedMigrator<T> migrator,
-                                               final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
-    super(writer);
+                                               final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog)
+      throws IOException {
+    super(outputStream);
     this.serializer = serializer;
     this.migrator = migrator;
     this.configuredAirbyteCatalog = configuredAirbyteCatalog;
@@ -36,8 +37,8 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
   @Override
   public void write(final AirbyteMessage message) throws IOException {
     final T downgradedMessage = migrator.downgrade(message, configuredAirbyteCatalog);
-    writer.write(serializer.serialize(downgradedMessage));
-    writer.newLine();
+    serializer.serialize(downgradedMessage, generator);
+    generator.writeRaw(NEW_LINE);
   }
 
 }
@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.protocol.AirbyteMessageMigrator;
@@ -31,6 +32,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.text.CharacterIterator;
@@ -39,6 +41,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -203,13 +206,36 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
     detectAndInitialiseMigrators(bufferedReader);
+    logReadingProtocolVersion();
+
+    return addLineReadLogic(bufferedReader.lines(), str -> str.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  /**
+   * Create the AirbyteMessage stream from a process stream.
+   *
+   * When the stream is already framed at the byte level and no version detection is needed, lines
+   * are consumed directly without going through a Reader, and the message size comes from the framed
+   * byte count instead of re-encoding every line.
+   */
+  @Override
+  public Stream<AirbyteMessage> createFromInputStream(final InputStream inputStream) {
+    if (shouldDetectVersion || !(inputStream instanceof final LineFramedInputStream lineFramedInputStream)) {
+      return create(IOs.newBufferedReader(inputStream));
+    }
+
+    logReadingProtocolVersion();
+    // The stream is sequential, so each line flows through the size check before the next one is
+    // framed and the last line byte count always belongs to the line being checked.
+    return addLineReadLogic(lineFramedInputStream.lines(), str -> lineFramedInputStream.getLastLineByteCount());
+  }
+
+  private void logReadingProtocolVersion() {
     final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
     logger.info(
         "Reading messages from protocol version {}{}",
         protocolVersion.serialize(),
         needMigration ? ", messages will be upgraded to protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
-
-    return addLineReadLogic(bufferedReader);
   }
 
   private void detectAndInitialiseMigrators(final BufferedReader bufferedReader) {
@@ -231,12 +257,11 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     }
   }
 
-  private Stream<AirbyteMessage> addLineReadLogic(final BufferedReader bufferedReader) {
+  private Stream<AirbyteMessage> addLineReadLogic(final Stream<String> lines, final ToLongFunction<String> messageSizeFunction) {
     final var metricClient = MetricClientFactory.getMetricClient();
-    return bufferedReader
-        .lines()
+    return lines
         .peek(str -> {
-          final long messageSize = str.getBytes(StandardCharsets.UTF_8).length;
+          final long messageSize = messageSizeFunction.applyAsLong(str);
           metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, messageSize);
 
           if (exceptionClass.isPresent()) {
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.process;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ResourceRequirements;
@@ -14,6 +15,7 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.workers.storage.DocumentStoreClient;
+import io.airbyte.workers.storage.VersionedDocument;
 import io.airbyte.workers.workload.JobOutputDocStore;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
@@ -38,6 +40,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.AbstractMap;
@@ -69,6 +72,12 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   public static final String NO_OP = "NO_OP";
   // TODO Ths frequency should be configured and injected rather hard coded here.
   public static final long JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS = 5000;
+  // While the status does not change, the polling interval grows up to this value.
+  public static final long MAX_JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS = 15000;
+  private static final double JOB_STATUS_POLLING_BACKOFF_MULTIPLIER = 1.5;
+  // Document holding the latest status written by the orchestrator, next to the document of each
+  // status.
+  public static final String STATUS_MANIFEST = "STATUS";
   private static final String JAVA_OOM_EXCEPTION_STRING = "java.lang.OutOfMemoryError";
 
   private final KubePodInfo kubePodInfo;
@@ -89,6 +98,8 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   private final String launcherType;
   private final JobOutputDocStore jobOutputDocStore;
   private final String workloadId;
+  private final AtomicReference<Optional<VersionedDocument>> cachedStatusManifest;
+  private final AtomicReference<AsyncKubePodStatus> lastDocStoreStatus;
 
   public AsyncOrchestratorPodProcess(
                                      final KubePodInfo kubePodInfo,
@@ -126,6 +137,8 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     this.launcherType = launcherType;
     this.jobOutputDocStore = jobOutputDocStore;
     this.workloadId = workloadId;
+    this.cachedStatusManifest = new AtomicReference<>(Optional.empty());
+    this.lastDocStoreStatus = new AtomicReference<>(AsyncKubePodStatus.NOT_STARTED);
   }
 
   /**
@@ -139,6 +152,10 @@ public class AsyncOrchestratorPodProcess implements KubePod {
       return possibleOutput;
     }
 
+    return getWorkloadOutput();
+  }
+
+  private Optional<String> getWorkloadOutput() {
     try {
       final var possibleWorkloadOutput = jobOutputDocStore.readSyncOutput(workloadId).map(Jsons::serialize);
       if (possibleWorkloadOutput.isPresent() && !possibleWorkloadOutput.get().isBlank()) {
@@ -151,6 +168,44 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     return Optional.empty();
   }
 
+  /**
+   * Get output of the process, deserialized while it is streamed from the document store instead of
+   * being read in memory as a string first.
+   *
+   * @param outputClass class of the output
+   * @param <T> type of the output
+   * @return output, if exists.
+   */
+  public <T> Optional<T> getOutput(final Class<T> outputClass) {
+    final var possibleOutput = getDocumentAsStream(AsyncKubePodStatus.SUCCEEDED.name());
+    if (possibleOutput.isPresent()) {
+      final PushbackInputStream output = new PushbackInputStream(possibleOutput.get());
+      if (hasContent(output)) {
+        return Optional.of(Jsons.deserialize(output, outputClass));
+      }
+    }
+
+    return getWorkloadOutput().map(s -> Jsons.deserialize(s, outputClass));
+  }
+
+  /**
+   * Whether the stream has any content, closing it if it does not. Only the first byte is consumed,
+   * and it is pushed back.
+   */
+  private static boolean hasContent(final PushbackInputStream inputStream) {
+    try {
+      final int firstByte = inputStream.read();
+      if (firstByte == -1) {
+        inputStream.close();
+        return false;
+      }
+      inputStream.unread(firstByte);
+      return true;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Compute the exit value.
    * <p>
@@ -180,30 +235,28 @@ public class AsyncOrchestratorPodProcess implements KubePod {
         .withName(getInfo().name())
         .get();
 
-    // Since the pod creation blocks until the pod is created the first time,
-    // if the pod no longer exists (and we don't have a success/fail document)
-    // we must be in a failure state. If it wasn't able to write out its status
-    // we must assume failure, since the document store is the "truth" for
-    // async pod status.
-    if (pod == null) {
-      log.info("WaitUntilCondition returned null");
-      log.info("Terminal state in the State Store is missing. Orchestrator pod {} non-existent. Assume failure.", getInfo().name());
-      return 2;
-    }
-
-    // If the pod does exist, it may be in a terminal (error or completed) state.
-    final boolean isTerminal = KubePodResourceHelper.isTerminal(pod);
+    // The pod is gone or, if it does exist, it may be in a terminal (error or completed) state.
+    final boolean isTerminal = pod == null || KubePodResourceHelper.isTerminal(pod);
 
     if (isTerminal) {
       // In case the doc store was updated in between when we pulled it and when
       // we read the status from the Kubernetes API, we need to check the doc store again.
-      final AsyncKubePodStatus secondDocStoreStatus = getDocStoreStatus();
+      final AsyncKubePodStatus secondDocStoreStatus = getDocStoreStatusOnceExited();
       if (secondDocStoreStatus.equals(AsyncKubePodStatus.FAILED)) {
         log.warn("State Store reports orchestrator pod {} failed", getInfo().name());
         return 1;
       } else if (secondDocStoreStatus.equals(AsyncKubePodStatus.SUCCEEDED)) {
         log.info("State Store reports orchestrator pod {} succeeded", getInfo().name());
         return 0;
+      } else if (pod == null) {
+        // Since the pod creation blocks until the pod is created the first time,
+        // if the pod no longer exists (and we don't have a success/fail document)
+        // we must be in a failure state. If it wasn't able to write out its status
+        // we must assume failure, since the document store is the "truth" for
+        // async pod status.
+        log.info("WaitUntilCondition returned null");
+        log.info("Terminal state in the State Store is missing. Orchestrator pod {} non-existent. Assume failure.", getInfo().name());
+        return 2;
       } else {
         // otherwise, the actual pod is terminal when the doc store says it shouldn't be.
         log.info("The current non terminal state is {}", secondDocStoreStatus);
@@ -307,6 +360,8 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     }
 
     final long deadline = System.nanoTime() + remainingNanos;
+    long pollingFrequencyInMillis = JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS;
+    AsyncKubePodStatus lastStatus = lastDocStoreStatus.get();
     do {
       // The remainingNanos bit is about calculating how much time left for the actual timeout.
       // Most of the time we should be sleeping for 500ms except when we get to the actual timeout.
@@ -314,17 +369,31 @@ public class AsyncOrchestratorPodProcess implements KubePod {
       // we poll our status storage (GCS) and how reactive we are to detect that a process is done.
       // Setting the polling time bellow 5000ms is putting us at risk of increasing the load on the
       // kubeApi which might
-      // lead to 429 errors
-      Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS));
+      // lead to 429 errors. While the status does not change, we back off up to
+      // MAX_JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS, as long-running jobs do not need to be checked as often.
+      sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, pollingFrequencyInMillis));
       if (hasExited()) {
         return true;
       }
+      final AsyncKubePodStatus status = lastDocStoreStatus.get();
+      if (status.equals(lastStatus)) {
+        pollingFrequencyInMillis = Math.min((long) (pollingFrequencyInMillis * JOB_STATUS_POLLING_BACKOFF_MULTIPLIER),
+            MAX_JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS);
+      } else {
+        pollingFrequencyInMillis = JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS;
+        lastStatus = status;
+      }
       remainingNanos = deadline - System.nanoTime();
     } while (remainingNanos > 0);
 
     return false;
   }
 
+  @VisibleForTesting
+  void sleep(final long millis) throws InterruptedException {
+    Thread.sleep(millis);
+  }
+
   @Override
   public int waitFor() throws InterruptedException {
     final boolean exited = waitFor(10, TimeUnit.DAYS);
@@ -392,7 +461,25 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   }
 
   private Optional<String> getDocument(final String key) {
-    return documentStoreClient.read(getInfo().namespace() + "/" + getInfo().name() + "/" + key);
+    return documentStoreClient.read(getDocumentKey(key));
+  }
+
+  private Optional<InputStream> getDocumentAsStream(final String key) {
+    return documentStoreClient.readAsStream(getDocumentKey(key));
+  }
+
+  private String getDocumentKey(final String key) {
+    return getInfo().namespace() + "/" + getInfo().name() + "/" + key;
+  }
+
+  /**
+   * Read the status manifest, only downloading it again when it changed since the last read.
+   */
+  private Optional<AsyncKubePodStatus> getManifestStatus() {
+    final Optional<VersionedDocument> manifest =
+        documentStoreClient.readIfChanged(getDocumentKey(STATUS_MANIFEST), cachedStatusManifest.get());
+    cachedStatusManifest.set(manifest);
+    return manifest.map(document -> AsyncKubePodStatus.valueOf(document.document().trim()));
   }
 
   private boolean checkStatus(final AsyncKubePodStatus status) {
@@ -400,11 +487,37 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   }
 
   /**
-   * Checks terminal states first, then running, then initialized. Defaults to not started.
+   * Reads the status manifest written by the orchestrator. Orchestrators that do not write it are
+   * handled by checking the document of each status: terminal states first, then running, then
+   * initialized. Defaults to not started.
    * <p>
    * The order matters here!
    */
   public AsyncKubePodStatus getDocStoreStatus() {
+    final AsyncKubePodStatus status = getManifestStatus().orElseGet(this::getStatusFromStatusDocuments);
+    lastDocStoreStatus.set(status);
+    return status;
+  }
+
+  /**
+   * Reads the status of a pod that is gone or terminal. The orchestrator writes the document of a
+   * terminal status before the manifest, so if it died in between, the manifest is stuck on a
+   * non-terminal status: the terminal status documents are checked in that case.
+   */
+  private AsyncKubePodStatus getDocStoreStatusOnceExited() {
+    final AsyncKubePodStatus status = getDocStoreStatus();
+    if (status.equals(AsyncKubePodStatus.FAILED) || status.equals(AsyncKubePodStatus.SUCCEEDED)) {
+      return status;
+    } else if (checkStatus(AsyncKubePodStatus.FAILED)) {
+      return AsyncKubePodStatus.FAILED;
+    } else if (checkStatus(AsyncKubePodStatus.SUCCEEDED)) {
+      return AsyncKubePodStatus.SUCCEEDED;
+    } else {
+      return status;
+    }
+  }
+
+  private AsyncKubePodStatus getStatusFromStatusDocuments() {
     if (checkStatus(AsyncKubePodStatus.FAILED)) {
       return AsyncKubePodStatus.FAILED;
     } else if (checkStatus(AsyncKubePodStatus.SUCCEEDED)) {
@@ -22,6 +22,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.workers.helper.ConnectorApmSupportHelper;
+import io.airbyte.workers.internal.LineFramedInputStream;
 import io.airbyte.workers.models.SecretMetadata;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
@@ -50,8 +51,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.ProcessHandle.Info;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.AbstractMap;
@@ -137,6 +140,11 @@ public class KubePodProcess implements KubePod {
 
   private static final int STDIN_REMOTE_PORT = 9001;
 
+  // Sized up front so that socat can fill large TCP windows without the process runner doing many
+  // small reads. The receive buffer doubles as the size of the direct buffer lines are framed in.
+  private static final int STDIO_SOCKET_RECEIVE_BUFFER_BYTES = configs.getJobKubeStdioSocketReceiveBufferBytes();
+  private static final int STDIO_SOCKET_SEND_BUFFER_BYTES = configs.getJobKubeStdioSocketSendBufferBytes();
+
   // 143 is the typical SIGTERM exit code.
   // Used when the process is destroyed and the exit code can't be retrieved.
   private static final int KILLED_EXIT_CODE = 143;
@@ -162,9 +170,9 @@ public class KubePodProcess implements KubePod {
   private InputStream stdout;
   private InputStream stderr;
 
-  private final ServerSocket stdoutServerSocket;
+  private final ServerSocketChannel stdoutServerSocket;
   private final int stdoutLocalPort;
-  private final ServerSocket stderrServerSocket;
+  private final ServerSocketChannel stderrServerSocket;
   private final int stderrLocalPort;
   private final ExecutorService executorService;
   private final CompletableFuture<Integer> exitCodeFuture;
@@ -452,8 +460,8 @@ public class KubePodProcess implements KubePod {
       this.fabricClient = fabricClient;
       this.stdoutLocalPort = stdoutLocalPort;
       this.stderrLocalPort = stderrLocalPort;
-      this.stdoutServerSocket = new ServerSocket(stdoutLocalPort);
-      this.stderrServerSocket = new ServerSocket(stderrLocalPort);
+      this.stdoutServerSocket = openStdioServerSocket(stdoutLocalPort);
+      this.stderrServerSocket = openStdioServerSocket(stderrLocalPort);
       this.executorService = Executors.newFixedThreadPool(2);
       setupStdOutAndStdErrListeners();
 
@@ -677,7 +685,10 @@ public class KubePodProcess implements KubePod {
 
       if (usesStdin) {
         LOGGER.info("Creating stdin socket...");
-        final var socketToDestStdIo = new Socket(podIp, STDIN_REMOTE_PORT);
+        final var socketToDestStdIo = new Socket();
+        // must be set before connecting for the window size to be negotiated accordingly
+        socketToDestStdIo.setSendBufferSize(STDIO_SOCKET_SEND_BUFFER_BYTES);
+        socketToDestStdIo.connect(new InetSocketAddress(podIp, STDIN_REMOTE_PORT));
         this.stdin = socketToDestStdIo.getOutputStream();
       } else {
         LOGGER.info("Using null stdin output stream...");
@@ -690,6 +701,23 @@ public class KubePodProcess implements KubePod {
     }
   }
 
+  /**
+   * Opens a server socket for one of the stdout/stderr relays. The receive buffer has to be set before
+   * binding, otherwise accepted sockets cannot advertise a window scale large enough to use it.
+   */
+  private static ServerSocketChannel openStdioServerSocket(final int port) throws IOException {
+    final ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+    try {
+      serverSocketChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+      serverSocketChannel.setOption(StandardSocketOptions.SO_RCVBUF, STDIO_SOCKET_RECEIVE_BUFFER_BYTES);
+      serverSocketChannel.bind(new InetSocketAddress(port));
+      return serverSocketChannel;
+    } catch (final IOException e) {
+      Exceptions.swallow(serverSocketChannel::close);
+      throw e;
+    }
+  }
+
   private void setupStdOutAndStdErrListeners() {
     final var context = MDC.getCopyOfContextMap();
     executorService.submit(() -> {
@@ -703,9 +731,9 @@ public class KubePodProcess implements KubePod {
         // 5
         // cat /proc/sys/net/ipv4/tcp_keepalive_intvl
         // 60
-        socket.setKeepAlive(true);
+        socket.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
         LOGGER.info("Setting stdout...");
-        this.stdout = socket.getInputStream();
+        this.stdout = new LineFramedInputStream(socket, STDIO_SOCKET_RECEIVE_BUFFER_BYTES);
       } catch (final IOException e) {
         e.printStackTrace(); // todo: propagate exception / join at the end of constructor
       }
@@ -715,9 +743,9 @@ public class KubePodProcess implements KubePod {
       try {
         LOGGER.info("Creating stderr socket server...");
         final var socket = stderrServerSocket.accept(); // blocks until connected
-        socket.setKeepAlive(true);
+        socket.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
         LOGGER.info("Setting stderr...");
-        this.stderr = socket.getInputStream();
+        this.stderr = new LineFramedInputStream(socket, STDIO_SOCKET_RECEIVE_BUFFER_BYTES);
       } catch (final IOException e) {
         e.printStackTrace(); // todo: propagate exception / join at the end of constructor
       }
@@ -8,8 +8,11 @@ import io.airbyte.commons.io.IOs;
 import io.airbyte.config.storage.CloudStorageConfigs.LocalConfig;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 
 /**
@@ -64,6 +67,36 @@ public class DockerComposeDocumentStoreClient implements DocumentStoreClient {
     }
   }
 
+  @Override
+  public Optional<VersionedDocument> readIfChanged(final String id, final Optional<VersionedDocument> previous) {
+    final Path path = getPath(id);
+    final String version;
+    try {
+      final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      version = attributes.lastModifiedTime().toMillis() + "-" + attributes.size();
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    if (previous.isPresent() && version.equals(previous.get().version())) {
+      return previous;
+    }
+    return read(id).map(document -> new VersionedDocument(document, version));
+  }
+
+  @Override
+  public Optional<InputStream> readAsStream(final String id) {
+    try {
+      return Optional.of(Files.newInputStream(getPath(id)));
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Override
   public boolean delete(final String id) {
     final Path path = getPath(id);
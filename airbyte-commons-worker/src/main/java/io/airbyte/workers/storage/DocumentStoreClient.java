@@ -4,6 +4,9 @@
 
 package io.airbyte.workers.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -28,6 +31,31 @@ public interface DocumentStoreClient {
    */
   Optional<String> read(String id);
 
+  /**
+   * Reads a document with a given id, unless it has not changed since a previous read. Stores that
+   * can tell whether a document changed without downloading it (ETag, generation, modification
+   * time) only download it when it changed.
+   *
+   * @param id of the document to read
+   * @param previous document returned by the previous read, if any
+   * @return the previous document if the document has not changed, the new document otherwise, or
+   *         empty if there is no document
+   */
+  default Optional<VersionedDocument> readIfChanged(final String id, final Optional<VersionedDocument> previous) {
+    return read(id).map(document -> new VersionedDocument(document, null));
+  }
+
+  /**
+   * Reads document with a given id as a stream, so that large documents do not have to be held in
+   * memory. The caller must close the stream.
+   *
+   * @param id of the document to read.
+   * @return the document as a stream
+   */
+  default Optional<InputStream> readAsStream(final String id) {
+    return read(id).map(document -> new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+  }
+
   /**
    * Deletes the document with provided id.
    *
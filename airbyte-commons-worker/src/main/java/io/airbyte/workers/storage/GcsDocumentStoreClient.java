@@ -10,6 +10,8 @@ import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import io.airbyte.config.storage.DefaultGcsClientFactory;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -67,6 +69,30 @@ public class GcsDocumentStoreClient implements DocumentStoreClient {
     }
   }
 
+  @Override
+  public Optional<VersionedDocument> readIfChanged(final String id, final Optional<VersionedDocument> previous) {
+    final Blob blob = gcsClient.get(getBlobId(id));
+    if (blob == null || !blob.exists()) {
+      return Optional.empty();
+    }
+    // the metadata lookup is cheap, only download the content when the generation changed
+    final String generation = String.valueOf(blob.getGeneration());
+    if (previous.isPresent() && generation.equals(previous.get().version())) {
+      return previous;
+    }
+    return Optional.of(new VersionedDocument(new String(blob.getContent(), StandardCharsets.UTF_8), generation));
+  }
+
+  @Override
+  public Optional<InputStream> readAsStream(final String id) {
+    final Blob blob = gcsClient.get(getBlobId(id));
+    if (blob != null && blob.exists()) {
+      return Optional.of(Channels.newInputStream(blob.reader()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
   @Override
   public boolean delete(final String id) {
     return gcsClient.delete(BlobId.of(bucketName, getKey(id)));
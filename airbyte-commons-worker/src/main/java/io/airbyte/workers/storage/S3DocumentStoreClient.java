@@ -8,12 +8,14 @@ import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.S3Config;
 import io.airbyte.config.storage.DefaultS3ClientFactory;
 import io.airbyte.config.storage.MinioS3ClientFactory;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -22,6 +24,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 /**
  * Document store on top of the S3Client.
@@ -29,6 +32,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 public class S3DocumentStoreClient implements DocumentStoreClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3DocumentStoreClient.class);
+  private static final int NOT_MODIFIED = 304;
 
   private final String bucketName;
   private final Path root;
@@ -96,6 +100,41 @@ public class S3DocumentStoreClient implements DocumentStoreClient {
     }
   }
 
+  @Override
+  public Optional<VersionedDocument> readIfChanged(final String id, final Optional<VersionedDocument> previous) {
+    final String previousETag = previous.map(VersionedDocument::version).orElse(null);
+    try {
+      final ResponseBytes<GetObjectResponse> objectAsBytes = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+          .bucket(bucketName)
+          .key(getKey(id))
+          .ifNoneMatch(previousETag)
+          .build());
+      return Optional.of(new VersionedDocument(objectAsBytes.asString(StandardCharsets.UTF_8), objectAsBytes.response().eTag()));
+    } catch (final NoSuchKeyException e) {
+      LOGGER.debug("Could not find record with id {}", id);
+      return Optional.empty();
+    } catch (final S3Exception e) {
+      if (previousETag != null && e.statusCode() == NOT_MODIFIED) {
+        return previous;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<InputStream> readAsStream(final String id) {
+    try {
+      final ResponseInputStream<GetObjectResponse> object = s3Client.getObject(GetObjectRequest.builder()
+          .bucket(bucketName)
+          .key(getKey(id))
+          .build());
+      return Optional.of(object);
+    } catch (final NoSuchKeyException e) {
+      LOGGER.debug("Could not find record with id {}", id);
+      return Optional.empty();
+    }
+  }
+
   @Override
   public boolean delete(final String id) {
     boolean keyExists = true;
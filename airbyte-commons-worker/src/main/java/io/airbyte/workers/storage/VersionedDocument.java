@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.storage;
+
+/**
+ * Document read from a {@link DocumentStoreClient}, along with the version of the document in the
+ * store, so that it is only downloaded again when it changes.
+ *
+ * @param document content of the document
+ * @param version version of the document in the store, or null if the store cannot tell
+ */
+public record VersionedDocument(String document, String version) {
+
+}
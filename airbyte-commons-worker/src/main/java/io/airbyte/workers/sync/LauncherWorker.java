@@ -245,9 +245,7 @@ public abstract class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUT
         throw e;
       }
 
-      final var output = process.getOutput();
-
-      return output.map(s -> Jsons.deserialize(s, outputClass)).orElse(null);
+      return process.getOutput(outputClass).orElse(null);
     } catch (final Exception e) {
       ApmTraceUtils.addExceptionToTrace(e);
       if (cancelled.get()) {
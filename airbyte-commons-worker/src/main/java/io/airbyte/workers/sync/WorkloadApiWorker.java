@@ -12,14 +12,6 @@ import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.client.model.generated.Geography;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ReplicationOutput;
-import io.airbyte.featureflag.Connection;
-import io.airbyte.featureflag.Context;
-import io.airbyte.featureflag.Destination;
-import io.airbyte.featureflag.FeatureFlagClient;
-import io.airbyte.featureflag.Multi;
-import io.airbyte.featureflag.Source;
-import io.airbyte.featureflag.WorkloadPollingInterval;
-import io.airbyte.featureflag.Workspace;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.workers.Worker;
 import io.airbyte.workers.exception.WorkerException;
@@ -30,6 +22,7 @@ import io.airbyte.workers.orchestrator.PodNameGenerator;
 import io.airbyte.workers.process.Metadata;
 import io.airbyte.workers.storage.DocumentStoreClient;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
@@ -42,10 +35,8 @@ import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import io.micronaut.http.HttpStatus;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.function.Function;
@@ -64,7 +55,6 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
   private static final String SOURCE = "source";
 
   private static final Logger log = LoggerFactory.getLogger(WorkloadApiWorker.class);
-  private static final Set<WorkloadStatus> TERMINAL_STATUSES = Set.of(WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS);
   private final DocumentStoreClient documentStoreClient;
   private final PodNameGenerator podNameGenerator;
   private final JobOutputDocStore jobOutputDocStore;
@@ -72,7 +62,7 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
   private final WorkloadApi workloadApi;
   private final WorkloadIdGenerator workloadIdGenerator;
   private final ReplicationActivityInput input;
-  private final FeatureFlagClient featureFlagClient;
+  private final WorkloadCompletionWaiter workloadCompletionWaiter;
 
   private String workloadId = null;
 
@@ -83,7 +73,7 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
                            final WorkloadApi workloadApi,
                            final WorkloadIdGenerator workloadIdGenerator,
                            final ReplicationActivityInput input,
-                           final FeatureFlagClient featureFlagClient) {
+                           final WorkloadCompletionWaiter workloadCompletionWaiter) {
     this.documentStoreClient = documentStoreClient;
     this.podNameGenerator = podNameGenerator;
     this.jobOutputDocStore = jobOutputDocStore;
@@ -91,11 +81,10 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
     this.workloadApi = workloadApi;
     this.workloadIdGenerator = workloadIdGenerator;
     this.input = input;
-    this.featureFlagClient = featureFlagClient;
+    this.workloadCompletionWaiter = workloadCompletionWaiter;
   }
 
   @Override
-  @SuppressWarnings("PMD.AssignmentInOperand")
   public ReplicationOutput run(final ReplicationInput replicationInput, final Path jobRoot) throws WorkerException {
     final String serializedInput = Jsons.serialize(input);
     workloadId = workloadIdGenerator.generateSyncWorkloadId(replicationInput.getConnectionId(),
@@ -133,27 +122,10 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
       }
     }
 
-    // Wait until workload reaches a terminal status
-    int i = 0;
-    final Duration sleepInterval = Duration.ofSeconds(featureFlagClient.intVariation(WorkloadPollingInterval.INSTANCE, getFeatureFlagContext()));
-    Workload workload;
-    while (true) {
-      workload = getWorkload(workloadId);
-
-      if (workload.getStatus() != null) {
-        if (TERMINAL_STATUSES.contains(workload.getStatus())) {
-          log.info("Workload {} has returned a terminal status of {}.  Fetching output...", workloadId, workload.getStatus());
-          break;
-        }
-
-        if (i % 5 == 0) {
-          i++;
-          log.info("Workload {} is {}", workloadId, workload.getStatus());
-        }
-        i++;
-      }
-      sleep(sleepInterval.toMillis());
-    }
+    // Wait until workload reaches a terminal status, then get it for the termination details
+    final WorkloadStatus status = waitForTerminalStatus(workloadId);
+    log.info("Workload {} has returned a terminal status of {}.  Fetching output...", workloadId, status);
+    final Workload workload = getWorkload(workloadId);
 
     if (workload.getStatus() == WorkloadStatus.CANCELLED) {
       throw new CancellationException("Replication cancelled by " + workload.getTerminationSource());
@@ -226,14 +198,6 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
     return replicationFetcher.apply(location);
   }
 
-  private Context getFeatureFlagContext() {
-    return new Multi(List.of(
-        new Workspace(input.getWorkspaceId()),
-        new Connection(input.getConnectionId()),
-        new Source(input.getSourceId()),
-        new Destination(input.getDestinationId())));
-  }
-
   private void createWorkload(final WorkloadCreateRequest workloadCreateRequest) {
     try {
       workloadApi.workloadCreate(workloadCreateRequest);
@@ -262,9 +226,9 @@ public class WorkloadApiWorker implements Worker<ReplicationInput, ReplicationOu
     }
   }
 
-  private void sleep(final long millis) {
+  private WorkloadStatus waitForTerminalStatus(final String workloadId) {
     try {
-      Thread.sleep(millis);
+      return workloadCompletionWaiter.waitForTerminalStatus(workloadId);
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new RuntimeException(e);
@@ -0,0 +1,142 @@
+package io.airbyte.workers.workload
+
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.WorkloadAwaitTerminalStatusRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadTerminalStatus
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Property
+import io.micronaut.scheduling.TaskExecutors
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.OffsetDateTime
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Waits for workloads to reach a terminal status with the long-polling await_terminal_status endpoint of the workload API, instead
+ * of repeatedly getting each workload.
+ *
+ * Every request awaits all the workloads waited on by this worker and returns as soon as one of them is done. A workload registered
+ * while a request is in flight is awaited by a new request for all the workloads, and the older requests are not renewed when they
+ * return. Waiting doesn't hold a thread, which lets the activities waiting on a workload complete asynchronously.
+ *
+ * The requests run on the IO executor, and the futures are completed on it too, so that the continuations of a future don't delay
+ * the next request. A failed request is retried after a delay scheduled on the scheduled executor.
+ */
+@Singleton
+class WorkloadCompletionWaiter(
+  private val workloadApi: WorkloadApi,
+  private val metricClient: MetricClient,
+  @Named(TaskExecutors.IO) private val executor: ExecutorService,
+  @Named(TaskExecutors.SCHEDULED) private val scheduler: ScheduledExecutorService,
+  @Property(name = "airbyte.workload-api.await-terminal-status.timeout-seconds", defaultValue = "30") private val timeoutSeconds: Long,
+  @Property(name = "airbyte.workload-api.await-terminal-status.max-concurrent-requests", defaultValue = "8")
+  private val maxConcurrentRequests: Int,
+) {
+  companion object {
+    private val RETRY_DELAY = Duration.ofSeconds(1)
+  }
+
+  private val waiters = ConcurrentHashMap<String, CompletableFuture<WorkloadStatus>>()
+
+  // The following fields are guarded by the lock.
+  private val lock = Any()
+  private var latestRequest = 0L
+  private var requestsInFlight = 0
+  private var awaitedByLatestRequest = true
+
+  /**
+   * Returns a future completed with the status of the workload once it is terminal.
+   */
+  fun awaitTerminalStatus(workloadId: String): CompletableFuture<WorkloadStatus> {
+    var registered = false
+    val future =
+      waiters.computeIfAbsent(workloadId) {
+        registered = true
+        CompletableFuture()
+      }
+    if (registered) {
+      synchronized(lock) {
+        awaitedByLatestRequest = false
+        sendRequestIfNeeded()
+      }
+    }
+    return future
+  }
+
+  /**
+   * Blocks until the workload is in a terminal status, and returns that status.
+   */
+  @Throws(InterruptedException::class)
+  fun waitForTerminalStatus(workloadId: String): WorkloadStatus {
+    try {
+      return awaitTerminalStatus(workloadId).get()
+    } catch (e: ExecutionException) {
+      throw RuntimeException(e.cause)
+    }
+  }
+
+  private fun sendRequestIfNeeded() {
+    if (awaitedByLatestRequest || waiters.isEmpty() || requestsInFlight >= maxConcurrentRequests) {
+      return
+    }
+    val request = ++latestRequest
+    val workloadIds = waiters.keys.toList()
+    awaitedByLatestRequest = true
+    requestsInFlight++
+    executor.execute { awaitTerminalStatuses(request, workloadIds) }
+  }
+
+  private fun awaitTerminalStatuses(
+    request: Long,
+    workloadIds: List<String>,
+  ) {
+    try {
+      workloadApi.workloadAwaitTerminalStatus(
+        WorkloadAwaitTerminalStatusRequest(workloadIds = workloadIds, timeoutSeconds = timeoutSeconds),
+      ).workloads.forEach { complete(it) }
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to await the terminal status of ${workloadIds.size} workloads, retrying in $RETRY_DELAY" }
+      // The request stays in flight until the retry, so that a failing workload API isn't called in a loop.
+      scheduler.schedule(Runnable { onRequestDone(request) }, RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS)
+      return
+    }
+    onRequestDone(request)
+  }
+
+  private fun onRequestDone(request: Long) {
+    synchronized(lock) {
+      requestsInFlight--
+      // Only the latest request awaits all the workloads, the older ones are superseded by it.
+      if (request == latestRequest) {
+        awaitedByLatestRequest = false
+      }
+      sendRequestIfNeeded()
+    }
+  }
+
+  private fun complete(terminalStatus: WorkloadTerminalStatus) {
+    val future = waiters.remove(terminalStatus.workloadId) ?: return
+    terminalStatus.updatedAt?.let {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_TERMINAL_STATUS_DETECTION_LATENCY,
+        Duration.between(it, OffsetDateTime.now()).toMillis().toDouble(),
+        MetricAttribute(MetricTags.STATUS, terminalStatus.status.value),
+      )
+    }
+    logger.info { "Workload ${terminalStatus.workloadId} has returned a terminal status of ${terminalStatus.status}" }
+    future.completeAsync({ terminalStatus.status }, executor)
+  }
+}
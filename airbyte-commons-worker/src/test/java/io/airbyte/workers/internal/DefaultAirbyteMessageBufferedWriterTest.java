@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class DefaultAirbyteMessageBufferedWriterTest {
+
+  private static final AirbyteMessage RECORD = AirbyteMessageUtils.createRecordMessage("stream", "field", "välue");
+  private static final AirbyteMessage STATE = AirbyteMessageUtils.createStateMessage(1);
+
+  @Test
+  void testWritesNewlineDelimitedJson() throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final AirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(outputStream);
+
+    writer.write(RECORD);
+    writer.write(STATE);
+    writer.flush();
+
+    final String expected = Jsons.serialize(RECORD) + "\n" + Jsons.serialize(STATE) + "\n";
+    assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, writer.getBytesWritten());
+  }
+
+  @Test
+  void testBytesWrittenIncludesBufferedBytes() throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final AirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(outputStream);
+
+    writer.write(RECORD);
+
+    assertEquals(0, outputStream.size());
+    assertEquals((Jsons.serialize(RECORD) + "\n").getBytes(StandardCharsets.UTF_8).length, writer.getBytesWritten());
+
+    writer.close();
+    assertEquals(outputStream.size(), writer.getBytesWritten());
+  }
+
+}
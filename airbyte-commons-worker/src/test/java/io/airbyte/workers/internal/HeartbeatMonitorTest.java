@@ -41,16 +41,22 @@ class HeartbeatMonitorTest {
 
   @Test
   void testFreshBeat() {
-    when(nowSupplier.get()).thenReturn(FIVE_SECONDS_BEFORE).thenReturn(NOW);
+    when(nowSupplier.get()).thenReturn(THIRTY_SECONDS_BEFORE, FIVE_SECONDS_BEFORE, NOW);
+    heartbeatMonitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, nowSupplier);
     heartbeatMonitor.beat();
+    // the beat is seen by this check
+    Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ZERO);
     Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(5));
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(true);
   }
 
   @Test
   void testStaleBeat() {
-    when(nowSupplier.get()).thenReturn(THIRTY_SECONDS_BEFORE).thenReturn(NOW);
+    when(nowSupplier.get()).thenReturn(THIRTY_SECONDS_BEFORE, THIRTY_SECONDS_BEFORE, NOW);
+    heartbeatMonitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, nowSupplier);
     heartbeatMonitor.beat();
+    // the beat is seen by this check
+    Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ZERO);
     Assertions.assertThat(heartbeatMonitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(30));
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(false);
   }
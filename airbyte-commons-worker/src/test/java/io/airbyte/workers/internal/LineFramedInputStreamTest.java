@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class LineFramedInputStreamTest {
+
+  // Smaller than most lines below so that framing has to span several channel reads.
+  private static final int SMALL_BUFFER_SIZE = 4;
+
+  private static LineFramedInputStream streamOf(final String content, final int bufferSize) {
+    return new LineFramedInputStream(Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))), bufferSize);
+  }
+
+  @Test
+  void testReadLinesAcrossBufferBoundaries() throws IOException {
+    final LineFramedInputStream stream = streamOf("{\"type\":\"RECORD\"}\n\nshort\nno newline at the end", SMALL_BUFFER_SIZE);
+
+    assertEquals("{\"type\":\"RECORD\"}", stream.readLine());
+    assertEquals("", stream.readLine());
+    assertEquals("short", stream.readLine());
+    assertEquals("no newline at the end", stream.readLine());
+    assertNull(stream.readLine());
+  }
+
+  @Test
+  void testStripsCarriageReturn() throws IOException {
+    final LineFramedInputStream stream = streamOf("a\r\nb\n", SMALL_BUFFER_SIZE);
+
+    assertEquals("a", stream.readLine());
+    assertEquals("b", stream.readLine());
+    assertNull(stream.readLine());
+  }
+
+  @Test
+  void testMultiByteCharactersAndByteCount() throws IOException {
+    final String line = "ünïcödé €";
+    final LineFramedInputStream stream = streamOf(line + "\n", SMALL_BUFFER_SIZE);
+
+    assertEquals(line, stream.readLine());
+    assertEquals(line.getBytes(StandardCharsets.UTF_8).length, stream.getLastLineByteCount());
+  }
+
+  @Test
+  void testLines() {
+    final List<String> lines = streamOf("one\ntwo\nthree\n", 1024).lines().collect(Collectors.toList());
+
+    assertEquals(List.of("one", "two", "three"), lines);
+  }
+
+  @Test
+  void testEmptyStream() throws IOException {
+    assertNull(streamOf("", SMALL_BUFFER_SIZE).readLine());
+  }
+
+  @Test
+  void testRawReadsShareTheLineBuffer() throws IOException {
+    final LineFramedInputStream stream = streamOf("header\nbody", SMALL_BUFFER_SIZE);
+
+    assertEquals("header", stream.readLine());
+    assertEquals("body", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    assertEquals(-1, stream.read());
+  }
+
+  @Test
+  void testReuseBufferOfAStreamThatStoppedMidLine() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(SMALL_BUFFER_SIZE);
+    final LineFramedInputStream first =
+        new LineFramedInputStream(Channels.newChannel(new ByteArrayInputStream("first
+leftover".getBytes(StandardCharsets.UTF_8))), buffer);
+    assertEquals("first", first.readLine());
+
+    final LineFramedInputStream second =
+        new LineFramedInputStream(Channels.newChannel(new ByteArrayInputStream("second
+".getBytes(StandardCharsets.UTF_8))), buffer);
+    assertEquals("second", second.readLine());
+    assertNull(second.readLine());
+  }
+
+}
@@ -7,8 +7,6 @@ import io.airbyte.api.client.model.generated.Geography
 import io.airbyte.config.ReplicationAttemptSummary
 import io.airbyte.config.ReplicationOutput
 import io.airbyte.config.StandardSyncSummary
-import io.airbyte.featureflag.FeatureFlagClient
-import io.airbyte.featureflag.TestClient
 import io.airbyte.persistence.job.models.JobRunConfig
 import io.airbyte.persistence.job.models.ReplicationInput
 import io.airbyte.workers.exception.WorkerException
@@ -19,6 +17,7 @@ import io.airbyte.workers.orchestrator.PodNameGenerator
 import io.airbyte.workers.storage.DocumentStoreClient
 import io.airbyte.workers.sync.WorkloadApiWorker
 import io.airbyte.workers.workload.JobOutputDocStore
+import io.airbyte.workers.workload.WorkloadCompletionWaiter
 import io.airbyte.workers.workload.WorkloadIdGenerator
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
@@ -41,7 +40,7 @@ internal class WorkloadApiWorkerTest {
   private var apiClient: AirbyteApiClient = mockk()
   private var connectionApi: ConnectionApi = mockk()
   private var workloadApi: WorkloadApi = mockk()
-  private var featureFlagClient: FeatureFlagClient = mockk()
+  private var workloadCompletionWaiter: WorkloadCompletionWaiter = mockk()
   private var jobOutputDocStore: JobOutputDocStore = mockk()
   private lateinit var replicationActivityInput: ReplicationActivityInput
   private lateinit var replicationInput: ReplicationInput
@@ -51,7 +50,6 @@ internal class WorkloadApiWorkerTest {
   @BeforeEach
   fun beforeEach() {
     every { apiClient.connectionApi } returns connectionApi
-    featureFlagClient = TestClient()
     jobRoot = Path.of("test", "path")
     replicationActivityInput = ReplicationActivityInput()
     replicationInput = ReplicationInput()
@@ -64,7 +62,7 @@ internal class WorkloadApiWorkerTest {
         workloadApi,
         workloadIdGenerator,
         replicationActivityInput,
-        featureFlagClient,
+        workloadCompletionWaiter,
       )
   }
 
@@ -83,6 +81,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.SUCCESS
     every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
 
     every { jobOutputDocStore.readSyncOutput(workloadId) } returns Optional.of(expectedOutput)
@@ -106,6 +105,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.FAILURE
     every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.FAILURE)
 
     every { jobOutputDocStore.readSyncOutput(workloadId) } returns Optional.of(expectedOutput)
@@ -130,6 +130,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } throws ServerException(statusCode = 409)
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.SUCCESS
     every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
 
     every { jobOutputDocStore.readSyncOutput(workloadId) } returns Optional.of(expectedOutput)
@@ -150,6 +151,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.SUCCESS
     every { workloadApi.workloadGet(workloadId) } returns mockWorkload(WorkloadStatus.SUCCESS)
     every { documentStoreClient.read("$expectedDocPrefix/SUCCEEDED") } returns Optional.empty()
 
@@ -167,6 +169,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.CANCELLED
     every { workloadApi.workloadGet(workloadId) } returns
       mockWorkload(
         WorkloadStatus.CANCELLED,
@@ -188,6 +191,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.FAILURE
     every { workloadApi.workloadGet(workloadId) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
@@ -209,6 +213,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.FAILURE
     every { workloadApi.workloadGet(workloadId) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
@@ -230,6 +235,7 @@ internal class WorkloadApiWorkerTest {
 
     every { connectionApi.getConnection(any()) } returns ConnectionRead().geography(Geography.US)
     every { workloadApi.workloadCreate(any()) } returns Unit
+    every { workloadCompletionWaiter.waitForTerminalStatus(workloadId) } returns WorkloadStatus.FAILURE
     every { workloadApi.workloadGet(workloadId) } returns
       mockWorkload(
         WorkloadStatus.FAILURE,
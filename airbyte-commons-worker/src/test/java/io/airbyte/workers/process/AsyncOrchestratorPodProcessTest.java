@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.workers.storage.DocumentStoreClient;
+import io.airbyte.workers.storage.VersionedDocument;
+import io.airbyte.workers.workload.JobOutputDocStore;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncOrchestratorPodProcessTest {
+
+  private static final String NAMESPACE = "jobs";
+  private static final String POD_NAME = "orchestrator-repl-job-1-attempt-0";
+  private static final String MANIFEST_KEY = NAMESPACE + "/" + POD_NAME + "/" + AsyncOrchestratorPodProcess.STATUS_MANIFEST;
+
+  private DocumentStoreClient documentStoreClient;
+  private PodResource podResource;
+  private AsyncOrchestratorPodProcess process;
+  private List<Long> sleeps;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() throws InterruptedException {
+    documentStoreClient = mock(DocumentStoreClient.class);
+
+    // the pod keeps running, so that the process only exits once the doc store reports it
+    final Pod runningPod = new PodBuilder().withNewMetadata().withName(POD_NAME).withNamespace(NAMESPACE).endMetadata().build();
+    podResource = mock(PodResource.class);
+    when(podResource.get()).thenReturn(runningPod);
+    final NonNamespaceOperation<Pod, PodList, PodResource> namespacedPods = mock(NonNamespaceOperation.class);
+    when(namespacedPods.withName(POD_NAME)).thenReturn(podResource);
+    final MixedOperation<Pod, PodList, PodResource> pods = mock(MixedOperation.class);
+    when(pods.inNamespace(NAMESPACE)).thenReturn(namespacedPods);
+    final KubernetesClient kubernetesClient = mock(KubernetesClient.class);
+    when(kubernetesClient.pods()).thenReturn(pods);
+
+    process = spy(new AsyncOrchestratorPodProcess(
+        new KubePodInfo(NAMESPACE, POD_NAME, new KubeContainerInfo("airbyte/container-orchestrator:dev", "IfNotPresent")),
+        documentStoreClient,
+        kubernetesClient,
+        null,
+        null,
+        null,
+        null,
+        null,
+        Map.of(),
+        Map.of(),
+        9000,
+        null,
+        null,
+        mock(MetricClient.class),
+        "test",
+        mock(JobOutputDocStore.class),
+        "workload-id"));
+
+    sleeps = new ArrayList<>();
+    doAnswer(invocation -> {
+      sleeps.add(invocation.getArgument(0));
+      return null;
+    }).when(process).sleep(anyLong());
+  }
+
+  @Test
+  void testReadStatusFromManifest() {
+    final Optional<VersionedDocument> manifest = Optional.of(new VersionedDocument("RUNNING\n", "1"));
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, Optional.empty())).thenReturn(manifest);
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, manifest)).thenReturn(manifest);
+
+    assertEquals(AsyncKubePodStatus.RUNNING, process.getDocStoreStatus());
+    assertEquals(AsyncKubePodStatus.RUNNING, process.getDocStoreStatus());
+
+    // the second read is conditional on the version of the first one
+    verify(documentStoreClient).readIfChanged(MANIFEST_KEY, manifest);
+    verify(documentStoreClient, never()).read(statusKey(AsyncKubePodStatus.RUNNING));
+  }
+
+  @Test
+  void testReadStatusFromStatusDocumentsWhenManifestIsMissing() {
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, Optional.empty())).thenReturn(Optional.empty());
+    when(documentStoreClient.read(statusKey(AsyncKubePodStatus.RUNNING))).thenReturn(Optional.of(""));
+
+    assertEquals(AsyncKubePodStatus.RUNNING, process.getDocStoreStatus());
+  }
+
+  @Test
+  void testBackOffWhileStatusIsStale() throws InterruptedException {
+    final Optional<VersionedDocument> running = Optional.of(new VersionedDocument("RUNNING", "1"));
+    final Optional<VersionedDocument> succeeded = Optional.of(new VersionedDocument("SUCCEEDED", "2"));
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, Optional.empty())).thenReturn(running);
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, running)).thenReturn(running, running, running, running, succeeded);
+
+    assertTrue(process.waitFor(1, TimeUnit.DAYS));
+
+    assertEquals(List.of(5000L, 7500L, 11250L, 15000L, 15000L), sleeps);
+  }
+
+  @Test
+  void testBackOffIsResetWhenStatusChanges() throws InterruptedException {
+    final Optional<VersionedDocument> initializing = Optional.of(new VersionedDocument("INITIALIZING", "1"));
+    final Optional<VersionedDocument> running = Optional.of(new VersionedDocument("RUNNING", "2"));
+    final Optional<VersionedDocument> succeeded = Optional.of(new VersionedDocument("SUCCEEDED", "3"));
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, Optional.empty())).thenReturn(initializing);
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, initializing)).thenReturn(initializing, initializing, running);
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, running)).thenReturn(running, succeeded);
+
+    assertTrue(process.waitFor(1, TimeUnit.DAYS));
+
+    assertEquals(List.of(5000L, 7500L, 11250L, 5000L, 7500L), sleeps);
+  }
+
+  @Test
+  void testBackOffWhileStatusIsMissing() throws InterruptedException {
+    when(documentStoreClient.readIfChanged(MANIFEST_KEY, Optional.empty())).thenReturn(Optional.empty());
+    when(documentStoreClient.read(statusKey(AsyncKubePodStatus.SUCCEEDED)))
+        .thenReturn(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(""));
+
+    assertTrue(process.waitFor(1, TimeUnit.DAYS));
+
+    assertEquals(List.of(5000L, 7500L, 11250L), sleeps);
+  }
+
+  @Test
+  void testStaleManifestIsNotOverriddenWhilePodIsRunning() {
+    when(documentStoreClient.readIfChanged(eq(MANIFEST_KEY), any())).thenReturn(Optional.of(new VersionedDocument("RUNNING", "1")));
+
+    assertFalse(process.hasExited());
+
+    verify(documentStoreClient, never()).read(statusKey(AsyncKubePodStatus.SUCCEEDED));
+  }
+
+  @Test
+  void testSucceededDocumentWinsOverStaleManifestOnceThePodIsTerminal() {
+    // the orchestrator wrote its output but died before updating the manifest
+    when(documentStoreClient.readIfChanged(eq(MANIFEST_KEY), any())).thenReturn(Optional.of(new VersionedDocument("RUNNING", "1")));
+    when(documentStoreClient.read(statusKey(AsyncKubePodStatus.FAILED))).thenReturn(Optional.empty());
+    when(documentStoreClient.read(statusKey(AsyncKubePodStatus.SUCCEEDED))).thenReturn(Optional.of("output"));
+    when(podResource.get()).thenReturn(new PodBuilder()
+        .withNewMetadata().withName(POD_NAME).withNamespace(NAMESPACE).endMetadata()
+        .withNewStatus()
+        .addNewContainerStatus().withName(KubePodProcess.MAIN_CONTAINER_NAME)
+        .withNewState().withNewTerminated().withExitCode(0).endTerminated().endState()
+        .endContainerStatus()
+        .endStatus()
+        .build());
+
+    assertEquals(0, process.exitValue());
+  }
+
+  @Test
+  void testFailedDocumentWinsOverStaleManifestOnceThePodIsGone() {
+    when(documentStoreClient.readIfChanged(eq(MANIFEST_KEY), any())).thenReturn(Optional.of(new VersionedDocument("RUNNING", "1")));
+    when(documentStoreClient.read(statusKey(AsyncKubePodStatus.FAILED))).thenReturn(Optional.of(""));
+    when(podResource.get()).thenReturn(null);
+
+    assertEquals(1, process.exitValue());
+  }
+
+  private static String statusKey(final AsyncKubePodStatus status) {
+    return NAMESPACE + "/" + POD_NAME + "/" + status.name();
+  }
+
+}
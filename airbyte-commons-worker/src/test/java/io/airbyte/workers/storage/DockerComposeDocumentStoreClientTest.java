@@ -6,9 +6,12 @@ package io.airbyte.workers.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -52,4 +55,35 @@ class DockerComposeDocumentStoreClientTest {
     assertFalse(emptyResponseAfterDeletion.isPresent());
   }
 
+  @Test
+  void testReadIfChanged() {
+    assertFalse(client.readIfChanged(KEY, Optional.empty()).isPresent());
+
+    client.write(KEY, DOCUMENT);
+    final Optional<VersionedDocument> actualDocument = client.readIfChanged(KEY, Optional.empty());
+    assertTrue(actualDocument.isPresent());
+    assertEquals(DOCUMENT, actualDocument.get().document());
+
+    // unchanged, the previous document is returned
+    assertSame(actualDocument, client.readIfChanged(KEY, actualDocument));
+
+    client.write(KEY, DOCUMENT2);
+    final Optional<VersionedDocument> actualDocumentUpdated = client.readIfChanged(KEY, actualDocument);
+    assertTrue(actualDocumentUpdated.isPresent());
+    assertEquals(DOCUMENT2, actualDocumentUpdated.get().document());
+
+    client.delete(KEY);
+    assertFalse(client.readIfChanged(KEY, actualDocumentUpdated).isPresent());
+  }
+
+  @Test
+  void testReadAsStream() throws IOException {
+    assertFalse(client.readAsStream(KEY).isPresent());
+
+    client.write(KEY, DOCUMENT);
+    try (final InputStream actualDocument = client.readAsStream(KEY).orElseThrow()) {
+      assertEquals(DOCUMENT, new String(actualDocument.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
 }
@@ -0,0 +1,136 @@
+package io.airbyte.workers.workload
+
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.WorkloadAwaitTerminalStatusRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadTerminalStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadTerminalStatusListResponse
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.openapitools.client.infrastructure.ServerException
+import java.time.OffsetDateTime
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+internal class WorkloadCompletionWaiterTest {
+  private lateinit var workloadApi: WorkloadApi
+  private lateinit var metricClient: MetricClient
+  private lateinit var executor: ExecutorService
+  private lateinit var scheduler: ScheduledExecutorService
+  private lateinit var waiter: WorkloadCompletionWaiter
+
+  @BeforeEach
+  fun init() {
+    workloadApi = mockk()
+    metricClient = mockk(relaxed = true)
+    executor = Executors.newCachedThreadPool()
+    scheduler = Executors.newSingleThreadScheduledExecutor()
+    waiter = WorkloadCompletionWaiter(workloadApi, metricClient, executor, scheduler, 30, 8)
+  }
+
+  @AfterEach
+  fun tearDown() {
+    executor.shutdownNow()
+    scheduler.shutdownNow()
+  }
+
+  @Test
+  fun `test the status of a terminal workload is returned`() {
+    every { workloadApi.workloadAwaitTerminalStatus(any()) } returns
+      WorkloadTerminalStatusListResponse(
+        listOf(WorkloadTerminalStatus(workloadId = "workload", status = WorkloadStatus.SUCCESS, updatedAt = OffsetDateTime.now())),
+      )
+
+    assertEquals(WorkloadStatus.SUCCESS, waiter.awaitTerminalStatus("workload").get(10, TimeUnit.SECONDS))
+    verify { metricClient.distribution(OssMetricsRegistry.WORKLOAD_TERMINAL_STATUS_DETECTION_LATENCY, any(), *anyVararg()) }
+  }
+
+  @Test
+  fun `test workloads registered during a request are awaited by a new request for all the workloads`() {
+    val firstRequestReceived = CountDownLatch(1)
+    val releaseFirstRequest = CountDownLatch(1)
+    val requests = CopyOnWriteArrayList<List<String>>()
+    every { workloadApi.workloadAwaitTerminalStatus(any()) } answers {
+      val workloadIds = firstArg<WorkloadAwaitTerminalStatusRequest>().workloadIds
+      requests.add(workloadIds)
+      if (requests.size == 1) {
+        firstRequestReceived.countDown()
+        releaseFirstRequest.await(10, TimeUnit.SECONDS)
+        WorkloadTerminalStatusListResponse(listOf())
+      } else {
+        WorkloadTerminalStatusListResponse(workloadIds.map { WorkloadTerminalStatus(workloadId = it, status = WorkloadStatus.FAILURE) })
+      }
+    }
+
+    val first = waiter.awaitTerminalStatus("first")
+    firstRequestReceived.await(10, TimeUnit.SECONDS)
+    val second = waiter.awaitTerminalStatus("second")
+
+    assertEquals(WorkloadStatus.FAILURE, second.get(10, TimeUnit.SECONDS))
+    assertEquals(WorkloadStatus.FAILURE, first.get(10, TimeUnit.SECONDS))
+    assertEquals(listOf("first"), requests[0])
+    assertEquals(setOf("first", "second"), requests[1].toSet())
+
+    // the superseded request is not renewed when it returns
+    releaseFirstRequest.countDown()
+    Thread.sleep(100)
+    assertEquals(2, requests.size)
+  }
+
+  @Test
+  fun `test the continuations of the workloads returned by a request run concurrently`() {
+    // a single request at a time, which returns both workloads once they are both awaited
+    waiter = WorkloadCompletionWaiter(workloadApi, metricClient, executor, scheduler, 30, 1)
+    val bothAwaited = CountDownLatch(1)
+    every { workloadApi.workloadAwaitTerminalStatus(any()) } answers {
+      bothAwaited.await(10, TimeUnit.SECONDS)
+      WorkloadTerminalStatusListResponse(
+        listOf(
+          WorkloadTerminalStatus(workloadId = "first", status = WorkloadStatus.SUCCESS),
+          WorkloadTerminalStatus(workloadId = "second", status = WorkloadStatus.SUCCESS),
+        ),
+      )
+    }
+
+    // each continuation blocks until the other one runs, which never happens if they run one after the other on the request thread
+    val firstCompleted = CountDownLatch(1)
+    val secondCompleted = CountDownLatch(1)
+    val first =
+      waiter.awaitTerminalStatus("first").thenApply {
+        firstCompleted.countDown()
+        secondCompleted.await(10, TimeUnit.SECONDS)
+      }
+    val second =
+      waiter.awaitTerminalStatus("second").thenApply {
+        secondCompleted.countDown()
+        firstCompleted.await(10, TimeUnit.SECONDS)
+      }
+    bothAwaited.countDown()
+
+    assertTrue(first.get(10, TimeUnit.SECONDS))
+    assertTrue(second.get(10, TimeUnit.SECONDS))
+  }
+
+  @Test
+  fun `test failed requests are retried`() {
+    every { workloadApi.workloadAwaitTerminalStatus(any()) } throws ServerException(statusCode = 503) andThen
+      WorkloadTerminalStatusListResponse(listOf(WorkloadTerminalStatus(workloadId = "workload", status = WorkloadStatus.CANCELLED)))
+
+    val result = waiter.awaitTerminalStatus("workload")
+    assertFalse(result.isCompletedExceptionally)
+    assertEquals(WorkloadStatus.CANCELLED, result.get(10, TimeUnit.SECONDS))
+  }
+}
@@ -7,6 +7,9 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -15,6 +18,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -24,6 +28,8 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,6 +64,10 @@ public class Jsons {
   }
 
   private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer(new JsonPrettyPrinter());
+  /**
+   * Writer for generators that are reused across many values, flushing is left to the caller.
+   */
+  private static final ObjectWriter STREAMING_OBJECT_WRITER = OBJECT_MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
   /**
    * Serialize an object to a JSON string.
@@ -74,6 +84,48 @@ public class Jsons {
     }
   }
 
+  /**
+   * Serialize an object into a generator without building an intermediate string. Unlike
+   * {@link #serialize(Object)}, the generator is not flushed, so many objects can be written into the
+   * generator's buffer before they reach the underlying stream.
+   *
+   * @param object to serialize
+   * @param generator to write to, see {@link #createGenerator(OutputStream)}
+   * @param <T> type of object
+   * @throws IOException if the underlying stream cannot be written to
+   */
+  public static <T> void serialize(final T object, final JsonGenerator generator) throws IOException {
+    STREAMING_OBJECT_WRITER.writeValue(generator, object);
+  }
+
+  /**
+   * Create a UTF-8 generator over an output stream that is meant to be reused for a sequence of
+   * values, e.g. newline-delimited JSON. Root values are not separated, so callers decide on the
+   * separator to write between them.
+   *
+   * @param outputStream to write to, closed when the generator is closed
+   * @return generator using the same configuration as {@link #serialize(Object)}
+   * @throws IOException if the generator cannot be created
+   */
+  public static JsonGenerator createGenerator(final OutputStream outputStream) throws IOException {
+    final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+    generator.setRootValueSeparator(null);
+    return generator;
+  }
+
+  /**
+   * Create a parser over an input stream, to read a document token by token instead of
+   * deserializing it as a whole.
+   *
+   * @param inputStream to read from, closed when the parser is closed
+   * @return parser using the same configuration as {@link #deserialize(String)}, including for
+   *         reading subtrees with {@link JsonParser#readValueAsTree()}
+   * @throws IOException if the parser cannot be created
+   */
+  public static JsonParser createParser(final InputStream inputStream) throws IOException {
+    return OBJECT_MAPPER.getFactory().createParser(inputStream);
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -138,6 +190,23 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize a JSON stream to an object with a type, without reading the whole stream in memory
+   * first. The stream is closed once read.
+   *
+   * @param inputStream containing JSON to deserialize
+   * @param klass of object
+   * @param <T> type of object
+   * @return deserialized stream as type declare in klass
+   */
+  public static <T> T deserialize(final InputStream inputStream, final Class<T> klass) {
+    try (inputStream) {
+      return OBJECT_MAPPER.readValue(inputStream, klass);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize a JSON string to a {@link JsonNode}.
    *
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BinaryNode;
@@ -24,6 +25,7 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -64,6 +66,23 @@ class JsonsTest {
                 TEST2, DEF)));
   }
 
+  @Test
+  void testSerializeToGenerator() throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (final JsonGenerator generator = Jsons.createGenerator(outputStream)) {
+      Jsons.serialize(new ToClass(ABC, 999, 888L), generator);
+      generator.writeRaw('\n');
+      Jsons.serialize(ImmutableMap.of(TEST, ABC), generator);
+      generator.writeRaw('\n');
+      // nothing reaches the stream until the generator is flushed
+      assertEquals(0, outputStream.size());
+    }
+
+    assertEquals(
+        SERIALIZED_JSON + "\n" + "{\"test\":\"abc\"}\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void testSerializeJsonNode() {
     assertEquals(
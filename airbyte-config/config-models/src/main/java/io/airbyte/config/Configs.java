@@ -272,6 +272,17 @@ public interface Configs {
    */
   String getJobKubeCurlImage();
 
+  /**
+   * Define the socket receive buffer size used for the stdout/stderr relays of Job pods. Larger
+   * buffers let high-throughput sources stream without stalling on small TCP windows.
+   */
+  int getJobKubeStdioSocketReceiveBufferBytes();
+
+  /**
+   * Define the socket send buffer size used for the stdin relay of Job pods.
+   */
+  int getJobKubeStdioSocketSendBufferBytes();
+
   /**
    * Define the Kubernetes namespace Job pods are created in.
    */
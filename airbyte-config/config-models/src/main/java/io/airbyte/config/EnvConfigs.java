@@ -88,6 +88,8 @@ public class EnvConfigs implements Configs {
   public static final String SOCAT_KUBE_CPU_REQUEST = "SOCAT_KUBE_CPU_REQUEST";
   public static final String JOB_KUBE_BUSYBOX_IMAGE = "JOB_KUBE_BUSYBOX_IMAGE";
   public static final String JOB_KUBE_CURL_IMAGE = "JOB_KUBE_CURL_IMAGE";
+  public static final String JOB_KUBE_STDIO_SOCKET_RECEIVE_BUFFER_BYTES = "JOB_KUBE_STDIO_SOCKET_RECEIVE_BUFFER_BYTES";
+  public static final String JOB_KUBE_STDIO_SOCKET_SEND_BUFFER_BYTES = "JOB_KUBE_STDIO_SOCKET_SEND_BUFFER_BYTES";
   public static final String SYNC_JOB_INIT_RETRY_TIMEOUT_MINUTES = "SYNC_JOB_INIT_RETRY_TIMEOUT_MINUTES";
   private static final String CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED = "CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED";
   private static final String TEMPORAL_HISTORY_RETENTION_IN_DAYS = "TEMPORAL_HISTORY_RETENTION_IN_DAYS";
@@ -132,6 +134,9 @@ public class EnvConfigs implements Configs {
   private static final String DEFAULT_JOB_KUBE_SOCAT_IMAGE = "alpine/socat:1.7.4.4-r0";
   private static final String DEFAULT_JOB_KUBE_BUSYBOX_IMAGE = "busybox:1.35";
   private static final String DEFAULT_JOB_KUBE_CURL_IMAGE = "curlimages/curl:7.87.0";
+  // The kernel caps these at net.core.rmem_max / net.core.wmem_max.
+  private static final int DEFAULT_JOB_KUBE_STDIO_SOCKET_RECEIVE_BUFFER_BYTES = 1024 * 1024;
+  private static final int DEFAULT_JOB_KUBE_STDIO_SOCKET_SEND_BUFFER_BYTES = 1024 * 1024;
   private static final String DEFAULT_NETWORK = "host";
 
   public static final Map<String, Function<EnvConfigs, String>> JOB_SHARED_ENVS = Map.of(
@@ -539,6 +544,16 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(JOB_KUBE_CURL_IMAGE, DEFAULT_JOB_KUBE_CURL_IMAGE);
   }
 
+  @Override
+  public int getJobKubeStdioSocketReceiveBufferBytes() {
+    return getEnvOrDefault(JOB_KUBE_STDIO_SOCKET_RECEIVE_BUFFER_BYTES, DEFAULT_JOB_KUBE_STDIO_SOCKET_RECEIVE_BUFFER_BYTES);
+  }
+
+  @Override
+  public int getJobKubeStdioSocketSendBufferBytes() {
+    return getEnvOrDefault(JOB_KUBE_STDIO_SOCKET_SEND_BUFFER_BYTES, DEFAULT_JOB_KUBE_STDIO_SOCKET_SEND_BUFFER_BYTES);
+  }
+
   @Override
   public String getJobKubeNamespace() {
     return getEnvOrDefault(JOB_KUBE_NAMESPACE, DEFAULT_JOB_KUBE_NAMESPACE);
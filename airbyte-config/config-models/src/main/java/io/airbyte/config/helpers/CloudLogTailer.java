@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.config.helpers.LogPage.Direction;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import javax.annotation.Nullable;
+
+/**
+ * Reads pages of lines of a log made of lexicographically ordered chunk objects, as used by
+ * {@link S3Logs} and {@link GcsLogs}. A local log file is read as a log of a single chunk.
+ * <p>
+ * Offsets are positions in the concatenation of the chunks. Chunks are read in blocks of at most
+ * blockSize bytes with ranged reads, so that only the bytes around the requested lines are
+ * downloaded: a tail reads the chunks from the newest to the oldest, each backwards, and stops in
+ * the oldest chunk it needs. Up to maxConcurrentReads blocks are fetched ahead in parallel. Lines
+ * are collected in a deque that never grows past the number of requested lines, and reading stops
+ * as soon as it is full.
+ * <p>
+ * Like {@link java.io.BufferedReader#readLine()}, every chunk ends a line and trailing carriage
+ * returns are stripped.
+ */
+class CloudLogTailer {
+
+  static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+  static final int DEFAULT_MAX_CONCURRENT_READS = 4;
+
+  private static final byte[] EMPTY = new byte[0];
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+      .setNameFormat("cloud-log-tail-%d")
+      .setDaemon(true)
+      .build());
+
+  /**
+   * Reads a range of bytes of a chunk.
+   *
+   * @param <T> type of the chunk
+   */
+  @FunctionalInterface
+  interface RangeReader<T> {
+
+    /**
+     * Reads the bytes of the chunk from start, inclusive, to end, exclusive.
+     */
+    byte[] read(T chunk, long start, long end) throws IOException;
+
+  }
+
+  /**
+   * A range of a chunk, which starts at offset base of the log. startsLine and endsLine tell whether
+   * the range is bounded by the start of a line and the end of a line respectively.
+   */
+  private record Block<T>(T chunk, long base, long start, long end, boolean startsLine, boolean endsLine) {}
+
+  private record PendingRead<T>(Block<T> block, Future<byte[]> data) {}
+
+  private final ExecutorService executor;
+  private final int maxConcurrentReads;
+  private final int blockSize;
+
+  CloudLogTailer() {
+    this(DEFAULT_EXECUTOR, DEFAULT_MAX_CONCURRENT_READS, DEFAULT_BLOCK_SIZE);
+  }
+
+  CloudLogTailer(final ExecutorService executor, final int maxConcurrentReads, final int blockSize) {
+    this.executor = executor;
+    this.maxConcurrentReads = maxConcurrentReads;
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Returns the last numLines lines of the chunks, in ascending order.
+   *
+   * @param ascendingChunks chunks of the log, oldest first
+   * @param sizeOf size of a chunk in bytes
+   * @param reader reads a range of a chunk
+   * @param numLines maximum number of lines to return
+   * @param <T> type of the chunks
+   * @return the lines
+   */
+  <T> List<String> tail(final List<T> ascendingChunks, final ToLongFunction<T> sizeOf, final RangeReader<T> reader, final int numLines)
+      throws IOException {
+    return read(ascendingChunks, sizeOf, reader, null, Direction.BACKWARD, numLines).lines();
+  }
+
+  /**
+   * Returns up to numLines lines of the chunks that start at the offset when reading forward, or
+   * that end at the offset when reading backward. The offset is expected to be the start of a line,
+   * such as the start or end offset of a previous page, and is clamped to the size of the log.
+   *
+   * @param ascendingChunks chunks of the log, oldest first
+   * @param sizeOf size of a chunk in bytes
+   * @param reader reads a range of a chunk
+   * @param offset offset to read from, the start of the log when reading forward and its end when
+   *        reading backward if null
+   * @param direction direction to read in from the offset
+   * @param numLines maximum number of lines to return
+   * @param <T> type of the chunks
+   * @return the page of lines
+   */
+  <T> LogPage read(final List<T> ascendingChunks,
+                   final ToLongFunction<T> sizeOf,
+                   final RangeReader<T> reader,
+                   final @Nullable Long offset,
+                   final Direction direction,
+                   final int numLines)
+      throws IOException {
+    final long[] sizes = ascendingChunks.stream().mapToLong(sizeOf).toArray();
+    final long[] bases = new long[sizes.length];
+    for (int i = 1; i < sizes.length; i++) {
+      bases[i] = bases[i - 1] + sizes[i - 1];
+    }
+    final long totalBytes = LongStream.of(sizes).sum();
+
+    if (direction == Direction.FORWARD) {
+      final long startOffset = offset == null ? 0 : Math.max(0, Math.min(offset, totalBytes));
+      return readForward(ascendingBlocks(ascendingChunks, sizes, bases, startOffset), reader, startOffset, totalBytes, numLines);
+    }
+    final long endOffset = offset == null ? totalBytes : Math.max(0, Math.min(offset, totalBytes));
+    return readBackward(descendingBlocks(ascendingChunks, sizes, bases, endOffset), reader, endOffset, totalBytes, numLines);
+  }
+
+  private <T> LogPage readForward(final Iterator<Block<T>> blocks,
+                                  final RangeReader<T> reader,
+                                  final long startOffset,
+                                  final long totalBytes,
+                                  final int numLines)
+      throws IOException {
+    final List<String> lines = new ArrayList<>();
+    final Deque<PendingRead<T>> pendingReads = new ArrayDeque<>();
+    long endOffset = startOffset;
+
+    try {
+      // bytes of the current chunk that precede the block being read, from the start of their line
+      byte[] partialLine = EMPTY;
+      while (lines.size() < numLines) {
+        readAhead(blocks, reader, pendingReads);
+        if (pendingReads.isEmpty()) {
+          break;
+        }
+
+        final PendingRead<T> read = pendingReads.removeFirst();
+        final byte[] data = concat(partialLine, await(read.data()));
+        // offset of the first byte of data in the log
+        final long dataOffset = read.block().base() + read.block().end() - data.length;
+        int start = 0;
+        for (int i = 0; i < data.length && lines.size() < numLines; i++) {
+          if (data[i] == '\n') {
+            lines.add(decode(data, start, i));
+            start = i + 1;
+            endOffset = dataOffset + start;
+          }
+        }
+
+        if (read.block().endsLine()) {
+          if (start < data.length && lines.size() < numLines) {
+            lines.add(decode(data, start, data.length));
+            endOffset = dataOffset + data.length;
+          }
+          partialLine = EMPTY;
+        } else {
+          partialLine = Arrays.copyOfRange(data, start, data.length);
+        }
+      }
+    } finally {
+      pendingReads.forEach(read -> read.data().cancel(true));
+    }
+
+    return new LogPage(lines, startOffset, endOffset, totalBytes);
+  }
+
+  private <T> LogPage readBackward(final Iterator<Block<T>> blocks,
+                                   final RangeReader<T> reader,
+                                   final long endOffset,
+                                   final long totalBytes,
+                                   final int numLines)
+      throws IOException {
+    final Deque<String> lines = new ArrayDeque<>();
+    final Deque<PendingRead<T>> pendingReads = new ArrayDeque<>();
+    long startOffset = endOffset;
+
+    try {
+      // bytes of the current chunk that follow the block being read, up to its first line break
+      byte[] partialLine = EMPTY;
+      while (lines.size() < numLines) {
+        readAhead(blocks, reader, pendingReads);
+        if (pendingReads.isEmpty()) {
+          break;
+        }
+
+        final PendingRead<T> read = pendingReads.removeFirst();
+        final byte[] data = concat(await(read.data()), partialLine);
+        // offset of the first byte of data in the log
+        final long dataOffset = read.block().base() + read.block().start();
+        int end = data.length;
+        if (read.block().endsLine() && end > 0 && data[end - 1] == '\n') {
+          end--;
+        }
+        for (int i = end - 1; i >= 0 && lines.size() < numLines; i--) {
+          if (data[i] == '\n') {
+            lines.addFirst(decode(data, i + 1, end));
+            startOffset = dataOffset + i + 1;
+            end = i;
+          }
+        }
+
+        if (read.block().startsLine()) {
+          if (lines.size() < numLines) {
+            lines.addFirst(decode(data, 0, end));
+            startOffset = dataOffset;
+          }
+          partialLine = EMPTY;
+        } else {
+          partialLine = Arrays.copyOf(data, end);
+        }
+      }
+    } finally {
+      pendingReads.forEach(read -> read.data().cancel(true));
+    }
+
+    return new LogPage(new ArrayList<>(lines), startOffset, endOffset, totalBytes);
+  }
+
+  private <T> Iterator<Block<T>> ascendingBlocks(final List<T> ascendingChunks, final long[] sizes, final long[] bases, final long startOffset) {
+    return IntStream.range(0, sizes.length)
+        .filter(i -> bases[i] + sizes[i] > startOffset)
+        .boxed()
+        .flatMap(i -> LongStream.iterate(Math.max(0, startOffset - bases[i]), start -> start < sizes[i], start -> start + blockSize)
+            .mapToObj(start -> {
+              final long end = Math.min(sizes[i], start + blockSize);
+              return new Block<>(ascendingChunks.get(i), bases[i], start, end, start == 0, end == sizes[i]);
+            }))
+        .iterator();
+  }
+
+  private <T> Iterator<Block<T>> descendingBlocks(final List<T> ascendingChunks, final long[] sizes, final long[] bases, final long endOffset) {
+    return IntStream.iterate(sizes.length - 1, i -> i >= 0, i -> i - 1)
+        .filter(i -> bases[i] < endOffset)
+        .boxed()
+        .flatMap(i -> {
+          // the end offset starts a line, so the block that ends at it ends a line
+          final long chunkEnd = Math.min(sizes[i], endOffset - bases[i]);
+          return LongStream.iterate(chunkEnd, end -> end > 0, end -> Math.max(0, end - blockSize))
+              .mapToObj(end -> {
+                final long start = Math.max(0, end - blockSize);
+                return new Block<>(ascendingChunks.get(i), bases[i], start, end, start == 0, end == chunkEnd);
+              });
+        })
+        .iterator();
+  }
+
+  private <T> void readAhead(final Iterator<Block<T>> blocks, final RangeReader<T> reader, final Deque<PendingRead<T>> pendingReads) {
+    while (pendingReads.size() < maxConcurrentReads && blocks.hasNext()) {
+      final Block<T> block = blocks.next();
+      pendingReads.addLast(new PendingRead<>(block, executor.submit(() -> reader.read(block.chunk(), block.start(), block.end()))));
+    }
+  }
+
+  private static byte[] await(final Future<byte[]> data) throws IOException {
+    try {
+      return data.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading logs", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Failed to read logs", e.getCause());
+    }
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    if (second.length == 0) {
+      return first;
+    }
+    if (first.length == 0) {
+      return second;
+    }
+    final byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private static String decode(final byte[] data, final int start, final int end) {
+    final int length = end > start && data[end - 1] == '\r' ? end - start - 1 : end - start;
+    return new String(data, start, length, StandardCharsets.UTF_8);
+  }
+
+}
@@ -10,6 +10,7 @@ import io.airbyte.config.storage.MinioS3ClientFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,13 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Assume all the lexicographically ordered objects at the given path form one giant log file,
+   * return up to numLines lines that start at the byte offset when reading forward, or that end at
+   * it when reading backward. See {@link LogPage}.
+   */
+  LogPage readCloudLog(LogConfigs configs, String logPath, @Nullable Long offset, LogPage.Direction direction, int numLines) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   /**
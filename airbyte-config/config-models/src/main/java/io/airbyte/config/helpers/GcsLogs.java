@@ -5,20 +5,21 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +33,7 @@ public class GcsLogs implements CloudLogs {
 
   private static Storage gcs;
   private final Supplier<Storage> gcsClientFactory;
+  private final CloudLogTailer tailer = new CloudLogTailer();
 
   public GcsLogs(final Supplier<Storage> gcsClientFactory) {
     this.gcsClientFactory = gcsClientFactory;
@@ -81,35 +83,30 @@ public class GcsLogs implements CloudLogs {
         .iterateAll()
         .forEach(ascendingTimestampBlobs::add);
 
-    final var lines = new ArrayList<String>();
-
     LOGGER.debug("Start getting GCS objects.");
-    final var inMemoryData = new ByteArrayOutputStream();
-    // iterate through blobs in descending order (oldest first)
-    for (var i = ascendingTimestampBlobs.size() - 1; i >= 0; i--) {
-      inMemoryData.reset();
-
-      final var blob = ascendingTimestampBlobs.get(i);
-      blob.downloadTo(inMemoryData);
-
-      final String[] currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-      // Iterate through the lines in reverse order. This ensures we keep the newer messages over the
-      // older messages if we hit the numLines limit.
-      for (var j = currFileLines.length - 1; j >= 0; j--) {
-        lines.add(currFileLines[j]);
-        if (lines.size() >= numLines) {
-          break;
-        }
-      }
-
-      if (lines.size() >= numLines) {
-        break;
-      }
-    }
+    final List<String> lines = tailer.tail(ascendingTimestampBlobs, Blob::getSize, GcsLogs::readRange, numLines);
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    // finally reverse the lines so they're returned in ascending order
-    return Lists.reverse(lines);
+    return lines;
+  }
+
+  @Override
+  public LogPage readCloudLog(final LogConfigs configs,
+                              final String logPath,
+                              final @Nullable Long offset,
+                              final LogPage.Direction direction,
+                              final int numLines)
+      throws IOException {
+    LOGGER.debug("Reading logs from GCS path: {}", logPath);
+    final Storage gcsClient = getOrCreateGcsClient();
+
+    final var ascendingTimestampBlobs = new ArrayList<Blob>();
+    gcsClient.list(
+        configs.getStorageConfigs().getGcsConfig().getBucketName(),
+        Storage.BlobListOption.prefix(logPath))
+        .iterateAll()
+        .forEach(ascendingTimestampBlobs::add);
+    return tailer.read(ascendingTimestampBlobs, Blob::getSize, GcsLogs::readRange, offset, direction, numLines);
   }
 
   @Override
@@ -123,6 +120,14 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Finished all deletes.");
   }
 
+  private static byte[] readRange(final Blob blob, final long start, final long end) throws IOException {
+    try (final ReadChannel reader = blob.reader()) {
+      reader.seek(start);
+      reader.limit(end);
+      return ByteStreams.toByteArray(Channels.newInputStream(reader));
+    }
+  }
+
   private Storage getOrCreateGcsClient() {
     if (gcs == null) {
       gcs = gcsClientFactory.get();
@@ -10,11 +10,16 @@ import io.airbyte.config.Configs;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.apache.commons.io.input.ReversedLinesFileReader;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
@@ -39,6 +44,8 @@ public class LogClientSingleton {
   static final int LOG_TAIL_SIZE = 1000000;
   @VisibleForTesting
   CloudLogs logClient;
+  // a local log file is read as a log of a single chunk
+  private final CloudLogTailer localLogReader = new CloudLogTailer();
 
   // Any changes to the following values must also be propagated to the log4j2.xml in main/resources.
   public static final String WORKSPACE_MDC_KEY = "workspace_app_root";
@@ -118,6 +125,41 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Read a page of a log file, without reading more of the file than the lines of the page.
+   *
+   * @param workerEnvironment environment of worker.
+   * @param logConfigs configuration for logs
+   * @param logPath log path
+   * @param offset byte offset to read from, see {@link LogPage.Direction}
+   * @param direction direction to read in from the offset
+   * @param numLines maximum number of lines to read
+   * @return page of lines in file
+   * @throws IOException exception while accessing logs
+   */
+  public LogPage getJobLogPage(final WorkerEnvironment workerEnvironment,
+                               final LogConfigs logConfigs,
+                               final Path logPath,
+                               final @Nullable Long offset,
+                               final LogPage.Direction direction,
+                               final int numLines)
+      throws IOException {
+    if (logPath == null || logPath.equals(Path.of(""))) {
+      return LogPage.EMPTY;
+    }
+
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      if (!Files.exists(logPath)) {
+        return LogPage.EMPTY;
+      }
+      return localLogReader.read(List.of(logPath), path -> path.toFile().length(), LogClientSingleton::readFileRange, offset, direction, numLines);
+    }
+
+    final var cloudLogPath = sanitisePath(JOB_LOGGING_CLOUD_PREFIX, logPath);
+    createCloudClientIfNull(logConfigs);
+    return logClient.readCloudLog(logConfigs, cloudLogPath, offset, direction, numLines);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
@@ -237,4 +279,14 @@ public class LogClientSingleton {
     }
   }
 
+  private static byte[] readFileRange(final Path path, final long start, final long end) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+      while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+        // keep reading until the range is filled
+      }
+      return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+  }
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.List;
+
+/**
+ * A page of consecutive lines of a log.
+ *
+ * @param lines the lines, in ascending order
+ * @param startOffset byte offset of the first line in the log
+ * @param endOffset byte offset right after the last line in the log, including its line break
+ * @param totalBytes size of the log in bytes when it was read
+ */
+public record LogPage(List<String> lines, long startOffset, long endOffset, long totalBytes) {
+
+  public static final LogPage EMPTY = new LogPage(List.of(), 0, 0, 0);
+
+  /**
+   * Direction in which a page is read from its offset.
+   */
+  public enum Direction {
+    /**
+     * Lines starting at the offset, the head of the log by default.
+     */
+    FORWARD,
+    /**
+     * Lines ending at the offset, the tail of the log by default.
+     */
+    BACKWARD
+  }
+
+}
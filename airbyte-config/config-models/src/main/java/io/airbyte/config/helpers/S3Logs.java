@@ -5,22 +5,18 @@
 package io.airbyte.config.helpers;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.S3ApiWorkerStorageConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.WorkerStorageType;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -29,6 +25,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * S3 logs.
@@ -41,6 +38,7 @@ public class S3Logs implements CloudLogs {
   private static S3Client s3;
 
   private final Supplier<S3Client> s3ClientFactory;
+  private final CloudLogTailer tailer = new CloudLogTailer();
 
   public S3Logs(final Supplier<S3Client> s3ClientFactory) {
     this.s3ClientFactory = s3ClientFactory;
@@ -104,29 +102,32 @@ public class S3Logs implements CloudLogs {
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final List<S3Object> ascendingTimestampObjs = getAscendingObjects(s3Client, logPath, s3Bucket);
 
     LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
-      }
-    }
+    final List<String> lines = tailer.tail(ascendingTimestampObjs, S3Object::size,
+        (obj, start, end) -> getObjectRange(s3Client, s3Bucket, obj.key(), start, end), numLines);
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return lines;
   }
 
+  @Override
+  public LogPage readCloudLog(final LogConfigs configs,
+                              final String logPath,
+                              final @Nullable Long offset,
+                              final LogPage.Direction direction,
+                              final int numLines)
+      throws IOException {
+    LOGGER.debug("Reading logs from S3 path: {}", logPath);
+    final S3Client s3Client = getOrCreateS3Client();
+
+    final var s3Bucket = getBucketName(configs.getStorageConfigs());
+    final List<S3Object> ascendingTimestampObjs = getAscendingObjects(s3Client, logPath, s3Bucket);
+    return tailer.read(ascendingTimestampObjs, S3Object::size,
+        (obj, start, end) -> getObjectRange(s3Client, s3Bucket, obj.key(), start, end), offset, direction, numLines);
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Deleting logs from S3 path: {}", logPath);
@@ -156,35 +157,29 @@ public class S3Logs implements CloudLogs {
   }
 
   private static List<String> getAscendingObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
+    return getAscendingObjects(s3Client, logPath, s3Bucket).stream().map(S3Object::key).collect(Collectors.toList());
+  }
+
+  private static List<S3Object> getAscendingObjects(final S3Client s3Client, final String logPath, final String s3Bucket) {
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
-    final var ascendingTimestampObjs = new ArrayList<String>();
+    final var ascendingTimestampObjs = new ArrayList<S3Object>();
 
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
-      for (final var objMetadata : page.contents()) {
-        ascendingTimestampObjs.add(objMetadata.key());
-      }
+      ascendingTimestampObjs.addAll(page.contents());
     }
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
+  private static byte[] getObjectRange(final S3Client s3Client, final String s3Bucket, final String key, final long start, final long end) {
     final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
+        .key(key)
         .bucket(s3Bucket)
+        // the end of http ranges is inclusive
+        .range("bytes=" + start + "-" + (end - 1))
         .build();
 
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp = reader.readLine();
-      while (temp != null) {
-        currentFileLines.add(temp);
-        temp = reader.readLine();
-      }
-    }
-    return currentFileLines;
+    return s3Client.getObjectAsBytes(getObjReq).asByteArray();
   }
 
 }
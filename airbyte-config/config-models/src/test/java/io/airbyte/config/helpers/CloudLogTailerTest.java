@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.helpers.LogPage.Direction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tails logs stored as files in a temporary directory, which stands in for a bucket: every file is a
+ * chunk and ranged reads go through a {@link FileChannel}.
+ */
+class CloudLogTailerTest {
+
+  private static final int BLOCK_SIZE = 16;
+  private static final String[] CONTENTS = {
+    "line 1\nline 2\nline 3\n",
+    "",
+    "a line that is longer than a block\r\nline 5\nno trailing line break",
+    "\n",
+    "ünïcödé lines\n\nline 9\n"
+  };
+
+  @TempDir
+  Path bucket;
+
+  private ExecutorService executor;
+  // bytes read per chunk
+  private Map<Path, Long> bytesRead;
+
+  @BeforeEach
+  void setup() {
+    executor = Executors.newFixedThreadPool(2);
+    bytesRead = new ConcurrentHashMap<>();
+  }
+
+  @AfterEach
+  void teardown() {
+    executor.shutdownNow();
+  }
+
+  private List<Path> writeChunks(final String... contents) throws IOException {
+    final List<Path> chunks = new ArrayList<>();
+    for (int i = 0; i < contents.length; i++) {
+      chunks.add(Files.writeString(bucket.resolve(i + "-chunk"), contents[i], StandardCharsets.UTF_8));
+    }
+    return chunks;
+  }
+
+  private List<String> tail(final List<Path> chunks, final int maxConcurrentReads, final int numLines) throws IOException {
+    return new CloudLogTailer(executor, maxConcurrentReads, BLOCK_SIZE).tail(chunks, chunk -> chunk.toFile().length(), this::readRange, numLines);
+  }
+
+  private LogPage read(final List<Path> chunks, final Long offset, final Direction direction, final int numLines) throws IOException {
+    return new CloudLogTailer(executor, 2, BLOCK_SIZE).read(chunks, chunk -> chunk.toFile().length(), this::readRange, offset, direction, numLines);
+  }
+
+  private byte[] readRange(final Path chunk, final long start, final long end) throws IOException {
+    bytesRead.merge(chunk, end - start, Long::sum);
+    try (final FileChannel channel = FileChannel.open(chunk)) {
+      final ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+      while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+        // keep reading until the range is filled
+      }
+      return buffer.array();
+    }
+  }
+
+  private static List<String> readAllLines(final String... contents) {
+    final List<String> lines = new ArrayList<>();
+    for (final String content : contents) {
+      new BufferedReader(new StringReader(content)).lines().forEach(lines::add);
+    }
+    return lines;
+  }
+
+  @Test
+  void testTailMatchesReadingAllLines() throws IOException {
+    final List<Path> chunks = writeChunks(CONTENTS);
+    final List<String> allLines = readAllLines(CONTENTS);
+
+    for (final int numLines : List.of(0, 1, 3, 6, allLines.size(), 1000)) {
+      for (final int maxConcurrentReads : List.of(1, 3)) {
+        assertEquals(allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size()), tail(chunks, maxConcurrentReads, numLines),
+            "tail of " + numLines + " lines with " + maxConcurrentReads + " concurrent reads");
+      }
+    }
+  }
+
+  @Test
+  void testPagingForwardMatchesReadingAllLines() throws IOException {
+    final List<Path> chunks = writeChunks(CONTENTS);
+    final List<String> allLines = readAllLines(CONTENTS);
+    final long totalBytes = chunks.stream().mapToLong(chunk -> chunk.toFile().length()).sum();
+
+    for (final int pageSize : List.of(1, 2, 5, 1000)) {
+      final List<String> lines = new ArrayList<>();
+      LogPage page = read(chunks, null, Direction.FORWARD, pageSize);
+      assertEquals(0, page.startOffset());
+      while (!page.lines().isEmpty()) {
+        lines.addAll(page.lines());
+        final LogPage next = read(chunks, page.endOffset(), Direction.FORWARD, pageSize);
+        assertEquals(page.endOffset(), next.startOffset());
+        page = next;
+      }
+      assertEquals(allLines, lines, "forward pages of " + pageSize + " lines");
+      assertEquals(totalBytes, page.endOffset());
+      assertEquals(totalBytes, page.totalBytes());
+    }
+  }
+
+  @Test
+  void testPagingBackwardMatchesReadingAllLines() throws IOException {
+    final List<Path> chunks = writeChunks(CONTENTS);
+    final List<String> allLines = readAllLines(CONTENTS);
+    final long totalBytes = chunks.stream().mapToLong(chunk -> chunk.toFile().length()).sum();
+
+    for (final int pageSize : List.of(1, 2, 5, 1000)) {
+      final List<String> lines = new ArrayList<>();
+      LogPage page = read(chunks, null, Direction.BACKWARD, pageSize);
+      assertEquals(totalBytes, page.endOffset());
+      while (!page.lines().isEmpty()) {
+        lines.addAll(0, page.lines());
+        final LogPage previous = read(chunks, page.startOffset(), Direction.BACKWARD, pageSize);
+        assertEquals(page.startOffset(), previous.endOffset());
+        page = previous;
+      }
+      assertEquals(allLines, lines, "backward pages of " + pageSize + " lines");
+      assertEquals(0, page.startOffset());
+    }
+  }
+
+  @Test
+  void testPagesAreReadAgainFromTheirOffsets() throws IOException {
+    final List<Path> chunks = writeChunks(CONTENTS);
+
+    final LogPage tail = read(chunks, null, Direction.BACKWARD, 3);
+    assertEquals(tail, read(chunks, tail.startOffset(), Direction.FORWARD, 3));
+
+    final LogPage head = read(chunks, null, Direction.FORWARD, 4);
+    assertEquals(head, read(chunks, head.endOffset(), Direction.BACKWARD, 4));
+
+    // offsets past the end of the log are clamped to it
+    assertEquals(List.of(), read(chunks, Long.MAX_VALUE, Direction.FORWARD, 3).lines());
+  }
+
+  @Test
+  void testReadsOnlyTheNeededSuffixOfTheOldestChunk() throws IOException {
+    final String oldest = IntStream.range(0, 100).mapToObj(i -> String.format("line %03d", i)).collect(Collectors.joining("\n", "", "\n"));
+    final List<Path> chunks = writeChunks(oldest, "newest 1\nnewest 2\n");
+
+    assertEquals(List.of("line 098", "line 099", "newest 1", "newest 2"), tail(chunks, 1, 4));
+
+    // the two lines of the oldest chunk fit in two blocks
+    assertTrue(bytesRead.get(chunks.get(0)) <= 2 * BLOCK_SIZE);
+    assertEquals(chunks.get(1).toFile().length(), bytesRead.get(chunks.get(1)));
+  }
+
+  @Test
+  void testStopsAtTheLineBudget() throws IOException {
+    final List<Path> chunks = writeChunks("line 1\n", "line 2\n", "line 3\n", "line 4\n");
+
+    assertEquals(List.of("line 4"), tail(chunks, 1, 1));
+
+    assertEquals(Map.of(chunks.get(3), chunks.get(3).toFile().length()), bytesRead);
+  }
+
+  @Test
+  void testReadFailuresAreRethrown() throws IOException {
+    final List<Path> chunks = writeChunks("line 1\n", "line 2\n");
+    final CloudLogTailer tailer = new CloudLogTailer(executor, 2, BLOCK_SIZE);
+
+    assertThrows(IOException.class, () -> tailer.tail(chunks, chunk -> chunk.toFile().length(), (chunk, start, end) -> {
+      throw new IOException("unreachable bucket");
+    }, 10));
+  }
+
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
@@ -20,6 +21,7 @@ import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Consumer;
@@ -72,11 +74,6 @@ class GcsLogsTest {
 
   @Test
   void testTailCloudLog() throws IOException {
-    final var blob1 = mock(Blob.class);
-    final var blob2 = mock(Blob.class);
-    final var blob3 = mock(Blob.class);
-
-    // Ensure the Blob mocks write to the outputstream that is passed to their downloadTo method.
     // The first blob will contain the file contents:
     // line 1
     // line 2
@@ -89,20 +86,9 @@ class GcsLogsTest {
     // line 7
     // line 8
     // line 9
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 1\nline 2\nline 3\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob1).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 4\nline 5\nline 6\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob2).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 7\nline 8\nline 9\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob3).downloadTo(Mockito.any(OutputStream.class));
+    final var blob1 = mockReadableBlob("line 1\nline 2\nline 3\n");
+    final var blob2 = mockReadableBlob("line 4\nline 5\nline 6\n");
+    final var blob3 = mockReadableBlob("line 7\nline 8\nline 9\n");
 
     when(storage.list(bucketName, Storage.BlobListOption.prefix(logPath))).thenReturn(page);
     when(page.iterateAll()).thenReturn(iterable);
@@ -129,6 +115,41 @@ class GcsLogsTest {
         "all 9 items should have been returned in the correct order");
   }
 
+  /**
+   * Mocks a blob whose reader serves the given content, honoring the range set with seek and limit.
+   */
+  private static Blob mockReadableBlob(final String content) throws IOException {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    final var blob = mock(Blob.class);
+    when(blob.getSize()).thenReturn((long) bytes.length);
+    when(blob.reader()).thenAnswer(invocation -> {
+      // position and limit of the reader
+      final long[] range = {0, bytes.length};
+      final var reader = mock(ReadChannel.class);
+      doAnswer(i -> {
+        range[0] = i.getArgument(0);
+        return null;
+      }).when(reader).seek(Mockito.anyLong());
+      when(reader.limit(Mockito.anyLong())).thenAnswer(i -> {
+        range[1] = Math.min(i.<Long>getArgument(0), bytes.length);
+        return reader;
+      });
+      when(reader.isOpen()).thenReturn(true);
+      when(reader.read(Mockito.any(ByteBuffer.class))).thenAnswer(i -> {
+        if (range[0] >= range[1]) {
+          return -1;
+        }
+        final ByteBuffer buffer = i.getArgument(0);
+        final int length = (int) Math.min(buffer.remaining(), range[1] - range[0]);
+        buffer.put(bytes, (int) range[0], length);
+        range[0] += length;
+        return length;
+      });
+      return reader;
+    });
+    return blob;
+  }
+
   @Test
   void testDeleteLogs() {
     final var blob1 = mock(Blob.class);
@@ -14,11 +14,15 @@ import static org.mockito.Mockito.when;
 
 import io.airbyte.config.Configs;
 import io.airbyte.config.Configs.WorkerEnvironment;
+import io.airbyte.config.helpers.LogPage.Direction;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class LogClientSingletonTest {
 
@@ -54,4 +58,38 @@ class LogClientSingletonTest {
     verifyNoInteractions(mockLogClient);
   }
 
+  @Test
+  void testGetJobLogPageK8s() throws IOException {
+    final LogPage page = new LogPage(List.of("line 1"), 0, 7, 7);
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.KUBERNETES);
+    when(mockLogClient.readCloudLog(any(), eq("job-logging/job/1"), eq(7L), eq(Direction.BACKWARD), eq(10))).thenReturn(page);
+
+    assertEquals(page,
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), Path.of("/job/1"), 7L,
+            Direction.BACKWARD, 10));
+  }
+
+  @Test
+  void testGetJobLogPageLocal(@TempDir final Path jobRoot) throws IOException {
+    final Path logPath = Files.writeString(jobRoot.resolve(LogClientSingleton.LOG_FILENAME), "line 1\nline 2\nline 3\n");
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.DOCKER);
+
+    assertEquals(new LogPage(List.of("line 1", "line 2"), 0, 14, 21),
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), logPath, null,
+            Direction.FORWARD, 2));
+    assertEquals(new LogPage(List.of("line 3"), 14, 21, 21),
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), logPath, null,
+            Direction.BACKWARD, 1));
+    verifyNoInteractions(mockLogClient);
+  }
+
+  @Test
+  void testGetJobLogPageMissingFile(@TempDir final Path jobRoot) throws IOException {
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.DOCKER);
+
+    assertEquals(LogPage.EMPTY,
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(),
+            jobRoot.resolve(LogClientSingleton.LOG_FILENAME), null, Direction.BACKWARD, 10));
+  }
+
 }
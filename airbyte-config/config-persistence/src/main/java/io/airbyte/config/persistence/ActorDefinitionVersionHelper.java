@@ -6,6 +6,7 @@ package io.airbyte.config.persistence;
 
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.ReleaseStage;
 import io.airbyte.config.SourceConnection;
@@ -13,6 +14,7 @@ import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider;
+import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider.ActorVersionContext;
 import io.airbyte.featureflag.EnableConfigurationOverrideProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.UseActorScopedDefaultVersions;
@@ -27,6 +29,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import kotlin.Pair;
 import org.slf4j.Logger;
@@ -49,6 +53,8 @@ public class ActorDefinitionVersionHelper {
    */
   public record ActorDefinitionVersionWithOverrideStatus(ActorDefinitionVersion actorDefinitionVersion, boolean isOverrideApplied) {}
 
+  private record ActorWithDefaultVersion(UUID actorId, UUID workspaceId, @Nullable UUID defaultVersionId) {}
+
   private static final Logger LOGGER = LoggerFactory.getLogger(ActorDefinitionVersionHelper.class);
 
   private final ConfigRepository configRepository;
@@ -175,6 +181,26 @@ public class ActorDefinitionVersionHelper {
     return getSourceVersion(sourceDefinition, workspaceId, null);
   }
 
+  /**
+   * Get the actor definition versions to use for sources of the same definition, and whether an
+   * override was applied. Versions and overrides are resolved with a few queries shared by all the
+   * sources, instead of a few queries per source.
+   *
+   * @param sourceDefinition source definition
+   * @param sources sources of the definition
+   * @return actor definition versions with override status, by source id
+   */
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getSourceVersionsWithOverrideStatus(final StandardSourceDefinition sourceDefinition,
+                                                                                                 final List<SourceConnection> sources)
+      throws ConfigNotFoundException, IOException {
+    return getVersionsWithOverrideStatus(
+        ActorType.SOURCE,
+        sourceDefinition.getSourceDefinitionId(),
+        sourceDefinition.getDefaultVersionId(),
+        sources.stream().map(source -> new ActorWithDefaultVersion(source.getSourceId(), source.getWorkspaceId(), source.getDefaultVersionId()))
+            .toList());
+  }
+
   /**
    * Get the actor definition version to use for a destination, and whether an override was applied.
    *
@@ -240,6 +266,84 @@ public class ActorDefinitionVersionHelper {
     return getDestinationVersion(destinationDefinition, workspaceId, null);
   }
 
+  /**
+   * Get the actor definition versions to use for destinations of the same definition, and whether an
+   * override was applied. Versions and overrides are resolved with a few queries shared by all the
+   * destinations, instead of a few queries per destination.
+   *
+   * @param destinationDefinition destination definition
+   * @param destinations destinations of the definition
+   * @return actor definition versions with override status, by destination id
+   */
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getDestinationVersionsWithOverrideStatus(final StandardDestinationDefinition destinationDefinition,
+                                                                                                      final List<DestinationConnection> destinations)
+      throws ConfigNotFoundException, IOException {
+    return getVersionsWithOverrideStatus(
+        ActorType.DESTINATION,
+        destinationDefinition.getDestinationDefinitionId(),
+        destinationDefinition.getDefaultVersionId(),
+        destinations.stream()
+            .map(destination -> new ActorWithDefaultVersion(destination.getDestinationId(), destination.getWorkspaceId(),
+                destination.getDefaultVersionId()))
+            .toList());
+  }
+
+  private Map<UUID, ActorDefinitionVersionWithOverrideStatus> getVersionsWithOverrideStatus(final ActorType actorType,
+                                                                                           final UUID actorDefinitionId,
+                                                                                           @Nullable final UUID definitionDefaultVersionId,
+                                                                                           final List<ActorWithDefaultVersion> actors)
+      throws ConfigNotFoundException, IOException {
+    if (actors.isEmpty()) {
+      return Map.of();
+    }
+
+    // flags are evaluated once per workspace rather than once per actor
+    final Map<UUID, Boolean> actorScopedDefaultVersionsByWorkspace = new HashMap<>();
+    final Map<UUID, Boolean> configurationOverridesByWorkspace = new HashMap<>();
+
+    final Map<UUID, UUID> defaultVersionIdsByActorId = new HashMap<>();
+    for (final ActorWithDefaultVersion actor : actors) {
+      final boolean useActorScopedDefaultVersion = actorScopedDefaultVersionsByWorkspace.computeIfAbsent(actor.workspaceId(),
+          workspaceId -> featureFlagClient.boolVariation(UseActorScopedDefaultVersions.INSTANCE, new Workspace(workspaceId)));
+      final UUID versionId = useActorScopedDefaultVersion ? actor.defaultVersionId() : definitionDefaultVersionId;
+      if (versionId == null) {
+        throw new RuntimeException(String.format("Default version for %s is not set (Definition ID: %s, Actor ID: %s)",
+            actorType.value(), actorDefinitionId, actor.actorId()));
+      }
+      defaultVersionIdsByActorId.put(actor.actorId(), versionId);
+    }
+
+    final List<UUID> defaultVersionIds = defaultVersionIdsByActorId.values().stream().distinct().toList();
+    final Map<UUID, ActorDefinitionVersion> defaultVersionsById = configRepository.getActorDefinitionVersions(defaultVersionIds).stream()
+        .collect(Collectors.toMap(ActorDefinitionVersion::getVersionId, Function.identity()));
+    for (final UUID versionId : defaultVersionIds) {
+      if (!defaultVersionsById.containsKey(versionId)) {
+        throw new ConfigNotFoundException(ConfigSchema.ACTOR_DEFINITION_VERSION, versionId);
+      }
+    }
+
+    final List<ActorVersionContext> contexts = actors.stream()
+        .map(actor -> new ActorVersionContext(actor.actorId(), actor.workspaceId(),
+            defaultVersionsById.get(defaultVersionIdsByActorId.get(actor.actorId()))))
+        .toList();
+
+    final Map<UUID, ActorDefinitionVersion> overrides = new HashMap<>(configOverrideProvider.getOverrides(actorType, actorDefinitionId,
+        contexts.stream()
+            .filter(context -> configurationOverridesByWorkspace.computeIfAbsent(context.workspaceId(),
+                workspaceId -> featureFlagClient.boolVariation(EnableConfigurationOverrideProvider.INSTANCE, new Workspace(workspaceId))))
+            .toList()));
+    overrides.putAll(ffOverrideProvider.getOverrides(actorType, actorDefinitionId,
+        contexts.stream().filter(context -> !overrides.containsKey(context.actorId())).toList()));
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> versions = new HashMap<>();
+    for (final ActorVersionContext context : contexts) {
+      final ActorDefinitionVersion override = overrides.get(context.actorId());
+      versions.put(context.actorId(),
+          new ActorDefinitionVersionWithOverrideStatus(override != null ? override : context.defaultVersion(), override != null));
+    }
+    return versions;
+  }
+
   /**
    * Helper method to share eligibility logic for free connector program. Checks if either the source
    * or destination is in alpha or beta status.
@@ -44,6 +44,7 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -1636,6 +1637,56 @@ public class ConfigRepository {
     return workspaceService.getWorkspaceHasAlphaOrBetaConnector(workspaceId);
   }
 
+  /**
+   * Get the workspaces of several sources in a single query, without loading their configuration.
+   *
+   * @param sourceIds source ids
+   * @return workspace id by source id. Sources that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public Map<UUID, UUID> getWorkspaceIdsForSourceIds(final Collection<UUID> sourceIds) throws IOException {
+    return workspaceService.getWorkspaceIdsForSourceIds(sourceIds);
+  }
+
+  /**
+   * Get the workspaces of several destinations in a single query, without loading their
+   * configuration.
+   *
+   * @param destinationIds destination ids
+   * @return workspace id by destination id. Destinations that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public Map<UUID, UUID> getWorkspaceIdsForDestinationIds(final Collection<UUID> destinationIds) throws IOException {
+    return workspaceService.getWorkspaceIdsForDestinationIds(destinationIds);
+  }
+
+  /**
+   * Get the workspaces of several connections in a single query, without loading their catalog.
+   *
+   * @param connectionIds connection ids
+   * @return workspace id by connection id. Connections that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public Map<UUID, UUID> getWorkspaceIdsForConnectionIds(final Collection<UUID> connectionIds) throws IOException {
+    return workspaceService.getWorkspaceIdsForConnectionIds(connectionIds);
+  }
+
+  /**
+   * Get the organizations of several workspaces in a single query.
+   *
+   * @param workspaceIds workspace ids
+   * @return organization id by workspace id. Workspaces that are not in an organization, tombstoned
+   *         or that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public Map<UUID, UUID> getOrganizationIdsForWorkspaceIds(final Collection<UUID> workspaceIds) throws IOException {
+    return workspaceService.getOrganizationIdsForWorkspaceIds(workspaceIds);
+  }
+
   /**
    * Specialized query for efficiently determining a connection's eligibility for the Free Connector
    * Program. If a connection has at least one Alpha or Beta connector, it will be free to use as long
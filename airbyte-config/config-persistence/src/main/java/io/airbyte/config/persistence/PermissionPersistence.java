@@ -21,6 +21,7 @@ import io.airbyte.db.ExceptionWrappingDatabase;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -339,6 +340,36 @@ public class PermissionPersistence {
     return Enums.toEnum(jooqPermissionType.getLiteral(), PermissionType.class).get();
   }
 
+  /**
+   * List the permissions of an auth user that apply to any of the given workspaces or organizations,
+   * in a single query. Instance admin permissions are always included since they apply to every
+   * scope.
+   *
+   * @param authUserId the auth user id
+   * @param workspaceIds the workspaces to look up, may be empty
+   * @param organizationIds the organizations to look up, may be empty
+   * @return the matching permissions, with their type and the workspace or organization they apply to
+   * @throws IOException in case of a db error
+   */
+  public List<Permission> listPermissionsForAuthUser(final String authUserId,
+                                                     final Collection<UUID> workspaceIds,
+                                                     final Collection<UUID> organizationIds)
+      throws IOException {
+    return this.database.query(ctx -> ctx.select(PERMISSION.ID, PERMISSION.PERMISSION_TYPE, PERMISSION.USER_ID, PERMISSION.WORKSPACE_ID,
+        PERMISSION.ORGANIZATION_ID)
+        .from(PERMISSION)
+        .join(AUTH_USER)
+        .on(PERMISSION.USER_ID.eq(AUTH_USER.USER_ID))
+        .where(AUTH_USER.AUTH_USER_ID.eq(authUserId))
+        .and(PERMISSION.WORKSPACE_ID.in(workspaceIds)
+            .or(PERMISSION.ORGANIZATION_ID.in(organizationIds))
+            .or(PERMISSION.PERMISSION_TYPE.eq(io.airbyte.db.instance.configs.jooq.generated.enums.PermissionType.instance_admin)))
+        .fetch())
+        .stream()
+        .map(this::createPermissionFromRecord)
+        .collect(Collectors.toList());
+  }
+
   private List<UserPermission> listPermissionsForWorkspace(final DSLContext ctx, final UUID workspaceId) {
     final var records = ctx.select(USER.ID, USER.NAME, USER.EMAIL, USER.DEFAULT_WORKSPACE_ID, PERMISSION.ID, PERMISSION.PERMISSION_TYPE)
         .from(PERMISSION)
@@ -7,6 +7,7 @@ package io.airbyte.config.persistence.version_overrides;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
 import io.airbyte.config.ConfigResourceType;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ConfigScopeType;
 import io.airbyte.config.ScopedConfiguration;
 import io.airbyte.config.StandardWorkspace;
@@ -19,10 +20,15 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.Nullable;
 
 @Singleton
@@ -90,4 +96,92 @@ public class ConfigurationDefinitionVersionOverrideProvider implements Definitio
     return Optional.empty();
   }
 
+  /**
+   * Resolves the overrides of all the actors with a query per scope type, instead of a query per scope
+   * type and actor.
+   */
+  @Override
+  public Map<UUID, ActorDefinitionVersion> getOverrides(final ActorType actorType,
+                                                        final UUID actorDefinitionId,
+                                                        final List<ActorVersionContext> actors) {
+    if (actors.isEmpty()) {
+      return Map.of();
+    }
+
+    final List<UUID> workspaceIds = actors.stream().map(ActorVersionContext::workspaceId).distinct().toList();
+    final Map<UUID, UUID> organizationIdsByWorkspaceId = new HashMap<>();
+    try {
+      for (final StandardWorkspace workspace : workspaceService.listStandardWorkspacesWithIds(workspaceIds, true)) {
+        if (workspace.getOrganizationId() != null) {
+          organizationIdsByWorkspaceId.put(workspace.getWorkspaceId(), workspace.getOrganizationId());
+        }
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    final Map<ConfigScopeType, Map<UUID, ScopedConfiguration>> configsByScope = Map.of(
+        ConfigScopeType.ACTOR, listScopedConfigs(actorDefinitionId, ConfigScopeType.ACTOR,
+            actors.stream().map(ActorVersionContext::actorId).filter(Objects::nonNull).toList()),
+        ConfigScopeType.WORKSPACE, listScopedConfigs(actorDefinitionId, ConfigScopeType.WORKSPACE, workspaceIds),
+        ConfigScopeType.ORGANIZATION, listScopedConfigs(actorDefinitionId, ConfigScopeType.ORGANIZATION,
+            organizationIdsByWorkspaceId.values().stream().distinct().toList()));
+
+    final Map<UUID, ScopedConfiguration> configsByActorId = new HashMap<>();
+    for (final ActorVersionContext actor : actors) {
+      final Map<ConfigScopeType, UUID> scopes = new HashMap<>(Map.of(ConfigScopeType.WORKSPACE, actor.workspaceId()));
+      if (organizationIdsByWorkspaceId.containsKey(actor.workspaceId())) {
+        scopes.put(ConfigScopeType.ORGANIZATION, organizationIdsByWorkspaceId.get(actor.workspaceId()));
+      }
+      if (actor.actorId() != null) {
+        scopes.put(ConfigScopeType.ACTOR, actor.actorId());
+      }
+
+      // scopes are evaluated in the priority order of the key, like for a single actor
+      ConnectorVersionKey.INSTANCE.getSupportedScopes().stream()
+          .filter(scopes::containsKey)
+          .map(scope -> configsByScope.get(scope).get(scopes.get(scope)))
+          .filter(Objects::nonNull)
+          .findFirst()
+          .ifPresent(config -> configsByActorId.put(actor.actorId(), config));
+    }
+
+    final Map<UUID, ActorDefinitionVersion> versionsById = getVersions(configsByActorId.values());
+    final Map<UUID, ActorDefinitionVersion> overrides = new HashMap<>();
+    configsByActorId.forEach((actorId, config) -> {
+      final UUID versionId = UUID.fromString(config.getValue());
+      if (!versionsById.containsKey(versionId)) {
+        throw new RuntimeException(new ConfigNotFoundException(ConfigSchema.ACTOR_DEFINITION_VERSION, versionId));
+      }
+      overrides.put(actorId, versionsById.get(versionId));
+    });
+    return overrides;
+  }
+
+  private Map<UUID, ScopedConfiguration> listScopedConfigs(final UUID actorDefinitionId, final ConfigScopeType scopeType, final List<UUID> scopeIds) {
+    if (scopeIds.isEmpty()) {
+      return Map.of();
+    }
+    return scopedConfigurationService.listScopedConfigurationsWithScopes(
+        ConnectorVersionKey.INSTANCE.getKey(),
+        ConfigResourceType.ACTOR_DEFINITION,
+        actorDefinitionId,
+        scopeType,
+        scopeIds).stream()
+        .collect(Collectors.toMap(ScopedConfiguration::getScopeId, Function.identity()));
+  }
+
+  private Map<UUID, ActorDefinitionVersion> getVersions(final Collection<ScopedConfiguration> configs) {
+    if (configs.isEmpty()) {
+      return Map.of();
+    }
+    try {
+      final List<UUID> versionIds = configs.stream().map(config -> UUID.fromString(config.getValue())).distinct().toList();
+      return actorDefinitionService.getActorDefinitionVersions(versionIds).stream()
+          .collect(Collectors.toMap(ActorDefinitionVersion::getVersionId, Function.identity()));
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
 }
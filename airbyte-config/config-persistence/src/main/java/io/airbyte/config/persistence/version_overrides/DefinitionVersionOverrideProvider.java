@@ -6,6 +6,9 @@ package io.airbyte.config.persistence.version_overrides;
 
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import javax.annotation.Nullable;
@@ -17,10 +20,39 @@ import javax.annotation.Nullable;
  */
 public interface DefinitionVersionOverrideProvider {
 
+  /**
+   * An actor to get the override of, along with its workspace and default version.
+   *
+   * @param actorId - actor id
+   * @param workspaceId - workspace of the actor
+   * @param defaultVersion - default version of the actor
+   */
+  record ActorVersionContext(UUID actorId, UUID workspaceId, ActorDefinitionVersion defaultVersion) {}
+
   Optional<ActorDefinitionVersion> getOverride(final ActorType actorType,
                                                final UUID actorDefinitionId,
                                                final UUID workspaceId,
                                                @Nullable final UUID actorId,
                                                final ActorDefinitionVersion defaultVersion);
 
+  /**
+   * Get the overrides of several actors of the same definition. Providers reading their overrides
+   * from the database should share their queries across the actors.
+   *
+   * @param actorType - type of the actors
+   * @param actorDefinitionId - definition of the actors
+   * @param actors - actors to get the overrides of
+   * @return overrides by actor id, for the actors that have one
+   */
+  default Map<UUID, ActorDefinitionVersion> getOverrides(final ActorType actorType,
+                                                         final UUID actorDefinitionId,
+                                                         final List<ActorVersionContext> actors) {
+    final Map<UUID, ActorDefinitionVersion> overrides = new HashMap<>();
+    for (final ActorVersionContext actor : actors) {
+      getOverride(actorType, actorDefinitionId, actor.workspaceId(), actor.actorId(), actor.defaultVersion())
+          .ifPresent(override -> overrides.put(actor.actorId(), override));
+    }
+    return overrides;
+  }
+
 }
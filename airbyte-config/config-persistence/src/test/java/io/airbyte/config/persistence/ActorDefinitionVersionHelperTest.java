@@ -29,6 +29,7 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper.ActorDefinitio
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.config.persistence.version_overrides.ConfigurationDefinitionVersionOverrideProvider;
 import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider;
+import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider.ActorVersionContext;
 import io.airbyte.featureflag.EnableConfigurationOverrideProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
@@ -221,6 +222,34 @@ class ActorDefinitionVersionHelperTest {
     verifyNoInteractions(mFFOverrideProvider);
   }
 
+  @Test
+  void testGetSourceVersionsWithOverrideStatus() throws ConfigNotFoundException, IOException {
+    final UUID overriddenSourceId = UUID.randomUUID();
+    final SourceConnection source = new SourceConnection().withSourceId(ACTOR_ID).withWorkspaceId(WORKSPACE_ID);
+    final SourceConnection overriddenSource = new SourceConnection().withSourceId(overriddenSourceId).withWorkspaceId(WORKSPACE_ID_2);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+
+    final List<ActorVersionContext> contexts = List.of(
+        new ActorVersionContext(ACTOR_ID, WORKSPACE_ID, DEFAULT_VERSION),
+        new ActorVersionContext(overriddenSourceId, WORKSPACE_ID_2, DEFAULT_VERSION));
+    when(mConfigRepository.getActorDefinitionVersions(List.of(DEFAULT_VERSION_ID))).thenReturn(List.of(DEFAULT_VERSION));
+    when(mConfigOverrideProvider.getOverrides(ActorType.SOURCE, ACTOR_DEFINITION_ID, contexts))
+        .thenReturn(Map.of(overriddenSourceId, OVERRIDDEN_VERSION));
+    when(mFFOverrideProvider.getOverrides(ActorType.SOURCE, ACTOR_DEFINITION_ID, List.of(contexts.get(0)))).thenReturn(Map.of());
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> versions =
+        actorDefinitionVersionHelper.getSourceVersionsWithOverrideStatus(sourceDefinition, List.of(source, overriddenSource));
+
+    assertEquals(Map.of(
+        ACTOR_ID, new ActorDefinitionVersionWithOverrideStatus(DEFAULT_VERSION, false),
+        overriddenSourceId, new ActorDefinitionVersionWithOverrideStatus(OVERRIDDEN_VERSION, true)), versions);
+    verify(mConfigRepository).getActorDefinitionVersions(List.of(DEFAULT_VERSION_ID));
+    verify(mConfigOverrideProvider).getOverrides(ActorType.SOURCE, ACTOR_DEFINITION_ID, contexts);
+    verify(mFFOverrideProvider).getOverrides(ActorType.SOURCE, ACTOR_DEFINITION_ID, List.of(contexts.get(0)));
+  }
+
   @Test
   void testGetDestinationVersion() throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardDestinationDefinition destinationDefinition = new StandardDestinationDefinition()
@@ -869,6 +869,26 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertEquals(MockData.ACTOR_CATALOG_ID_3, result.get(MockData.SOURCE_ID_2).getActorCatalogId());
   }
 
+  @Test
+  void testWriteActorCatalogFetchEventPrunesSupersededEvents() throws IOException, SQLException {
+    final AirbyteCatalog firstCatalog = CatalogHelpers.createAirbyteCatalog("clothes", Field.of("name", JsonSchemaType.STRING));
+    final AirbyteCatalog secondCatalog = CatalogHelpers.createAirbyteCatalog("clothes", Field.of("size", JsonSchemaType.NUMBER));
+    final String otherConfigHash = "OtherConfigHash";
+
+    configRepository.writeActorCatalogFetchEvent(firstCatalog, MockData.SOURCE_ID_1, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    configRepository.writeActorCatalogFetchEvent(firstCatalog, MockData.SOURCE_ID_1, DOCKER_IMAGE_TAG, otherConfigHash);
+    final UUID latestCatalogId =
+        configRepository.writeActorCatalogFetchEvent(secondCatalog, MockData.SOURCE_ID_1, DOCKER_IMAGE_TAG, CONFIG_HASH);
+
+    final int fetchEvents = database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG_FETCH_EVENT)
+        .where(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID.eq(MockData.SOURCE_ID_1))).fetchOne().into(int.class);
+    assertEquals(2, fetchEvents);
+    assertEquals(latestCatalogId, configRepository.getActorCatalog(MockData.SOURCE_ID_1, DOCKER_IMAGE_TAG, CONFIG_HASH).get().getId());
+    assertTrue(configRepository.getActorCatalog(MockData.SOURCE_ID_1, DOCKER_IMAGE_TAG, otherConfigHash).isPresent());
+    assertEquals(latestCatalogId,
+        configRepository.getMostRecentActorCatalogFetchEventForSources(List.of(MockData.SOURCE_ID_1)).get(MockData.SOURCE_ID_1).getActorCatalogId());
+  }
+
   @Test
   void testGetActorDefinitionsInUseToProtocolVersion() throws IOException {
     final Set<UUID> actorDefinitionIds = new HashSet<>();
@@ -27,6 +27,7 @@ import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -143,6 +144,22 @@ class OrganizationPersistenceTest extends BaseConfigDatabaseTest {
     assertTrue(result.isEmpty());
   }
 
+  @Test
+  void getOrganizationIdsForWorkspaceIds() throws IOException, JsonValidationException {
+    // org 1 has a live and a tombstoned workspace, the second workspace does not belong to an org
+    final List<StandardWorkspace> workspaces = MockData.standardWorkspaces();
+    workspaces.get(0).setOrganizationId(MockData.ORGANIZATION_ID_1);
+    workspaces.get(2).setOrganizationId(MockData.ORGANIZATION_ID_1);
+    for (final StandardWorkspace workspace : workspaces) {
+      workspaceService.writeStandardWorkspaceNoSecrets(workspace);
+    }
+
+    final Map<UUID, UUID> result = workspaceService.getOrganizationIdsForWorkspaceIds(
+        List.of(MockData.WORKSPACE_ID_1, MockData.WORKSPACE_ID_2, MockData.WORKSPACE_ID_3, UUID.randomUUID()));
+    assertEquals(Map.of(MockData.WORKSPACE_ID_1, MockData.ORGANIZATION_ID_1), result);
+    assertTrue(workspaceService.getOrganizationIdsForWorkspaceIds(List.of()).isEmpty());
+  }
+
   @Test
   void getSsoConfigForOrganization() throws Exception {
     final Optional<SsoConfig> result = organizationPersistence.getSsoConfigForOrganization(MockData.ORGANIZATION_ID_1);
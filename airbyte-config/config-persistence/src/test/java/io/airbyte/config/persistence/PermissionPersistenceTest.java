@@ -31,6 +31,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.jooq.exception.DataAccessException;
 import org.junit.jupiter.api.Assertions;
@@ -185,6 +186,22 @@ class PermissionPersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertEquals(PermissionType.ORGANIZATION_READER, permissionType);
   }
 
+  @Test
+  void listPermissionsForAuthUserTest() throws Exception {
+    final List<Permission> permissions = permissionPersistence.listPermissionsForAuthUser(MockData.CREATOR_USER_ID_5.toString(),
+        List.of(MockData.WORKSPACE_ID_1, MockData.WORKSPACE_ID_2), List.of(MockData.ORGANIZATION_ID_2));
+    Assertions.assertEquals(Set.of(MockData.permission6, MockData.permission7), Set.copyOf(permissions));
+
+    final List<Permission> workspacePermissions = permissionPersistence.listPermissionsForAuthUser(MockData.CREATOR_USER_ID_5.toString(),
+        List.of(MockData.WORKSPACE_ID_2), List.of());
+    Assertions.assertEquals(List.of(MockData.permission6), workspacePermissions);
+
+    // instance admin permissions apply to every scope
+    final List<Permission> instanceAdminPermissions = permissionPersistence.listPermissionsForAuthUser(MockData.CREATOR_USER_ID_1.toString(),
+        List.of(MockData.WORKSPACE_ID_2), List.of(MockData.ORGANIZATION_ID_2));
+    Assertions.assertEquals(List.of(MockData.permission1), instanceAdminPermissions);
+  }
+
   @Test
   void listPermissionsForOrganizationTest() throws Exception {
     final List<UserPermission> actualPermissions = permissionPersistence.listPermissionsForOrganization(MockData.ORGANIZATION_ID_1);
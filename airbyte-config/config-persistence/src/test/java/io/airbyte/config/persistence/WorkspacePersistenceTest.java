@@ -17,11 +17,15 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.AuthProvider;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.Geography;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.Organization;
 import io.airbyte.config.Permission;
 import io.airbyte.config.Permission.PermissionType;
 import io.airbyte.config.ReleaseStage;
 import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.NonBreakingChangesPreference;
+import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardWorkspace;
@@ -36,6 +40,7 @@ import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.data.services.impls.jooq.ActorDefinitionServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.CatalogServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.ConnectionServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.ConnectorBuilderServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.DestinationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OAuthServiceJooqImpl;
@@ -49,6 +54,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -288,6 +294,44 @@ class WorkspacePersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(expectation, configRepository.getWorkspaceHasAlphaOrBetaConnector(WORKSPACE_ID));
   }
 
+  @Test
+  void testGetWorkspaceIdsForActorsAndConnections() throws JsonValidationException, IOException {
+    configRepository.writeStandardWorkspaceNoSecrets(createBaseStandardWorkspace());
+    configRepository.writeConnectorMetadata(
+        createSourceDefinition(),
+        createActorDefinitionVersion(SOURCE_DEFINITION_ID, ReleaseStage.GENERALLY_AVAILABLE));
+    configRepository.writeConnectorMetadata(
+        createDestinationDefinition(),
+        createActorDefinitionVersion(DESTINATION_DEFINITION_ID, ReleaseStage.GENERALLY_AVAILABLE));
+    configRepository.writeSourceConnectionNoSecrets(createBaseSource());
+    configRepository.writeDestinationConnectionNoSecrets(createBaseDestination());
+    final UUID connectionId = UUID.randomUUID();
+    new ConnectionServiceJooqImpl(database).writeStandardSync(new StandardSync()
+        .withConnectionId(connectionId)
+        .withSourceId(SOURCE_ID)
+        .withDestinationId(DESTINATION_ID)
+        .withName("connection-a")
+        .withManual(true)
+        .withNamespaceDefinition(NamespaceDefinitionType.SOURCE)
+        .withStatus(Status.ACTIVE)
+        .withGeography(Geography.AUTO)
+        .withNonBreakingChangesPreference(NonBreakingChangesPreference.IGNORE)
+        .withBackfillPreference(StandardSync.BackfillPreference.DISABLED)
+        .withNotifySchemaChanges(false)
+        .withNotifySchemaChangesByEmail(false)
+        .withBreakingChange(false));
+    final UUID unknownId = UUID.randomUUID();
+
+    // ids of the other actor type are left out along with unknown ones
+    assertEquals(Map.of(SOURCE_ID, WORKSPACE_ID),
+        workspaceService.getWorkspaceIdsForSourceIds(List.of(SOURCE_ID, DESTINATION_ID, unknownId)));
+    assertEquals(Map.of(DESTINATION_ID, WORKSPACE_ID),
+        workspaceService.getWorkspaceIdsForDestinationIds(List.of(SOURCE_ID, DESTINATION_ID, unknownId)));
+    assertEquals(Map.of(connectionId, WORKSPACE_ID),
+        workspaceService.getWorkspaceIdsForConnectionIds(List.of(connectionId, unknownId)));
+    assertTrue(workspaceService.getWorkspaceIdsForConnectionIds(List.of()).isEmpty());
+  }
+
   @Test
   void testListWorkspacesInOrgNoKeyword() throws Exception {
 
@@ -7,6 +7,7 @@ package io.airbyte.config.persistence.version_overrides;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -29,6 +30,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.ScopedConfigurationService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider.ActorVersionContext;
 import io.airbyte.data.services.shared.ConnectorVersionKey;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
@@ -229,4 +231,55 @@ class ConfigurationDefinitionVersionOverrideProviderTest {
     verifyNoMoreInteractions(mScopedConfigurationService, mActorDefinitionService);
   }
 
+  @Test
+  void testGetOverridesUsesScopePriority() throws IOException {
+    final UUID otherWorkspaceId = UUID.randomUUID();
+    final UUID noOrganizationWorkspaceId = UUID.randomUUID();
+    final UUID workspaceActorId = UUID.randomUUID();
+    final UUID organizationActorId = UUID.randomUUID();
+    final UUID noOverrideActorId = UUID.randomUUID();
+    final ActorDefinitionVersion actorVersion = Jsons.clone(OVERRIDE_VERSION).withVersionId(UUID.randomUUID());
+    final ActorDefinitionVersion workspaceVersion = Jsons.clone(OVERRIDE_VERSION).withVersionId(UUID.randomUUID());
+    final ActorDefinitionVersion organizationVersion = Jsons.clone(OVERRIDE_VERSION).withVersionId(UUID.randomUUID());
+
+    when(mWorkspaceService.listStandardWorkspacesWithIds(List.of(WORKSPACE_ID, otherWorkspaceId, noOrganizationWorkspaceId), true))
+        .thenReturn(List.of(
+            new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withOrganizationId(ORGANIZATION_ID),
+            new StandardWorkspace().withWorkspaceId(otherWorkspaceId).withOrganizationId(ORGANIZATION_ID),
+            new StandardWorkspace().withWorkspaceId(noOrganizationWorkspaceId)));
+    when(mScopedConfigurationService.listScopedConfigurationsWithScopes(ConnectorVersionKey.INSTANCE.getKey(), ConfigResourceType.ACTOR_DEFINITION,
+        ACTOR_DEFINITION_ID, ConfigScopeType.ACTOR, List.of(ACTOR_ID, workspaceActorId, organizationActorId, noOverrideActorId)))
+            .thenReturn(List.of(versionConfig(ConfigScopeType.ACTOR, ACTOR_ID, actorVersion)));
+    when(mScopedConfigurationService.listScopedConfigurationsWithScopes(ConnectorVersionKey.INSTANCE.getKey(), ConfigResourceType.ACTOR_DEFINITION,
+        ACTOR_DEFINITION_ID, ConfigScopeType.WORKSPACE, List.of(WORKSPACE_ID, otherWorkspaceId, noOrganizationWorkspaceId)))
+            .thenReturn(List.of(versionConfig(ConfigScopeType.WORKSPACE, WORKSPACE_ID, workspaceVersion)));
+    when(mScopedConfigurationService.listScopedConfigurationsWithScopes(ConnectorVersionKey.INSTANCE.getKey(), ConfigResourceType.ACTOR_DEFINITION,
+        ACTOR_DEFINITION_ID, ConfigScopeType.ORGANIZATION, List.of(ORGANIZATION_ID)))
+            .thenReturn(List.of(versionConfig(ConfigScopeType.ORGANIZATION, ORGANIZATION_ID, organizationVersion)));
+    when(mActorDefinitionService.getActorDefinitionVersions(any()))
+        .thenReturn(List.of(actorVersion, workspaceVersion, organizationVersion));
+
+    final Map<UUID, ActorDefinitionVersion> overrides = overrideProvider.getOverrides(ActorType.SOURCE, ACTOR_DEFINITION_ID, List.of(
+        new ActorVersionContext(ACTOR_ID, WORKSPACE_ID, DEFAULT_VERSION),
+        new ActorVersionContext(workspaceActorId, WORKSPACE_ID, DEFAULT_VERSION),
+        new ActorVersionContext(organizationActorId, otherWorkspaceId, DEFAULT_VERSION),
+        new ActorVersionContext(noOverrideActorId, noOrganizationWorkspaceId, DEFAULT_VERSION)));
+
+    // actor overrides take priority over workspace ones, which take priority over organization ones
+    assertEquals(Map.of(
+        ACTOR_ID, actorVersion,
+        workspaceActorId, workspaceVersion,
+        organizationActorId, organizationVersion), overrides);
+  }
+
+  private static ScopedConfiguration versionConfig(final ConfigScopeType scopeType, final UUID scopeId, final ActorDefinitionVersion version) {
+    return new ScopedConfiguration()
+        .withId(UUID.randomUUID())
+        .withScopeType(scopeType)
+        .withScopeId(scopeId)
+        .withResourceType(ConfigResourceType.ACTOR_DEFINITION)
+        .withResourceId(ACTOR_DEFINITION_ID)
+        .withValue(version.getVersionId().toString());
+  }
+
 }
@@ -6,6 +6,9 @@ package io.airbyte.config.init;
 
 import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -23,6 +26,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
@@ -31,11 +35,16 @@ import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,8 +68,26 @@ public class ApplyDefinitionsHelper {
   private final MetricClient metricClient;
   private int newConnectorCount;
   private int changedConnectorCount;
+  // hashes of the registry entries applied by previous runs, used to skip rewriting unchanged
+  // definitions on every run of the cron
+  private final Map<UUID, HashCode> appliedDefinitionHashes = new ConcurrentHashMap<>();
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplyDefinitionsHelper.class);
 
+  private record DefinitionProcessed(String dockerRepository, String dockerImageTag, DefinitionProcessingOutcome outcome) {}
+
+  /**
+   * Writes collected while processing the definitions of a type, so that they are applied together
+   * rather than in a transaction per definition.
+   */
+  private static final class DefinitionWrites<T> {
+
+    private final List<ConnectorMetadata<T>> connectorMetadata = new ArrayList<>();
+    private final List<T> definitions = new ArrayList<>();
+    private final Map<UUID, HashCode> definitionHashes = new HashMap<>();
+    private final List<DefinitionProcessed> definitionsProcessed = new ArrayList<>();
+
+  }
+
   public ApplyDefinitionsHelper(@Named("seedDefinitionsProvider") final DefinitionsProvider definitionsProvider,
                                 final JobPersistence jobPersistence,
                                 final ActorDefinitionService actorDefinitionService,
@@ -82,7 +109,9 @@ public class ApplyDefinitionsHelper {
   }
 
   /**
-   * Apply the latest definitions from the provider to the repository.
+   * Apply the latest definitions from the provider to the repository. Changes are written in a
+   * transaction per connector type, and definitions whose registry entry has not changed since the
+   * previous run are not rewritten.
    *
    * @param updateAll - Whether we should overwrite all stored definitions. If true, we do not
    *        consider whether a definition is in use before updating the definition and default
@@ -106,12 +135,32 @@ public class ApplyDefinitionsHelper {
     newConnectorCount = 0;
     changedConnectorCount = 0;
 
+    final DefinitionWrites<StandardSourceDefinition> sourceWrites = new DefinitionWrites<>();
     for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, sourceWrites);
     }
+    final DefinitionWrites<StandardDestinationDefinition> destinationWrites = new DefinitionWrites<>();
     for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, destinationWrites);
+    }
+
+    if (!sourceWrites.connectorMetadata.isEmpty()) {
+      sourceService.writeConnectorMetadata(sourceWrites.connectorMetadata);
     }
+    if (!sourceWrites.definitions.isEmpty()) {
+      sourceService.updateStandardSourceDefinitions(sourceWrites.definitions);
+    }
+    if (!destinationWrites.connectorMetadata.isEmpty()) {
+      destinationService.writeConnectorMetadata(destinationWrites.connectorMetadata);
+    }
+    if (!destinationWrites.definitions.isEmpty()) {
+      destinationService.updateStandardDestinationDefinitions(destinationWrites.definitions);
+    }
+    appliedDefinitionHashes.putAll(sourceWrites.definitionHashes);
+    appliedDefinitionHashes.putAll(destinationWrites.definitionHashes);
+    Stream.concat(sourceWrites.definitionsProcessed.stream(), destinationWrites.definitionsProcessed.stream())
+        .forEach(processed -> trackDefinitionProcessed(processed.dockerRepository(), processed.dockerImageTag(), processed.outcome()));
+
     supportStateUpdater.updateSupportStates();
 
     LOGGER.info("New connectors added: {}", newConnectorCount);
@@ -121,8 +170,8 @@ public class ApplyDefinitionsHelper {
   private void applySourceDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                      final ConnectorRegistrySourceDefinition newDef,
                                      final Set<UUID> actorDefinitionIdsInUse,
-                                     final boolean updateAll)
-      throws IOException, JsonValidationException, ConfigNotFoundException {
+                                     final boolean updateAll,
+                                     final DefinitionWrites<StandardSourceDefinition> writes) {
     // Skip and log if unable to parse registry entry.
     final StandardSourceDefinition newSourceDef;
     final ActorDefinitionVersion newADV;
@@ -138,12 +187,15 @@ public class ApplyDefinitionsHelper {
       return;
     }
 
+    final HashCode definitionHash = hashDefinition(newDef);
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newSourceDef.getSourceDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
-      sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newSourceDef, newADV, breakingChangesForDef));
       newConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
+      writes.definitionHashes.put(newSourceDef.getSourceDefinitionId(), definitionHash);
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED));
       return;
     }
 
@@ -155,20 +207,25 @@ public class ApplyDefinitionsHelper {
       LOGGER.info("Updating default version for connector {}: {} -> {}", currentDefaultADV.getDockerRepository(),
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
-      sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newSourceDef, newADV, breakingChangesForDef));
       changedConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED));
     } else {
-      sourceService.updateStandardSourceDefinition(newSourceDef);
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
+      if (!definitionHash.equals(appliedDefinitionHashes.get(newSourceDef.getSourceDefinitionId()))) {
+        writes.definitions.add(newSourceDef);
+      }
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED));
     }
+    writes.definitionHashes.put(newSourceDef.getSourceDefinitionId(), definitionHash);
   }
 
   private void applyDestinationDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                           final ConnectorRegistryDestinationDefinition newDef,
                                           final Set<UUID> actorDefinitionIdsInUse,
-                                          final boolean updateAll)
-      throws IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+                                          final boolean updateAll,
+                                          final DefinitionWrites<StandardDestinationDefinition> writes) {
     // Skip and log if unable to parse registry entry.
     final StandardDestinationDefinition newDestinationDef;
     final ActorDefinitionVersion newADV;
@@ -184,12 +241,15 @@ public class ApplyDefinitionsHelper {
       return;
     }
 
+    final HashCode definitionHash = hashDefinition(newDef);
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newDestinationDef.getDestinationDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
-      destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newDestinationDef, newADV, breakingChangesForDef));
       newConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
+      writes.definitionHashes.put(newDestinationDef.getDestinationDefinitionId(), definitionHash);
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED));
       return;
     }
 
@@ -201,14 +261,18 @@ public class ApplyDefinitionsHelper {
       LOGGER.info("Updating default version for connector {}: {} -> {}", currentDefaultADV.getDockerRepository(),
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
-      destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newDestinationDef, newADV, breakingChangesForDef));
       changedConnectorCount++;
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED));
     } else {
-      destinationService.updateStandardDestinationDefinition(newDestinationDef);
-      trackDefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(), DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
+      if (!definitionHash.equals(appliedDefinitionHashes.get(newDestinationDef.getDestinationDefinitionId()))) {
+        writes.definitions.add(newDestinationDef);
+      }
+      writes.definitionsProcessed.add(new DefinitionProcessed(newDef.getDockerRepository(), newDef.getDockerImageTag(),
+          DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED));
     }
-
+    writes.definitionHashes.put(newDestinationDef.getDestinationDefinitionId(), definitionHash);
   }
 
   private boolean getShouldUpdateActorDefinitionDefaultVersion(final ActorDefinitionVersion currentDefaultADV,
@@ -256,6 +320,10 @@ public class ApplyDefinitionsHelper {
     }).toList();
   }
 
+  private static HashCode hashDefinition(final Object registryDefinition) {
+    return Hashing.sha256().hashString(Jsons.serialize(registryDefinition), StandardCharsets.UTF_8);
+  }
+
   private boolean isProtocolVersionSupported(final AirbyteProtocolVersionRange protocolVersionRange, final String protocolVersion) {
     return protocolVersionRange.isSupported(AirbyteProtocolVersion.getWithDefault(protocolVersion));
   }
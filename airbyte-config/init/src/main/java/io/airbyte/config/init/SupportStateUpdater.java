@@ -167,13 +167,16 @@ public class SupportStateUpdater {
     final List<ActorDefinitionBreakingChange> allBreakingChanges = actorDefinitionService.listBreakingChanges();
     final Map<UUID, List<ActorDefinitionBreakingChange>> breakingChangesMap = allBreakingChanges.stream()
         .collect(Collectors.groupingBy(ActorDefinitionBreakingChange::getActorDefinitionId));
+    final Map<UUID, List<ActorDefinitionVersion>> versionsMap = listActorDefinitionVersionsForDefinitions(Stream.concat(
+        sourceDefinitions.stream().map(StandardSourceDefinition::getSourceDefinitionId),
+        destinationDefinitions.stream().map(StandardDestinationDefinition::getDestinationDefinitionId)).toList());
 
     SupportStateUpdate comboSupportStateUpdate = new SupportStateUpdate(List.of(), List.of(), List.of());
     final List<BreakingChangeNotificationData> notificationData = new ArrayList<>();
 
     for (final StandardSourceDefinition sourceDefinition : sourceDefinitions) {
       final List<ActorDefinitionVersion> actorDefinitionVersions =
-          actorDefinitionService.listActorDefinitionVersionsForDefinition(sourceDefinition.getSourceDefinitionId());
+          versionsMap.getOrDefault(sourceDefinition.getSourceDefinitionId(), List.of());
       final Version currentDefaultVersion = getVersionTag(actorDefinitionVersions, sourceDefinition.getDefaultVersionId());
       final List<ActorDefinitionBreakingChange> breakingChangesForDef =
           breakingChangesMap.getOrDefault(sourceDefinition.getSourceDefinitionId(), List.of());
@@ -196,7 +199,7 @@ public class SupportStateUpdater {
 
     for (final StandardDestinationDefinition destinationDefinition : destinationDefinitions) {
       final List<ActorDefinitionVersion> actorDefinitionVersions =
-          actorDefinitionService.listActorDefinitionVersionsForDefinition(destinationDefinition.getDestinationDefinitionId());
+          versionsMap.getOrDefault(destinationDefinition.getDestinationDefinitionId(), List.of());
       final Version currentDefaultVersion = getVersionTag(actorDefinitionVersions, destinationDefinition.getDefaultVersionId());
       final List<ActorDefinitionBreakingChange> breakingChangesForDef =
           breakingChangesMap.getOrDefault(destinationDefinition.getDestinationDefinitionId(), List.of());
@@ -313,6 +316,18 @@ public class SupportStateUpdater {
     executeSupportStateUpdate(supportStateUpdate);
   }
 
+  /**
+   * Lists the versions of all the given definitions with a single query, grouped by definition.
+   */
+  private Map<UUID, List<ActorDefinitionVersion>> listActorDefinitionVersionsForDefinitions(final List<UUID> actorDefinitionIds)
+      throws IOException {
+    if (actorDefinitionIds.isEmpty()) {
+      return Map.of();
+    }
+    return actorDefinitionService.listActorDefinitionVersionsForDefinitions(actorDefinitionIds).stream()
+        .collect(Collectors.groupingBy(ActorDefinitionVersion::getActorDefinitionId));
+  }
+
   private Version getVersionTag(final List<ActorDefinitionVersion> actorDefinitionVersions, final UUID versionId) {
     return actorDefinitionVersions.stream()
         .filter(actorDefinitionVersion -> actorDefinitionVersion.getVersionId().equals(versionId))
@@ -21,6 +21,8 @@ import io.airbyte.config.BreakingChanges;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import io.airbyte.config.ConnectorReleases;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.VersionBreakingChange;
 import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.DefinitionProcessingFailureReason;
@@ -30,6 +32,7 @@ import io.airbyte.config.specs.DefinitionsProvider;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
@@ -132,6 +135,18 @@ class ApplyDefinitionsHelperTest {
     when(actorDefinitionService.getActorDefinitionIdsToDefaultVersionsMap()).thenReturn(seededDefinitionsAndDefaultVersions);
   }
 
+  private static ConnectorMetadata<StandardSourceDefinition> sourceMetadata(final ConnectorRegistrySourceDefinition def) {
+    return new ConnectorMetadata<>(ConnectorRegistryConverters.toStandardSourceDefinition(def),
+        ConnectorRegistryConverters.toActorDefinitionVersion(def),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def));
+  }
+
+  private static ConnectorMetadata<StandardDestinationDefinition> destinationMetadata(final ConnectorRegistryDestinationDefinition def) {
+    return new ConnectorMetadata<>(ConnectorRegistryConverters.toStandardDestinationDefinition(def),
+        ConnectorRegistryConverters.toActorDefinitionVersion(def),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def));
+  }
+
   private void verifyActorDefinitionServiceInteractions() throws IOException {
     verify(actorDefinitionService).getActorDefinitionIdsToDefaultVersionsMap();
     verify(actorDefinitionService).getActorDefinitionIdsInUse();
@@ -147,14 +162,8 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyActorDefinitionServiceInteractions();
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3));
+    verify(sourceService).writeConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES)));
+    verify(destinationService).writeConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3)));
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
             CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -182,14 +191,8 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyActorDefinitionServiceInteractions();
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(sourceService).writeConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)));
+    verify(destinationService).writeConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)));
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
             CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -217,14 +220,8 @@ class ApplyDefinitionsHelperTest {
     verifyActorDefinitionServiceInteractions();
 
     if (updateAll) {
-      verify(sourceService).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-      verify(destinationService).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+      verify(sourceService).writeConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)));
+      verify(destinationService).writeConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)));
       List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
           dockerRepo -> verify(metricClient, times(1)).count(
               CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -234,8 +231,9 @@ class ApplyDefinitionsHelperTest {
               new MetricAttribute("docker_repository", dockerRepo),
               new MetricAttribute("docker_image_tag", UPDATED_CONNECTOR_VERSION)));
     } else {
-      verify(sourceService).updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2));
-      verify(destinationService).updateStandardDestinationDefinition(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2));
+      verify(sourceService).updateStandardSourceDefinitions(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)));
+      verify(destinationService)
+          .updateStandardDestinationDefinitions(List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)));
       verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
           new MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
     }
@@ -244,6 +242,26 @@ class ApplyDefinitionsHelperTest {
     verifyNoMoreInteractions(actorDefinitionService, sourceService, destinationService, supportStateUpdater, metricClient);
   }
 
+  @Test
+  void testUnchangedDefinitionsAreNotRewritten()
+      throws IOException, JsonValidationException, ConfigNotFoundException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    mockSeedInitialDefinitions();
+    when(actorDefinitionService.getActorDefinitionIdsInUse()).thenReturn(Set.of(POSTGRES_ID, S3_ID));
+
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES_2));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3_2));
+
+    applyDefinitionsHelper.apply();
+    applyDefinitionsHelper.apply();
+
+    // the definitions are only written by the first run, as the registry entries did not change since
+    verify(sourceService).updateStandardSourceDefinitions(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)));
+    verify(destinationService)
+        .updateStandardDestinationDefinitions(List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)));
+    verify(supportStateUpdater, times(2)).updateSupportStates();
+    verifyNoMoreInteractions(sourceService, destinationService, supportStateUpdater);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {false, true})
   void testDefinitionsFiltering(final boolean updateAll)
@@ -270,23 +288,8 @@ class ApplyDefinitionsHelperTest {
             new MetricAttribute("docker_repository", dockerRepo),
             new MetricAttribute("docker_image_tag", INITIAL_CONNECTOR_VERSION)));
 
-    verify(sourceService, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(postgresWithOldProtocolVersion));
-    verify(destinationService, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(s3withOldProtocolVersion));
-
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(sourceService).writeConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)));
+    verify(destinationService).writeConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)));
     verify(supportStateUpdater).updateSupportStates();
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
@@ -331,22 +334,9 @@ class ApplyDefinitionsHelperTest {
             new MetricAttribute("docker_repository", dockerRepo),
             new MetricAttribute("docker_image_tag", "a-non-semantic-version-for-example")));
 
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
-    verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3));
-    verify(sourceService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(anotherNewSourceDefinition),
-        ConnectorRegistryConverters.toActorDefinitionVersion(anotherNewSourceDefinition),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(anotherNewSourceDefinition));
+    verify(sourceService).writeConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES), sourceMetadata(anotherNewSourceDefinition)));
     verify(destinationService).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(anotherNewDestinationDefinition),
-        ConnectorRegistryConverters.toActorDefinitionVersion(anotherNewDestinationDefinition),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(anotherNewDestinationDefinition));
+        List.of(destinationMetadata(DESTINATION_S3), destinationMetadata(anotherNewDestinationDefinition)));
     verify(supportStateUpdater).updateSupportStates();
     List.of("airbyte/source-postgres", "airbyte/destination-s3", "airbyte/source-new", "airbyte/destination-new").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
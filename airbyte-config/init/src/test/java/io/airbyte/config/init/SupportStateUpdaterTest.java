@@ -186,10 +186,8 @@ class SupportStateUpdaterTest {
     when(mSourceService.listPublicSourceDefinitions(false)).thenReturn(List.of(sourceDefinition));
     when(mDestinationService.listPublicDestinationDefinitions(false)).thenReturn(List.of(destinationDefinition));
     when(mActorDefinitionService.listBreakingChanges()).thenReturn(List.of(SRC_BC_1_0_0, DEST_BC_1_0_0));
-    when(mActorDefinitionService.listActorDefinitionVersionsForDefinition(ACTOR_DEFINITION_ID))
-        .thenReturn(List.of(SRC_V0_1_0, SRC_V1_0_0));
-    when(mActorDefinitionService.listActorDefinitionVersionsForDefinition(destinationDefinitionId))
-        .thenReturn(List.of(DEST_V0_1_0, DEST_V1_0_0));
+    when(mActorDefinitionService.listActorDefinitionVersionsForDefinitions(List.of(ACTOR_DEFINITION_ID, destinationDefinitionId)))
+        .thenReturn(List.of(SRC_V0_1_0, SRC_V1_0_0, DEST_V0_1_0, DEST_V1_0_0));
     when(mActorDefinitionService.getActorDefinitionVersion(DEST_V1_0_0.getVersionId())).thenReturn(DEST_V1_0_0);
 
     final List<UUID> workspaceIdsToNotify = List.of(UUID.randomUUID(), UUID.randomUUID());
@@ -209,8 +207,7 @@ class SupportStateUpdaterTest {
     verify(mSourceService).listPublicSourceDefinitions(false);
     verify(mDestinationService).listPublicDestinationDefinitions(false);
     verify(mActorDefinitionService).listBreakingChanges();
-    verify(mActorDefinitionService).listActorDefinitionVersionsForDefinition(ACTOR_DEFINITION_ID);
-    verify(mActorDefinitionService).listActorDefinitionVersionsForDefinition(destinationDefinitionId);
+    verify(mActorDefinitionService).listActorDefinitionVersionsForDefinitions(List.of(ACTOR_DEFINITION_ID, destinationDefinitionId));
     verify(mActorDefinitionService).getActorDefinitionVersion(DEST_V1_0_0.getVersionId());
     verify(mActorDefinitionVersionHelper).getActiveWorkspaceSyncsWithDestinationVersionIds(destinationDefinition,
         List.of(DEST_V0_1_0.getVersionId()));
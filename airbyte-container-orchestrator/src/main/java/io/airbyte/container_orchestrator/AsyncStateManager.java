@@ -6,6 +6,7 @@ package io.airbyte.container_orchestrator;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.workers.process.AsyncKubePodStatus;
+import io.airbyte.workers.process.AsyncOrchestratorPodProcess;
 import io.airbyte.workers.process.KubePodInfo;
 import io.airbyte.workers.storage.DocumentStoreClient;
 import jakarta.inject.Named;
@@ -21,11 +22,17 @@ import org.slf4j.LoggerFactory;
  * <p>
  * It doesn't have a single value for a state. Instead, in a location on cloud storage or disk, it
  * writes every state it's encountered.
+ * <p>
+ * It also writes the latest state to a single status manifest, so that readers can learn the state
+ * with one read instead of probing every state.
  */
 @Singleton
 public class AsyncStateManager {
 
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+  private static final List<AsyncKubePodStatus> TERMINAL_STATUSES = List.of(
+      AsyncKubePodStatus.FAILED,
+      AsyncKubePodStatus.SUCCEEDED);
   private static final List<AsyncKubePodStatus> STATUS_CHECK_ORDER = List.of(
       // terminal states first
       AsyncKubePodStatus.FAILED,
@@ -50,6 +57,8 @@ public class AsyncStateManager {
     final var key = getDocumentStoreKey(status);
     log.info("Writing async status {} for {}...", status, kubePodInfo);
     documentStoreClient.write(key, value);
+    // written after the state document, so that the output is available once the manifest says so
+    documentStoreClient.write(getStatusManifestKey(), status.name());
   }
 
   /**
@@ -62,11 +71,26 @@ public class AsyncStateManager {
   /**
    * Interprets the state given all written state messages for the pod.
    * <p>
-   * Checks terminal states first, then running, then initialized. Defaults to not started.
+   * Reads the status manifest if there is one. Otherwise, checks terminal states first, then running, then initialized. Defaults to not started.
+   * <p>
+   * A terminal state document is written before the manifest, so a non-terminal manifest is only
+   * trusted if there is no terminal state document: the pod may have died in between the two writes.
    * <p>
    * The order matters here!
    */
   public AsyncKubePodStatus getStatus() {
+    final var manifest = documentStoreClient.read(getStatusManifestKey());
+    if (manifest.isPresent()) {
+      final var status = AsyncKubePodStatus.valueOf(manifest.get().trim());
+      if (TERMINAL_STATUSES.contains(status)) {
+        return status;
+      }
+      return TERMINAL_STATUSES.stream()
+          .filter(this::statusFileExists)
+          .findFirst()
+          .orElse(status);
+    }
+
     return STATUS_CHECK_ORDER.stream()
         .filter(this::statusFileExists)
         .findFirst()
@@ -96,6 +120,11 @@ public class AsyncStateManager {
     return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + status.name();
   }
 
+  @VisibleForTesting
+  String getStatusManifestKey() {
+    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + AsyncOrchestratorPodProcess.STATUS_MANIFEST;
+  }
+
   private boolean statusFileExists(final AsyncKubePodStatus status) {
     final var key = getDocumentStoreKey(status);
     return documentStoreClient.read(key).isPresent();
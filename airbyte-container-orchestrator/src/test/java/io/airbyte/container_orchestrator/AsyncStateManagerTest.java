@@ -7,8 +7,10 @@ package io.airbyte.container_orchestrator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.workers.process.AsyncKubePodStatus;
@@ -52,6 +54,32 @@ class AsyncStateManagerTest {
 
     final var key = stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED);
     verify(documentStore, times(1)).write(key, OUTPUT);
+    verify(documentStore, times(1)).write(stateManager.getStatusManifestKey(), AsyncKubePodStatus.SUCCEEDED.name());
+  }
+
+  @Test
+  void testStatusRetrievalFromManifest() {
+    when(documentStore.read(stateManager.getStatusManifestKey())).thenReturn(Optional.of(AsyncKubePodStatus.SUCCEEDED.name()));
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, stateManager.getStatus());
+
+    // a terminal manifest is the only document read
+    verify(documentStore, times(1)).read(stateManager.getStatusManifestKey());
+    verifyNoMoreInteractions(documentStore);
+  }
+
+  @Test
+  void testNonTerminalManifestIsCheckedAgainstTerminalStatuses() {
+    when(documentStore.read(stateManager.getStatusManifestKey())).thenReturn(Optional.of(AsyncKubePodStatus.RUNNING.name()));
+    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.FAILED))).thenReturn(Optional.empty());
+    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED))).thenReturn(Optional.empty());
+    assertEquals(AsyncKubePodStatus.RUNNING, stateManager.getStatus());
+
+    // the pod died after writing its output but before updating the manifest
+    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED))).thenReturn(Optional.of(OUTPUT));
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, stateManager.getStatus());
+
+    // the running state document is never needed
+    verify(documentStore, never()).read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.RUNNING));
   }
 
   @Test
@@ -42,6 +42,8 @@ public interface ActorDefinitionService {
 
   List<ActorDefinitionVersion> listActorDefinitionVersionsForDefinition(UUID actorDefinitionId) throws IOException;
 
+  List<ActorDefinitionVersion> listActorDefinitionVersionsForDefinitions(List<UUID> actorDefinitionIds) throws IOException;
+
   List<ActorDefinitionVersion> getActorDefinitionVersions(List<UUID> actorDefinitionVersionIds) throws IOException;
 
   void setActorDefaultVersion(UUID actorId, UUID actorDefinitionVersionId) throws IOException;
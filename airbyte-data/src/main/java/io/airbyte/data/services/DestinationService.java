@@ -9,6 +9,8 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -42,6 +44,8 @@ public interface DestinationService {
   void updateStandardDestinationDefinition(StandardDestinationDefinition destinationDefinition)
       throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardDestinationDefinitions(List<StandardDestinationDefinition> destinationDefinitions) throws IOException;
+
   DestinationConnection getDestinationConnection(UUID destinationId) throws JsonValidationException, IOException, ConfigNotFoundException;
 
   void writeDestinationConnectionNoSecrets(DestinationConnection partialDestination) throws IOException;
@@ -52,6 +56,8 @@ public interface DestinationService {
 
   List<DestinationConnection> listWorkspacesDestinationConnections(ResourcesQueryPaginated resourcesQueryPaginated) throws IOException;
 
+  List<DestinationConnection> searchDestinationConnections(ActorSearchQuery actorSearchQuery) throws IOException;
+
   List<DestinationConnection> listDestinationsForDefinition(UUID definitionId) throws IOException;
 
   List<DestinationAndDefinition> getDestinationAndDefinitionsFromDestinationIds(List<UUID> destinationIds) throws IOException;
@@ -67,6 +73,8 @@ public interface DestinationService {
                               final List<ActorDefinitionBreakingChange> breakingChangesForDefinition)
       throws IOException;
 
+  void writeConnectorMetadata(final List<ConnectorMetadata<StandardDestinationDefinition>> connectorMetadata) throws IOException;
+
   List<DestinationConnection> listDestinationsWithVersionIds(final List<UUID> actorDefinitionVersionIds) throws IOException;
 
   DestinationConnection getDestinationConnectionWithSecrets(UUID destinationId) throws JsonValidationException, ConfigNotFoundException, IOException;
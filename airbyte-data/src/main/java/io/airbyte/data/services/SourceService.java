@@ -9,6 +9,8 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -39,6 +41,8 @@ public interface SourceService {
 
   void updateStandardSourceDefinition(StandardSourceDefinition sourceDefinition) throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardSourceDefinitions(List<StandardSourceDefinition> sourceDefinitions) throws IOException;
+
   SourceConnection getSourceConnection(UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException;
 
   void writeSourceConnectionNoSecrets(SourceConnection partialSource) throws IOException;
@@ -51,6 +55,8 @@ public interface SourceService {
 
   List<SourceConnection> listWorkspacesSourceConnections(ResourcesQueryPaginated resourcesQueryPaginated) throws IOException;
 
+  List<SourceConnection> searchSourceConnections(ActorSearchQuery actorSearchQuery) throws IOException;
+
   List<SourceConnection> listSourcesForDefinition(UUID definitionId) throws IOException;
 
   List<SourceAndDefinition> getSourceAndDefinitionsFromSourceIds(List<UUID> sourceIds) throws IOException;
@@ -60,6 +66,8 @@ public interface SourceService {
                               final List<ActorDefinitionBreakingChange> breakingChangesForDefinition)
       throws IOException;
 
+  void writeConnectorMetadata(final List<ConnectorMetadata<StandardSourceDefinition>> connectorMetadata) throws IOException;
+
   void writeCustomConnectorMetadata(final StandardSourceDefinition sourceDefinition,
                                     final ActorDefinitionVersion defaultVersion,
                                     final UUID scopeId,
@@ -12,7 +12,9 @@ import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -69,6 +71,14 @@ public interface WorkspaceService {
 
   Optional<UUID> getOrganizationIdFromWorkspaceId(UUID scopeId) throws IOException;
 
+  Map<UUID, UUID> getOrganizationIdsForWorkspaceIds(Collection<UUID> workspaceIds) throws IOException;
+
+  Map<UUID, UUID> getWorkspaceIdsForSourceIds(Collection<UUID> sourceIds) throws IOException;
+
+  Map<UUID, UUID> getWorkspaceIdsForDestinationIds(Collection<UUID> destinationIds) throws IOException;
+
+  Map<UUID, UUID> getWorkspaceIdsForConnectionIds(Collection<UUID> connectionIds) throws IOException;
+
   StandardWorkspace getWorkspaceWithSecrets(UUID workspaceId, boolean includeTombstone)
       throws JsonValidationException, IOException, ConfigNotFoundException;
 
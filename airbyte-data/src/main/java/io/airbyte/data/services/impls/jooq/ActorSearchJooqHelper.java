@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.impls.jooq;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR;
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_DEFINITION;
+import static org.jooq.impl.DSL.noCondition;
+
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.db.instance.configs.jooq.generated.enums.ActorType;
+import java.util.UUID;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SelectSeekStep2;
+
+/**
+ * Helper class for searching actors, which is the same regardless of whether we are searching
+ * sources or destinations.
+ */
+public class ActorSearchJooqHelper {
+
+  private ActorSearchJooqHelper() {}
+
+  /**
+   * Search the non-tombstoned actors of a type matching the criteria of the query. Actors are
+   * ordered by name, then id, so that pages are stable.
+   *
+   * @param ctx database context
+   * @param actorType type of the actors to search
+   * @param query search criteria and page
+   * @return records of the matching actors
+   */
+  public static Result<Record> searchActors(final DSLContext ctx, final ActorType actorType, final ActorSearchQuery query) {
+    final SelectSeekStep2<Record, String, UUID> select = ctx.select(ACTOR.asterisk())
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION).on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ACTOR_TYPE.eq(actorType))
+        .andNot(ACTOR.TOMBSTONE)
+        .and(query.actorId() == null ? noCondition() : ACTOR.ID.eq(query.actorId()))
+        .and(query.actorDefinitionId() == null ? noCondition() : ACTOR.ACTOR_DEFINITION_ID.eq(query.actorDefinitionId()))
+        .and(query.workspaceId() == null ? noCondition() : ACTOR.WORKSPACE_ID.eq(query.workspaceId()))
+        .and(isBlank(query.name()) ? noCondition() : ACTOR.NAME.eq(query.name()))
+        .and(isBlank(query.actorDefinitionName()) ? noCondition() : ACTOR_DEFINITION.NAME.eq(query.actorDefinitionName()))
+        .orderBy(ACTOR.NAME, ACTOR.ID);
+
+    if (query.pageSize() == null) {
+      return select.fetch();
+    }
+    return select.limit(query.pageSize()).offset(query.rowOffset()).fetch();
+  }
+
+  private static boolean isBlank(final String value) {
+    return value == null || value.isBlank();
+  }
+
+}
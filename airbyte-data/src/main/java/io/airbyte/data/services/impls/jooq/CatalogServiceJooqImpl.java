@@ -188,12 +188,22 @@ public class CatalogServiceJooqImpl implements CatalogService {
           .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION, connectorVersion)
           .set(ACTOR_CATALOG_FETCH_EVENT.MODIFIED_AT, timestamp)
           .set(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, timestamp).execute();
+      // Older fetch events for the same actor, version and configuration are superseded by this one
+      // and are never read again, so they are pruned to keep the fetch event history bounded.
+      ctx.deleteFrom(ACTOR_CATALOG_FETCH_EVENT)
+          .where(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID.eq(actorId))
+          .and(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION.eq(connectorVersion))
+          .and(ACTOR_CATALOG_FETCH_EVENT.CONFIG_HASH.eq(configurationHash))
+          .and(ACTOR_CATALOG_FETCH_EVENT.ID.ne(fetchEventID))
+          .execute();
       return catalogId;
     });
   }
 
   /**
-   * Get most recent actor catalog fetch event for sources.
+   * Get most recent actor catalog fetch event for sources. The most recent event of each source is
+   * read from the (actor_id, created_at desc) index, so the cost of the lookup depends on the number
+   * of sources rather than on the number of fetch events they accumulated.
    *
    * @param sourceIds source ids
    * @return map of source id to the last actor catalog fetch event
@@ -209,16 +219,19 @@ public class CatalogServiceJooqImpl implements CatalogService {
     }
     return database.query(ctx -> ctx.fetch(
         """
-        select distinct actor_catalog_id, actor_id, created_at from
+        select fetch_event.actor_catalog_id, fetch_event.actor_id, fetch_event.created_at
+        from public.actor
+        cross join lateral
           (select
             actor_catalog_id,
             actor_id,
-            created_at,
-            row_number() over (partition by actor_id order by created_at desc) as creation_order_row_number
+            created_at
           from public.actor_catalog_fetch_event
-          where actor_id in ({0})
-          ) table_with_rank
-        where creation_order_row_number = 1;
+          where actor_catalog_fetch_event.actor_id = actor.id
+          order by created_at desc
+          limit 1
+          ) fetch_event
+        where actor.id in ({0});
         """,
         DSL.list(sourceIds.stream().map(DSL::value).collect(Collectors.toList()))))
         .stream().map(DbConverter::buildActorCatalogFetchEvent)
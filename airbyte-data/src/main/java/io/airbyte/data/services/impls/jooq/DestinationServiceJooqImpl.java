@@ -31,6 +31,8 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.db.Database;
@@ -245,6 +247,23 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Update several destination definitions in one transaction. The definitions must already exist.
+   *
+   * @param destinationDefinitions destination definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    if (destinationDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      writeStandardDestinationDefinition(destinationDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets.
    *
@@ -333,6 +352,19 @@ public class DestinationServiceJooqImpl implements DestinationService {
     return result.stream().map(DbConverter::buildDestinationConnection).collect(Collectors.toList());
   }
 
+  /**
+   * Returns the non-tombstoned destinations matching a search. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and page
+   * @return destinations
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public List<DestinationConnection> searchDestinationConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    final Result<Record> result = database.query(ctx -> ActorSearchJooqHelper.searchActors(ctx, ActorType.destination, actorSearchQuery));
+    return result.stream().map(DbConverter::buildDestinationConnection).collect(Collectors.toList());
+  }
+
   /**
    * Returns all active destinations using a definition.
    *
@@ -428,6 +460,26 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Write metadata for several destination connectors in one transaction, instead of a transaction per
+   * connector. See {@link #writeConnectorMetadata(StandardDestinationDefinition, ActorDefinitionVersion, List)}.
+   *
+   * @param connectorMetadata definitions, versions to set as default and breaking changes
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void writeConnectorMetadata(final List<ConnectorMetadata<StandardDestinationDefinition>> connectorMetadata) throws IOException {
+    if (connectorMetadata.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      for (final ConnectorMetadata<StandardDestinationDefinition> metadata : connectorMetadata) {
+        writeConnectorMetadata(metadata.definition(), metadata.actorDefinitionVersion(), metadata.breakingChanges(), ctx);
+      }
+      return null;
+    });
+  }
+
   /**
    * Returns all active destinations whose default_version_id is in a given list of version IDs.
    *
@@ -32,6 +32,8 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.db.Database;
@@ -249,6 +251,23 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Update several source definitions in one transaction. The definitions must already exist.
+   *
+   * @param sourceDefinitions source definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    if (sourceDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      writeStandardSourceDefinition(sourceDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Returns source with a given id. Does not contain secrets. To hydrate with secrets see { @link
    * SecretsRepositoryReader#getSourceConnectionWithSecrets(final UUID sourceId) }.
@@ -350,6 +369,19 @@ public class SourceServiceJooqImpl implements SourceService {
     return result.stream().map(DbConverter::buildSourceConnection).collect(Collectors.toList());
   }
 
+  /**
+   * Returns the non-tombstoned sources matching a search. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and page
+   * @return sources
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public List<SourceConnection> searchSourceConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    final Result<Record> result = database.query(ctx -> ActorSearchJooqHelper.searchActors(ctx, ActorType.source, actorSearchQuery));
+    return result.stream().map(DbConverter::buildSourceConnection).collect(Collectors.toList());
+  }
+
   /**
    * Returns all active sources using a definition.
    *
@@ -419,6 +451,26 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Write metadata for several source connectors in one transaction, instead of a transaction per
+   * connector. See {@link #writeConnectorMetadata(StandardSourceDefinition, ActorDefinitionVersion, List)}.
+   *
+   * @param connectorMetadata definitions, versions to set as default and breaking changes
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void writeConnectorMetadata(final List<ConnectorMetadata<StandardSourceDefinition>> connectorMetadata) throws IOException {
+    if (connectorMetadata.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      for (final ConnectorMetadata<StandardSourceDefinition> metadata : connectorMetadata) {
+        writeConnectorMetadata(metadata.definition(), metadata.actorDefinitionVersion(), metadata.breakingChanges(), ctx);
+      }
+      return null;
+    });
+  }
+
   @Override
   public void writeCustomConnectorMetadata(final StandardSourceDefinition sourceDefinition,
                                            final ActorDefinitionVersion defaultVersion,
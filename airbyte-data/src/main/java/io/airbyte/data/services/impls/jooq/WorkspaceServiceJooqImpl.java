@@ -53,8 +53,10 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -680,6 +682,83 @@ public class WorkspaceServiceJooqImpl implements WorkspaceService {
     return optionalRecord.map(Record1::value1);
   }
 
+  /**
+   * Get the organizations of several workspaces in a single query.
+   *
+   * @param workspaceIds workspace ids
+   * @return organization id by workspace id. Workspaces that are not in an organization, tombstoned
+   *         or that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public Map<UUID, UUID> getOrganizationIdsForWorkspaceIds(final Collection<UUID> workspaceIds) throws IOException {
+    if (workspaceIds.isEmpty()) {
+      return Map.of();
+    }
+    return database.query(ctx -> ctx.select(WORKSPACE.ID, WORKSPACE.ORGANIZATION_ID)
+        .from(WORKSPACE)
+        .where(WORKSPACE.ID.in(workspaceIds))
+        .and(WORKSPACE.TOMBSTONE.notEqual(true))
+        .and(WORKSPACE.ORGANIZATION_ID.isNotNull())
+        .fetchMap(WORKSPACE.ID, WORKSPACE.ORGANIZATION_ID));
+  }
+
+  /**
+   * Get the workspaces of several sources in a single query, without loading their configuration.
+   *
+   * @param sourceIds source ids
+   * @return workspace id by source id. Sources that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public Map<UUID, UUID> getWorkspaceIdsForSourceIds(final Collection<UUID> sourceIds) throws IOException {
+    return getWorkspaceIdsForActorIds(sourceIds, ActorType.source);
+  }
+
+  /**
+   * Get the workspaces of several destinations in a single query, without loading their
+   * configuration.
+   *
+   * @param destinationIds destination ids
+   * @return workspace id by destination id. Destinations that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public Map<UUID, UUID> getWorkspaceIdsForDestinationIds(final Collection<UUID> destinationIds) throws IOException {
+    return getWorkspaceIdsForActorIds(destinationIds, ActorType.destination);
+  }
+
+  /**
+   * Get the workspaces of several connections in a single query. The workspace of a connection is the
+   * one of its source, the catalog and operations of the connection are not loaded.
+   *
+   * @param connectionIds connection ids
+   * @return workspace id by connection id. Connections that do not exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public Map<UUID, UUID> getWorkspaceIdsForConnectionIds(final Collection<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Map.of();
+    }
+    return database.query(ctx -> ctx.select(CONNECTION.ID, ACTOR.WORKSPACE_ID)
+        .from(CONNECTION)
+        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+        .where(CONNECTION.ID.in(connectionIds))
+        .fetchMap(CONNECTION.ID, ACTOR.WORKSPACE_ID));
+  }
+
+  private Map<UUID, UUID> getWorkspaceIdsForActorIds(final Collection<UUID> actorIds, final ActorType actorType) throws IOException {
+    if (actorIds.isEmpty()) {
+      return Map.of();
+    }
+    return database.query(ctx -> ctx.select(ACTOR.ID, ACTOR.WORKSPACE_ID)
+        .from(ACTOR)
+        .where(ACTOR.ID.in(actorIds))
+        .and(ACTOR.ACTOR_TYPE.eq(actorType))
+        .fetchMap(ACTOR.ID, ACTOR.WORKSPACE_ID));
+  }
+
   /**
    * Get workspace with secrets.
    *
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import java.util.UUID;
+
+/**
+ * Query object for searching the non-tombstoned sources or destinations. Null or blank criteria
+ * match any actor.
+ *
+ * @param actorId id of the actor
+ * @param actorDefinitionId id of the definition of the actor
+ * @param workspaceId workspace of the actor
+ * @param name name of the actor
+ * @param actorDefinitionName name of the definition of the actor
+ * @param pageSize limit, or null to return all the matching actors
+ * @param rowOffset offset
+ */
+public record ActorSearchQuery(UUID actorId,
+                               UUID actorDefinitionId,
+                               UUID workspaceId,
+                               String name,
+                               String actorDefinitionName,
+                               Integer pageSize,
+                               int rowOffset) {
+
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.ActorDefinitionBreakingChange;
+import io.airbyte.config.ActorDefinitionVersion;
+import java.util.List;
+
+/**
+ * Metadata of a connector to write: its definition, the version to set as its default and its
+ * breaking changes. Used to write the metadata of several connectors at once.
+ *
+ * @param definition source or destination definition
+ * @param actorDefinitionVersion actor definition version, containing tag to set as default
+ * @param breakingChanges breaking changes for the definition
+ * @param <T> type of the definition
+ */
+public record ConnectorMetadata<T>(T definition,
+                                   ActorDefinitionVersion actorDefinitionVersion,
+                                   List<ActorDefinitionBreakingChange> breakingChanges) {
+
+}
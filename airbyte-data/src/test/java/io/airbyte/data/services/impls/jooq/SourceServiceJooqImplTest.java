@@ -27,6 +27,7 @@ import io.airbyte.config.secrets.SecretsRepositoryWriter;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.HeartbeatMaxSecondsBetweenMessages;
 import io.airbyte.featureflag.SourceDefinition;
@@ -36,9 +37,12 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -130,4 +134,54 @@ public class SourceServiceJooqImplTest extends BaseConfigDatabaseTest {
     verifyNoMoreInteractions(connectionService);
   }
 
+  @Test
+  void testSearchSourceConnections() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
+    jooqTestDbSetupHelper.setupForVersionUpgradeTest();
+    final SourceConnection source = jooqTestDbSetupHelper.getSource();
+    final UUID workspaceId = source.getWorkspaceId();
+    final UUID definitionId = source.getSourceDefinitionId();
+
+    final SourceConnection first = writeSource(workspaceId, definitionId, "a-source", false);
+    final SourceConnection second = writeSource(workspaceId, definitionId, "a-source", false);
+    final SourceConnection last = writeSource(workspaceId, definitionId, "b-source", false);
+    writeSource(workspaceId, definitionId, "a-source", true);
+
+    // ordered by name then id, without the tombstoned sources nor the actors of the other type
+    final List<UUID> sameNameIds = sortedIds(first, second);
+    final List<UUID> allIds = List.of(sameNameIds.get(0), sameNameIds.get(1), last.getSourceId(), source.getSourceId());
+    assertEquals(allIds, search(new ActorSearchQuery(null, null, workspaceId, null, null, null, 0)));
+
+    assertEquals(sameNameIds, search(new ActorSearchQuery(null, null, workspaceId, "a-source", null, null, 0)));
+    assertEquals(List.of(last.getSourceId()), search(new ActorSearchQuery(last.getSourceId(), null, null, null, null, null, 0)));
+    assertEquals(allIds, search(new ActorSearchQuery(null, definitionId, workspaceId, null, "Test source def", null, 0)));
+    assertEquals(List.of(), search(new ActorSearchQuery(null, null, workspaceId, null, "unknown definition", null, 0)));
+    assertEquals(List.of(), search(new ActorSearchQuery(null, null, UUID.randomUUID(), null, null, null, 0)));
+
+    // pages follow the same order
+    assertEquals(allIds.subList(0, 3), search(new ActorSearchQuery(null, null, workspaceId, null, null, 3, 0)));
+    assertEquals(allIds.subList(3, 4), search(new ActorSearchQuery(null, null, workspaceId, null, null, 3, 3)));
+  }
+
+  private SourceConnection writeSource(final UUID workspaceId, final UUID definitionId, final String name, final boolean tombstone)
+      throws IOException {
+    final SourceConnection source = new SourceConnection()
+        .withSourceId(UUID.randomUUID())
+        .withWorkspaceId(workspaceId)
+        .withSourceDefinitionId(definitionId)
+        .withName(name)
+        .withTombstone(tombstone);
+    sourceServiceJooqImpl.writeSourceConnectionNoSecrets(source);
+    return source;
+  }
+
+  private List<UUID> search(final ActorSearchQuery query) throws IOException {
+    return sourceServiceJooqImpl.searchSourceConnections(query).stream().map(SourceConnection::getSourceId).toList();
+  }
+
+  // postgres orders uuids by their bytes, which is the order of their string representation
+  private static List<UUID> sortedIds(final SourceConnection... sources) {
+    return Stream.of(sources).map(SourceConnection::getSourceId).sorted(Comparator.comparing(UUID::toString)).toList();
+  }
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add an index on the actor and creation time of catalog fetch events, so that the most recent
+ * fetch event of an actor is read from the index instead of sorting every fetch event of the actor.
+ */
+public class V0_50_41_008__AddActorCatalogFetchEventActorIdCreatedAtIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_41_008__AddActorCatalogFetchEventActorIdCreatedAtIndex.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists("actor_catalog_fetch_event_actor_id_created_at_idx")
+        .on(DSL.table("actor_catalog_fetch_event"), DSL.field("actor_id").asc(), DSL.field("created_at").desc())
+        .execute();
+  }
+
+}
@@ -370,6 +370,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKLOADS_CANCEL(MetricEmittingApps.CRON,
       "workload_cancel",
       "number of workloads canceled"),
+  WORKSPACE_HELPER_CACHE_HIT(MetricEmittingApps.SERVER,
+      "workspace_helper_cache_hit",
+      "number of workspace helper lookups served from its cache"),
+  WORKSPACE_HELPER_CACHE_MISS(MetricEmittingApps.SERVER,
+      "workspace_helper_cache_miss",
+      "number of workspace helper lookups that had to query the database"),
   NOTIFICATIONS_SENT(MetricEmittingApps.WORKER,
       "notifications_sent",
       "number of notifications sent"),
@@ -397,6 +403,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   JOB_OUTPUT_READ(MetricEmittingApps.WORKER,
       "job_output_read",
       "Read a job output from the output folder"),
+  WORKLOAD_TERMINAL_STATUS_DETECTION_LATENCY(MetricEmittingApps.WORKER,
+      "workload_terminal_status_detection_latency",
+      "Time in milliseconds between a workload reaching a terminal status and the worker waiting on it noticing"),
   SYNC_RECORD_CHECKSUM(MetricEmittingApps.ORCHESTRATOR,
       "sync_record_checksum",
       "Report the status of a record checksum"),
@@ -28,6 +28,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -112,23 +113,29 @@ public class CustomerioNotificationClient extends NotificationClient {
   }
 
   /**
-   * Customer.io has a rate limit of 10 requests per second for broadcasts. This interceptor will
-   * sleep for 10 seconds if a broadcast request fails with a 429 error.
+   * Customer.io has a rate limit of 10 requests per second for broadcasts. This interceptor retries
+   * a broadcast request that fails with a 429 error, after the delay requested by the Retry-After
+   * header if there is one, or after a jittered exponential backoff otherwise.
    */
   static class CampaignsRateLimitInterceptor implements Interceptor {
 
+    private static final int MAX_RETRIES = 5;
+    private static final long BASE_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 10000;
+
     @NotNull
     @Override
     public Response intercept(@NotNull final Chain chain) throws IOException {
       final Request request = chain.request();
       Response response = chain.proceed(request);
 
-      final int maxRetries = 5;
       int retryCount = 0;
-      while (retryCount < maxRetries && !response.isSuccessful() && response.code() == 429
+      while (retryCount < MAX_RETRIES && !response.isSuccessful() && response.code() == 429
           && request.url().pathSegments().contains(CAMPAIGNS_PATH_SEGMENT)) {
-        LOGGER.info("sleeping for 10s due to rate limit hit when sending broadcast...");
-        Exceptions.swallow(() -> Thread.sleep(10000));
+        final long backoffMillis = getBackoffMillis(response, retryCount);
+        response.close();
+        LOGGER.info("sleeping for {}ms due to rate limit hit when sending broadcast...", backoffMillis);
+        Exceptions.swallow(() -> Thread.sleep(backoffMillis));
         response = chain.proceed(request);
         retryCount++;
       }
@@ -136,6 +143,16 @@ public class CustomerioNotificationClient extends NotificationClient {
       return response;
     }
 
+    @VisibleForTesting
+    static long getBackoffMillis(final Response response, final int retryCount) {
+      final String retryAfter = response.header(HttpHeaders.RETRY_AFTER);
+      if (retryAfter != null && StringUtils.isNumeric(retryAfter)) {
+        return Math.min(MAX_BACKOFF_MILLIS, Long.parseLong(retryAfter) * 1000);
+      }
+      final long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << retryCount);
+      return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
   }
 
   @Override
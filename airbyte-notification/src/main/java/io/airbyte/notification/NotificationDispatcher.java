@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers notifications off the calling thread, so that the latency of job status updates does
+ * not depend on the notification endpoints.
+ *
+ * Notifications are queued per endpoint (a webhook URL, an email provider...) and the queue of an
+ * endpoint is drained as a batch by a single delivery at a time. A notification that is already
+ * pending for the same endpoint with the same coalescing key is dropped. When a delivery fails, the
+ * endpoint is retried later with a jittered exponential backoff instead of sleeping on a thread,
+ * and the notifications queued behind it wait for that retry. The number of notifications pending
+ * for an endpoint is bounded, so that a slow endpoint cannot take up the room of the others, and so
+ * is the number of notifications pending across all endpoints, so that many failing endpoints
+ * cannot pile up notifications either. Notifications dispatched once either bound is reached are
+ * dropped.
+ */
+public class NotificationDispatcher implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+  public static final int DEFAULT_CAPACITY = 100;
+  public static final int DEFAULT_MAX_PENDING = 1000;
+  public static final int DEFAULT_MAX_ATTEMPTS = 5;
+  public static final Duration DEFAULT_BASE_BACKOFF = Duration.ofSeconds(1);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(1);
+  private static final int DELIVERY_THREADS = 4;
+
+  private final int capacity;
+  private final int maxPending;
+  private final int maxAttempts;
+  private final Duration baseBackoff;
+  private final Duration maxBackoff;
+  private final ScheduledExecutorService executor;
+  private final Map<String, Endpoint> endpoints = new HashMap<>();
+  private int pending = 0;
+
+  public NotificationDispatcher() {
+    this(DEFAULT_CAPACITY, DEFAULT_MAX_PENDING, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_BACKOFF, DEFAULT_MAX_BACKOFF);
+  }
+
+  /**
+   * @param capacity - maximum number of notifications pending for a single endpoint
+   * @param maxPending - maximum number of notifications pending across all endpoints
+   * @param maxAttempts - number of delivery attempts before a notification is given up on
+   * @param baseBackoff - delay before the first retry of an endpoint
+   * @param maxBackoff - maximum delay between retries of an endpoint
+   */
+  public NotificationDispatcher(final int capacity,
+                                final int maxPending,
+                                final int maxAttempts,
+                                final Duration baseBackoff,
+                                final Duration maxBackoff) {
+    this.capacity = capacity;
+    this.maxPending = maxPending;
+    this.maxAttempts = maxAttempts;
+    this.baseBackoff = baseBackoff;
+    this.maxBackoff = maxBackoff;
+    final AtomicInteger threadCount = new AtomicInteger();
+    this.executor = Executors.newScheduledThreadPool(DELIVERY_THREADS, runnable -> {
+      final Thread thread = new Thread(runnable, "notification-dispatcher-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Queue a notification for delivery.
+   *
+   * @param endpoint - identifies where the notification is delivered to; notifications of the same
+   *        endpoint are delivered one at a time and back off together
+   * @param coalescingKey - notifications pending for the same endpoint with the same key are only
+   *        delivered once
+   * @param delivery - sends the notification, returns false or throws if it was not delivered
+   * @return true if the notification was queued, false if it was coalesced or dropped
+   */
+  public boolean dispatch(final String endpoint, final String coalescingKey, final Callable<Boolean> delivery) {
+    synchronized (this) {
+      final Endpoint existing = endpoints.get(endpoint);
+      if (existing != null && existing.isPending(coalescingKey)) {
+        LOGGER.info("Notification {} is already pending for this endpoint, skipping duplicate.", coalescingKey);
+        return false;
+      }
+      if (existing != null && existing.notifications.size() >= capacity) {
+        LOGGER.warn("Notification queue of the endpoint is full ({} pending), dropping notification {}.", existing.notifications.size(),
+            coalescingKey);
+        return false;
+      }
+      if (pending >= maxPending) {
+        LOGGER.warn("Notification queues are full ({} pending across all endpoints), dropping notification {}.", pending, coalescingKey);
+        return false;
+      }
+      final Endpoint queue = endpoints.computeIfAbsent(endpoint, Endpoint::new);
+      queue.notifications.add(new PendingNotification(coalescingKey, delivery));
+      pending++;
+      if (!queue.scheduled) {
+        queue.scheduled = true;
+        executor.execute(() -> drain(queue));
+      }
+      return true;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int pendingCount() {
+    return pending;
+  }
+
+  private void drain(final Endpoint endpoint) {
+    while (true) {
+      final PendingNotification notification;
+      synchronized (this) {
+        notification = endpoint.notifications.peek();
+        if (notification == null) {
+          endpoint.scheduled = false;
+          endpoints.remove(endpoint.name);
+          return;
+        }
+      }
+
+      if (!deliver(notification)) {
+        notification.attempts++;
+        if (notification.attempts < maxAttempts) {
+          final long delayMillis = backoffMillis(notification.attempts);
+          LOGGER.info("Failed to deliver notification {} (attempt {}/{}), retrying endpoint in {} ms.",
+              notification.coalescingKey, notification.attempts, maxAttempts, delayMillis);
+          executor.schedule(() -> drain(endpoint), delayMillis, TimeUnit.MILLISECONDS);
+          return;
+        }
+        LOGGER.error("Giving up on notification {} after {} attempts.", notification.coalescingKey, notification.attempts);
+      }
+
+      synchronized (this) {
+        endpoint.notifications.poll();
+        pending--;
+      }
+    }
+  }
+
+  private boolean deliver(final PendingNotification notification) {
+    try {
+      return Boolean.TRUE.equals(notification.delivery.call());
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to deliver notification {}.", notification.coalescingKey, e);
+      return false;
+    }
+  }
+
+  /**
+   * Exponential backoff, jittered so that endpoints failing together do not retry together.
+   */
+  private long backoffMillis(final int attempts) {
+    final long ceiling = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempts - 1, 20));
+    return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static final class Endpoint {
+
+    private final String name;
+    private final Queue<PendingNotification> notifications = new ArrayDeque<>();
+    private boolean scheduled = false;
+
+    private Endpoint(final String name) {
+      this.name = name;
+    }
+
+    private boolean isPending(final String coalescingKey) {
+      return notifications.stream().anyMatch(notification -> notification.coalescingKey.equals(coalescingKey));
+    }
+
+  }
+
+  private static final class PendingNotification {
+
+    private final String coalescingKey;
+    private final Callable<Boolean> delivery;
+    private int attempts = 0;
+
+    private PendingNotification(final String coalescingKey, final Callable<Boolean> delivery) {
+      this.coalescingKey = coalescingKey;
+      this.delivery = delivery;
+    }
+
+  }
+
+}
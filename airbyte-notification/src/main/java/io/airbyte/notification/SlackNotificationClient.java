@@ -48,6 +48,9 @@ public class SlackNotificationClient extends NotificationClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SlackNotificationClient.class);
   private static final String SLACK_CLIENT = "slack";
+  private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .build();
 
   private final SlackNotificationConfiguration config;
 
@@ -335,15 +338,12 @@ public class SlackNotificationClient extends NotificationClient {
       return false;
     }
     ObjectMapper mapper = new ObjectMapper();
-    final HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
     final HttpRequest request = HttpRequest.newBuilder()
         .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(node)))
         .uri(URI.create(config.getWebhook()))
         .header("Content-Type", "application/json")
         .build();
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
     if (isSuccessfulHttpResponse(response.statusCode())) {
       LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
       return true;
@@ -24,7 +24,28 @@ open class NotificationHandler(
   private val maybeWebhookNotificationSender: WebhookNotificationSender?,
   private val maybeCustomerIoNotificationSender: CustomerIoEmailNotificationSender?,
   private val maybeWorkspaceNotificationConfigFetcher: WorkspaceNotificationConfigFetcher?,
+  private val maybeNotificationDispatcher: NotificationDispatcher? = null,
 ) {
+  /**
+   * Deliver a notification through the dispatcher when there is one, so that the caller does not wait
+   * on the notification endpoint, or synchronously otherwise.
+   */
+  private fun deliver(
+    endpoint: String,
+    subject: String,
+    message: String,
+    send: () -> Unit,
+  ) {
+    if (maybeNotificationDispatcher == null) {
+      send()
+      return
+    }
+    maybeNotificationDispatcher.dispatch(endpoint, "$subject\n$message") {
+      send()
+      true
+    }
+  }
+
   /**
    * Send a notification with a subject and a message if a configuration is present
    */
@@ -38,13 +59,17 @@ open class NotificationHandler(
       runCatching {
         if (maybeWebhookConfigFetcher != null && maybeWebhookNotificationSender != null && notificationType == NotificationType.WEBHOOK) {
           maybeWebhookConfigFetcher.fetchConfig(connectionId)?.let {
-            maybeWebhookNotificationSender.sendNotification(it, title, message)
+            deliver("webhook:${it.webhookUrl}", title, message) {
+              maybeWebhookNotificationSender.sendNotification(it, title, message)
+            }
           }
         }
 
         if (maybeCustomerIoConfigFetcher != null && maybeCustomerIoNotificationSender != null && notificationType == NotificationType.CUSTOMERIO) {
           maybeCustomerIoConfigFetcher.fetchConfig(connectionId)?.let {
-            maybeCustomerIoNotificationSender.sendNotification(it, title, message)
+            deliver("customerio:${it.to}", title, message) {
+              maybeCustomerIoNotificationSender.sendNotification(it, title, message)
+            }
           }
         }
       }
@@ -69,26 +94,30 @@ open class NotificationHandler(
             WebhookConfig(
               notificationItem.slackConfiguration!!.webhook,
             )
-          maybeWebhookNotificationSender.sendNotification(webhookConfig, subject, message)
-          MetricClientFactory.getMetricClient().count(
-            OssMetricsRegistry.NOTIFICATIONS_SENT,
-            1,
-            MetricAttribute(MetricTags.NOTIFICATION_TRIGGER, notificationEvent.name),
-            MetricAttribute(MetricTags.NOTIFICATION_CLIENT, "slack"),
-          )
+          deliver("webhook:${webhookConfig.webhookUrl}", subject, message) {
+            maybeWebhookNotificationSender.sendNotification(webhookConfig, subject, message)
+            MetricClientFactory.getMetricClient().count(
+              OssMetricsRegistry.NOTIFICATIONS_SENT,
+              1,
+              MetricAttribute(MetricTags.NOTIFICATION_TRIGGER, notificationEvent.name),
+              MetricAttribute(MetricTags.NOTIFICATION_CLIENT, "slack"),
+            )
+          }
         }
 
         if (maybeCustomerIoNotificationSender != null &&
           notificationType == io.airbyte.api.client.model.generated.NotificationType.CUSTOMERIO
         ) {
-          maybeCustomerIoNotificationSender
-            .sendNotification(notificationItemWithCustomerIoEmailConfig!!.customerIoEmailConfig, subject, message)
-          MetricClientFactory.getMetricClient().count(
-            OssMetricsRegistry.NOTIFICATIONS_SENT,
-            1,
-            MetricAttribute(MetricTags.NOTIFICATION_TRIGGER, notificationEvent.name),
-            MetricAttribute(MetricTags.NOTIFICATION_CLIENT, "customerio"),
-          )
+          val customerIoEmailConfig = notificationItemWithCustomerIoEmailConfig!!.customerIoEmailConfig
+          deliver("customerio:${customerIoEmailConfig.to}", subject, message) {
+            maybeCustomerIoNotificationSender.sendNotification(customerIoEmailConfig, subject, message)
+            MetricClientFactory.getMetricClient().count(
+              OssMetricsRegistry.NOTIFICATIONS_SENT,
+              1,
+              MetricAttribute(MetricTags.NOTIFICATION_TRIGGER, notificationEvent.name),
+              MetricAttribute(MetricTags.NOTIFICATION_CLIENT, "customerio"),
+            )
+          }
         }
       }
     }
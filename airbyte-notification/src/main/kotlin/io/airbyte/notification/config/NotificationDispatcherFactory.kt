@@ -0,0 +1,15 @@
+package io.airbyte.notification.config
+
+import io.airbyte.notification.NotificationDispatcher
+import io.micronaut.context.annotation.Bean
+import io.micronaut.context.annotation.Factory
+import jakarta.inject.Singleton
+
+@Factory
+class NotificationDispatcherFactory {
+  @Singleton
+  @Bean(preDestroy = "close")
+  fun notificationDispatcher(): NotificationDispatcher {
+    return NotificationDispatcher()
+  }
+}
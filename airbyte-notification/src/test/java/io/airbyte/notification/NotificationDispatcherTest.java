@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDispatcherTest {
+
+  private static final String ENDPOINT = "webhook";
+  private static final int TIMEOUT_SECONDS = 10;
+
+  private MockWebServer mockWebServer;
+  private WebhookNotificationSender webhookNotificationSender;
+  private WebhookConfig webhookConfig;
+  private NotificationDispatcher notificationDispatcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    webhookNotificationSender = new WebhookNotificationSender(new OkHttpClient());
+    webhookConfig = new WebhookConfig(mockWebServer.url("/").toString());
+    notificationDispatcher = new NotificationDispatcher(2, 3, 3, Duration.ofMillis(10), Duration.ofMillis(50));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    notificationDispatcher.close();
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void testRetryFailedDelivery() throws InterruptedException {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+    mockWebServer.enqueue(new MockResponse());
+
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:1", this::sendWebhook));
+
+    assertNotNull(mockWebServer.takeRequest(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertNotNull(mockWebServer.takeRequest(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    awaitNoPendingNotification();
+  }
+
+  @Test
+  void testGiveUpAfterMaxAttempts() throws InterruptedException {
+    for (int i = 0; i < 3; i++) {
+      mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+    }
+
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:1", this::sendWebhook));
+
+    awaitNoPendingNotification();
+    assertEquals(3, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  void testCoalesceAndBoundPendingNotificationsPerEndpoint() throws InterruptedException {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < 3; i++) {
+      mockWebServer.enqueue(new MockResponse());
+    }
+
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:1", () -> {
+      blocked.countDown();
+      release.await();
+      return sendWebhook();
+    }));
+    assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:2", this::sendWebhook));
+    assertFalse(notificationDispatcher.dispatch(ENDPOINT, "failure:2", this::sendWebhook));
+    assertFalse(notificationDispatcher.dispatch(ENDPOINT, "failure:3", this::sendWebhook));
+    assertTrue(notificationDispatcher.dispatch("other", "failure:3", this::sendWebhook));
+
+    release.countDown();
+    for (int i = 0; i < 3; i++) {
+      assertNotNull(mockWebServer.takeRequest(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+    awaitNoPendingNotification();
+    assertNull(mockWebServer.takeRequest(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testBoundPendingNotificationsAcrossEndpoints() throws InterruptedException {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < 4; i++) {
+      mockWebServer.enqueue(new MockResponse());
+    }
+
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:1", () -> {
+      blocked.countDown();
+      release.await();
+      return sendWebhook();
+    }));
+    assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    // every endpoint is below its own bound, but 3 notifications are pending in total
+    assertTrue(notificationDispatcher.dispatch(ENDPOINT, "failure:2", this::sendWebhook));
+    assertTrue(notificationDispatcher.dispatch("other", "failure:1", this::sendWebhook));
+    assertFalse(notificationDispatcher.dispatch("another", "failure:1", this::sendWebhook));
+
+    release.countDown();
+    awaitNoPendingNotification();
+    assertTrue(notificationDispatcher.dispatch("another", "failure:1", this::sendWebhook));
+    for (int i = 0; i < 4; i++) {
+      assertNotNull(mockWebServer.takeRequest(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+    awaitNoPendingNotification();
+  }
+
+  private boolean sendWebhook() {
+    webhookNotificationSender.sendNotification(webhookConfig, "subject", "message");
+    return true;
+  }
+
+  private void awaitNoPendingNotification() throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+    while (notificationDispatcher.pendingCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, notificationDispatcher.pendingCount());
+  }
+
+}
@@ -5,8 +5,11 @@ import io.mockk.every
 import io.mockk.justRun
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import java.util.UUID
+import java.util.concurrent.Callable
 
 class NotificationHandlerTest {
   private val webhookConfigFetcher: WebhookConfigFetcher = mockk()
@@ -89,4 +92,43 @@ class NotificationHandlerTest {
       customerIoNotificationSender wasNot called
     }
   }
+
+  @Test
+  fun testDispatchedNotification() {
+    val notificationDispatcher: NotificationDispatcher = mockk()
+    val notificationHandler =
+      NotificationHandler(
+        webhookConfigFetcher,
+        customerIoConfigFetcher,
+        webhookNotificationSender,
+        customerIoNotificationSender,
+        workspaceNotificationConfigFetcher,
+        notificationDispatcher,
+      )
+
+    every { webhookConfigFetcher.fetchConfig(connectionId) } returns webhookConfig
+    every { customerIoConfigFetcher.fetchConfig(connectionId) } returns customerIoConfig
+    val deliveries = mutableMapOf<String, Callable<Boolean>>()
+    every { notificationDispatcher.dispatch(any(), any(), any()) } answers {
+      deliveries[firstArg()] = thirdArg()
+      true
+    }
+    justRun { webhookNotificationSender.sendNotification(any(), any(), any()) }
+    justRun { customerIoNotificationSender.sendNotification(any(), any(), any()) }
+
+    notificationHandler.sendNotification(connectionId, subject, message, listOf(NotificationType.WEBHOOK, NotificationType.CUSTOMERIO))
+
+    verify {
+      webhookNotificationSender wasNot called
+      customerIoNotificationSender wasNot called
+    }
+    assertEquals(setOf("webhook:${webhookConfig.webhookUrl}", "customerio:${customerIoConfig.to}"), deliveries.keys)
+
+    deliveries.values.forEach { assertTrue(it.call()) }
+
+    verify {
+      webhookNotificationSender.sendNotification(webhookConfig, subject, message)
+      customerIoNotificationSender.sendNotification(customerIoConfig, subject, message)
+    }
+  }
 }
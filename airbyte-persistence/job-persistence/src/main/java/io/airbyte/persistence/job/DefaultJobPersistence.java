@@ -42,15 +42,18 @@ import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
+import io.airbyte.persistence.job.models.ConnectionStatusSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.persistence.job.models.JobsRecordsCommitted;
+import io.airbyte.persistence.job.models.StreamRecordsCommittedPerDay;
 import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -1113,6 +1116,55 @@ public class DefaultJobPersistence implements JobPersistence {
         .toList();
   }
 
+  /**
+   * Reads the normalized stream stats of the attempts instead of their output, and aggregates them
+   * per day in the database so that only one row per day and stream is returned.
+   */
+  @Override
+  public List<StreamRecordsCommittedPerDay> listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(final UUID connectionId,
+                                                                                                        final Instant attemptEndedAtTimestamp,
+                                                                                                        final ZoneId timeZone)
+      throws IOException {
+    // TODO: stop using LocalDateTime
+    // https://github.com/airbytehq/airbyte-platform-internal/issues/10815
+    final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, SYSTEM_OFFSET);
+    // postgres reads offsets given as text as POSIX ones, i.e. with the opposite sign, so pass them as
+    // intervals instead
+    final boolean isFixedOffset = timeZone.normalized() instanceof ZoneOffset;
+    final String timeZoneParameter = isFixedOffset ? "make_interval(secs => ?)" : "?";
+    final Object timeZoneValue = isFixedOffset ? ((ZoneOffset) timeZone.normalized()).getTotalSeconds() : timeZone.getId();
+
+    return jobDatabase.query(ctx -> ctx.fetch(
+        "SELECT "
+            + "CAST(attempts.ended_at AT TIME ZONE " + timeZoneParameter + " AS DATE) AS sync_date, "
+            + "stream_stats.stream_namespace AS stream_namespace, "
+            + "stream_stats.stream_name AS stream_name, "
+            + "SUM(stream_stats.records_committed) AS records_committed "
+            + "FROM jobs "
+            + "JOIN attempts ON jobs.id = attempts.job_id "
+            + "JOIN stream_stats ON attempts.id = stream_stats.attempt_id "
+            + WHERE
+            + "CAST(config_type AS VARCHAR) = ? AND "
+            + SCOPE_CLAUSE
+            + "CAST(jobs.status AS VARCHAR) = ? AND "
+            + "attempts.ended_at > ? AND "
+            + "attempts.output IS NOT NULL "
+            + "GROUP BY sync_date, stream_stats.stream_namespace, stream_stats.stream_name "
+            + "ORDER BY sync_date ASC, stream_stats.stream_namespace ASC NULLS FIRST, stream_stats.stream_name ASC",
+        timeZoneValue,
+        toSqlName(ConfigType.SYNC),
+        connectionId.toString(),
+        toSqlName(JobStatus.SUCCEEDED),
+        timeConvertedIntoLocalDateTime))
+        .stream()
+        .map(r -> new StreamRecordsCommittedPerDay(
+            r.get("sync_date", LocalDate.class),
+            r.get("stream_namespace", String.class),
+            r.get("stream_name", String.class),
+            Optional.ofNullable(r.get("records_committed", Long.class)).orElse(0L)))
+        .toList();
+  }
+
   @Override
   public List<JobWithStatusAndTimestamp> listJobStatusAndTimestampWithConnection(final UUID connectionId,
                                                                                  final Set<ConfigType> configTypes,
@@ -1211,6 +1263,73 @@ public class DefaultJobPersistence implements JobPersistence {
         .collect(Collectors.toList()));
   }
 
+  /**
+   * Ranks the latest jobs of every connection with a window function and aggregates the ones within
+   * the lookback per connection. Only the last completed job is joined back, to read its last
+   * attempt number and, if it failed, the failure summary of its last failed attempt.
+   */
+  @Override
+  public List<ConnectionStatusSummary> getConnectionStatusSummaries(final Collection<UUID> connectionIds,
+                                                                    final Set<ConfigType> configTypes,
+                                                                    final int jobLookback)
+      throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final String succeeded = Names.singleQuote(toSqlName(JobStatus.SUCCEEDED));
+    final String failed = Names.singleQuote(toSqlName(JobStatus.FAILED));
+    return jobDatabase.query(ctx -> ctx
+        .fetch("WITH recent_jobs AS ("
+            + " SELECT id, scope, status, updated_at,"
+            + " ROW_NUMBER() OVER (PARTITION BY scope ORDER BY created_at DESC, id DESC) AS job_rank"
+            + " FROM jobs "
+            + WHERE + "CAST(config_type AS VARCHAR) IN " + toSqlInFragment(configTypes)
+            + AND + scopeInList(connectionIds)
+            + "), summaries AS ("
+            + " SELECT scope,"
+            + " bool_or(" + JOB_STATUS_IS_NON_TERMINAL + ") AS is_running,"
+            + " (array_agg(id ORDER BY job_rank) FILTER (WHERE status IN (" + succeeded + "," + failed + ")))[1] AS last_completed_job_id,"
+            + " (array_agg(updated_at ORDER BY job_rank) FILTER (WHERE status = " + succeeded + "))[1] AS last_successful_job_updated_at"
+            + " FROM recent_jobs"
+            + " WHERE job_rank <= ?"
+            + " GROUP BY scope"
+            + ") "
+            + "SELECT summaries.*, jobs.status AS last_completed_job_status, jobs.config_type AS last_completed_job_config_type,"
+            + " last_attempt.attempt_number AS last_completed_job_attempt_number,"
+            + " last_failed_attempt.failure_summary AS last_completed_job_failure_summary"
+            + " FROM summaries"
+            + " LEFT JOIN jobs ON jobs.id = summaries.last_completed_job_id"
+            + " LEFT JOIN LATERAL ("
+            + " SELECT attempt_number FROM attempts WHERE attempts.job_id = jobs.id"
+            + " ORDER BY created_at DESC, id DESC LIMIT 1"
+            + ") AS last_attempt ON TRUE"
+            + " LEFT JOIN LATERAL ("
+            + " SELECT failure_summary FROM attempts WHERE attempts.job_id = jobs.id"
+            + " AND jobs.status = " + failed + " AND attempts.status = " + failed
+            + " ORDER BY created_at DESC, id DESC LIMIT 1"
+            + ") AS last_failed_attempt ON TRUE",
+            jobLookback)
+        .stream()
+        .map(DefaultJobPersistence::getConnectionStatusSummaryFromRecord)
+        .collect(Collectors.toList()));
+  }
+
+  private static ConnectionStatusSummary getConnectionStatusSummaryFromRecord(final Record record) {
+    final String status = record.get("last_completed_job_status", String.class);
+    final String configType = record.get("last_completed_job_config_type", String.class);
+    final String failureSummary = record.get("last_completed_job_failure_summary", String.class);
+    return new ConnectionStatusSummary(
+        UUID.fromString(record.get("scope", String.class)),
+        Boolean.TRUE.equals(record.get("is_running", Boolean.class)),
+        record.get("last_completed_job_id", Long.class),
+        status == null ? null : JobStatus.valueOf(status.toUpperCase()),
+        configType == null ? null : Enums.toEnum(configType, ConfigType.class).orElseThrow(),
+        record.get("last_completed_job_attempt_number", Integer.class),
+        failureSummary == null ? null : Jsons.deserialize(failureSummary, AttemptFailureSummary.class),
+        record.get("last_successful_job_updated_at") == null ? null : getEpoch(record, "last_successful_job_updated_at"));
+  }
+
   private String scopeInList(final Collection<UUID> connectionIds) {
     return String.format("scope IN (%s) ",
         connectionIds.stream()
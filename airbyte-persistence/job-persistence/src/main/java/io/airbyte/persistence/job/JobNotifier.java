@@ -30,6 +30,7 @@ import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.CustomerioNotificationClient;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.ConnectionInfo;
 import io.airbyte.notification.messages.DestinationInfo;
@@ -50,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,17 +73,35 @@ public class JobNotifier {
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  @Nullable
+  private final NotificationDispatcher notificationDispatcher;
 
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
                      final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+    this(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, null);
+  }
+
+  /**
+   * Create a job notifier.
+   *
+   * @param notificationDispatcher - dispatcher delivering the notifications off the calling thread;
+   *        notifications are sent synchronously when null
+   */
+  public JobNotifier(final WebUrlHelper webUrlHelper,
+                     final ConfigRepository configRepository,
+                     final WorkspaceHelper workspaceHelper,
+                     final TrackingClient trackingClient,
+                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                     @Nullable final NotificationDispatcher notificationDispatcher) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   private void notifyJob(final String reason, final String action, final Job job, List<JobPersistence.AttemptStats> attemptStats) {
@@ -253,6 +273,8 @@ public class JobNotifier {
 
   private void sendNotification(final NotificationItem notificationItem,
                                 final String notificationTrigger,
+                                final Job job,
+                                final String recipient,
                                 final ThrowingFunction<NotificationClient, Boolean, Exception> executeNotification) {
     if (notificationItem == null) {
       // Note: we may be able to implement a log notifier to log notification message only.
@@ -261,6 +283,18 @@ public class JobNotifier {
     }
     final List<NotificationClient> notificationClients = getNotificationClientsFromNotificationItem(notificationItem);
     for (final NotificationClient notificationClient : notificationClients) {
+      if (notificationDispatcher != null) {
+        notificationDispatcher.dispatch(getNotificationEndpoint(notificationItem, notificationClient, recipient),
+            String.format("%s:%s", notificationTrigger, job.getId()),
+            () -> {
+              final boolean notified = executeNotification.apply(notificationClient);
+              if (notified) {
+                submitToMetricClient(notificationTrigger, notificationClient.getNotificationClientType());
+              }
+              return notified;
+            });
+        continue;
+      }
       try {
         if (!executeNotification.apply(notificationClient)) {
           LOGGER.warn("Failed to successfully notify: {}", notificationItem);
@@ -274,6 +308,19 @@ public class JobNotifier {
 
   }
 
+  /**
+   * Slack notifications are queued per webhook and emails per recipient, so that a failing endpoint
+   * only holds back its own notifications.
+   */
+  private static String getNotificationEndpoint(final NotificationItem notificationItem,
+                                                final NotificationClient notificationClient,
+                                                final String recipient) {
+    if (notificationItem.getSlackConfiguration() != null && notificationClient instanceof SlackNotificationClient) {
+      return String.format("%s:%s", notificationClient.getNotificationClientType(), notificationItem.getSlackConfiguration().getWebhook());
+    }
+    return String.format("%s:%s", notificationClient.getNotificationClientType(), recipient);
+  }
+
   private NotificationItem createAndSend(final NotificationSettings notificationSettings,
                                          final String action,
                                          final UUID connectionId,
@@ -326,20 +373,20 @@ public class JobNotifier {
     if (notificationSettings != null) {
       if (FAILURE_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnFailure();
-        sendNotification(notificationItem, FAILURE_NOTIFICATION,
+        sendNotification(notificationItem, FAILURE_NOTIFICATION, job, workspace.getEmail(),
             (notificationClient) -> notificationClient.notifyJobFailure(summary, workspace.getEmail()));
       } else if (SUCCESS_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSuccess();
-        sendNotification(notificationItem, SUCCESS_NOTIFICATION,
+        sendNotification(notificationItem, SUCCESS_NOTIFICATION, job, workspace.getEmail(),
             (notificationClient) -> notificationClient.notifyJobSuccess(summary, workspace.getEmail()));
       } else if (CONNECTION_DISABLED_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSyncDisabled();
-        sendNotification(notificationItem, CONNECTION_DISABLED_NOTIFICATION,
+        sendNotification(notificationItem, CONNECTION_DISABLED_NOTIFICATION, job, workspace.getEmail(),
             (notificationClient) -> notificationClient.notifyConnectionDisabled(workspace.getEmail(),
                 sourceConnector, destinationConnector, jobDescription, workspace.getWorkspaceId(), connectionId));
       } else if (CONNECTION_DISABLED_WARNING_NOTIFICATION.equalsIgnoreCase(action)) {
         notificationItem = notificationSettings.getSendOnSyncDisabledWarning();
-        sendNotification(notificationItem, CONNECTION_DISABLED_WARNING_NOTIFICATION,
+        sendNotification(notificationItem, CONNECTION_DISABLED_WARNING_NOTIFICATION, job, workspace.getEmail(),
             (notificationClient) -> notificationClient.notifyConnectionDisableWarning(workspace.getEmail(),
                 sourceConnector, destinationConnector, jobDescription, workspace.getWorkspaceId(), connectionId));
       }
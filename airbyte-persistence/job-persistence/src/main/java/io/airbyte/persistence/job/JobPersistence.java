@@ -17,15 +17,19 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
+import io.airbyte.persistence.job.models.ConnectionStatusSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.persistence.job.models.JobsRecordsCommitted;
+import io.airbyte.persistence.job.models.StreamRecordsCommittedPerDay;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -324,6 +328,21 @@ public interface JobPersistence {
                                                                              Instant attemptEndedAtTimestamp)
       throws IOException;
 
+  /**
+   * Sums the records committed per stream by the attempts of the succeeded sync jobs of a connection
+   * that ended after the given timestamp, bucketed by the day the attempt ended in the given time
+   * zone.
+   *
+   * @param connectionId The ID of the connection
+   * @param attemptEndedAtTimestamp The timestamp after which attempts should have ended
+   * @param timeZone The time zone in which days are bucketed
+   * @return one entry per day and stream, sorted by day, stream namespace and stream name
+   */
+  List<StreamRecordsCommittedPerDay> listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(UUID connectionId,
+                                                                                                 Instant attemptEndedAtTimestamp,
+                                                                                                 ZoneId timeZone)
+      throws IOException;
+
   /**
    * List job statuses and timestamps for connection id.
    *
@@ -347,6 +366,18 @@ public interface JobPersistence {
 
   List<Job> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException;
 
+  /**
+   * For each connection ID in the input that has jobs of the given config types, summarize its
+   * status from its latest jobs in a single query. Job configs are not read.
+   *
+   * @param connectionIds ids of the connections
+   * @param configTypes the types of jobs to consider
+   * @param jobLookback how many of the latest jobs of each connection to consider
+   * @return one summary per connection that has at least one matching job
+   */
+  List<ConnectionStatusSummary> getConnectionStatusSummaries(Collection<UUID> connectionIds, Set<ConfigType> configTypes, int jobLookback)
+      throws IOException;
+
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getNextJob() throws IOException;
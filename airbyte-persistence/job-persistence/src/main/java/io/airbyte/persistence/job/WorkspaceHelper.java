@@ -9,19 +9,29 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import io.airbyte.commons.functional.CheckedSupplier;
-import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.JobConfig;
-import io.airbyte.config.SourceConnection;
-import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,55 +42,72 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Helpers for interacting with Workspaces.
+ * <p>
+ * The lookups go through caches bounded in size and time, since resolving the workspace of a
+ * resource happens on most API calls. The caches are filled with projection queries that only read
+ * the ids, and can be filled in bulk for a list of ids.
  */
 @SuppressWarnings("PMD.AvoidCatchingThrowable")
 public class WorkspaceHelper {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkspaceHelper.class);
 
-  private final LoadingCache<UUID, UUID> sourceToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> destinationToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> connectionToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> operationToWorkspaceCache;
-  private final LoadingCache<Long, UUID> jobToWorkspaceCache;
+  public static final long DEFAULT_CACHE_MAX_SIZE = 20000;
+  public static final Duration DEFAULT_CACHE_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
 
-  private final LoadingCache<UUID, UUID> workspaceToOrganizationCache;
+  private final ConfigRepository configRepository;
+
+  private final MeteredCache<UUID> sourceToWorkspaceCache;
+  private final MeteredCache<UUID> destinationToWorkspaceCache;
+  private final MeteredCache<UUID> connectionToWorkspaceCache;
+  private final MeteredCache<UUID> operationToWorkspaceCache;
+  private final MeteredCache<Long> jobToWorkspaceCache;
+
+  private final MeteredCache<UUID> workspaceToOrganizationCache;
 
   public WorkspaceHelper(final ConfigRepository configRepository, final JobPersistence jobPersistence) {
+    this(configRepository, jobPersistence, MetricClientFactory.getMetricClient(), DEFAULT_CACHE_MAX_SIZE, DEFAULT_CACHE_EXPIRE_AFTER_WRITE);
+  }
 
-    this.sourceToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+  public WorkspaceHelper(final ConfigRepository configRepository,
+                         final JobPersistence jobPersistence,
+                         final MetricClient metricClient,
+                         final long cacheMaxSize,
+                         final Duration cacheExpireAfterWrite) {
+    this.configRepository = configRepository;
+    final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfterWrite(cacheExpireAfterWrite);
+
+    this.sourceToWorkspaceCache = new MeteredCache<>("source_to_workspace", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
-      public UUID load(@NonNull final UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException {
-        final SourceConnection source = configRepository.getSourceConnection(sourceId);
-        return source.getWorkspaceId();
+      public UUID load(@NonNull final UUID sourceId) throws ConfigNotFoundException, IOException {
+        return getOrThrow(configRepository.getWorkspaceIdsForSourceIds(List.of(sourceId)), sourceId, ConfigSchema.SOURCE_CONNECTION);
       }
 
-    });
+    }));
 
-    this.destinationToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.destinationToWorkspaceCache = new MeteredCache<>("destination_to_workspace", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
-      public UUID load(@NonNull final UUID destinationId) throws JsonValidationException, ConfigNotFoundException, IOException {
-        final DestinationConnection destination = configRepository.getDestinationConnection(destinationId);
-        return destination.getWorkspaceId();
+      public UUID load(@NonNull final UUID destinationId) throws ConfigNotFoundException, IOException {
+        return getOrThrow(configRepository.getWorkspaceIdsForDestinationIds(List.of(destinationId)), destinationId,
+            ConfigSchema.DESTINATION_CONNECTION);
       }
 
-    });
+    }));
 
-    this.connectionToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.connectionToWorkspaceCache = new MeteredCache<>("connection_to_workspace", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
-      public UUID load(@NonNull final UUID connectionId) throws JsonValidationException, ConfigNotFoundException, IOException {
-        final StandardSync connection = configRepository.getStandardSync(connectionId);
-        final UUID sourceId = connection.getSourceId();
-        final UUID destinationId = connection.getDestinationId();
-        return getWorkspaceForConnectionIgnoreExceptions(sourceId, destinationId);
+      public UUID load(@NonNull final UUID connectionId) throws ConfigNotFoundException, IOException {
+        return getOrThrow(configRepository.getWorkspaceIdsForConnectionIds(List.of(connectionId)), connectionId, ConfigSchema.STANDARD_SYNC);
       }
 
-    });
+    }));
 
-    this.operationToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.operationToWorkspaceCache = new MeteredCache<>("operation_to_workspace", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final UUID operationId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -88,9 +115,9 @@ public class WorkspaceHelper {
         return operation.getWorkspaceId();
       }
 
-    });
+    }));
 
-    this.jobToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.jobToWorkspaceCache = new MeteredCache<>("job_to_workspace", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final Long jobId) throws ConfigNotFoundException, IOException {
@@ -105,16 +132,16 @@ public class WorkspaceHelper {
         }
       }
 
-    });
+    }));
 
-    this.workspaceToOrganizationCache = getExpiringCache(new CacheLoader<>() {
+    this.workspaceToOrganizationCache = new MeteredCache<>("workspace_to_organization", metricClient, cacheBuilder.build(new CacheLoader<>() {
 
       @Override
-      public UUID load(final UUID workspaceId) throws Exception {
-        return configRepository.getStandardWorkspaceNoSecrets(workspaceId, false).getOrganizationId();
+      public UUID load(@NonNull final UUID workspaceId) throws ConfigNotFoundException, IOException {
+        return getOrThrow(configRepository.getOrganizationIdsForWorkspaceIds(List.of(workspaceId)), workspaceId, ConfigSchema.STANDARD_WORKSPACE);
       }
 
-    });
+    }));
   }
 
   /**
@@ -134,6 +161,16 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> getWorkspaceForSourceId(sourceId));
   }
 
+  /**
+   * Get the workspaces of several sources, querying the ones that are not cached at once.
+   *
+   * @param sourceIds source ids
+   * @return workspace id by source id. Sources that do not exist are left out.
+   */
+  public Map<UUID, UUID> getWorkspacesForSourceIds(final Collection<UUID> sourceIds) throws IOException {
+    return sourceToWorkspaceCache.getAll(sourceIds, configRepository::getWorkspaceIdsForSourceIds);
+  }
+
   // DESTINATION ID
   public UUID getWorkspaceForDestinationId(final UUID destinationId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> destinationToWorkspaceCache.get(destinationId));
@@ -143,6 +180,16 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> destinationToWorkspaceCache.get(destinationId));
   }
 
+  /**
+   * Get the workspaces of several destinations, querying the ones that are not cached at once.
+   *
+   * @param destinationIds destination ids
+   * @return workspace id by destination id. Destinations that do not exist are left out.
+   */
+  public Map<UUID, UUID> getWorkspacesForDestinationIds(final Collection<UUID> destinationIds) throws IOException {
+    return destinationToWorkspaceCache.getAll(destinationIds, configRepository::getWorkspaceIdsForDestinationIds);
+  }
+
   // JOB ID
   public UUID getWorkspaceForJobId(final Long jobId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> jobToWorkspaceCache.get(jobId));
@@ -157,6 +204,17 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> workspaceToOrganizationCache.get(workspaceId));
   }
 
+  /**
+   * Get the organizations of several workspaces, querying the ones that are not cached at once.
+   *
+   * @param workspaceIds workspace ids
+   * @return organization id by workspace id. Workspaces that are not in an organization, tombstoned
+   *         or that do not exist are left out.
+   */
+  public Map<UUID, UUID> getOrganizationsForWorkspaces(final Collection<UUID> workspaceIds) throws IOException {
+    return workspaceToOrganizationCache.getAll(workspaceIds, configRepository::getOrganizationIdsForWorkspaceIds);
+  }
+
   // CONNECTION ID
 
   /**
@@ -202,6 +260,16 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> connectionToWorkspaceCache.get(connectionId));
   }
 
+  /**
+   * Get the workspaces of several connections, querying the ones that are not cached at once.
+   *
+   * @param connectionIds connection ids
+   * @return workspace id by connection id. Connections that do not exist are left out.
+   */
+  public Map<UUID, UUID> getWorkspacesForConnectionIds(final Collection<UUID> connectionIds) throws IOException {
+    return connectionToWorkspaceCache.getAll(connectionIds, configRepository::getWorkspaceIdsForConnectionIds);
+  }
+
   // OPERATION ID
   public UUID getWorkspaceForOperationId(final UUID operationId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> operationToWorkspaceCache.get(operationId));
@@ -235,10 +303,66 @@ public class WorkspaceHelper {
     }
   }
 
-  private static <K, V> LoadingCache<K, V> getExpiringCache(final CacheLoader<K, V> cacheLoader) {
-    return CacheBuilder.newBuilder()
-        .maximumSize(20000)
-        .build(cacheLoader);
+  private static UUID getOrThrow(final Map<UUID, UUID> ids, final UUID id, final ConfigSchema type) throws ConfigNotFoundException {
+    final UUID value = ids.get(id);
+    if (value == null) {
+      throw new ConfigNotFoundException(type, id);
+    }
+    return value;
+  }
+
+  /**
+   * Loads the values of several keys at once.
+   */
+  @FunctionalInterface
+  private interface BulkLoader<K> {
+
+    Map<K, UUID> load(Collection<K> keys) throws IOException;
+
+  }
+
+  /**
+   * Cache that counts its hits and misses.
+   */
+  private static final class MeteredCache<K> {
+
+    private final MetricAttribute cacheNameAttribute;
+    private final MetricClient metricClient;
+    private final LoadingCache<K, UUID> cache;
+
+    MeteredCache(final String cacheName, final MetricClient metricClient, final LoadingCache<K, UUID> cache) {
+      this.cacheNameAttribute = new MetricAttribute(MetricTags.CACHE_NAME, cacheName);
+      this.metricClient = metricClient;
+      this.cache = cache;
+    }
+
+    UUID get(final K key) throws ExecutionException {
+      final UUID cached = cache.getIfPresent(key);
+      if (cached != null) {
+        metricClient.count(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_HIT, 1, cacheNameAttribute);
+        return cached;
+      }
+      metricClient.count(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_MISS, 1, cacheNameAttribute);
+      return cache.get(key);
+    }
+
+    Map<K, UUID> getAll(final Collection<K> keys, final BulkLoader<K> bulkLoader) throws IOException {
+      final Map<K, UUID> values = new HashMap<>(cache.getAllPresent(keys));
+      final Set<K> missingKeys = keys.stream()
+          .filter(key -> !values.containsKey(key))
+          .collect(Collectors.toSet());
+      if (!values.isEmpty()) {
+        metricClient.count(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_HIT, values.size(), cacheNameAttribute);
+      }
+      if (!missingKeys.isEmpty()) {
+        metricClient.count(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_MISS, missingKeys.size(), cacheNameAttribute);
+        final Map<K, UUID> loaded = bulkLoader.load(missingKeys);
+        cache.putAll(loaded);
+        values.putAll(loaded);
+      }
+      return values;
+    }
+
   }
 
 }
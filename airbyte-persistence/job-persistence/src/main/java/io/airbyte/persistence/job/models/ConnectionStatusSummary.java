@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job.models;
+
+import io.airbyte.config.AttemptFailureSummary;
+import io.airbyte.config.JobConfig.ConfigType;
+import java.util.UUID;
+
+/**
+ * Status of a connection computed from its most recent jobs. The last completed job is the most
+ * recent one that either succeeded or failed. Fields describing it are null if there is none.
+ */
+public record ConnectionStatusSummary(UUID connectionId,
+                                      boolean isRunning,
+                                      Long lastCompletedJobId,
+                                      JobStatus lastCompletedJobStatus,
+                                      ConfigType lastCompletedJobConfigType,
+                                      Integer lastCompletedJobLastAttemptNumber,
+                                      AttemptFailureSummary lastCompletedJobFailureSummary,
+                                      Long lastSuccessfulJobUpdatedAtInSecond) {
+
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job.models;
+
+import java.time.LocalDate;
+
+/**
+ * Records committed for a stream by the attempts of a connection that ended on a given day.
+ */
+public record StreamRecordsCommittedPerDay(LocalDate date, String streamNamespace, String streamName, long recordsCommitted) {
+
+}
@@ -54,19 +54,24 @@ import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.AttemptWithJobInfo;
+import io.airbyte.persistence.job.models.ConnectionStatusSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.persistence.job.models.JobsRecordsCommitted;
+import io.airbyte.persistence.job.models.StreamRecordsCommittedPerDay;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -74,9 +79,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
 import org.jooq.Record;
@@ -1246,6 +1253,130 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("List stream records committed per day after a given timestamp for a given connection")
+  class ListStreamRecordsCommittedPerDayByConnectionByTimestamp {
+
+    private static final ZoneId TIME_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final String NAMESPACE = "ns";
+
+    private JobOutput outputWithStreamStats(final List<StreamSyncStats> streamStats) {
+      return new JobOutput().withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary().withStreamStats(streamStats)));
+    }
+
+    private StreamSyncStats streamStats(final String namespace, final String name, final long recordsCommitted) {
+      return new StreamSyncStats().withStreamNamespace(namespace).withStreamName(name)
+          .withStats(new SyncStats().withRecordsCommitted(recordsCommitted));
+    }
+
+    private void syncAttempt(final long jobId, final Instant endedAt, final boolean succeeded, final List<StreamSyncStats> streamStats)
+        throws IOException {
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      when(timeSupplier.get()).thenReturn(endedAt);
+      jobPersistence.writeOutput(jobId, attemptNumber, outputWithStreamStats(streamStats));
+      if (succeeded) {
+        jobPersistence.succeedAttempt(jobId, attemptNumber);
+      } else {
+        jobPersistence.failAttempt(jobId, attemptNumber);
+      }
+    }
+
+    @Test
+    @DisplayName("Sums the records committed of the succeeded jobs per day and stream")
+    void testListStreamRecordsCommittedPerDay() throws IOException {
+      final Instant day1 = NOW;
+      final Instant day2 = NOW.plus(2, ChronoUnit.DAYS);
+
+      // before the timestamp
+      final long jobId0 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      syncAttempt(jobId0, NOW.minus(2, ChronoUnit.DAYS), true, List.of(streamStats(NAMESPACE, "s1", 1000L)));
+
+      // a failed attempt followed by a successful one
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      syncAttempt(jobId1, day1, false, List.of(streamStats(NAMESPACE, "s1", 100L), streamStats(null, "s2", 50L)));
+      syncAttempt(jobId1, day1, true, List.of(streamStats(NAMESPACE, "s1", 10L)));
+
+      // a failed job
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      syncAttempt(jobId2, day1, false, List.of(streamStats(NAMESPACE, "s1", 2000L)));
+      jobPersistence.failJob(jobId2);
+
+      final long jobId3 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      syncAttempt(jobId3, day2, true, List.of(streamStats(NAMESPACE, "s1", 5L)));
+
+      // progress stats without an output
+      final long jobId4 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber4 = jobPersistence.createAttempt(jobId4, LOG_PATH);
+      jobPersistence.writeStats(jobId4, attemptNumber4, 1L, 1L, 1L, 1L, 3000L, 1L, List.of(streamStats(NAMESPACE, "s1", 3000L)));
+      jobPersistence.succeedAttempt(jobId4, attemptNumber4);
+
+      final List<StreamRecordsCommittedPerDay> actual =
+          jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(CONNECTION_ID, NOW.minus(1, ChronoUnit.DAYS), TIME_ZONE);
+
+      final List<StreamRecordsCommittedPerDay> expected = List.of(
+          new StreamRecordsCommittedPerDay(day1.atZone(TIME_ZONE).toLocalDate(), null, "s2", 50L),
+          new StreamRecordsCommittedPerDay(day1.atZone(TIME_ZONE).toLocalDate(), NAMESPACE, "s1", 110L),
+          new StreamRecordsCommittedPerDay(day2.atZone(TIME_ZONE).toLocalDate(), NAMESPACE, "s1", 5L));
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Buckets days in time zones given as a fixed offset")
+    void testListStreamRecordsCommittedPerDayWithFixedOffset() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      syncAttempt(jobId, NOW, true, List.of(streamStats(NAMESPACE, "s1", 10L)));
+
+      for (final ZoneId timeZone : List.of(ZoneOffset.ofHours(14), ZoneOffset.ofHours(-12), ZoneId.of("UTC"))) {
+        final List<StreamRecordsCommittedPerDay> actual =
+            jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(CONNECTION_ID, NOW.minus(1, ChronoUnit.DAYS), timeZone);
+
+        assertEquals(List.of(new StreamRecordsCommittedPerDay(NOW.atZone(timeZone).toLocalDate(), NAMESPACE, "s1", 10L)), actual);
+      }
+    }
+
+    @Test
+    @DisplayName("Returns one row per day and stream for a month of hourly syncs")
+    void testListStreamRecordsCommittedPerDayForAMonthOfSyncs() throws IOException, SQLException {
+      final int days = 30;
+      final int streams = 20;
+      final OffsetDateTime lastSyncEndedAt = NOW.atOffset(ZoneOffset.UTC);
+
+      // seeded in bulk, with stats for every stream of every sync
+      jobDatabase.transaction(ctx -> {
+        ctx.execute("INSERT INTO jobs (config_type, scope, config, status, created_at, updated_at) "
+            + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, CAST(? AS JSONB), CAST(? AS JOB_STATUS), "
+            + "CAST(? AS TIMESTAMPTZ) - i * interval '1 hour', CAST(? AS TIMESTAMPTZ) - i * interval '1 hour' "
+            + "FROM generate_series(0, ?) AS i",
+            toSqlName(ConfigType.SYNC), SCOPE, Jsons.serialize(SYNC_JOB_CONFIG), toSqlName(JobStatus.SUCCEEDED),
+            lastSyncEndedAt, lastSyncEndedAt, days * 24 - 1);
+        ctx.execute("INSERT INTO attempts (job_id, attempt_number, output, status, created_at, updated_at, ended_at) "
+            + "SELECT id, 0, CAST(? AS JSONB), CAST(? AS ATTEMPT_STATUS), created_at, updated_at, updated_at FROM jobs",
+            Jsons.serialize(outputWithStreamStats(List.of())), toSqlName(AttemptStatus.SUCCEEDED));
+        ctx.execute("INSERT INTO stream_stats (id, attempt_id, stream_namespace, stream_name, records_committed, created_at, updated_at) "
+            + "SELECT gen_random_uuid(), attempts.id, ?, 'stream_' || s, 100, attempts.ended_at, attempts.ended_at "
+            + "FROM attempts CROSS JOIN generate_series(0, ?) AS s",
+            NAMESPACE, streams - 1);
+        return null;
+      });
+
+      final Map<LocalDate, Long> syncsPerDay = IntStream.range(0, days * 24)
+          .mapToObj(i -> NOW.minus(i, ChronoUnit.HOURS).atZone(TIME_ZONE).toLocalDate())
+          .collect(Collectors.groupingBy(date -> date, TreeMap::new, Collectors.counting()));
+
+      final List<StreamRecordsCommittedPerDay> actual =
+          jobPersistence.listStreamRecordsCommittedPerDayForConnectionAfterTimestamp(CONNECTION_ID, NOW.minus(days, ChronoUnit.DAYS), TIME_ZONE);
+
+      assertEquals(syncsPerDay.size() * streams, actual.size());
+      assertEquals(List.copyOf(syncsPerDay.keySet()), actual.stream().map(StreamRecordsCommittedPerDay::date).distinct().toList());
+      for (final StreamRecordsCommittedPerDay streamRecordsCommitted : actual) {
+        assertEquals(NAMESPACE, streamRecordsCommitted.streamNamespace());
+        assertEquals(100L * syncsPerDay.get(streamRecordsCommitted.date()), streamRecordsCommitted.recordsCommitted());
+      }
+    }
+
+  }
+
   @Nested
   @DisplayName("When enqueueing job")
   class EnqueueJob {
@@ -1490,6 +1621,80 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When getting the status summaries of multiple connections")
+  class GetConnectionStatusSummaries {
+
+    private static final UUID CONNECTION_ID_1 = UUID.randomUUID();
+    private static final UUID CONNECTION_ID_2 = UUID.randomUUID();
+    private static final UUID CONNECTION_ID_3 = UUID.randomUUID();
+    private static final String SCOPE_1 = CONNECTION_ID_1.toString();
+    private static final String SCOPE_2 = CONNECTION_ID_2.toString();
+    private static final String SCOPE_3 = CONNECTION_ID_3.toString();
+    private static final List<UUID> CONNECTION_IDS = List.of(CONNECTION_ID_1, CONNECTION_ID_2, CONNECTION_ID_3);
+    private static final Set<ConfigType> CONFIG_TYPES = Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION);
+
+    @Test
+    @DisplayName("Should return nothing if no job exists")
+    void testGetConnectionStatusSummariesEmpty() throws IOException {
+      assertTrue(jobPersistence.getConnectionStatusSummaries(CONNECTION_IDS, CONFIG_TYPES, 10).isEmpty());
+      assertTrue(jobPersistence.getConnectionStatusSummaries(List.of(), CONFIG_TYPES, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should summarize the latest jobs of each connection")
+    void testGetConnectionStatusSummaries() throws IOException {
+      final long scope1Job1 = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(scope1Job1, jobPersistence.createAttempt(scope1Job1, LOG_PATH));
+
+      final long scope2Job1 = jobPersistence.enqueueJob(SCOPE_2, RESET_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(scope2Job1, jobPersistence.createAttempt(scope2Job1, LOG_PATH));
+
+      final long scope3Job1 = jobPersistence.enqueueJob(SCOPE_3, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(scope3Job1);
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+
+      // failed twice, the failure summary of the last failed attempt should be returned
+      final AttemptFailureSummary failureSummary = new AttemptFailureSummary().withFailures(
+          Collections.singletonList(new FailureReason().withFailureOrigin(FailureOrigin.DESTINATION)));
+      final long scope1Job2 = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      final int scope1Job2Attempt1 = jobPersistence.createAttempt(scope1Job2, LOG_PATH);
+      jobPersistence.failAttempt(scope1Job2, scope1Job2Attempt1);
+      final int scope1Job2Attempt2 = jobPersistence.createAttempt(scope1Job2, LOG_PATH);
+      jobPersistence.writeAttemptFailureSummary(scope1Job2, scope1Job2Attempt2, failureSummary);
+      jobPersistence.failAttempt(scope1Job2, scope1Job2Attempt2);
+      jobPersistence.failJob(scope1Job2);
+
+      // will leave this job pending
+      jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+
+      final List<ConnectionStatusSummary> actual = jobPersistence.getConnectionStatusSummaries(CONNECTION_IDS, CONFIG_TYPES, 10);
+      final List<ConnectionStatusSummary> expected = List.of(
+          new ConnectionStatusSummary(CONNECTION_ID_1, true, scope1Job2, JobStatus.FAILED, ConfigType.SYNC, scope1Job2Attempt2, failureSummary,
+              NOW.getEpochSecond()),
+          new ConnectionStatusSummary(CONNECTION_ID_2, false, scope2Job1, JobStatus.SUCCEEDED, ConfigType.RESET_CONNECTION, 0, null,
+              NOW.getEpochSecond()),
+          new ConnectionStatusSummary(CONNECTION_ID_3, false, null, null, null, null, null, null));
+      assertEquals(Sets.newHashSet(expected), Sets.newHashSet(actual));
+
+      // only the pending job is within the lookback
+      assertEquals(List.of(new ConnectionStatusSummary(CONNECTION_ID_1, true, null, null, null, null, null, null)),
+          jobPersistence.getConnectionStatusSummaries(List.of(CONNECTION_ID_1), CONFIG_TYPES, 1));
+    }
+
+    @Test
+    @DisplayName("Should ignore jobs of other config types")
+    void testGetConnectionStatusSummariesFiltersConfigTypes() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE_1, RESET_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+
+      assertTrue(jobPersistence.getConnectionStatusSummaries(CONNECTION_IDS, Set.of(ConfigType.SYNC), 10).isEmpty());
+    }
+
+  }
+
   @Nested
   @DisplayName("When getting the last running sync job for multiple connections")
   class GetRunningSyncJobForConnections {
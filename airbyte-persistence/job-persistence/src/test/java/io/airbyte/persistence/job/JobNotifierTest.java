@@ -30,6 +30,8 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
+import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.SyncSummary;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
@@ -43,8 +45,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
@@ -62,6 +66,8 @@ class JobNotifierTest {
 
   private static final String DESTINATION_NAME = "DESTINATION";
 
+  private static final String WORKSPACE_EMAIL = "workspace@airbyte.io";
+
   private final WebUrlHelper webUrlHelper = new WebUrlHelper(WEBAPP_URL);
 
   private ConfigRepository configRepository;
@@ -172,6 +178,39 @@ class JobNotifierTest {
         ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testDispatchNotificationsPerEndpoint() throws Exception {
+    final NotificationDispatcher notificationDispatcher = mock(NotificationDispatcher.class);
+    final SlackNotificationClient slackNotificationClient = mock(SlackNotificationClient.class);
+    when(slackNotificationClient.getNotificationClientType()).thenReturn("slack");
+    when(customerIoNotificationClient.getNotificationClientType()).thenReturn("customerio");
+    when(configRepository.getStandardWorkspaceNoSecrets(WORKSPACE_ID, true)).thenReturn(getWorkspace().withEmail(WORKSPACE_EMAIL));
+    final JobNotifier dispatchingJobNotifier = Mockito.spy(
+        new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, notificationDispatcher));
+    when(dispatchingJobNotifier.getNotificationClientsFromNotificationItem(customerioAndSlackNotificationItem()))
+        .thenReturn(List.of(slackNotificationClient, customerIoNotificationClient));
+
+    dispatchingJobNotifier.autoDisableConnection(job, new ArrayList<>());
+
+    verify(slackNotificationClient, never()).notifyConnectionDisabled(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    final String coalescingKey = JobNotifier.CONNECTION_DISABLED_NOTIFICATION + ":" + job.getId();
+    final ArgumentCaptor<Callable<Boolean>> deliveries = ArgumentCaptor.forClass(Callable.class);
+    verify(notificationDispatcher).dispatch(ArgumentMatchers.eq("slack:http://random.webhook.url/hooks.slack.com/"),
+        ArgumentMatchers.eq(coalescingKey), deliveries.capture());
+    verify(notificationDispatcher).dispatch(ArgumentMatchers.eq("customerio:" + WORKSPACE_EMAIL),
+        ArgumentMatchers.eq(coalescingKey), deliveries.capture());
+
+    for (final Callable<Boolean> delivery : deliveries.getAllValues()) {
+      delivery.call();
+    }
+    verify(slackNotificationClient).notifyConnectionDisabled(ArgumentMatchers.eq(WORKSPACE_EMAIL), ArgumentMatchers.any(), ArgumentMatchers.any(),
+        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    verify(customerIoNotificationClient).notifyConnectionDisabled(ArgumentMatchers.eq(WORKSPACE_EMAIL), ArgumentMatchers.any(),
+        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+  }
+
   @Test
   void testBuildNotificationMetadata() {
     NotificationItem notificationItem = new NotificationItem()
@@ -7,64 +7,54 @@ package io.airbyte.persistence.job;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import io.airbyte.commons.json.Jsons;
-import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobSyncConfig;
 import io.airbyte.config.OperatorNormalization;
 import io.airbyte.config.OperatorNormalization.Option;
-import io.airbyte.config.SourceConnection;
-import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardSyncOperation.OperatorType;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
-import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 
 class WorkspaceHelperTest {
 
   private static final UUID WORKSPACE_ID = UUID.randomUUID();
-  private static final UUID SOURCE_DEFINITION_ID = UUID.randomUUID();
+  private static final UUID ORGANIZATION_ID = UUID.randomUUID();
   private static final UUID SOURCE_ID = UUID.randomUUID();
-  private static final UUID DEST_DEFINITION_ID = UUID.randomUUID();
   private static final UUID DEST_ID = UUID.randomUUID();
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final UUID OPERATION_ID = UUID.randomUUID();
-  private static final SourceConnection SOURCE = new SourceConnection()
-      .withSourceId(SOURCE_ID)
-      .withSourceDefinitionId(SOURCE_DEFINITION_ID)
-      .withWorkspaceId(WORKSPACE_ID)
-      .withConfiguration(Jsons.deserialize("{}"))
-      .withName("source")
-      .withTombstone(false);
-  private static final DestinationConnection DEST = new DestinationConnection()
-      .withDestinationId(DEST_ID)
-      .withDestinationDefinitionId(DEST_DEFINITION_ID)
-      .withWorkspaceId(WORKSPACE_ID)
-      .withConfiguration(Jsons.deserialize("{}"))
-      .withName("dest")
-      .withTombstone(false);
-  private static final StandardSync CONNECTION = new StandardSync()
-      .withName("a name")
-      .withConnectionId(CONNECTION_ID)
-      .withSourceId(SOURCE_ID)
-      .withDestinationId(DEST_ID).withCatalog(new ConfiguredAirbyteCatalog().withStreams(new ArrayList<>()))
-      .withManual(true);
   private static final StandardSyncOperation OPERATION = new StandardSyncOperation()
       .withOperationId(OPERATION_ID)
       .withWorkspaceId(WORKSPACE_ID)
@@ -75,23 +65,34 @@ class WorkspaceHelperTest {
 
   ConfigRepository configRepository;
   JobPersistence jobPersistence;
+  MetricClient metricClient;
   WorkspaceHelper workspaceHelper;
 
   @BeforeEach
   void setup() throws IOException, JsonValidationException, ConfigNotFoundException {
     jobPersistence = mock(JobPersistence.class);
 
+    metricClient = mock(MetricClient.class);
+
     configRepository = mock(ConfigRepository.class);
-    when(configRepository.getSourceConnection(SOURCE_ID)).thenReturn(SOURCE);
-    when(configRepository.getSourceConnection(not(eq(SOURCE_ID)))).thenThrow(ConfigNotFoundException.class);
-    when(configRepository.getDestinationConnection(DEST_ID)).thenReturn(DEST);
-    when(configRepository.getDestinationConnection(not(eq(DEST_ID)))).thenThrow(ConfigNotFoundException.class);
-    when(configRepository.getStandardSync(CONNECTION_ID)).thenReturn(CONNECTION);
-    when(configRepository.getStandardSync(not(eq(CONNECTION_ID)))).thenThrow(ConfigNotFoundException.class);
+    when(configRepository.getWorkspaceIdsForSourceIds(any())).thenAnswer(projection(Map.of(SOURCE_ID, WORKSPACE_ID)));
+    when(configRepository.getWorkspaceIdsForDestinationIds(any())).thenAnswer(projection(Map.of(DEST_ID, WORKSPACE_ID)));
+    when(configRepository.getWorkspaceIdsForConnectionIds(any())).thenAnswer(projection(Map.of(CONNECTION_ID, WORKSPACE_ID)));
+    when(configRepository.getOrganizationIdsForWorkspaceIds(any())).thenAnswer(projection(Map.of(WORKSPACE_ID, ORGANIZATION_ID)));
     when(configRepository.getStandardSyncOperation(OPERATION_ID)).thenReturn(OPERATION);
     when(configRepository.getStandardSyncOperation(not(eq(OPERATION_ID)))).thenThrow(ConfigNotFoundException.class);
 
-    workspaceHelper = new WorkspaceHelper(configRepository, jobPersistence);
+    workspaceHelper = new WorkspaceHelper(configRepository, jobPersistence, metricClient, WorkspaceHelper.DEFAULT_CACHE_MAX_SIZE,
+        WorkspaceHelper.DEFAULT_CACHE_EXPIRE_AFTER_WRITE);
+  }
+
+  /**
+   * Answers a projection query with the known ids among the requested ones.
+   */
+  private static Answer<Map<UUID, UUID>> projection(final Map<UUID, UUID> knownIds) {
+    return invocation -> invocation.<Collection<UUID>>getArgument(0).stream()
+        .filter(knownIds::containsKey)
+        .collect(Collectors.toMap(Function.identity(), knownIds::get));
   }
 
   @Test
@@ -102,6 +103,7 @@ class WorkspaceHelperTest {
     assertThrows(RuntimeException.class, () -> workspaceHelper.getWorkspaceForConnectionIgnoreExceptions(UUID.randomUUID(), UUID.randomUUID()));
     assertThrows(RuntimeException.class, () -> workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(UUID.randomUUID()));
     assertThrows(RuntimeException.class, () -> workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(0L));
+    assertThrows(RuntimeException.class, () -> workspaceHelper.getOrganizationForWorkspace(UUID.randomUUID()));
   }
 
   @Test
@@ -116,26 +118,30 @@ class WorkspaceHelperTest {
 
   @Test
   @DisplayName("Validate that source caching is working")
-  void testSource() throws IOException, JsonValidationException, ConfigNotFoundException {
+  void testSource() throws IOException {
     final UUID retrievedWorkspace = workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
     assertEquals(WORKSPACE_ID, retrievedWorkspace);
-    verify(configRepository, times(1)).getSourceConnection(SOURCE_ID);
+    verify(configRepository, times(1)).getWorkspaceIdsForSourceIds(List.of(SOURCE_ID));
 
     workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
     // There should have been no other call to configRepository
-    verify(configRepository, times(1)).getSourceConnection(SOURCE_ID);
+    verify(configRepository, times(1)).getWorkspaceIdsForSourceIds(List.of(SOURCE_ID));
+    // the full source is never loaded
+    verifyNoMoreInteractions(configRepository);
   }
 
   @Test
   @DisplayName("Validate that destination caching is working")
-  void testDestination() throws IOException, JsonValidationException, ConfigNotFoundException {
+  void testDestination() throws IOException {
     final UUID retrievedWorkspace = workspaceHelper.getWorkspaceForDestinationIdIgnoreExceptions(DEST_ID);
     assertEquals(WORKSPACE_ID, retrievedWorkspace);
-    verify(configRepository, times(1)).getDestinationConnection(DEST_ID);
+    verify(configRepository, times(1)).getWorkspaceIdsForDestinationIds(List.of(DEST_ID));
 
     workspaceHelper.getWorkspaceForDestinationIdIgnoreExceptions(DEST_ID);
     // There should have been no other call to configRepository
-    verify(configRepository, times(1)).getDestinationConnection(DEST_ID);
+    verify(configRepository, times(1)).getWorkspaceIdsForDestinationIds(List.of(DEST_ID));
+    // the full destination is never loaded
+    verifyNoMoreInteractions(configRepository);
   }
 
   @Test
@@ -145,13 +151,63 @@ class WorkspaceHelperTest {
     assertEquals(WORKSPACE_ID, retrievedWorkspace);
 
     // test retrieving by source and destination ids
-    final UUID retrievedWorkspaceBySourceAndDestination = workspaceHelper.getWorkspaceForConnectionIdIgnoreExceptions(CONNECTION_ID);
+    final UUID retrievedWorkspaceBySourceAndDestination = workspaceHelper.getWorkspaceForConnection(SOURCE_ID, DEST_ID);
     assertEquals(WORKSPACE_ID, retrievedWorkspaceBySourceAndDestination);
-    verify(configRepository, times(1)).getStandardSync(CONNECTION_ID);
+    verify(configRepository, times(1)).getWorkspaceIdsForConnectionIds(List.of(CONNECTION_ID));
 
-    workspaceHelper.getWorkspaceForDestinationIdIgnoreExceptions(DEST_ID);
-    // There should have been no other call to configRepository
-    verify(configRepository, times(1)).getStandardSync(CONNECTION_ID);
+    workspaceHelper.getWorkspaceForConnectionIdIgnoreExceptions(CONNECTION_ID);
+    // There should have been no other call to configRepository, and the connection is never loaded
+    verify(configRepository, times(1)).getWorkspaceIdsForConnectionIds(List.of(CONNECTION_ID));
+    verify(configRepository, never()).getStandardSync(any());
+  }
+
+  @Test
+  void testOrganization() throws IOException, JsonValidationException, ConfigNotFoundException {
+    assertEquals(ORGANIZATION_ID, workspaceHelper.getOrganizationForWorkspace(WORKSPACE_ID));
+    assertEquals(ORGANIZATION_ID, workspaceHelper.getOrganizationForWorkspace(WORKSPACE_ID));
+    verify(configRepository, times(1)).getOrganizationIdsForWorkspaceIds(List.of(WORKSPACE_ID));
+    verify(configRepository, never()).getStandardWorkspaceNoSecrets(any(), anyBoolean());
+  }
+
+  @Test
+  void testBulkConnections() throws IOException {
+    final UUID otherConnectionId = UUID.randomUUID();
+    final UUID missingConnectionId = UUID.randomUUID();
+    doAnswer(projection(Map.of(CONNECTION_ID, WORKSPACE_ID, otherConnectionId, WORKSPACE_ID)))
+        .when(configRepository).getWorkspaceIdsForConnectionIds(any());
+
+    workspaceHelper.getWorkspaceForConnectionIdIgnoreExceptions(CONNECTION_ID);
+
+    final Map<UUID, UUID> result = workspaceHelper.getWorkspacesForConnectionIds(List.of(CONNECTION_ID, otherConnectionId, missingConnectionId));
+    assertEquals(Map.of(CONNECTION_ID, WORKSPACE_ID, otherConnectionId, WORKSPACE_ID), result);
+    // only the ids that were not cached yet are queried, at once
+    verify(configRepository, times(1)).getWorkspaceIdsForConnectionIds(Set.of(otherConnectionId, missingConnectionId));
+    verify(metricClient).count(eq(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_HIT), eq(1L), any(MetricAttribute.class));
+    verify(metricClient).count(eq(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_MISS), eq(2L), any(MetricAttribute.class));
+
+    // the bulk lookup fills the cache for single lookups
+    assertEquals(WORKSPACE_ID, workspaceHelper.getWorkspaceForConnectionIdIgnoreExceptions(otherConnectionId));
+    verify(configRepository, never()).getWorkspaceIdsForConnectionIds(List.of(otherConnectionId));
+  }
+
+  @Test
+  void testCacheMetrics() {
+    workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
+    workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
+    workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
+
+    verify(metricClient, times(1)).count(eq(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_MISS), eq(1L), any(MetricAttribute.class));
+    verify(metricClient, times(2)).count(eq(OssMetricsRegistry.WORKSPACE_HELPER_CACHE_HIT), eq(1L), any(MetricAttribute.class));
+  }
+
+  @Test
+  void testCacheExpiry() throws IOException {
+    workspaceHelper = new WorkspaceHelper(configRepository, jobPersistence, metricClient, WorkspaceHelper.DEFAULT_CACHE_MAX_SIZE, Duration.ZERO);
+
+    workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
+    workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(SOURCE_ID);
+
+    verify(configRepository, times(2)).getWorkspaceIdsForSourceIds(List.of(SOURCE_ID));
   }
 
   @Test
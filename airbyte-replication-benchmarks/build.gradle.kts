@@ -0,0 +1,44 @@
+plugins {
+    id("io.airbyte.gradle.jvm")
+}
+
+dependencies {
+    annotationProcessor(libs.jmh.annotations)
+
+    implementation(libs.jmh.core)
+    implementation(libs.apache.commons.lang)
+    implementation(libs.bundles.jackson)
+    implementation(libs.guava)
+    implementation(libs.airbyte.protocol)
+    // Collaborators that are not on the per-record path are mocked so the benchmarks run offline.
+    implementation(libs.bundles.mockito.inline)
+
+    implementation(project(":airbyte-analytics"))
+    implementation(project(":airbyte-api"))
+    implementation(project(":airbyte-commons"))
+    implementation(project(":airbyte-commons-converters"))
+    implementation(project(":airbyte-commons-protocol"))
+    implementation(project(":airbyte-commons-server"))
+    implementation(project(":airbyte-commons-worker"))
+    implementation(project(":airbyte-config:config-models"))
+    implementation(project(":airbyte-featureflag"))
+    implementation(project(":airbyte-json-validation"))
+    implementation(project(":airbyte-metrics:metrics-lib"))
+    implementation(project(":airbyte-worker-models"))
+}
+
+/**
+ * Runs every benchmark with the GC profiler, so that allocations per record are reported next to
+ * records/s and bytes/s. JMH options can be passed along, e.g.
+ * ./gradlew :airbyte-replication-benchmarks:jmh -PjmhArgs="ReplicationWorkerHelperBenchmark -p shape=WIDE"
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the replication hot path benchmarks."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args = listOf("-prof", "gc", "-rf", "json", "-rff", resultFile.absolutePath) +
+        (project.findProperty("jmhArgs")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+}
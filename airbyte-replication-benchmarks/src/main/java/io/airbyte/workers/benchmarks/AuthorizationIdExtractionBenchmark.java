@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.support.AirbyteHttpRequestFieldExtractor;
+import io.airbyte.commons.server.support.AuthenticationId;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time the server's event loop spends extracting the authorization IDs from a request body with
+ * {@link AirbyteHttpRequestFieldExtractor#extractIds}, before the request is routed.
+ * <p>
+ * The body is a connection update with a catalog of {@link #streams} streams. The connection ID comes
+ * after the catalog, so that the whole catalog has to be skipped to find it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthorizationIdExtractionBenchmark {
+
+  private static final Set<String> ID_FIELD_NAMES = Arrays.stream(AuthenticationId.values())
+      .map(AuthenticationId::getFieldName)
+      .collect(Collectors.toSet());
+
+  @Param({"10", "500"})
+  public int streams;
+
+  private AirbyteHttpRequestFieldExtractor extractor;
+  private byte[] body;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    extractor = new AirbyteHttpRequestFieldExtractor();
+
+    final ObjectNode update = JsonNodeFactory.instance.objectNode();
+    final ArrayNode catalogStreams = update.putObject("syncCatalog").putArray("streams");
+    for (int i = 0; i < streams; i++) {
+      final ObjectNode stream = catalogStreams.addObject();
+      final ObjectNode airbyteStream = stream.putObject("stream");
+      airbyteStream.put("name", "stream_" + i);
+      airbyteStream.put("namespace", "public");
+      airbyteStream.set("jsonSchema", RecordShape.NARROW.jsonSchema());
+      final ObjectNode config = stream.putObject("config");
+      config.put("syncMode", "incremental");
+      config.put("destinationSyncMode", "append_dedup");
+      config.putArray("cursorField").add("updated_at");
+      config.putArray("primaryKey").addArray().add("id");
+      config.put("selected", true);
+    }
+    update.put("status", "active");
+    update.put(AuthenticationId.CONNECTION_ID.getFieldName(), UUID.randomUUID().toString());
+    body = Jsons.serialize(update).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Object extractIds() {
+    return extractor.extractIds(new ByteArrayInputStream(body), ID_FIELD_NAMES);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.api.model.generated.AirbyteCatalog;
+import io.airbyte.api.model.generated.AirbyteStream;
+import io.airbyte.api.model.generated.AirbyteStreamAndConfiguration;
+import io.airbyte.api.model.generated.AirbyteStreamConfiguration;
+import io.airbyte.api.model.generated.DestinationSyncMode;
+import io.airbyte.api.model.generated.StreamTransform;
+import io.airbyte.api.model.generated.SyncMode;
+import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.CatalogDiffHelper;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.validation.json.JsonValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time taken by {@link CatalogDiffHelper#getCatalogDiff} to diff the catalog of a connection against
+ * a newly discovered one, as done when a source schema is refreshed.
+ * <p>
+ * The catalogs have {@link #streams} configured streams of {@link #FIELDS} fields each, including a
+ * nested object, and {@link #CHANGED_STREAMS} of them gain a field in the new catalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class CatalogDiffBenchmark {
+
+  private static final int FIELDS = 50;
+  private static final int CHANGED_STREAMS = 5;
+
+  @Param({"100", "10000"})
+  public int streams;
+
+  private AirbyteCatalog oldCatalog;
+  private AirbyteCatalog newCatalog;
+  private ConfiguredAirbyteCatalog configuredCatalog;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JsonValidationException {
+    oldCatalog = generateCatalog(0);
+    newCatalog = generateCatalog(CHANGED_STREAMS);
+    configuredCatalog = CatalogConverter.toConfiguredProtocol(oldCatalog);
+  }
+
+  @Benchmark
+  public List<StreamTransform> getCatalogDiff() throws JsonValidationException {
+    return CatalogDiffHelper.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog);
+  }
+
+  private AirbyteCatalog generateCatalog(final int changedStreams) {
+    return new AirbyteCatalog().streams(IntStream.range(0, streams)
+        .mapToObj(i -> new AirbyteStreamAndConfiguration()
+            .stream(new AirbyteStream()
+                .name("stream_" + i)
+                .namespace("public")
+                .jsonSchema(generateJsonSchema(i < changedStreams))
+                .supportedSyncModes(List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+                .sourceDefinedCursor(false)
+                .defaultCursorField(List.of("field_0"))
+                .sourceDefinedPrimaryKey(List.of(List.of("field_0"))))
+            .config(new AirbyteStreamConfiguration()
+                .syncMode(SyncMode.INCREMENTAL)
+                .cursorField(List.of("field_0"))
+                .destinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+                .primaryKey(List.of(List.of("field_0")))
+                .aliasName("stream_" + i)
+                .selected(true)
+                .fieldSelectionEnabled(false)))
+        .toList());
+  }
+
+  private static JsonNode generateJsonSchema(final boolean withExtraField) {
+    final List<Field> fields = new ArrayList<>(IntStream.range(0, FIELDS - 1)
+        .mapToObj(i -> Field.of("field_" + i, i % 2 == 0 ? JsonSchemaType.STRING : JsonSchemaType.NUMBER))
+        .toList());
+    fields.add(Field.of("nested", JsonSchemaType.OBJECT, List.of(
+        Field.of("nested_string", JsonSchemaType.STRING),
+        Field.of("nested_number", JsonSchemaType.NUMBER))));
+    if (withExtraField) {
+      fields.add(Field.of("extra_field", JsonSchemaType.STRING));
+    }
+    return CatalogHelpers.fieldsToJsonSchema(fields);
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.workers.internal.HeartbeatMonitor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the heartbeat the source registers for every record it reads, alone and while the
+ * heartbeat chaperone checks it from another thread.
+ * <p>
+ * Every invocation registers a batch of {@link #BATCH_SIZE} beats, so the primary score is
+ * records/s.
+ * <p>
+ * The {@code timestamped} groups are the baseline: they register beats the way the monitor used to,
+ * by reading the clock and storing the time of every beat.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Group)
+public class HeartbeatMonitorBenchmark {
+
+  static final int BATCH_SIZE = 1000;
+
+  private static final Duration FRESHNESS_THRESHOLD = Duration.ofHours(3);
+
+  private HeartbeatMonitor heartbeatMonitor;
+  private AtomicReference<Instant> lastBeat;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    heartbeatMonitor = new HeartbeatMonitor(FRESHNESS_THRESHOLD);
+    lastBeat = new AtomicReference<>(Instant.now());
+  }
+
+  @Benchmark
+  @Group("beat")
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void beat() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      heartbeatMonitor.beat();
+    }
+  }
+
+  @Benchmark
+  @Group("beatWhileChecked")
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void beatWhileChecked() {
+    beat();
+  }
+
+  @Benchmark
+  @Group("beatWhileChecked")
+  public boolean check() {
+    return heartbeatMonitor.isBeating().orElse(true);
+  }
+
+  @Benchmark
+  @Group("timestampedBeat")
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void timestampedBeat() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      lastBeat.set(Instant.now());
+    }
+  }
+
+  @Benchmark
+  @Group("timestampedBeatWhileChecked")
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void timestampedBeatWhileChecked() {
+    timestampedBeat();
+  }
+
+  @Benchmark
+  @Group("timestampedBeatWhileChecked")
+  public boolean timestampedCheck() {
+    return Duration.between(lastBeat.get(), Instant.now()).compareTo(FRESHNESS_THRESHOLD) < 0;
+  }
+
+}
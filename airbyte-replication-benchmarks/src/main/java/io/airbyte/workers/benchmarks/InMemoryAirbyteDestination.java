@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.internal.AirbyteDestination;
+import io.airbyte.workers.internal.AirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.DefaultAirbyteMessageBufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Destination that serializes messages with {@link DefaultAirbyteMessageBufferedWriter}, like the
+ * one writing to a connector's stdin, and discards the bytes. It never emits messages back.
+ */
+public class InMemoryAirbyteDestination implements AirbyteDestination {
+
+  private AirbyteMessageBufferedWriter writer;
+  private boolean finished = false;
+
+  @Override
+  public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) throws IOException {
+    writer = new DefaultAirbyteMessageBufferedWriter(OutputStream.nullOutputStream());
+    finished = false;
+  }
+
+  @Override
+  public void accept(final AirbyteMessage message) throws IOException {
+    writer.write(message);
+  }
+
+  @Override
+  public void notifyEndOfInput() throws IOException {
+    writer.flush();
+    finished = true;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return finished;
+  }
+
+  @Override
+  public int getExitValue() {
+    return 0;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> attemptRead() {
+    return Optional.empty();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  @Override
+  public void cancel() throws IOException {
+    close();
+  }
+
+  /**
+   * Number of serialized bytes written since the destination was started.
+   */
+  public long getBytesWritten() {
+    return writer.getBytesWritten();
+  }
+
+}
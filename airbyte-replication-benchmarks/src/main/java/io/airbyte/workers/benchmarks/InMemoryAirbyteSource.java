@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import io.airbyte.workers.internal.LineFramedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Source that replays serialized records from memory instead of reading a connector's stdout.
+ * <p>
+ * Records go through the same {@link LineFramedInputStream} and {@link AirbyteStreamFactory} as the
+ * ones read from a connector pod, so every {@link #start} parses fresh messages and parsing is
+ * measured along with the rest of the pipeline. The direct buffer lines are framed in is allocated
+ * once and reused by every {@link #start}.
+ */
+public class InMemoryAirbyteSource implements AirbyteSource {
+
+  private static final int BUFFER_SIZE = 1024 * 1024;
+
+  private final byte[] serializedRecords;
+  private final AirbyteStreamFactory streamFactory;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private Iterator<AirbyteMessage> messages;
+
+  public InMemoryAirbyteSource(final byte[] serializedRecords, final AirbyteStreamFactory streamFactory) {
+    this.serializedRecords = serializedRecords;
+    this.streamFactory = streamFactory;
+  }
+
+  @Override
+  public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot) {
+    messages = streamFactory.createFromInputStream(
+        new LineFramedInputStream(Channels.newChannel(new ByteArrayInputStream(serializedRecords)), buffer))
+        .iterator();
+  }
+
+  @Override
+  public boolean isFinished() {
+    return !messages.hasNext();
+  }
+
+  @Override
+  public int getExitValue() {
+    return 0;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> attemptRead() {
+    return messages.hasNext() ? Optional.of(messages.next()) : Optional.empty();
+  }
+
+  @Override
+  public void close() {}
+
+  /**
+   * Number of bytes read by a full pass over the records.
+   */
+  public long getBytesRead() {
+    return serializedRecords.length;
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.SyncMode;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Record shapes the replication benchmarks are run against. Each shape generates a single stream
+ * catalog and deterministic records that conform to it, so that schema validation takes the same
+ * path as a healthy sync.
+ */
+public enum RecordShape {
+
+  /**
+   * A handful of small scalar columns, the most common shape for database sources.
+   */
+  NARROW {
+
+    @Override
+    ObjectNode schemaProperties() {
+      final ObjectNode properties = JsonNodeFactory.instance.objectNode();
+      properties.set("id", type("integer"));
+      properties.set("name", type("string"));
+      properties.set("active", type("boolean"));
+      properties.set("updated_at", type("string"));
+      return properties;
+    }
+
+    @Override
+    ObjectNode data(final int index) {
+      final ObjectNode data = JsonNodeFactory.instance.objectNode();
+      data.put("id", index);
+      data.put("name", "name-" + index);
+      data.put("active", index % 2 == 0);
+      data.put("updated_at", "2024-01-01T00:00:00Z");
+      return data;
+    }
+
+  },
+
+  /**
+   * Many scalar columns, e.g. denormalized tables or API objects flattened by the source.
+   */
+  WIDE {
+
+    private static final int COLUMNS = 100;
+
+    @Override
+    ObjectNode schemaProperties() {
+      final ObjectNode properties = JsonNodeFactory.instance.objectNode();
+      for (int i = 0; i < COLUMNS; i++) {
+        properties.set("column_" + i, type(i % 2 == 0 ? "integer" : "string"));
+      }
+      return properties;
+    }
+
+    @Override
+    ObjectNode data(final int index) {
+      final ObjectNode data = JsonNodeFactory.instance.objectNode();
+      for (int i = 0; i < COLUMNS; i++) {
+        if (i % 2 == 0) {
+          data.put("column_" + i, (long) index * i);
+        } else {
+          data.put("column_" + i, "value-" + index + "-" + i);
+        }
+      }
+      return data;
+    }
+
+  },
+
+  /**
+   * Nested objects and arrays, typical of API sources.
+   */
+  NESTED {
+
+    private static final int ITEMS = 5;
+
+    @Override
+    ObjectNode schemaProperties() {
+      final ObjectNode address = type("object");
+      final ObjectNode addressProperties = address.putObject("properties");
+      addressProperties.set("street", type("string"));
+      addressProperties.set("city", type("string"));
+      addressProperties.set("zip", type("string"));
+
+      final ObjectNode item = type("object");
+      final ObjectNode itemProperties = item.putObject("properties");
+      itemProperties.set("sku", type("string"));
+      itemProperties.set("quantity", type("integer"));
+      itemProperties.set("price", type("number"));
+      final ObjectNode items = type("array");
+      items.set("items", item);
+
+      final ObjectNode properties = JsonNodeFactory.instance.objectNode();
+      properties.set("id", type("integer"));
+      properties.set("address", address);
+      properties.set("items", items);
+      return properties;
+    }
+
+    @Override
+    ObjectNode data(final int index) {
+      final ObjectNode data = JsonNodeFactory.instance.objectNode();
+      data.put("id", index);
+      final ObjectNode address = data.putObject("address");
+      address.put("street", index + " Main Street");
+      address.put("city", "San Francisco");
+      address.put("zip", "94105");
+      final var items = data.putArray("items");
+      for (int i = 0; i < ITEMS; i++) {
+        final ObjectNode item = items.addObject();
+        item.put("sku", "sku-" + i);
+        item.put("quantity", i + 1);
+        item.put("price", 9.99 * (i + 1));
+      }
+      return data;
+    }
+
+  },
+
+  /**
+   * Few columns holding large text values, e.g. documents or serialized blobs.
+   */
+  LARGE_STRINGS {
+
+    private static final int STRING_LENGTH = 16 * 1024;
+
+    @Override
+    ObjectNode schemaProperties() {
+      final ObjectNode properties = JsonNodeFactory.instance.objectNode();
+      properties.set("id", type("integer"));
+      properties.set("body", type("string"));
+      return properties;
+    }
+
+    @Override
+    ObjectNode data(final int index) {
+      final ObjectNode data = JsonNodeFactory.instance.objectNode();
+      data.put("id", index);
+      final StringBuilder body = new StringBuilder(STRING_LENGTH);
+      while (body.length() < STRING_LENGTH) {
+        // non ascii characters on purpose so that decoding and escaping are exercised
+        body.append("Lorem ipsum dolor sit amet, consectetur adipiscing élit \"ünïcödé\" ").append(index).append('\n');
+      }
+      data.put("body", body.toString());
+      return data;
+    }
+
+  };
+
+  public static final String STREAM_NAME = "benchmark_stream";
+  public static final String STREAM_NAMESPACE = "benchmark";
+
+  abstract ObjectNode schemaProperties();
+
+  abstract ObjectNode data(int index);
+
+  public JsonNode jsonSchema() {
+    final ObjectNode schema = type("object");
+    schema.set("properties", schemaProperties());
+    return schema;
+  }
+
+  public ConfiguredAirbyteCatalog catalog() {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream()
+            .withName(STREAM_NAME)
+            .withNamespace(STREAM_NAMESPACE)
+            .withJsonSchema(jsonSchema())
+            .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH)))
+        .withSyncMode(SyncMode.FULL_REFRESH)
+        .withDestinationSyncMode(DestinationSyncMode.APPEND)));
+  }
+
+  public AirbyteMessage record(final int index) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withNamespace(STREAM_NAMESPACE)
+            .withEmittedAt(1_700_000_000_000L + index)
+            .withData(data(index)));
+  }
+
+  /**
+   * Serialized records, one per line, the way a connector writes them to stdout.
+   */
+  public byte[] serializedRecords(final int count) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < count; i++) {
+      out.writeBytes(Jsons.serialize(record(i)).getBytes(StandardCharsets.UTF_8));
+      out.write('\n');
+    }
+    return out.toByteArray();
+  }
+
+  private static ObjectNode type(final String type) {
+    final ObjectNode node = JsonNodeFactory.instance.objectNode();
+    node.put("type", type);
+    return node;
+  }
+
+}
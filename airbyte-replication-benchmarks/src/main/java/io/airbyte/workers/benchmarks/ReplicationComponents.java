@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.analytics.TrackingClient;
+import io.airbyte.commons.features.EnvVariableFeatureFlags;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.featureflag.TestClient;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
+import io.airbyte.workers.internal.bookkeeping.ParallelStreamStatsTracker;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the per-record components of a sync the way the replication worker wires them, with
+ * collaborators that are not on the per-record path replaced by no-op implementations.
+ */
+final class ReplicationComponents {
+
+  static final String SOURCE_IMAGE = "airbyte/source-benchmark:dev";
+  static final String DESTINATION_IMAGE = "airbyte/destination-benchmark:dev";
+  static final UUID CONNECTION_ID = UUID.randomUUID();
+  static final UUID WORKSPACE_ID = UUID.randomUUID();
+  static final long JOB_ID = 1L;
+  static final int ATTEMPT_NUMBER = 0;
+
+  private ReplicationComponents() {}
+
+  /**
+   * Validation runs on the calling thread rather than on the validator's background executor, so
+   * that its cost is attributed to the benchmark that triggers it.
+   */
+  static RecordSchemaValidator recordSchemaValidator(final RecordShape shape) {
+    return new RecordSchemaValidator(
+        Map.of(new AirbyteStreamNameNamespacePair(RecordShape.STREAM_NAME, RecordShape.STREAM_NAMESPACE), Jsons.clone(shape.jsonSchema())),
+        MoreExecutors.newDirectExecutorService());
+  }
+
+  static FieldSelector fieldSelector(final RecordSchemaValidator recordSchemaValidator) {
+    return new FieldSelector(recordSchemaValidator, new WorkerMetricReporter(new NotImplementedMetricClient(), SOURCE_IMAGE), true, false);
+  }
+
+  static NamespacingMapper namespacingMapper() {
+    return new NamespacingMapper(NamespaceDefinitionType.DESTINATION, "", "");
+  }
+
+  static AirbyteMessageTracker messageTracker() {
+    final ParallelStreamStatsTracker syncStatsTracker = new ParallelStreamStatsTracker(new NotImplementedMetricClient(),
+        mock(TrackingClient.class), new TestClient(), CONNECTION_ID, WORKSPACE_ID, JOB_ID, ATTEMPT_NUMBER);
+    return new AirbyteMessageTracker(syncStatsTracker, new EnvVariableFeatureFlags(), SOURCE_IMAGE, DESTINATION_IMAGE);
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.migrations.v1.AirbyteMessageMigrationV1;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.internal.AirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import io.airbyte.workers.internal.DefaultAirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.LineFramedInputStream;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of each stage a record goes through between the source's stdout and the destination's
+ * stdin, measured in isolation.
+ * <p>
+ * Every invocation processes a batch of {@link #BATCH_SIZE} records, so the primary score is
+ * records/s and, with the GC profiler, {@code gc.alloc.rate.norm} is the bytes allocated per record.
+ * {@link ThroughputCounters} adds bytes/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(ReplicationStageBenchmark.BATCH_SIZE)
+public class ReplicationStageBenchmark {
+
+  static final int BATCH_SIZE = 1000;
+  private static final int BUFFER_SIZE = 1024 * 1024;
+
+  @Param
+  public RecordShape shape;
+
+  private byte[] serializedRecords;
+  // allocated once, so that parsing doesn't allocate a direct buffer per batch
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private List<AirbyteMessage> messages;
+  private List<io.airbyte.protocol.models.v0.AirbyteMessage> v0Messages;
+  private Optional<ConfiguredAirbyteCatalog> catalog;
+
+  private AirbyteStreamFactory streamFactory;
+  private AirbyteMessageMigrationV1 migration;
+  private FieldSelector fieldSelector;
+  private RecordSchemaValidator recordSchemaValidator;
+  private AirbyteStreamNameNamespacePair streamNameNamespacePair;
+  private ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors;
+  private NamespacingMapper mapper;
+  private AirbyteMessageTracker messageTracker;
+  private AirbyteMessageBufferedWriter writer;
+
+  /**
+   * Messages parsed right before each invocation, for the stages that modify records in place.
+   */
+  @State(Scope.Thread)
+  public static class FreshMessages {
+
+    List<AirbyteMessage> messages;
+
+    @Setup(Level.Invocation)
+    public void parse(final ReplicationStageBenchmark benchmark) {
+      messages = benchmark.parseRecords().collect(Collectors.toList());
+    }
+
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    serializedRecords = shape.serializedRecords(BATCH_SIZE);
+    streamFactory = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false);
+    messages = parseRecords().collect(Collectors.toList());
+    v0Messages = messages.stream()
+        .map(message -> Jsons.object(Jsons.jsonNode(message), io.airbyte.protocol.models.v0.AirbyteMessage.class))
+        .collect(Collectors.toList());
+    catalog = Optional.of(shape.catalog());
+
+    migration = new AirbyteMessageMigrationV1();
+    recordSchemaValidator = ReplicationComponents.recordSchemaValidator(shape);
+    fieldSelector = ReplicationComponents.fieldSelector(recordSchemaValidator);
+    fieldSelector.populateFields(shape.catalog());
+    streamNameNamespacePair = new AirbyteStreamNameNamespacePair(RecordShape.STREAM_NAME, RecordShape.STREAM_NAMESPACE);
+    validationErrors = new ConcurrentHashMap<>();
+    mapper = ReplicationComponents.namespacingMapper();
+    messageTracker = ReplicationComponents.messageTracker();
+    writer = new DefaultAirbyteMessageBufferedWriter(OutputStream.nullOutputStream());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    writer.close();
+    recordSchemaValidator.close();
+  }
+
+  @Benchmark
+  public void parse(final ThroughputCounters counters, final Blackhole blackhole) {
+    parseRecords().forEach(blackhole::consume);
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void upgradeV1(final ThroughputCounters counters, final Blackhole blackhole) {
+    for (final io.airbyte.protocol.models.v0.AirbyteMessage message : v0Messages) {
+      blackhole.consume(migration.upgrade(message, catalog));
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void filterSelectedFields(final FreshMessages fresh, final ThroughputCounters counters) {
+    for (final AirbyteMessage message : fresh.messages) {
+      fieldSelector.filterSelectedFields(message);
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void validateSchema(final ThroughputCounters counters) {
+    for (final AirbyteMessage message : messages) {
+      recordSchemaValidator.validateSchema(message.getRecord(), streamNameNamespacePair, validationErrors);
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void mapMessage(final FreshMessages fresh, final ThroughputCounters counters, final Blackhole blackhole) {
+    for (final AirbyteMessage message : fresh.messages) {
+      blackhole.consume(mapper.mapMessage(message));
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void acceptFromSource(final ThroughputCounters counters) {
+    for (final AirbyteMessage message : messages) {
+      messageTracker.acceptFromSource(message);
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  @Benchmark
+  public void write(final ThroughputCounters counters) throws IOException {
+    final long bytesBefore = writer.getBytesWritten();
+    for (final AirbyteMessage message : messages) {
+      writer.write(message);
+    }
+    writer.flush();
+    counters.bytes += writer.getBytesWritten() - bytesBefore;
+  }
+
+  private Stream<AirbyteMessage> parseRecords() {
+    return streamFactory.createFromInputStream(
+        new LineFramedInputStream(Channels.newChannel(new ByteArrayInputStream(serializedRecords)), buffer));
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import io.airbyte.analytics.TrackingClient;
+import io.airbyte.commons.converters.ThreadedTimeTracker;
+import io.airbyte.persistence.job.models.ReplicationInput;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.context.ReplicationContext;
+import io.airbyte.workers.context.ReplicationFeatureFlags;
+import io.airbyte.workers.general.ReplicationWorkerHelper;
+import io.airbyte.workers.helper.AirbyteMessageDataExtractor;
+import io.airbyte.workers.internal.AnalyticsMessageTracker;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEventPublishingHelper;
+import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
+import io.airbyte.workload.api.client.generated.WorkloadApi;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the whole per-record path of a sync: records are parsed from an in-memory source,
+ * processed by a real {@link ReplicationWorkerHelper} and serialized by an in-memory destination.
+ * <p>
+ * Like the replication workers, this reads and writes on the same thread of control per record, but
+ * without the buffering between threads, so that the score reflects the cost of the pipeline rather
+ * than scheduling. Reports records/s, bytes/s and, with the GC profiler, bytes allocated per record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(ReplicationWorkerHelperBenchmark.BATCH_SIZE)
+public class ReplicationWorkerHelperBenchmark {
+
+  static final int BATCH_SIZE = 1000;
+  private static final Path JOB_ROOT = Path.of("/");
+
+  @Param
+  public RecordShape shape;
+
+  private ReplicationInput replicationInput;
+  private RecordSchemaValidator recordSchemaValidator;
+  private ReplicationWorkerHelper replicationWorkerHelper;
+  private InMemoryAirbyteSource source;
+  private InMemoryAirbyteDestination destination;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    replicationInput = new ReplicationInput()
+        .withCatalog(shape.catalog())
+        .withConnectionId(ReplicationComponents.CONNECTION_ID)
+        .withWorkspaceId(ReplicationComponents.WORKSPACE_ID);
+    recordSchemaValidator = ReplicationComponents.recordSchemaValidator(shape);
+
+    replicationWorkerHelper = new ReplicationWorkerHelper(
+        new AirbyteMessageDataExtractor(),
+        ReplicationComponents.fieldSelector(recordSchemaValidator),
+        ReplicationComponents.namespacingMapper(),
+        ReplicationComponents.messageTracker(),
+        mock(SyncPersistence.class),
+        mock(ReplicationAirbyteMessageEventPublishingHelper.class),
+        new ThreadedTimeTracker(),
+        () -> {},
+        mock(WorkloadApi.class),
+        false,
+        new AnalyticsMessageTracker(mock(TrackingClient.class)),
+        Optional.empty());
+    replicationWorkerHelper.initialize(
+        new ReplicationContext(false, ReplicationComponents.CONNECTION_ID, UUID.randomUUID(), UUID.randomUUID(),
+            ReplicationComponents.JOB_ID, ReplicationComponents.ATTEMPT_NUMBER, ReplicationComponents.WORKSPACE_ID,
+            ReplicationComponents.SOURCE_IMAGE, ReplicationComponents.DESTINATION_IMAGE),
+        new ReplicationFeatureFlags(false, 0, 4, false),
+        JOB_ROOT);
+
+    source = new InMemoryAirbyteSource(shape.serializedRecords(BATCH_SIZE),
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false));
+    destination = new InMemoryAirbyteDestination();
+  }
+
+  @Setup(Level.Invocation)
+  public void startConnectors() {
+    replicationWorkerHelper.startSource(source, replicationInput, JOB_ROOT);
+    replicationWorkerHelper.startDestination(destination, replicationInput, JOB_ROOT);
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeConnectors() throws IOException {
+    source.close();
+    destination.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    recordSchemaValidator.close();
+  }
+
+  @Benchmark
+  public void replicate(final ThroughputCounters counters) throws Exception {
+    while (!source.isFinished()) {
+      final Optional<AirbyteMessage> message = source.attemptRead().flatMap(replicationWorkerHelper::processMessageFromSource);
+      if (message.isPresent()) {
+        destination.accept(message.get());
+      }
+    }
+    destination.notifyEndOfInput();
+    counters.bytes += source.getBytesRead();
+  }
+
+}
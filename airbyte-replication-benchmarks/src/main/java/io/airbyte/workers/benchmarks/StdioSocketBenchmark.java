@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.internal.LineFramedInputStream;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the stdout relay of a connector pod, read the way KubePodProcess does: a loopback
+ * socket accepted from a server socket with a large receive buffer, framed by a
+ * {@link LineFramedInputStream} and parsed by {@link VersionedAirbyteStreamFactory}.
+ * <p>
+ * A writer thread plays the part of socat in the connector pod and streams the records in blocks of
+ * {@link #SOCAT_BLOCK_SIZE} bytes for the whole trial. {@link #receiveBufferBytes} is the value of
+ * the job kube stdio socket receive buffer setting.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(StdioSocketBenchmark.BATCH_SIZE)
+public class StdioSocketBenchmark {
+
+  static final int BATCH_SIZE = 1000;
+  // socat's default transfer block size
+  private static final int SOCAT_BLOCK_SIZE = 8192;
+
+  @Param
+  public RecordShape shape;
+
+  @Param({"65536", "1048576"})
+  public int receiveBufferBytes;
+
+  private byte[] serializedRecords;
+  private ExecutorService socat;
+  private ServerSocketChannel serverSocketChannel;
+  private LineFramedInputStream stdout;
+  private Iterator<AirbyteMessage> messages;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    serializedRecords = shape.serializedRecords(BATCH_SIZE);
+    socat = Executors.newSingleThreadExecutor();
+
+    serverSocketChannel = ServerSocketChannel.open();
+    serverSocketChannel.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferBytes);
+    serverSocketChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    startSocat(((InetSocketAddress) serverSocketChannel.getLocalAddress()).getPort());
+
+    stdout = new LineFramedInputStream(serverSocketChannel.accept(), receiveBufferBytes);
+    messages = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false)
+        .createFromInputStream(stdout)
+        .iterator();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    stdout.close();
+    serverSocketChannel.close();
+    socat.shutdownNow();
+  }
+
+  @Benchmark
+  public void readStdout(final ThroughputCounters counters, final Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      blackhole.consume(messages.next());
+    }
+    counters.bytes += serializedRecords.length;
+  }
+
+  /**
+   * Writes the records over and over until the reading side is closed.
+   */
+  private void startSocat(final int port) {
+    socat.execute(() -> {
+      try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+          final OutputStream outputStream = socket.getOutputStream()) {
+        while (!Thread.currentThread().isInterrupted()) {
+          for (int offset = 0; offset < serializedRecords.length; offset += SOCAT_BLOCK_SIZE) {
+            outputStream.write(serializedRecords, offset, Math.min(SOCAT_BLOCK_SIZE, serializedRecords.length - offset));
+          }
+        }
+      } catch (final IOException e) {
+        // the benchmark closed the socket at the end of the trial
+      }
+    });
+  }
+
+}
@@ -10,6 +10,8 @@ import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
 
 import io.airbyte.api.generated.AttemptApi;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberRequest;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
@@ -19,6 +21,7 @@ import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
+import io.airbyte.api.model.generated.SynchronousJobLogsRequestBody;
 import io.airbyte.commons.server.handlers.AttemptHandler;
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.micronaut.http.MediaType;
@@ -49,6 +52,24 @@ public class AttemptApiController implements AttemptApi {
         .execute(() -> attemptHandler.getAttemptForJob(requestBody.getJobId(), requestBody.getAttemptNumber()));
   }
 
+  @Override
+  @Post(uri = "/get_logs",
+        processes = MediaType.APPLICATION_JSON)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Secured({WORKSPACE_READER, ORGANIZATION_READER})
+  public AttemptLogsRead getAttemptLogs(final AttemptLogsRequestBody requestBody) {
+    return ApiHelper.execute(() -> attemptHandler.getAttemptLogs(requestBody));
+  }
+
+  @Override
+  @Post(uri = "/get_synchronous_job_logs",
+        processes = MediaType.APPLICATION_JSON)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Secured({WORKSPACE_READER, ORGANIZATION_READER})
+  public AttemptLogsRead getSynchronousJobLogs(final SynchronousJobLogsRequestBody requestBody) {
+    return ApiHelper.execute(() -> attemptHandler.getSynchronousJobLogs(requestBody));
+  }
+
   @Override
   @Post(uri = "/create_new_attempt_number",
         processes = MediaType.APPLICATION_JSON)
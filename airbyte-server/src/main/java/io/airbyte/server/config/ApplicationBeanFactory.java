@@ -21,6 +21,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.persistence.job.DefaultJobCreator;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
@@ -75,13 +76,15 @@ public class ApplicationBeanFactory {
                                  final TrackingClient trackingClient,
                                  final WebUrlHelper webUrlHelper,
                                  final WorkspaceHelper workspaceHelper,
-                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                                 final NotificationDispatcher notificationDispatcher) {
     return new JobNotifier(
         webUrlHelper,
         configRepository,
         workspaceHelper,
         trackingClient,
-        actorDefinitionVersionHelper);
+        actorDefinitionVersionHelper,
+        notificationDispatcher);
   }
 
   @Singleton
@@ -95,20 +98,20 @@ public class ApplicationBeanFactory {
   @Singleton
   public SyncJobFactory jobFactory(
                                    final ConfigRepository configRepository,
-                                   final JobPersistence jobPersistence,
                                    @Property(name = "airbyte.connector.specific-resource-defaults-enabled",
                                              defaultValue = "false") final boolean connectorSpecificResourceDefaultsEnabled,
                                    final DefaultJobCreator jobCreator,
                                    final OAuthConfigSupplier oAuthConfigSupplier,
                                    final ConfigInjector configInjector,
-                                   final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                                   final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                                   final WorkspaceHelper workspaceHelper) {
     return new DefaultSyncJobFactory(
         connectorSpecificResourceDefaultsEnabled,
         jobCreator,
         configRepository,
         oAuthConfigSupplier,
         configInjector,
-        new WorkspaceHelper(configRepository, jobPersistence),
+        workspaceHelper,
         actorDefinitionVersionHelper);
   }
 
@@ -5,10 +5,13 @@
 package io.airbyte.server.config;
 
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 
 /**
  * Bean factory for workspace helper.
@@ -17,8 +20,12 @@ import jakarta.inject.Singleton;
 public class HelperBeanFactory {
 
   @Singleton
-  public WorkspaceHelper workspaceHelper(final ConfigRepository configRepository, final JobPersistence jobPersistence) {
-    return new WorkspaceHelper(configRepository, jobPersistence);
+  public WorkspaceHelper workspaceHelper(final ConfigRepository configRepository,
+                                         final JobPersistence jobPersistence,
+                                         final MetricClient metricClient,
+                                         @Value("${airbyte.server.workspace-helper-cache.max-size:20000}") final long cacheMaxSize,
+                                         @Value("${airbyte.server.workspace-helper-cache.expire-after-write:10m}") final Duration cacheExpireAfterWrite) {
+    return new WorkspaceHelper(configRepository, jobPersistence, metricClient, cacheMaxSize, cacheExpireAfterWrite);
   }
 
 }
@@ -4,14 +4,20 @@
 
 package io.airbyte.server.apis;
 
+import io.airbyte.api.model.generated.AttemptLogsRead;
+import io.airbyte.api.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
+import io.airbyte.api.model.generated.SynchronousJobLogsRequestBody;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.io.IOException;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -40,4 +46,28 @@ class AttemptApiTest extends BaseControllerTest {
         HttpStatus.OK);
   }
 
+  @Test
+  void testGetAttemptLogs() throws IOException {
+    Mockito.when(attemptHandler.getAttemptLogs(Mockito.any()))
+        .thenReturn(new AttemptLogsRead())
+        .thenThrow(new IdNotFoundKnownException("", ""));
+    final String path = "/api/v1/attempt/get_logs";
+    testEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new AttemptLogsRequestBody().jobId(1L).attemptNumber(0))),
+        HttpStatus.OK);
+    testErrorEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new AttemptLogsRequestBody().jobId(1L).attemptNumber(0))),
+        HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void testGetSynchronousJobLogs() {
+    Mockito.when(attemptHandler.getSynchronousJobLogs(Mockito.any()))
+        .thenReturn(new AttemptLogsRead());
+    final String path = "/api/v1/attempt/get_synchronous_job_logs";
+    testEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new SynchronousJobLogsRequestBody().workspaceId(UUID.randomUUID()).jobId(UUID.randomUUID()))),
+        HttpStatus.OK);
+  }
+
 }
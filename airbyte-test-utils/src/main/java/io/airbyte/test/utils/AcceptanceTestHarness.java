@@ -25,6 +25,7 @@ import io.airbyte.api.client.model.generated.AirbyteStream;
 import io.airbyte.api.client.model.generated.AirbyteStreamAndConfiguration;
 import io.airbyte.api.client.model.generated.AirbyteStreamConfiguration;
 import io.airbyte.api.client.model.generated.AttemptInfoRead;
+import io.airbyte.api.client.model.generated.AttemptLogsRequestBody;
 import io.airbyte.api.client.model.generated.CheckConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionCreate;
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
@@ -56,6 +57,7 @@ import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.api.client.model.generated.JobStatus;
 import io.airbyte.api.client.model.generated.JobWithAttemptsRead;
 import io.airbyte.api.client.model.generated.ListResourcesForWorkspacesRequestBody;
+import io.airbyte.api.client.model.generated.LogReadDirection;
 import io.airbyte.api.client.model.generated.NamespaceDefinitionType;
 import io.airbyte.api.client.model.generated.NonBreakingChangesPreference;
 import io.airbyte.api.client.model.generated.OperationCreate;
@@ -193,6 +195,7 @@ public class AcceptanceTestHarness {
   public static final int FINAL_INTERVAL_SECS = 60;
   public static final int MAX_TRIES = 3;
   public static final int MAX_ALLOWED_SECOND_PER_RUN = 120;
+  public static final int MAX_LOG_PAGE_SIZE = 10_000;
 
   // NOTE: we include `INCOMPLETE` here because the job may still retry; see
   // https://docs.airbyte.com/understanding-airbyte/jobs/.
@@ -864,6 +867,18 @@ public class AcceptanceTestHarness {
         "get job info", JITTER_MAX_INTERVAL_SECS, FINAL_INTERVAL_SECS, MAX_TRIES);
   }
 
+  /**
+   * Reads the first or the last lines of the logs of an attempt, up to the maximum page size.
+   */
+  public List<String> getAttemptLogLines(final long jobId, final int attemptNumber, final LogReadDirection direction) throws ApiException {
+    return apiClient.getAttemptApi().getAttemptLogs(new AttemptLogsRequestBody()
+        .jobId(jobId)
+        .attemptNumber(attemptNumber)
+        .direction(direction)
+        .limit(MAX_LOG_PAGE_SIZE))
+        .getLogLines();
+  }
+
   public SourceDefinitionRead createE2eSourceDefinition(final UUID workspaceId) {
     final var sourceDefinitionRead = AirbyteApiClient.retryWithJitter(
         () -> apiClient.getSourceDefinitionApi().createCustomSourceDefinition(new CustomSourceDefinitionCreate()
@@ -1015,7 +1030,8 @@ public class AcceptanceTestHarness {
       id.setId(originalJob.getId());
       for (final AttemptInfoRead attemptInfo : apiClient.getJobsApi().getJobInfo(id).getAttempts()) {
         final var msg = "Unsuccessful job attempt " + attemptInfo.getAttempt().getId()
-            + " with status " + job.getStatus() + " produced log output as follows: " + attemptInfo.getLogs().getLogLines();
+            + " with status " + job.getStatus() + " produced log output as follows: "
+            + getAttemptLogLines(originalJob.getId(), attemptInfo.getAttempt().getId().intValue(), LogReadDirection.BACKWARD);
         LOGGER.warn(msg);
         debugInfo.add(msg);
       }
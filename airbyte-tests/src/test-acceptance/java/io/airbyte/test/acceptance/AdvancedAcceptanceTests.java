@@ -27,6 +27,7 @@ import io.airbyte.api.client.model.generated.DestinationSyncMode;
 import io.airbyte.api.client.model.generated.JobInfoRead;
 import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.api.client.model.generated.JobStatus;
+import io.airbyte.api.client.model.generated.LogReadDirection;
 import io.airbyte.api.client.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.client.model.generated.SourceDefinitionRead;
 import io.airbyte.api.client.model.generated.SourceDiscoverSchemaRead;
@@ -271,7 +272,9 @@ class AdvancedAcceptanceTests {
 
     int expectedMessageNumber = 0;
     final int max = 10_000;
-    for (final String logLine : attemptInfoRead.getLogs().getLogLines()) {
+    final List<String> logLines =
+        testHarness.getAttemptLogLines(runningJob.getId(), attemptInfoRead.getAttempt().getId().intValue(), LogReadDirection.FORWARD);
+    for (final String logLine : logLines) {
       if (expectedMessageNumber > max) {
         break;
       }
@@ -18,7 +18,7 @@ import { JobWithAttempts } from "area/connection/types/jobs";
 import { buildAttemptLink, useAttemptLink } from "area/connection/utils/attemptLink";
 import { getJobCreatedAt } from "area/connection/utils/jobs";
 import { useCurrentWorkspaceId } from "area/workspace/utils";
-import { useCurrentWorkspace, useGetDebugInfoJobManual } from "core/api";
+import { useCurrentWorkspace, useGetAllAttemptLogs, useGetDebugInfoJobManual } from "core/api";
 import { copyToClipboard } from "core/utils/clipboard";
 import { FILE_TYPE_DOWNLOAD, downloadFile, fileizeString } from "core/utils/file";
 import { useAppMonitoringService } from "hooks/services/AppMonitoringService";
@@ -48,6 +48,7 @@ export const JobHistoryItem: React.FC<JobHistoryItemProps> = ({ jobWithAttempts
   const { formatMessage } = useIntl();
   const { registerNotification, unregisterNotificationById } = useNotificationService();
   const { refetch: fetchJobLogs } = useGetDebugInfoJobManual(jobWithAttempts.job.id);
+  const getAllAttemptLogs = useGetAllAttemptLogs();
   const workspaceId = useCurrentWorkspaceId();
   const { name: workspaceName } = useCurrentWorkspace();
   const { trackError } = useAppMonitoringService();
@@ -101,16 +102,20 @@ export const JobHistoryItem: React.FC<JobHistoryItemProps> = ({ jobWithAttempts
         // Promise.all() with a timeout is used to ensure that the notification is shown to the user for at least 1 second
         Promise.all([
           fetchJobLogs()
-            .then(({ data }) => {
+            .then(async ({ data }) => {
               if (!data) {
                 throw new Error("No logs returned from server");
               }
+              // Job debug info does not inline the attempt logs, they are read page by page
+              const attemptLogs = await Promise.all(
+                data.attempts.map((info) => getAllAttemptLogs(jobWithAttempts.job.id, info.attempt.id))
+              );
               const file = new Blob(
                 [
-                  data.attempts
-                    .flatMap((info, index) => [
+                  attemptLogs
+                    .flatMap((logLines, index) => [
                       `>> ATTEMPT ${index + 1}/${data.attempts.length}\n`,
-                      ...info.logs.logLines,
+                      ...logLines,
                       `\n\n\n`,
                     ])
                     .join("\n"),
@@ -1,8 +1,6 @@
 import Anser from "anser";
 import { useMemo } from "react";
 
-import { AttemptInfoRead } from "core/api/types/AirbyteClient";
-
 export interface CleanedLogs {
   origins: JobLogOrigins[];
   logLines: CleanedLogLines;
@@ -39,12 +37,12 @@ export const KNOWN_LOG_ORIGINS = [
 /**
  * useCleanLogs iterates through each log line of each attempt and transforms it to be more easily consumed by the UI.
  */
-export const useCleanLogs = (attempt: AttemptInfoRead): CleanedLogs => {
+export const useCleanLogs = (rawLogLines: string[]): CleanedLogs => {
   return useMemo(() => {
     const origins: JobLogOrigins[] = [];
     // Some logs are multi-line, so we want to associate those lines (which might not have the correct prefix) with the last domain that was detected
     let lastDomain: JobLogOrigins | undefined;
-    const logLines = attempt.logs.logLines.map((line, index) => {
+    const logLines = rawLogLines.map((line, index) => {
       const text = Anser.ansiToText(line);
       const domain = KNOWN_LOG_ORIGINS.find((domain) => domain.regex.test(text))?.key;
       if (domain) {
@@ -64,5 +62,5 @@ export const useCleanLogs = (attempt: AttemptInfoRead): CleanedLogs => {
       origins,
       logLines,
     };
-  }, [attempt]);
+  }, [rawLogLines]);
 };
@@ -1,32 +1,41 @@
-import React from "react";
+import Anser from "anser";
+import React, { useState } from "react";
 import { useIntl } from "react-intl";
 
 import { Button } from "components/ui/Button";
 import { Icon } from "components/ui/Icon";
 
-import { CleanedLogLines } from "area/connection/components/JobHistoryItem/useCleanLogs";
 import { useCurrentWorkspace } from "core/api";
 import { FILE_TYPE_DOWNLOAD, downloadFile, fileizeString } from "core/utils/file";
 
 interface DownloadButtonProps {
-  logLines: CleanedLogLines;
+  // reads all the log lines, as only a part of them may be shown
+  getLogLines: () => Promise<string[]>;
   fileName: string;
 }
 
-export const DownloadLogsButton: React.FC<DownloadButtonProps> = ({ logLines, fileName }) => {
+export const DownloadLogsButton: React.FC<DownloadButtonProps> = ({ getLogLines, fileName }) => {
   const { formatMessage } = useIntl();
   const { name } = useCurrentWorkspace();
+  const [isDownloading, setIsDownloading] = useState(false);
 
-  const downloadFileWithLogs = () => {
-    const file = new Blob([logLines.map((logLine) => logLine.text).join("\n")], {
-      type: FILE_TYPE_DOWNLOAD,
-    });
-    downloadFile(file, fileizeString(`${name}-${fileName}.txt`));
+  const downloadFileWithLogs = async () => {
+    setIsDownloading(true);
+    try {
+      const logLines = await getLogLines();
+      const file = new Blob([logLines.map((logLine) => Anser.ansiToText(logLine)).join("\n")], {
+        type: FILE_TYPE_DOWNLOAD,
+      });
+      downloadFile(file, fileizeString(`${name}-${fileName}.txt`));
+    } finally {
+      setIsDownloading(false);
+    }
   };
 
   return (
     <Button
       onClick={downloadFileWithLogs}
+      isLoading={isDownloading}
       variant="secondary"
       title={formatMessage({
         id: "jobHistory.logs.downloadLogs",
@@ -1,8 +1,9 @@
 import { useCallback, useEffect, useMemo, useRef, useState } from "react";
-import { useIntl } from "react-intl";
+import { FormattedMessage, useIntl } from "react-intl";
 import { useDebounce } from "react-use";
 
 import { Box } from "components/ui/Box";
+import { Button } from "components/ui/Button";
 import { FlexContainer } from "components/ui/Flex";
 import { ListBox } from "components/ui/ListBox";
 import { Switch } from "components/ui/Switch";
@@ -13,7 +14,7 @@ import { LogSearchInput } from "area/connection/components/JobHistoryItem/LogSea
 import { JobLogOrigins, KNOWN_LOG_ORIGINS, useCleanLogs } from "area/connection/components/JobHistoryItem/useCleanLogs";
 import { VirtualLogs } from "area/connection/components/JobHistoryItem/VirtualLogs";
 import { LinkToAttemptButton } from "area/connection/components/JobLogsModal/LinkToAttemptButton";
-import { useAttemptForJob, useJobInfoWithoutLogs } from "core/api";
+import { useAttemptForJob, useAttemptLogs, useGetAllAttemptLogs, useJobInfoWithoutLogs } from "core/api";
 
 import { AttemptStatusIcon } from "./AttemptStatusIcon";
 import { DownloadLogsButton } from "./DownloadLogsButton";
@@ -36,7 +37,9 @@ export const JobLogsModal: React.FC<JobLogsModalProps> = ({ jobId, initialAttemp
     initialAttemptId ?? job.attempts[job.attempts.length - 1].attempt.id
   );
   const jobAttempt = useAttemptForJob(jobId, selectedAttemptId);
-  const { logLines, origins } = useCleanLogs(jobAttempt);
+  const attemptLogs = useAttemptLogs(jobId, jobAttempt.attempt);
+  const getAllAttemptLogs = useGetAllAttemptLogs();
+  const { logLines, origins } = useCleanLogs(attemptLogs.logLines);
   const [selectedLogOrigins, setSelectedLogOrigins] = useState<JobLogOrigins[] | null>(
     KNOWN_LOG_ORIGINS.map(({ key }) => key)
   );
@@ -184,7 +187,10 @@ export const JobLogsModal: React.FC<JobLogsModalProps> = ({ jobId, initialAttemp
           <AttemptDetails attempt={jobAttempt.attempt} jobId={String(jobId)} showEndedAt showFailureMessage={false} />
           <FlexContainer className={styles.downloadLogs}>
             <LinkToAttemptButton jobId={jobId} attemptId={selectedAttemptId} />
-            <DownloadLogsButton logLines={logLines} fileName={`job-${jobId}-attempt-${selectedAttemptId + 1}`} />
+            <DownloadLogsButton
+              getLogLines={() => getAllAttemptLogs(jobId, selectedAttemptId)}
+              fileName={`job-${jobId}-attempt-${selectedAttemptId + 1}`}
+            />
           </FlexContainer>
         </FlexContainer>
       </Box>
@@ -221,6 +227,18 @@ export const JobLogsModal: React.FC<JobLogsModalProps> = ({ jobId, initialAttemp
           </FlexContainer>
         </Box>
       )}
+      {attemptLogs.hasEarlierLines && (
+        <Box px="md">
+          <Button
+            variant="secondary"
+            size="xs"
+            isLoading={attemptLogs.isFetchingEarlierLines}
+            onClick={() => attemptLogs.fetchEarlierLines()}
+          >
+            <FormattedMessage id="jobHistory.logs.loadEarlierLines" />
+          </Button>
+        </Box>
+      )}
       <VirtualLogs
         selectedAttempt={selectedAttemptId}
         logLines={filteredLogLines}
@@ -35,19 +35,8 @@ Basic.args = {
   },
 };
 
-export const WithLogs = Template.bind({});
-WithLogs.args = {
-  job: {
-    ...jobBasics,
-    configType: "check_connection_source",
-    logs: {
-      logLines: ["line 1", "line 2", "line 3"],
-    },
-  },
-};
-
-export const WithLogsAndExternalMessage = Template.bind({});
-WithLogsAndExternalMessage.args = {
+export const WithExternalMessage = Template.bind({});
+WithExternalMessage.args = {
   job: {
     ...jobBasics,
     configType: "check_connection_source",
@@ -55,9 +44,6 @@ WithLogsAndExternalMessage.args = {
       ...failureReasonBasics,
       externalMessage: "The problem is such and such",
     },
-    logs: {
-      logLines: ["line 1", "line 2", "line 3"],
-    },
   },
 };
 
@@ -83,8 +69,5 @@ EverythingSet.args = {
     raise Exception("Test Exception")
 Exception: Test Exception`,
     },
-    logs: {
-      logLines: ["line 1", "line 2", "line 3"],
-    },
   },
 };
@@ -1,13 +1,18 @@
 import classNames from "classnames";
+import { Suspense, useState } from "react";
 import { FormattedMessage, useIntl } from "react-intl";
 import { useToggle } from "react-use";
 
 import Logs from "components/Logs";
+import { Button } from "components/ui/Button";
 import { FlexContainer, FlexItem } from "components/ui/Flex";
 import { Icon } from "components/ui/Icon";
+import { LoadingSpinner } from "components/ui/LoadingSpinner";
 import { Message } from "components/ui/Message";
 import { Text } from "components/ui/Text";
 
+import { useCurrentWorkspaceId } from "area/workspace/utils";
+import { useGetAllSynchronousJobLogs, useSynchronousJobLogs } from "core/api";
 import { JobConfigType, SynchronousJobRead } from "core/api/types/AirbyteClient";
 import { downloadFile } from "core/utils/file";
 
@@ -58,28 +63,30 @@ const DisclosureHeader = ({
   );
 };
 
-const DownloadButton = ({
-  id,
-  configType,
-  logLines,
-}: {
-  id: string;
-  configType: JobConfigType;
-  logLines: string[];
-}) => {
+const DownloadButton = ({ id, configType }: { id: string; configType: JobConfigType }) => {
   const { formatMessage } = useIntl();
+  const workspaceId = useCurrentWorkspaceId();
+  const getAllSynchronousJobLogs = useGetAllSynchronousJobLogs(workspaceId);
+  const [isDownloading, setIsDownloading] = useState(false);
 
-  const downloadFileWithLogs = () => {
-    const file = new Blob([logLines.join("\n")], {
-      type: "text/plain;charset=utf-8",
-    });
-    downloadFile(file, `${configType}-failure-${id}.txt`);
+  const downloadFileWithLogs = async () => {
+    setIsDownloading(true);
+    try {
+      const logLines = await getAllSynchronousJobLogs(id);
+      const file = new Blob([logLines.join("\n")], {
+        type: "text/plain;charset=utf-8",
+      });
+      downloadFile(file, `${configType}-failure-${id}.txt`);
+    } finally {
+      setIsDownloading(false);
+    }
   };
 
   return (
     <button
       className={styles.downloadButton}
       onClick={downloadFileWithLogs}
+      disabled={isDownloading}
       type="button"
       title={formatMessage({
         id: "sources.downloadLogs",
@@ -90,6 +97,28 @@ const DownloadButton = ({
   );
 };
 
+// The logs are read page by page from their tail, only once they are expanded
+const JobLogs = ({ id }: { id: string }) => {
+  const workspaceId = useCurrentWorkspaceId();
+  const { logLines, hasEarlierLines, isFetchingEarlierLines, fetchEarlierLines } = useSynchronousJobLogs(
+    workspaceId,
+    id
+  );
+
+  return (
+    <FlexContainer direction="column" gap="sm">
+      {hasEarlierLines && (
+        <FlexItem>
+          <Button variant="secondary" size="xs" isLoading={isFetchingEarlierLines} onClick={() => fetchEarlierLines()}>
+            <FormattedMessage id="jobHistory.logs.loadEarlierLines" />
+          </Button>
+        </FlexItem>
+      )}
+      <Logs logsArray={logLines} />
+    </FlexContainer>
+  );
+};
+
 export const JobFailure: React.FC<JobFailureProps> = ({ job, fallbackMessage }) => {
   const [isDetailsExpanded, toggleDetails] = useToggle(false);
   const [isStacktraceExpanded, toggleStacktrace] = useToggle(false);
@@ -105,62 +134,62 @@ export const JobFailure: React.FC<JobFailureProps> = ({ job, fallbackMessage })
       text={<FormattedMessage id={getTitlePhraseIdForJobConfigType(job.configType)} />}
       secondaryText={failureReason?.externalMessage || fallbackMessage}
     >
-      {(failureReason || job.logs) && (
-        <FlexContainer direction="column" gap="sm">
-          {failureReason &&
-            (failureReason.internalMessage || failureReason.failureOrigin || failureReason.failureType) && (
-              <FlexItem>
-                <DisclosureHeader
-                  toggle={toggleDetails}
-                  expanded={isDetailsExpanded}
-                  messageId="jobs.failure.expandDetails"
-                />
-                {isDetailsExpanded && (
-                  <Text as="div">
-                    <FlexContainer direction="column" className={styles.details}>
-                      {failureReason.internalMessage && (
-                        <FlexItem>
-                          <FormattedMessage id="jobs.failure.internalMessageLabel" /> {failureReason.internalMessage}
-                        </FlexItem>
-                      )}
-                      {failureReason.failureOrigin && (
-                        <FlexItem>
-                          <FormattedMessage id="jobs.failure.originLabel" /> {failureReason.failureOrigin}
-                        </FlexItem>
-                      )}
-                      {failureReason.failureType && (
-                        <FlexItem>
-                          <FormattedMessage id="jobs.failure.typeLabel" /> {failureReason.failureType}
-                        </FlexItem>
-                      )}
-                    </FlexContainer>
-                  </Text>
-                )}
-              </FlexItem>
-            )}
-          {failureReason?.stacktrace && (
+      <FlexContainer direction="column" gap="sm">
+        {failureReason &&
+          (failureReason.internalMessage || failureReason.failureOrigin || failureReason.failureType) && (
             <FlexItem>
               <DisclosureHeader
-                toggle={toggleStacktrace}
-                expanded={isStacktraceExpanded}
-                messageId="jobs.failure.expandStacktrace"
+                toggle={toggleDetails}
+                expanded={isDetailsExpanded}
+                messageId="jobs.failure.expandDetails"
               />
-              {isStacktraceExpanded && <Logs logsArray={failureReason.stacktrace.split("\n")} />}
+              {isDetailsExpanded && (
+                <Text as="div">
+                  <FlexContainer direction="column" className={styles.details}>
+                    {failureReason.internalMessage && (
+                      <FlexItem>
+                        <FormattedMessage id="jobs.failure.internalMessageLabel" /> {failureReason.internalMessage}
+                      </FlexItem>
+                    )}
+                    {failureReason.failureOrigin && (
+                      <FlexItem>
+                        <FormattedMessage id="jobs.failure.originLabel" /> {failureReason.failureOrigin}
+                      </FlexItem>
+                    )}
+                    {failureReason.failureType && (
+                      <FlexItem>
+                        <FormattedMessage id="jobs.failure.typeLabel" /> {failureReason.failureType}
+                      </FlexItem>
+                    )}
+                  </FlexContainer>
+                </Text>
+              )}
             </FlexItem>
           )}
-          {job.logs?.logLines && job.logs.logLines.length > 0 && (
-            <FlexItem>
-              <DisclosureHeader
-                toggle={toggleLogs}
-                expanded={isLogsExpanded}
-                messageId="jobs.failure.expandLogs"
-                icon={<DownloadButton configType={job.configType} id={job.id} logLines={job.logs.logLines} />}
-              />
-              {isLogsExpanded && <Logs logsArray={job.logs.logLines} />}
-            </FlexItem>
+        {failureReason?.stacktrace && (
+          <FlexItem>
+            <DisclosureHeader
+              toggle={toggleStacktrace}
+              expanded={isStacktraceExpanded}
+              messageId="jobs.failure.expandStacktrace"
+            />
+            {isStacktraceExpanded && <Logs logsArray={failureReason.stacktrace.split("\n")} />}
+          </FlexItem>
+        )}
+        <FlexItem>
+          <DisclosureHeader
+            toggle={toggleLogs}
+            expanded={isLogsExpanded}
+            messageId="jobs.failure.expandLogs"
+            icon={<DownloadButton configType={job.configType} id={job.id} />}
+          />
+          {isLogsExpanded && (
+            <Suspense fallback={<LoadingSpinner />}>
+              <JobLogs id={job.id} />
+            </Suspense>
           )}
-        </FlexContainer>
-      )}
+        </FlexItem>
+      </FlexContainer>
     </Message>
   );
 };
@@ -1,16 +1,34 @@
-import { Updater, useInfiniteQuery, useIsMutating, useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
+import {
+  InfiniteData,
+  QueryKey,
+  Updater,
+  useInfiniteQuery,
+  useIsMutating,
+  useMutation,
+  useQuery,
+  useQueryClient,
+} from "@tanstack/react-query";
+import { useCallback, useEffect, useMemo, useRef } from "react";
 
 import { jobStatusesIndicatingFinishedExecution } from "components/connection/ConnectionSync/ConnectionSyncContext";
 
 import {
   cancelJob,
   getAttemptForJob,
+  getAttemptLogs,
   getJobDebugInfo,
   getJobInfoWithoutLogs,
+  getSynchronousJobLogs,
   listJobsFor,
 } from "../generated/AirbyteClient";
 import { SCOPE_WORKSPACE } from "../scopes";
-import { JobListRequestBody, JobReadList } from "../types/AirbyteClient";
+import {
+  AttemptLogsRead,
+  AttemptLogsRequestBody,
+  AttemptRead,
+  JobListRequestBody,
+  JobReadList,
+} from "../types/AirbyteClient";
 import { useRequestOptions } from "../useRequestOptions";
 import { useSuspenseQuery } from "../useSuspenseQuery";
 
@@ -115,6 +133,137 @@ export const useGetDebugInfoJobManual = (id: number) => {
   });
 };
 
+// The maximum number of log lines the server returns in one page
+const LOGS_MAX_PAGE_SIZE = 10000;
+// The number of log lines read at once when showing logs
+const LOGS_VIEW_PAGE_SIZE = 1000;
+// How often lines appended to the logs of a running job are read
+const LOGS_FOLLOW_INTERVAL = 2500;
+// Logs keep incoming for some time after an attempt has already been marked as ended
+const LOGS_SETTLE_TIME = 2 * 60 * 1000;
+
+type LogPageParam = Pick<AttemptLogsRequestBody, "offset" | "direction">;
+type ReadLogPage = (page: LogPageParam & { limit: number }) => Promise<AttemptLogsRead>;
+
+const isAttemptStillLogging = (endedAt?: number) => !endedAt || Date.now() - endedAt * 1000 <= LOGS_SETTLE_TIME;
+
+// Reads all the logs, page by page from their start
+const readAllLogs = async (readPage: ReadLogPage) => {
+  const logLines: string[] = [];
+  let offset = 0;
+  let hasMoreLines = true;
+  while (hasMoreLines) {
+    const page = await readPage({ offset, direction: "forward", limit: LOGS_MAX_PAGE_SIZE });
+    logLines.push(...page.logLines);
+    hasMoreLines = page.logLines.length > 0 && page.endOffset > offset && page.endOffset < page.totalBytes;
+    offset = page.endOffset;
+  }
+  return logLines;
+};
+
+/**
+ * Pages through logs starting from their tail. Earlier lines are read with fetchPreviousPage. While follow is set,
+ * the lines appended to the logs are read periodically.
+ */
+const useLogPages = (queryKey: QueryKey, readPage: ReadLogPage, follow: boolean) => {
+  const queryClient = useQueryClient();
+  const query = useInfiniteQuery(
+    queryKey,
+    ({ pageParam }: { pageParam?: LogPageParam }) => readPage({ ...pageParam, limit: LOGS_VIEW_PAGE_SIZE }),
+    {
+      suspense: true,
+      staleTime: Infinity,
+      getPreviousPageParam: (firstPage): LogPageParam | undefined =>
+        firstPage.startOffset > 0 ? { offset: firstPage.startOffset, direction: "backward" } : undefined,
+    }
+  );
+
+  const latest = useRef({ queryKey, readPage });
+  latest.current = { queryKey, readPage };
+  useEffect(() => {
+    if (!follow) {
+      return undefined;
+    }
+    let reading = false;
+    const interval = setInterval(async () => {
+      const pages = queryClient.getQueryData<InfiniteData<AttemptLogsRead>>(latest.current.queryKey)?.pages;
+      const lastPage = pages?.[pages.length - 1];
+      if (reading || !lastPage) {
+        return;
+      }
+      reading = true;
+      try {
+        const pageParam: LogPageParam = { offset: lastPage.endOffset, direction: "forward" };
+        const page = await latest.current.readPage({ ...pageParam, limit: LOGS_VIEW_PAGE_SIZE });
+        if (page.logLines.length > 0) {
+          queryClient.setQueryData<InfiniteData<AttemptLogsRead>>(latest.current.queryKey, (data) =>
+            // only append the page if it still follows the last page read
+            data && data.pages[data.pages.length - 1]?.endOffset === pageParam.offset
+              ? { pages: [...data.pages, page], pageParams: [...data.pageParams, pageParam] }
+              : data
+          );
+        }
+      } finally {
+        reading = false;
+      }
+    }, LOGS_FOLLOW_INTERVAL);
+    return () => clearInterval(interval);
+  }, [follow, queryClient]);
+
+  const logLines = useMemo(() => query.data?.pages.flatMap((page) => page.logLines) ?? [], [query.data]);
+
+  return {
+    logLines,
+    hasEarlierLines: !!query.hasPreviousPage,
+    isFetchingEarlierLines: query.isFetchingPreviousPage,
+    fetchEarlierLines: query.fetchPreviousPage,
+  };
+};
+
+// Returns a function reading all the logs of an attempt, page by page from the start of the logs
+export const useGetAllAttemptLogs = () => {
+  const requestOptions = useRequestOptions();
+  return useCallback(
+    (jobId: number, attemptNumber: number) =>
+      readAllLogs((page) => getAttemptLogs({ jobId, attemptNumber, ...page }, requestOptions)),
+    [requestOptions]
+  );
+};
+
+// Pages through the logs of an attempt, following them while the attempt is running
+export const useAttemptLogs = (jobId: number, attempt: AttemptRead) => {
+  const requestOptions = useRequestOptions();
+  const attemptNumber = attempt.id;
+  const readPage = useCallback<ReadLogPage>(
+    (page) => getAttemptLogs({ jobId, attemptNumber, ...page }, requestOptions),
+    [jobId, attemptNumber, requestOptions]
+  );
+  return useLogPages(
+    [SCOPE_WORKSPACE, "jobs", "attemptLogs", jobId, attemptNumber],
+    readPage,
+    isAttemptStillLogging(attempt.endedAt)
+  );
+};
+
+// Returns a function reading all the logs of a synchronous job, page by page from the start of the logs
+export const useGetAllSynchronousJobLogs = (workspaceId: string) => {
+  const requestOptions = useRequestOptions();
+  return useCallback(
+    (jobId: string) => readAllLogs((page) => getSynchronousJobLogs({ workspaceId, jobId, ...page }, requestOptions)),
+    [workspaceId, requestOptions]
+  );
+};
+
+// Pages through the logs of a synchronous job, which has ended by the time its outcome is known
+export const useSynchronousJobLogs = (workspaceId: string, jobId: string) => {
+  const requestOptions = useRequestOptions();
+  const readPage = useCallback<ReadLogPage>(
+    (page) => getSynchronousJobLogs({ workspaceId, jobId, ...page }, requestOptions),
+    [workspaceId, jobId, requestOptions]
+  );
+  return useLogPages([SCOPE_WORKSPACE, "jobs", "synchronousJobLogs", jobId], readPage, false);
+};
+
 export const useCancelJob = () => {
   const requestOptions = useRequestOptions();
   const mutation = useMutation(["useCancelJob"], (id: number) => cancelJob({ id }, requestOptions));
@@ -150,13 +299,9 @@ export const useAttemptForJob = (jobId: number, attemptNumber: number) => {
     () => getAttemptForJob({ jobId, attemptNumber }, requestOptions),
     {
       refetchInterval: (data) => {
-        // keep refetching data while the job is still running or hasn't ended too long ago.
-        // We need some time after the last attempt has stopped, since logs
-        // keep incoming for some time after the job has already been marked as finished.
-        const lastAttemptEndTimestamp = data?.attempt.endedAt;
-        // While no attempt ended timestamp exists yet (i.e. the job is still running) or it hasn't ended
-        // more than 2 minutes (2 * 60 * 1000ms) ago, keep refetching
-        return lastAttemptEndTimestamp && Date.now() - lastAttemptEndTimestamp * 1000 > 2 * 60 * 1000 ? false : 2500;
+        // keep refetching the attempt while it is still running or hasn't ended too long ago, so that its logs are
+        // followed until they settle
+        return data && !isAttemptStillLogging(data.attempt.endedAt) ? false : 2500;
       },
     }
   );
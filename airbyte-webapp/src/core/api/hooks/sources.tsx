@@ -203,7 +203,7 @@ const useDiscoverSchema = (
 
       if (!result.jobInfo?.succeeded || !result.catalog) {
         // @ts-expect-error TODO: address this case
-        const e = result.jobInfo?.logs ? new LogsRequestError(result.jobInfo) : new CommonRequestError(result);
+        const e = result.jobInfo ? new LogsRequestError(result.jobInfo) : new CommonRequestError(result);
         // Generate error with failed status and received logs
         e._status = 400;
         // @ts-expect-error TODO: address this case
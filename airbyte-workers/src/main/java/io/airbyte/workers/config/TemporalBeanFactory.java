@@ -5,6 +5,7 @@
 package io.airbyte.workers.config;
 
 import io.micronaut.context.annotation.Factory;
+import io.temporal.client.ActivityCompletionClient;
 import io.temporal.client.WorkflowClient;
 import io.temporal.worker.WorkerFactory;
 import jakarta.inject.Singleton;
@@ -20,4 +21,9 @@ public class TemporalBeanFactory {
     return WorkerFactory.newInstance(workflowClient);
   }
 
+  @Singleton
+  public ActivityCompletionClient activityCompletionClient(final WorkflowClient workflowClient) {
+    return workflowClient.newActivityCompletionClient();
+  }
+
 }
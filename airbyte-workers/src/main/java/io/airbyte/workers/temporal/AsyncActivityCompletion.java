@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal;
+
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.activity.ActivityInfo;
+import io.temporal.client.ActivityCompletionClient;
+import io.temporal.client.ActivityCompletionException;
+import jakarta.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completes activities asynchronously, so that an activity waiting on something running elsewhere,
+ * like a workload, gives its slot on the worker back while it waits.
+ */
+@Singleton
+@Slf4j
+public class AsyncActivityCompletion {
+
+  private final ActivityCompletionClient activityCompletionClient;
+
+  public AsyncActivityCompletion(final ActivityCompletionClient activityCompletionClient) {
+    this.activityCompletionClient = activityCompletionClient;
+  }
+
+  /**
+   * Completes the current activity with the result of the future once it is done, or fails it with
+   * the exception of the future. Must be called from the activity method, which should return the
+   * value returned here: it is ignored by Temporal.
+   *
+   * @param result future result of the activity
+   * @param <T> type of the result of the activity
+   * @return null, as the activity is not completed by returning
+   */
+  public <T> T completeWith(final CompletableFuture<T> result) {
+    final ActivityExecutionContext context = Activity.getExecutionContext();
+    final ActivityInfo info = context.getInfo();
+    final byte[] taskToken = context.getTaskToken();
+    context.doNotCompleteOnReturn();
+
+    result.whenComplete((output, throwable) -> {
+      try {
+        if (throwable == null) {
+          activityCompletionClient.complete(taskToken, output);
+        } else {
+          activityCompletionClient.completeExceptionally(taskToken, toException(throwable));
+        }
+      } catch (final ActivityCompletionException e) {
+        log.warn("Unable to complete activity {} of workflow {}", info.getActivityId(), info.getWorkflowId(), e);
+      }
+    });
+    return null;
+  }
+
+  private static Exception toException(final Throwable throwable) {
+    final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    return cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+  }
+
+}
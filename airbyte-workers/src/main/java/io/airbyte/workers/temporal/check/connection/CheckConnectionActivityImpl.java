@@ -39,7 +39,6 @@ import io.airbyte.config.helpers.ResourceRequirementsUtils;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.UseWorkloadApiForCheck;
-import io.airbyte.featureflag.WorkloadCheckFrequencyInSeconds;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -61,15 +60,15 @@ import io.airbyte.workers.process.AirbyteIntegrationLauncher;
 import io.airbyte.workers.process.IntegrationLauncher;
 import io.airbyte.workers.process.Metadata;
 import io.airbyte.workers.process.ProcessFactory;
+import io.airbyte.workers.temporal.AsyncActivityCompletion;
 import io.airbyte.workers.temporal.TemporalAttemptExecution;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
-import io.airbyte.workload.api.client.model.generated.Workload;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadLabel;
-import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.http.HttpStatus;
@@ -84,6 +83,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.openapitools.client.infrastructure.ClientException;
@@ -110,6 +110,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
   private final WorkloadApi workloadApi;
   private final WorkloadIdGenerator workloadIdGenerator;
   private final JobOutputDocStore jobOutputDocStore;
+  private final WorkloadCompletionWaiter workloadCompletionWaiter;
+  private final AsyncActivityCompletion asyncActivityCompletion;
   private final FeatureFlagClient featureFlagClient;
   private final MetricClient metricClient;
 
@@ -129,6 +131,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
                                      final WorkloadApi workloadApi,
                                      final WorkloadIdGenerator workloadIdGenerator,
                                      final JobOutputDocStore jobOutputDocStore,
+                                     final WorkloadCompletionWaiter workloadCompletionWaiter,
+                                     final AsyncActivityCompletion asyncActivityCompletion,
                                      final MetricClient metricClient) {
     this(workerConfigsProvider,
         processFactory,
@@ -146,6 +150,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
         workloadApi,
         workloadIdGenerator,
         jobOutputDocStore,
+        workloadCompletionWaiter,
+        asyncActivityCompletion,
         new CheckConnectionInputHydrator(
             new ConnectorSecretsHydrator(
                 secretsRepositoryReader,
@@ -171,6 +177,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
                               final WorkloadApi workloadApi,
                               final WorkloadIdGenerator workloadIdGenerator,
                               final JobOutputDocStore jobOutputDocStore,
+                              final WorkloadCompletionWaiter workloadCompletionWaiter,
+                              final AsyncActivityCompletion asyncActivityCompletion,
                               final CheckConnectionInputHydrator checkConnectionInputHydrator,
                               final MetricClient metricClient) {
     this.workerConfigsProvider = workerConfigsProvider;
@@ -187,6 +195,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
     this.workloadApi = workloadApi;
     this.workloadIdGenerator = workloadIdGenerator;
     this.jobOutputDocStore = jobOutputDocStore;
+    this.workloadCompletionWaiter = workloadCompletionWaiter;
+    this.asyncActivityCompletion = asyncActivityCompletion;
     this.featureFlagClient = featureFlagClient;
     this.inputHydrator = checkConnectionInputHydrator;
     this.metricClient = metricClient;
@@ -255,18 +265,17 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
 
     createWorkload(workloadCreateRequest);
 
-    try {
-      Workload workload = workloadApi.workloadGet(workloadId);
-      final int checkFrequencyInSeconds = featureFlagClient.intVariation(WorkloadCheckFrequencyInSeconds.INSTANCE,
-          new Workspace(workspaceId));
-      while (!isWorkloadTerminal(workload)) {
-        Thread.sleep(1000 * checkFrequencyInSeconds);
-        workload = workloadApi.workloadGet(workloadId);
-      }
-    } catch (final IOException | InterruptedException e) {
-      throw new RuntimeException(e);
-    }
+    return asyncActivityCompletion.completeWith(workloadCompletionWaiter.awaitTerminalStatus(workloadId)
+        .thenApply(status -> {
+          try {
+            return readWorkloadOutput(workloadId);
+          } catch (final WorkerException e) {
+            throw new CompletionException(e);
+          }
+        }));
+  }
 
+  private ConnectorJobOutput readWorkloadOutput(final String workloadId) throws WorkerException {
     try {
       final Optional<ConnectorJobOutput> connectorJobOutput = jobOutputDocStore.read(workloadId);
 
@@ -296,11 +305,6 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
     return featureFlagClient.boolVariation(UseWorkloadApiForCheck.INSTANCE, new Workspace(workspaceId));
   }
 
-  private boolean isWorkloadTerminal(final Workload workload) {
-    final var status = workload.getStatus();
-    return status == WorkloadStatus.SUCCESS || status == WorkloadStatus.FAILURE || status == WorkloadStatus.CANCELLED;
-  }
-
   @VisibleForTesting
   Geography getGeography(final Optional<UUID> maybeConnectionId, final Optional<UUID> maybeWorkspaceId) throws WorkerException {
     try {
@@ -45,7 +45,6 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Organization;
 import io.airbyte.featureflag.UseRuntimeSecretPersistence;
 import io.airbyte.featureflag.UseWorkloadApiForDiscover;
-import io.airbyte.featureflag.WorkloadCheckFrequencyInSeconds;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -66,15 +65,15 @@ import io.airbyte.workers.process.AirbyteIntegrationLauncher;
 import io.airbyte.workers.process.IntegrationLauncher;
 import io.airbyte.workers.process.Metadata;
 import io.airbyte.workers.process.ProcessFactory;
+import io.airbyte.workers.temporal.AsyncActivityCompletion;
 import io.airbyte.workers.temporal.TemporalAttemptExecution;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
-import io.airbyte.workload.api.client.model.generated.Workload;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadLabel;
-import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.http.HttpStatus;
@@ -89,6 +88,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.openapitools.client.infrastructure.ClientException;
@@ -117,6 +117,8 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
   private final WorkloadApi workloadApi;
   private final WorkloadIdGenerator workloadIdGenerator;
   private final JobOutputDocStore jobOutputDocStore;
+  private final WorkloadCompletionWaiter workloadCompletionWaiter;
+  private final AsyncActivityCompletion asyncActivityCompletion;
 
   public DiscoverCatalogActivityImpl(final WorkerConfigsProvider workerConfigsProvider,
                                      final ProcessFactory processFactory,
@@ -134,7 +136,9 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
                                      final GsonPksExtractor gsonPksExtractor,
                                      final WorkloadApi workloadApi,
                                      final WorkloadIdGenerator workloadIdGenerator,
-                                     final JobOutputDocStore jobOutputDocStore) {
+                                     final JobOutputDocStore jobOutputDocStore,
+                                     final WorkloadCompletionWaiter workloadCompletionWaiter,
+                                     final AsyncActivityCompletion asyncActivityCompletion) {
     this.workerConfigsProvider = workerConfigsProvider;
     this.processFactory = processFactory;
     this.secretsRepositoryReader = secretsRepositoryReader;
@@ -152,6 +156,8 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
     this.workloadApi = workloadApi;
     this.workloadIdGenerator = workloadIdGenerator;
     this.jobOutputDocStore = jobOutputDocStore;
+    this.workloadCompletionWaiter = workloadCompletionWaiter;
+    this.asyncActivityCompletion = asyncActivityCompletion;
   }
 
   @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
@@ -237,18 +243,17 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
 
     createWorkload(workloadCreateRequest);
 
-    try {
-      Workload workload = workloadApi.workloadGet(workloadId);
-      final int checkFrequencyInSeconds = featureFlagClient.intVariation(WorkloadCheckFrequencyInSeconds.INSTANCE,
-          new Workspace(workspaceId));
-      while (!isWorkloadTerminal(workload)) {
-        Thread.sleep(1000 * checkFrequencyInSeconds);
-        workload = workloadApi.workloadGet(workloadId);
-      }
-    } catch (final IOException | InterruptedException e) {
-      throw new RuntimeException(e);
-    }
+    return asyncActivityCompletion.completeWith(workloadCompletionWaiter.awaitTerminalStatus(workloadId)
+        .thenApply(status -> {
+          try {
+            return readWorkloadOutput(workloadId);
+          } catch (final WorkerException e) {
+            throw new CompletionException(e);
+          }
+        }));
+  }
 
+  private ConnectorJobOutput readWorkloadOutput(final String workloadId) throws WorkerException {
     try {
       final Optional<ConnectorJobOutput> connectorJobOutput = jobOutputDocStore.read(workloadId);
 
@@ -286,12 +291,6 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
         new MetricAttribute("workload_enabled", workloadEnabledStr));
   }
 
-  @VisibleForTesting
-  boolean isWorkloadTerminal(final Workload workload) {
-    final var status = workload.getStatus();
-    return status == WorkloadStatus.SUCCESS || status == WorkloadStatus.FAILURE || status == WorkloadStatus.CANCELLED;
-  }
-
   @VisibleForTesting
   Geography getGeography(final Optional<UUID> maybeConnectionId, final Optional<UUID> maybeWorkspaceId) throws WorkerException {
     try {
@@ -5,7 +5,6 @@
 package io.airbyte.workers.temporal.spec;
 
 import static io.airbyte.config.helpers.LogClientSingleton.fullLogPath;
-import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 import static io.airbyte.metrics.lib.ApmTraceConstants.ACTIVITY_TRACE_OPERATION_NAME;
 import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.ATTEMPT_NUMBER_KEY;
 import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.DOCKER_IMAGE_KEY;
@@ -36,7 +35,6 @@ import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.UseWorkloadApiForSpec;
-import io.airbyte.featureflag.WorkloadCheckFrequencyInSeconds;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricAttribute;
@@ -57,15 +55,15 @@ import io.airbyte.workers.process.AirbyteIntegrationLauncher;
 import io.airbyte.workers.process.IntegrationLauncher;
 import io.airbyte.workers.process.Metadata;
 import io.airbyte.workers.process.ProcessFactory;
+import io.airbyte.workers.temporal.AsyncActivityCompletion;
 import io.airbyte.workers.temporal.TemporalAttemptExecution;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
-import io.airbyte.workload.api.client.model.generated.Workload;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadLabel;
-import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
@@ -81,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
@@ -109,6 +108,8 @@ public class SpecActivityImpl implements SpecActivity {
   private final WorkloadApi workloadApi;
   private final WorkloadIdGenerator workloadIdGenerator;
   private final JobOutputDocStore jobOutputDocStore;
+  private final WorkloadCompletionWaiter workloadCompletionWaiter;
+  private final AsyncActivityCompletion asyncActivityCompletion;
   private final MetricClient metricClient;
 
   public SpecActivityImpl(final WorkerConfigsProvider workerConfigsProvider,
@@ -126,6 +127,8 @@ public class SpecActivityImpl implements SpecActivity {
                           final WorkloadApi workloadApi,
                           final WorkloadIdGenerator workloadIdGenerator,
                           final JobOutputDocStore jobOutputDocStore,
+                          final WorkloadCompletionWaiter workloadCompletionWaiter,
+                          final AsyncActivityCompletion asyncActivityCompletion,
                           final MetricClient metricClient) {
     this.workerConfigsProvider = workerConfigsProvider;
     this.processFactory = processFactory;
@@ -142,6 +145,8 @@ public class SpecActivityImpl implements SpecActivity {
     this.workloadApi = workloadApi;
     this.workloadIdGenerator = workloadIdGenerator;
     this.jobOutputDocStore = jobOutputDocStore;
+    this.workloadCompletionWaiter = workloadCompletionWaiter;
+    this.asyncActivityCompletion = asyncActivityCompletion;
     this.metricClient = metricClient;
   }
 
@@ -200,18 +205,17 @@ public class SpecActivityImpl implements SpecActivity {
 
     createWorkload(workloadCreateRequest);
 
-    try {
-      Workload workload = workloadApi.workloadGet(workloadId);
-      final int checkFrequencyInSeconds = featureFlagClient.intVariation(WorkloadCheckFrequencyInSeconds.INSTANCE,
-          new Workspace(ANONYMOUS));
-      while (!isWorkloadTerminal(workload)) {
-        Thread.sleep(1000 * checkFrequencyInSeconds);
-        workload = workloadApi.workloadGet(workloadId);
-      }
-    } catch (final IOException | InterruptedException e) {
-      throw new RuntimeException(e);
-    }
+    return asyncActivityCompletion.completeWith(workloadCompletionWaiter.awaitTerminalStatus(workloadId)
+        .thenApply(status -> {
+          try {
+            return readWorkloadOutput(workloadId);
+          } catch (final WorkerException e) {
+            throw new CompletionException(e);
+          }
+        }));
+  }
 
+  private ConnectorJobOutput readWorkloadOutput(final String workloadId) throws WorkerException {
     try {
       final Optional<ConnectorJobOutput> connectorJobOutput = jobOutputDocStore.read(workloadId);
 
@@ -276,12 +280,6 @@ public class SpecActivityImpl implements SpecActivity {
             .withDetectVersion(true);
   }
 
-  @VisibleForTesting
-  boolean isWorkloadTerminal(final Workload workload) {
-    final var status = workload.getStatus();
-    return status == WorkloadStatus.SUCCESS || status == WorkloadStatus.FAILURE || status == WorkloadStatus.CANCELLED;
-  }
-
   @VisibleForTesting
   Geography getGeography(final Optional<UUID> maybeConnectionId, final Optional<UUID> maybeWorkspaceId) throws WorkerException {
     try {
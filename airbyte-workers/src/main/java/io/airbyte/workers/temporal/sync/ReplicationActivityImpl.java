@@ -44,6 +44,7 @@ import io.airbyte.workers.storage.DocumentStoreClient;
 import io.airbyte.workers.sync.WorkloadApiWorker;
 import io.airbyte.workers.temporal.TemporalAttemptExecution;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
 import io.micronaut.context.annotation.Value;
@@ -82,6 +83,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
   private final JobOutputDocStore jobOutputDocStore;
   private final WorkloadApi workloadApi;
   private final WorkloadIdGenerator workloadIdGenerator;
+  private final WorkloadCompletionWaiter workloadCompletionWaiter;
   private final OrchestratorHandleFactory orchestratorHandleFactory;
   private final PodNameGenerator podNameGenerator;
   private final MetricClient metricClient;
@@ -98,6 +100,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  final JobOutputDocStore jobOutputDocStore,
                                  final WorkloadApi workloadApi,
                                  final WorkloadIdGenerator workloadIdGenerator,
+                                 final WorkloadCompletionWaiter workloadCompletionWaiter,
                                  final OrchestratorHandleFactory orchestratorHandleFactory,
                                  final PodNameGenerator podNameGenerator,
                                  final MetricClient metricClient,
@@ -118,6 +121,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.jobOutputDocStore = jobOutputDocStore;
     this.workloadApi = workloadApi;
     this.workloadIdGenerator = workloadIdGenerator;
+    this.workloadCompletionWaiter = workloadCompletionWaiter;
     this.orchestratorHandleFactory = orchestratorHandleFactory;
     this.podNameGenerator = podNameGenerator;
     this.metricClient = metricClient;
@@ -165,7 +169,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           // TODO: remove this once migration to workloads complete
           if (useWorkloadApi(replicationActivityInput)) {
             worker = new WorkloadApiWorker(documentStoreClient, podNameGenerator, jobOutputDocStore, airbyteApiClient,
-                workloadApi, workloadIdGenerator, replicationActivityInput, featureFlagClient);
+                workloadApi, workloadIdGenerator, replicationActivityInput, workloadCompletionWaiter);
           } else {
             final CheckedSupplier<Worker<ReplicationInput, ReplicationOutput>, Exception> workerFactory =
                 orchestratorHandleFactory.create(hydratedReplicationInput.getSourceLauncherConfig(),
@@ -5,6 +5,7 @@
 package io.airbyte.workers.temporal.check.connection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -34,17 +35,18 @@ import io.airbyte.workers.CheckConnectionInputHydrator;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import io.airbyte.workers.models.CheckConnectionInput;
 import io.airbyte.workers.process.ProcessFactory;
+import io.airbyte.workers.temporal.AsyncActivityCompletion;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
-import io.airbyte.workload.api.client.model.generated.Workload;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import io.airbyte.workload.api.client.model.generated.WorkloadType;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,6 +71,8 @@ public class CheckConnectionActivityTest {
   private final WorkloadApi workloadApi = mock(WorkloadApi.class);
   private final WorkloadIdGenerator workloadIdGenerator = mock(WorkloadIdGenerator.class);
   private final JobOutputDocStore jobOutputDocStore = mock(JobOutputDocStore.class);
+  private final WorkloadCompletionWaiter workloadCompletionWaiter = mock(WorkloadCompletionWaiter.class);
+  private final AsyncActivityCompletion asyncActivityCompletion = mock(AsyncActivityCompletion.class);
   private final FeatureFlagClient featureFlagClient = mock(ConfigFileClient.class);
 
   private CheckConnectionActivityImpl checkConnectionActivity;
@@ -103,15 +107,18 @@ public class CheckConnectionActivityTest {
         workloadApi,
         workloadIdGenerator,
         jobOutputDocStore,
+        workloadCompletionWaiter,
+        asyncActivityCompletion,
         mock(CheckConnectionInputHydrator.class),
         mock(MetricClient.class)));
 
     when(workloadIdGenerator.generateCheckWorkloadId(ACTOR_DEFINITION_ID, JOB_ID, ATTEMPT_NUMBER_AS_INT))
         .thenReturn(WORKLOAD_ID);
     doReturn(Geography.US).when(checkConnectionActivity).getGeography(Optional.of(CONNECTION_ID), Optional.of(WORKSPACE_ID));
-    when(workloadApi.workloadGet(WORKLOAD_ID))
-        .thenReturn(getWorkloadWithStatus(WorkloadStatus.RUNNING))
-        .thenReturn(getWorkloadWithStatus(WorkloadStatus.SUCCESS));
+    when(workloadCompletionWaiter.awaitTerminalStatus(WORKLOAD_ID))
+        .thenReturn(CompletableFuture.completedFuture(WorkloadStatus.SUCCESS));
+    when(asyncActivityCompletion.completeWith(any()))
+        .thenAnswer(invocation -> invocation.<CompletableFuture<?>>getArgument(0).get());
   }
 
   @Test
@@ -160,21 +167,4 @@ public class CheckConnectionActivityTest {
     return input;
   }
 
-  private Workload getWorkloadWithStatus(WorkloadStatus status) {
-    return new Workload(
-        "",
-        new ArrayList<>(),
-        "",
-        "",
-        "",
-        WorkloadType.CHECK,
-        UUID.randomUUID(),
-        null,
-        status,
-        null,
-        null,
-        null,
-        null);
-  }
-
 }
@@ -32,13 +32,17 @@ import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import io.airbyte.workers.models.DiscoverCatalogInput;
 import io.airbyte.workers.process.ProcessFactory;
+import io.airbyte.workers.temporal.AsyncActivityCompletion;
 import io.airbyte.workers.workload.JobOutputDocStore;
+import io.airbyte.workers.workload.WorkloadCompletionWaiter;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workers.workload.exception.DocStoreAccessException;
 import io.airbyte.workload.api.client.generated.WorkloadApi;
+import io.airbyte.workload.api.client.model.generated.WorkloadStatus;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +65,8 @@ public class DiscoverCatalogActivityTest {
   private final WorkloadApi workloadApi = mock();
   private final WorkloadIdGenerator workloadIdGenerator = mock();
   private final JobOutputDocStore jobOutputDocStore = mock();
+  private final WorkloadCompletionWaiter workloadCompletionWaiter = mock();
+  private final AsyncActivityCompletion asyncActivityCompletion = mock();
   private DiscoverCatalogActivityImpl discoverCatalogActivity;
 
   @BeforeEach
@@ -82,7 +88,9 @@ public class DiscoverCatalogActivityTest {
         gsonPksExtractor,
         workloadApi,
         workloadIdGenerator,
-        jobOutputDocStore));
+        jobOutputDocStore,
+        workloadCompletionWaiter,
+        asyncActivityCompletion));
   }
 
   @Test
@@ -106,7 +114,8 @@ public class DiscoverCatalogActivityTest {
 
     when(workloadIdGenerator.generateDiscoverWorkloadId(actorDefinitionId, jobId, attemptNumber)).thenReturn(workloadId);
     doReturn(Geography.AUTO).when(discoverCatalogActivity).getGeography(any(), any());
-    doReturn(true).when(discoverCatalogActivity).isWorkloadTerminal(any());
+    when(workloadCompletionWaiter.awaitTerminalStatus(workloadId)).thenReturn(CompletableFuture.completedFuture(WorkloadStatus.SUCCESS));
+    when(asyncActivityCompletion.completeWith(any())).thenAnswer(invocation -> invocation.<CompletableFuture<?>>getArgument(0).get());
 
     final ConnectorJobOutput output = new ConnectorJobOutput().withOutputType(ConnectorJobOutput.OutputType.DISCOVER_CATALOG_ID)
         .withDiscoverCatalogId(UUID.randomUUID());
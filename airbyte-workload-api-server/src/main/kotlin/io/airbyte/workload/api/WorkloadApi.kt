@@ -11,6 +11,7 @@ import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadAwaitTerminalStatusRequest
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -21,8 +22,10 @@ import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
+import io.airbyte.workload.api.domain.WorkloadTerminalStatusListResponse
 import io.airbyte.workload.handler.DefaultDeadlineValues
 import io.airbyte.workload.handler.WorkloadHandler
+import io.airbyte.workload.handler.WorkloadTerminalStatusWaiter
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.DATA_PLANE_ID_TAG
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.GEOGRAPHY_TAG
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.MUTEX_KEY_TAG
@@ -45,6 +48,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody
 import io.swagger.v3.oas.annotations.responses.ApiResponse
 import io.swagger.v3.oas.annotations.responses.ApiResponses
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
 import javax.ws.rs.Consumes
 import javax.ws.rs.GET
 import javax.ws.rs.POST
@@ -60,6 +64,7 @@ open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadService: WorkloadService,
   private val defaultDeadlineValues: DefaultDeadlineValues,
+  private val workloadTerminalStatusWaiter: WorkloadTerminalStatusWaiter,
 ) {
   @POST
   @Path("/create")
@@ -155,6 +160,7 @@ open class WorkloadApi(
   ) {
     ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadFailureRequest.workloadId) as Map<String, Any>?)
     workloadHandler.failWorkload(workloadFailureRequest.workloadId, workloadFailureRequest.source, workloadFailureRequest.reason)
+    workloadTerminalStatusWaiter.notifyTerminalStatus(workloadFailureRequest.workloadId)
   }
 
   @PUT
@@ -188,6 +194,7 @@ open class WorkloadApi(
   ) {
     ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadSuccessRequest.workloadId) as Map<String, Any>?)
     workloadHandler.succeedWorkload(workloadSuccessRequest.workloadId)
+    workloadTerminalStatusWaiter.notifyTerminalStatus(workloadSuccessRequest.workloadId)
   }
 
   @PUT
@@ -263,6 +270,7 @@ open class WorkloadApi(
       ) as Map<String, Any>?,
     )
     workloadHandler.cancelWorkload(workloadCancelRequest.workloadId, workloadCancelRequest.source, workloadCancelRequest.reason)
+    workloadTerminalStatusWaiter.notifyTerminalStatus(workloadCancelRequest.workloadId)
   }
 
   @PUT
@@ -372,6 +380,33 @@ open class WorkloadApi(
     return workloadHandler.getWorkload(workloadId)
   }
 
+  @POST
+  @Path("/await_terminal_status")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Wait for workloads to reach a terminal status.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the status of the workloads that are in a terminal status as soon as there is at least one, " +
+            "or an empty list if none of them reached a terminal status before the timeout.",
+        content = [Content(schema = Schema(implementation = WorkloadTerminalStatusListResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadAwaitTerminalStatus(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadAwaitTerminalStatusRequest::class))],
+    ) workloadAwaitTerminalStatusRequest: WorkloadAwaitTerminalStatusRequest,
+  ): CompletableFuture<WorkloadTerminalStatusListResponse> {
+    return workloadTerminalStatusWaiter.await(
+      workloadAwaitTerminalStatusRequest.workloadIds,
+      workloadAwaitTerminalStatusRequest.timeoutSeconds,
+    ).thenApply { WorkloadTerminalStatusListResponse(it) }
+  }
+
   @PUT
   @Path("/heartbeat")
   @Status(HttpStatus.NO_CONTENT)
@@ -0,0 +1,9 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadAwaitTerminalStatusRequest(
+  @Schema(required = true)
+  var workloadIds: List<String> = ArrayList(),
+  var timeoutSeconds: Long? = null,
+)
@@ -0,0 +1,11 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+data class WorkloadTerminalStatus(
+  @Schema(required = true)
+  var workloadId: String = "",
+  var status: WorkloadStatus,
+  var updatedAt: OffsetDateTime? = null,
+)
@@ -0,0 +1,5 @@
+package io.airbyte.workload.api.domain
+
+data class WorkloadTerminalStatusListResponse(
+  var workloads: List<WorkloadTerminalStatus> = ArrayList(),
+)
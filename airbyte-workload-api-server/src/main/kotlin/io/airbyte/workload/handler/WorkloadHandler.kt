@@ -3,6 +3,7 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
 import jakarta.transaction.Transactional
 import java.time.OffsetDateTime
 import java.util.UUID
@@ -27,6 +28,11 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   ): List<Workload>
 
+  /**
+   * Returns the status of the given workloads that are in a terminal status. Doesn't read anything else from the workloads.
+   */
+  fun getWorkloadTerminalStatuses(workloadIds: List<String>): List<WorkloadTerminalStatus>
+
   fun workloadAlreadyExists(workloadId: String): Boolean
 
   fun createWorkload(
@@ -3,6 +3,7 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -15,6 +16,8 @@ import java.util.UUID
 
 private val logger = KotlinLogging.logger {}
 
+private val TERMINAL_STATUSES = listOf(WorkloadStatus.SUCCESS, WorkloadStatus.FAILURE, WorkloadStatus.CANCELLED)
+
 /**
  * Interface layer between the API and Persistence layers.
  */
@@ -46,6 +49,13 @@ class WorkloadHandlerImpl(
     return domainWorkloads.map { it.toApi() }
   }
 
+  override fun getWorkloadTerminalStatuses(workloadIds: List<String>): List<WorkloadTerminalStatus> {
+    if (workloadIds.isEmpty()) {
+      return listOf()
+    }
+    return workloadRepository.searchStatuses(workloadIds, TERMINAL_STATUSES).map { it.toApi() }
+  }
+
   override fun workloadAlreadyExists(workloadId: String): Boolean {
     return workloadRepository.existsById(workloadId)
   }
@@ -1,8 +1,10 @@
 package io.airbyte.workload.handler
 
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadLabel
 import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadStatusView
 import io.airbyte.workload.repository.domain.WorkloadType
 import java.util.UUID
 
@@ -90,6 +92,14 @@ fun ApiWorkload.toDomain(): DomainWorkload {
   )
 }
 
+fun WorkloadStatusView.toApi(): WorkloadTerminalStatus {
+  return WorkloadTerminalStatus(
+    workloadId = this.id,
+    status = this.status.toApi(),
+    updatedAt = this.updatedAt,
+  )
+}
+
 fun DomainWorkloadLabel.toApi(): ApiWorkloadLabel {
   return ApiWorkloadLabel(
     key = this.key,
@@ -0,0 +1,103 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Property
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Holds the requests waiting for workloads to reach a terminal status, without holding a thread while they wait.
+ *
+ * A waiter is woken up as soon as one of its workloads is succeeded, failed or cancelled through this instance of the API. The
+ * transitions handled by the other instances are caught by rechecking all the workloads being waited on with a single query every
+ * recheck interval.
+ */
+@Singleton
+open class WorkloadTerminalStatusWaiter(
+  private val workloadHandler: WorkloadHandler,
+  @Named(TaskExecutors.IO) private val ioExecutor: ExecutorService,
+  @Property(name = "airbyte.workload-api.await-terminal-status.max-timeout") private val maxTimeout: Duration,
+) {
+  companion object {
+    private const val RECHECK_BATCH_SIZE = 500
+  }
+
+  private val waiters = ConcurrentHashMap<String, MutableSet<CompletableFuture<Unit>>>()
+
+  /**
+   * Returns the terminal statuses of the given workloads once at least one of them is in a terminal status, or an empty list if
+   * none of them got there before the timeout.
+   */
+  fun await(
+    workloadIds: List<String>,
+    timeoutSeconds: Long?,
+  ): CompletableFuture<List<WorkloadTerminalStatus>> {
+    val ids = workloadIds.distinct()
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(listOf())
+    }
+
+    // Register before reading the statuses, so that a transition happening in between wakes the waiter up.
+    val wakeUp = CompletableFuture<Unit>()
+    ids.forEach { id -> waiters.compute(id) { _, futures -> (futures ?: ConcurrentHashMap.newKeySet()).apply { add(wakeUp) } } }
+
+    val terminalStatuses =
+      try {
+        workloadHandler.getWorkloadTerminalStatuses(ids)
+      } catch (e: Exception) {
+        unregister(ids, wakeUp)
+        throw e
+      }
+    if (terminalStatuses.isNotEmpty()) {
+      unregister(ids, wakeUp)
+      return CompletableFuture.completedFuture(terminalStatuses)
+    }
+
+    val timeout = (timeoutSeconds ?: maxTimeout.seconds).coerceIn(0, maxTimeout.seconds)
+    return wakeUp
+      .completeOnTimeout(Unit, timeout, TimeUnit.SECONDS)
+      .whenComplete { _, _ -> unregister(ids, wakeUp) }
+      .thenApplyAsync({ workloadHandler.getWorkloadTerminalStatuses(ids) }, ioExecutor)
+  }
+
+  /**
+   * Wakes up the waiters of a workload. To be called once its transition to a terminal status is committed.
+   */
+  fun notifyTerminalStatus(workloadId: String) {
+    waiters.remove(workloadId)?.forEach { it.complete(Unit) }
+  }
+
+  @Scheduled(fixedDelay = "\${airbyte.workload-api.await-terminal-status.recheck-interval}")
+  open fun recheckTerminalStatuses() {
+    val ids = waiters.keys.toList()
+    ids.chunked(RECHECK_BATCH_SIZE).forEach { batch ->
+      try {
+        workloadHandler.getWorkloadTerminalStatuses(batch).forEach { notifyTerminalStatus(it.workloadId) }
+      } catch (e: Exception) {
+        logger.warn(e) { "Failed to recheck the status of ${batch.size} awaited workloads" }
+      }
+    }
+  }
+
+  private fun unregister(
+    workloadIds: List<String>,
+    wakeUp: CompletableFuture<Unit>,
+  ) {
+    workloadIds.forEach { id ->
+      waiters.computeIfPresent(id) { _, futures ->
+        futures.remove(wakeUp)
+        futures.ifEmpty { null }
+      }
+    }
+  }
+}
@@ -2,6 +2,7 @@ package io.airbyte.workload.repository
 
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadStatusView
 import io.airbyte.workload.repository.domain.WorkloadType
 import io.micronaut.data.annotation.Expandable
 import io.micronaut.data.annotation.Id
@@ -64,6 +65,18 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     createdBefore: OffsetDateTime?,
   ): List<Workload>
 
+  @Query(
+    """
+      SELECT id, status, updated_at FROM workload
+      WHERE id IN (:workloadIds)
+      AND status = ANY(CAST(ARRAY[:statuses] AS workload_status[]))
+      """,
+  )
+  fun searchStatuses(
+    @Expandable workloadIds: List<String>,
+    @Expandable statuses: List<WorkloadStatus>,
+  ): List<WorkloadStatusView>
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
@@ -0,0 +1,14 @@
+package io.airbyte.workload.repository.domain
+
+import io.micronaut.core.annotation.Introspected
+import java.time.OffsetDateTime
+
+/**
+ * Status-only projection of a [Workload], so that waiting on workloads does not read their input payload.
+ */
+@Introspected
+data class WorkloadStatusView(
+  var id: String,
+  var status: WorkloadStatus,
+  var updatedAt: OffsetDateTime?,
+)
@@ -3,6 +3,7 @@ package io.airbyte.workload.api
 import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.temporal.WorkflowClientWrapped
 import io.airbyte.workload.api.domain.KnownExceptionInfo
+import io.airbyte.workload.api.domain.WorkloadAwaitTerminalStatusRequest
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -10,7 +11,9 @@ import io.airbyte.workload.api.domain.WorkloadFailureRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
+import io.airbyte.workload.api.domain.WorkloadStatus
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
 import io.airbyte.workload.handler.ApiWorkload
@@ -167,6 +170,22 @@ class WorkloadApiTest(
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/list", Jsons.serialize(WorkloadListRequest())), HttpStatus.OK)
   }
 
+  @Test
+  fun `test await terminal status success`() {
+    val terminalStatuses = listOf(WorkloadTerminalStatus("workload-1", WorkloadStatus.SUCCESS))
+    every { workloadHandler.getWorkloadTerminalStatuses(listOf("workload-1", "workload-2")) } returns terminalStatuses
+    val response =
+      client.toBlocking().exchange(
+        HttpRequest.POST(
+          "/api/v1/workload/await_terminal_status",
+          Jsons.serialize(WorkloadAwaitTerminalStatusRequest(listOf("workload-1", "workload-2"), 1)),
+        ),
+        String::class.java,
+      )
+    assertEquals(HttpStatus.OK, response.status)
+    assertEquals(listOf("workload-1"), Jsons.deserialize(response.body()).get("workloads").map { it.get("workloadId").asText() })
+  }
+
   @Test
   fun `test cancel success`() {
     every { workloadHandler.cancelWorkload(any(), any(), any()) } just Runs
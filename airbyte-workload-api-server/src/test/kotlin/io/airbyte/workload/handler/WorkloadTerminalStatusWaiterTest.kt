@@ -0,0 +1,71 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.WorkloadStatus
+import io.airbyte.workload.api.domain.WorkloadTerminalStatus
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class WorkloadTerminalStatusWaiterTest {
+  private val workloadIds = listOf("workload-1", "workload-2")
+  private val succeeded = WorkloadTerminalStatus("workload-1", WorkloadStatus.SUCCESS)
+
+  private lateinit var workloadHandler: WorkloadHandler
+  private lateinit var waiter: WorkloadTerminalStatusWaiter
+
+  @BeforeEach
+  fun setup() {
+    workloadHandler = mockk()
+    waiter = WorkloadTerminalStatusWaiter(workloadHandler, Executors.newSingleThreadExecutor(), Duration.ofSeconds(60))
+  }
+
+  @Test
+  fun `test already terminal workloads are returned right away`() {
+    every { workloadHandler.getWorkloadTerminalStatuses(workloadIds) } returns listOf(succeeded)
+
+    assertEquals(listOf(succeeded), waiter.await(workloadIds, null).getNow(null))
+
+    waiter.recheckTerminalStatuses()
+    verify(exactly = 1) { workloadHandler.getWorkloadTerminalStatuses(any()) }
+  }
+
+  @Test
+  fun `test waiters are woken up by a terminal transition`() {
+    every { workloadHandler.getWorkloadTerminalStatuses(workloadIds) } returns listOf() andThen listOf(succeeded)
+
+    val result = waiter.await(workloadIds, null)
+    assertFalse(result.isDone)
+
+    waiter.notifyTerminalStatus("workload-1")
+    assertEquals(listOf(succeeded), result.get(10, TimeUnit.SECONDS))
+  }
+
+  @Test
+  fun `test waiters are woken up by the recheck`() {
+    every { workloadHandler.getWorkloadTerminalStatuses(any()) } returns listOf() andThen listOf(succeeded)
+
+    val result = waiter.await(workloadIds, null)
+    assertFalse(result.isDone)
+
+    waiter.recheckTerminalStatuses()
+    assertEquals(listOf(succeeded), result.get(10, TimeUnit.SECONDS))
+
+    // the waiter is no longer rechecked once woken up
+    waiter.recheckTerminalStatuses()
+    verify(exactly = 3) { workloadHandler.getWorkloadTerminalStatuses(any()) }
+  }
+
+  @Test
+  fun `test an empty list is returned on timeout`() {
+    every { workloadHandler.getWorkloadTerminalStatuses(workloadIds) } returns listOf()
+
+    assertEquals(listOf<WorkloadTerminalStatus>(), waiter.await(workloadIds, 0).get(10, TimeUnit.SECONDS))
+  }
+}
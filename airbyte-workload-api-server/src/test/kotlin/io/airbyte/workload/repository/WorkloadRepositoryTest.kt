@@ -315,6 +315,22 @@ internal class WorkloadRepositoryTest {
     assertEquals(0, resultSearch11.size)
   }
 
+  @Test
+  fun `test search statuses`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.SUCCESS))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.CANCELLED))
+
+    val statuses =
+      workloadRepo.searchStatuses(
+        listOf("workload1", "workload2", "workload3", "unknown"),
+        listOf(WorkloadStatus.SUCCESS, WorkloadStatus.FAILURE, WorkloadStatus.CANCELLED),
+      ).sortedBy { it.id }
+    assertEquals(listOf("workload2", "workload3"), statuses.map { it.id })
+    assertEquals(listOf(WorkloadStatus.SUCCESS, WorkloadStatus.CANCELLED), statuses.map { it.status })
+    statuses.forEach { assertNotNull(it.updatedAt) }
+  }
+
   @Test
   fun `test search by type status and creation date`() {
     val workload1 =
@@ -25,9 +25,8 @@ import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
-import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
-import reactor.kotlin.core.publisher.toFlux
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Semaphore
 
 private val logger = KotlinLogging.logger {}
 
@@ -37,10 +36,8 @@ class ClaimedProcessor(
   private val pipe: LaunchPipeline,
   private val metricPublisher: CustomMetricPublisher,
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
-  @Value("\${airbyte.workload-launcher.temporal.default-queue.parallelism}") parallelism: Int,
+  @Value("\${airbyte.workload-launcher.temporal.default-queue.parallelism}") private val parallelism: Int,
 ) {
-  private val scheduler = Schedulers.newParallel("process-claimed-scheduler", parallelism)
-
   @Trace(operationName = RESUME_CLAIMED_OPERATION_NAME)
   fun retrieveAndProcess() {
     addTagsToTrace()
@@ -60,23 +57,29 @@ class ClaimedProcessor(
     processMessages(msgs)
   }
 
+  /**
+   * Resumes the claimed workloads, at most [parallelism] at a time, and returns once they are all done so that they are
+   * launched before any new workload is consumed. They are submitted to the [LaunchPipeline] like new workloads, so they
+   * also count against its in-flight bound.
+   */
   @VisibleForTesting
   fun processMessages(msgs: List<LauncherInput>) {
-    msgs.map { runOnClaimedScheduler(it) }
-      .toFlux()
-      .flatMap { w -> w }
-      .collectList()
-      .block()
+    val resuming = Semaphore(parallelism)
+    val launches =
+      msgs.map { msg ->
+        resuming.acquire()
+        resumeClaimed(msg).whenComplete { _, _ -> resuming.release() }
+      }
+    CompletableFuture.allOf(*launches.toTypedArray()).join()
   }
 
-  private fun runOnClaimedScheduler(msg: LauncherInput): Mono<LaunchStageIO> {
+  private fun resumeClaimed(msg: LauncherInput): CompletableFuture<LaunchStageIO> {
     metricPublisher.count(
       WorkloadLauncherMetricMetadata.WORKLOAD_CLAIM_RESUMED,
       MetricAttribute(WORKLOAD_ID_TAG, msg.workloadId),
       MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
     )
-    return pipe.buildPipeline(msg)
-      .subscribeOn(scheduler)
+    return pipe.submit(msg)
   }
 
   private fun addTagsToTrace() {
@@ -60,6 +60,22 @@ enum class WorkloadLauncherMetricMetadata(
     "workload_stage_duration",
     "a distribution of the duration of a workload stage",
   ),
+  WORKLOAD_STAGE_QUEUE_SIZE(
+    "workload_stage_queue_size",
+    "the number of workloads waiting for a thread of a stage",
+  ),
+  WORKLOAD_STAGE_QUEUE_LATENCY(
+    "workload_stage_queue_latency",
+    "a distribution of the time a workload waits for a thread of a stage",
+  ),
+  WORKLOAD_LAUNCHES_IN_FLIGHT(
+    "workload_launches_in_flight",
+    "the number of workloads accepted by the launch pipeline that are not done yet",
+  ),
+  WORKLOAD_LAUNCH_REPLICATION_STEP_DURATION(
+    "workload_launch_replication_step_duration",
+    "a distribution of the duration of each step of launching the pods of a replication",
+  ),
   PODS_DELETED_FOR_MUTEX_KEY(
     "workload_pods_deleted_for_mutex_key",
     "existing pods for the provided mutex key were found and deleted",
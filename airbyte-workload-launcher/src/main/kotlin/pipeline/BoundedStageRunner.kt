@@ -0,0 +1,52 @@
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.STAGE_NAME_TAG
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStage
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.airbyte.workload.launcher.pipeline.stages.model.StageFunction
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+
+/**
+ * Runs a stage on a pool of its own, bounded by the given parallelism.
+ *
+ * Stages block on the workload api and on kube, so running each on its own pool means a slow stage only holds its own
+ * threads, e.g. pods waiting to start do not keep new workloads from being claimed. Inputs beyond the parallelism are
+ * queued; the queue size and the time spent in it are published per stage.
+ */
+class BoundedStageRunner(
+  private val stage: LaunchStage,
+  parallelism: Int,
+  private val metricPublisher: CustomMetricPublisher,
+) : StageFunction<LaunchStageIO> {
+  private val stageNameAttr = MetricAttribute(STAGE_NAME_TAG, stage.getStageName().toString())
+  private val scheduler: Scheduler =
+    Schedulers.newBoundedElastic(
+      parallelism,
+      Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+      "launch-stage-${stage.getStageName().name.lowercase()}",
+    )
+  private val queued = AtomicInteger()
+
+  init {
+    metricPublisher.gauge(WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_SIZE, queued, { it.toDouble() }, stageNameAttr)
+  }
+
+  override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> {
+    val queuedAt = TimeSource.Monotonic.markNow()
+    queued.incrementAndGet()
+
+    return Mono.defer {
+      queued.decrementAndGet()
+      metricPublisher.timer(WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_LATENCY, queuedAt.elapsedNow().toJavaDuration(), stageNameAttr)
+      stage.apply(input)
+    }.subscribeOn(scheduler)
+  }
+}
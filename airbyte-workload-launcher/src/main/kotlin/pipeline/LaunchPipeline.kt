@@ -20,45 +20,103 @@ import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Semaphore
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
 
 private val logger = KotlinLogging.logger {}
 
+/**
+ * Runs the launch stages of workloads concurrently.
+ *
+ * Each stage runs on its own bounded pool (see [BoundedStageRunner]), so a thread is only held for as long as a stage
+ * is actually working on a workload. The number of workloads in the pipeline is bounded: once it is full, [accept]
+ * blocks, which holds back the queue consumer.
+ */
 @Singleton
 class LaunchPipeline(
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
-  @Named("claim") private val claim: LaunchStage,
-  @Named("check") private val check: LaunchStage,
-  @Named("build") private val build: LaunchStage,
-  @Named("mutex") private val mutex: LaunchStage,
-  @Named("launch") private val launch: LaunchStage,
+  @Named("claim") claim: LaunchStage,
+  @Named("check") check: LaunchStage,
+  @Named("build") build: LaunchStage,
+  @Named("mutex") mutex: LaunchStage,
+  @Named("launch") launch: LaunchStage,
   private val successHandler: SuccessHandler,
   private val failureHandler: FailureHandler,
   private val metricPublisher: CustomMetricPublisher,
   private val ctxFactory: LogContextFactory,
+  @Value("\${airbyte.workload-launcher.pipeline.max-in-flight}") private val maxInFlight: Int,
+  @Value("\${airbyte.workload-launcher.pipeline.stage-parallelism}") stageParallelism: Int,
+  @Value("\${airbyte.workload-launcher.pipeline.launch-stage-parallelism}") launchStageParallelism: Int,
 ) {
+  private val claim = BoundedStageRunner(claim, stageParallelism, metricPublisher)
+  private val check = BoundedStageRunner(check, stageParallelism, metricPublisher)
+  private val build = BoundedStageRunner(build, stageParallelism, metricPublisher)
+  private val mutex = BoundedStageRunner(mutex, stageParallelism, metricPublisher)
+  private val launch = BoundedStageRunner(launch, launchStageParallelism, metricPublisher)
+
+  private val inFlight = Semaphore(maxInFlight)
+
+  init {
+    metricPublisher.gauge(WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCHES_IN_FLIGHT, inFlight, { (maxInFlight - it.availablePermits()).toDouble() })
+  }
+
+  /**
+   * Starts the launch of a workload and returns once it has been claimed, or once the pipeline ended if it was not.
+   * Claimed workloads are resumed by the [io.airbyte.workload.launcher.ClaimedProcessor] if the launcher restarts, so
+   * the message can be considered consumed from then on. The returned future completes once the launch is done.
+   */
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
-  fun accept(msg: LauncherInput) {
-    val startTime = TimeSource.Monotonic.markNow()
+  fun accept(msg: LauncherInput): CompletableFuture<LaunchStageIO> {
     metricPublisher.count(
       WorkloadLauncherMetricMetadata.WORKLOAD_RECEIVED,
       MetricAttribute(WORKLOAD_ID_TAG, msg.workloadId),
       MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
     )
-    buildPipeline(msg)
-      .subscribeOn(Schedulers.immediate())
-      .subscribe()
-    metricPublisher.timer(
-      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
-      startTime.elapsedNow().toJavaDuration(),
-      MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-    )
+
+    val claimed = CountDownLatch(1)
+    val done = submit(msg) { claimed.countDown() }
+    done.whenComplete { _, _ -> claimed.countDown() }
+    claimed.await()
+    return done
+  }
+
+  /**
+   * Starts the launch of a workload once the pipeline has room for it, blocking the caller until then. Both new and
+   * resumed workloads go through here so that they share the same bound. The returned future completes once the launch
+   * is done.
+   */
+  fun submit(
+    msg: LauncherInput,
+    onClaimed: () -> Unit = {},
+  ): CompletableFuture<LaunchStageIO> {
+    val startTime = TimeSource.Monotonic.markNow()
+    inFlight.acquire()
+    try {
+      return buildPipeline(msg, onClaimed)
+        .toFuture()
+        .whenComplete { _, _ ->
+          inFlight.release()
+          metricPublisher.timer(
+            WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
+            startTime.elapsedNow().toJavaDuration(),
+            MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+          )
+        }
+    } catch (e: Exception) {
+      // The pipeline could not even be started, so nothing else will give the permit back.
+      inFlight.release()
+      throw e
+    }
   }
 
-  fun buildPipeline(msg: LauncherInput): Mono<LaunchStageIO> {
+  fun buildPipeline(
+    msg: LauncherInput,
+    onClaimed: () -> Unit = {},
+  ): Mono<LaunchStageIO> {
     addTagsToTrace(msg)
     val loggingCtx = ctxFactory.create(msg)
     val input = LaunchStageIO(msg, loggingCtx)
@@ -66,6 +124,7 @@ class LaunchPipeline(
     return input
       .toMono()
       .flatMap(claim)
+      .doOnNext { onClaimed() }
       .flatMap(check)
       .flatMap(build)
       .flatMap(mutex)
@@ -74,6 +133,13 @@ class LaunchPipeline(
       .doOnNext(successHandler::accept)
   }
 
+  /**
+   * Number of workloads accepted by the pipeline that are not done yet.
+   */
+  fun getInFlightCount(): Int {
+    return maxInFlight - inFlight.availablePermits()
+  }
+
   private fun addTagsToTrace(msg: LauncherInput) {
     val commonTags = hashMapOf<String, Any>()
     commonTags[DATA_PLANE_ID_TAG] = dataplaneId
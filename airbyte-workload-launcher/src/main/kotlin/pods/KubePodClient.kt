@@ -7,14 +7,21 @@ import io.airbyte.featureflag.Connection
 import io.airbyte.featureflag.ContainerOrchestratorJavaOpts
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.lib.ApmTraceUtils
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.persistence.job.models.ReplicationInput
 import io.airbyte.workers.models.CheckConnectionInput
 import io.airbyte.workers.models.DiscoverCatalogInput
 import io.airbyte.workers.models.SpecInput
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.FAILURE_STATUS
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.LAUNCH_REPLICATION_OPERATION_NAME
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.STAGE_NAME_TAG
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.SUCCESS_STATUS
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WAIT_DESTINATION_OPERATION_NAME
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WAIT_ORCHESTRATOR_OPERATION_NAME
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WAIT_SOURCE_OPERATION_NAME
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
 import io.airbyte.workload.launcher.model.setDestinationLabels
 import io.airbyte.workload.launcher.model.setSourceLabels
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
@@ -27,7 +34,15 @@ import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import kotlin.time.TimeMark
 import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+import kotlin.time.toKotlinDuration
 
 /**
  * Interface layer between domain and Kube layers.
@@ -44,6 +59,7 @@ class KubePodClient(
   @Named("checkPodFactory") private val checkPodFactory: ConnectorPodFactory,
   @Named("discoverPodFactory") private val discoverPodFactory: ConnectorPodFactory,
   @Named("specPodFactory") private val specPodFactory: ConnectorPodFactory,
+  private val metricPublisher: CustomMetricPublisher,
 ) : PodClient {
   override fun podsExistForAutoId(autoId: UUID): Boolean {
     return kubePodLauncher.podsExist(labeler.getAutoIdLabels(autoId))
@@ -65,7 +81,7 @@ class KubePodClient(
 
     val injectedJavaOpts: String = featureFlagClient.stringVariation(ContainerOrchestratorJavaOpts, Connection(replicationInput.connectionId))
     val additionalEnvVars = if (injectedJavaOpts.isNotEmpty()) mapOf("JAVA_OPTS" to injectedJavaOpts) else mapOf()
-    var pod =
+    val orchestratorPod =
       orchestratorPodFactory.create(
         kubeInput.orchestratorLabels,
         kubeInput.resourceReqs,
@@ -74,9 +90,42 @@ class KubePodClient(
         kubeInput.annotations,
         additionalEnvVars,
       )
+    val launchStart = TimeSource.Monotonic.markNow()
+    val pod = timeStep(CREATE_ORCHESTRATOR_STEP) { createOrchestrator(orchestratorPod, kubeInput) }
+
+    // The orchestrator creates the connector pods as soon as it starts. Watching for them from now on lets their readiness be
+    // picked up while we are still waiting on the orchestrator, and the source and destination be awaited concurrently.
+    val destinationReady = watchConnectorReadyOrTerminal(kubeInput.destinationLabels, PodType.DESTINATION, DESTINATION_READY_STEP, launchStart)
+    var sourceReady: CompletableFuture<Pod>? = null
+
     try {
-      pod =
-        kubePodLauncher.create(pod)
+      if (!replicationInput.isReset) {
+        sourceReady = watchConnectorReadyOrTerminal(kubeInput.sourceLabels, PodType.SOURCE, SOURCE_READY_STEP, launchStart)
+      }
+
+      timeStep(WAIT_ORCHESTRATOR_INIT_STEP) { waitOrchestratorPodInit(pod) }
+
+      timeStep(COPY_FILES_STEP) { copyFileToOrchestrator(kubeInput, pod) }
+
+      timeStep(WAIT_ORCHESTRATOR_START_STEP) { waitForOrchestratorStart(pod) }
+
+      // Both connectors get the full startup timeout from the moment the orchestrator is up.
+      val deadline = TimeSource.Monotonic.markNow() + REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.toKotlinDuration()
+      waitDestinationReadyOrTerminalInit(destinationReady, deadline)
+      sourceReady?.let { waitSourceReadyOrTerminalInit(it, deadline) }
+    } finally {
+      // no-op for the watches that completed, stops the informers of the others
+      destinationReady.cancel(true)
+      sourceReady?.cancel(true)
+    }
+  }
+
+  private fun createOrchestrator(
+    pod: Pod,
+    kubeInput: OrchestratorKubeInput,
+  ): Pod {
+    try {
+      return kubePodLauncher.create(pod)
     } catch (e: RuntimeException) {
       ApmTraceUtils.addExceptionToTrace(e)
       throw KubeClientException(
@@ -86,19 +135,6 @@ class KubePodClient(
         PodType.ORCHESTRATOR,
       )
     }
-
-    waitOrchestratorPodInit(pod)
-
-    copyFileToOrchestrator(kubeInput, pod)
-
-    waitForOrchestratorStart(pod)
-
-    // We wait for the destination first because orchestrator starts destinations first.
-    waitDestinationReadyOrTerminalInit(kubeInput)
-
-    if (!replicationInput.isReset) {
-      waitSourceReadyOrTerminalInit(kubeInput)
-    }
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
@@ -152,35 +188,105 @@ class KubePodClient(
   }
 
   @Trace(operationName = WAIT_SOURCE_OPERATION_NAME)
-  fun waitSourceReadyOrTerminalInit(kubeInput: OrchestratorKubeInput) {
+  fun waitSourceReadyOrTerminalInit(
+    sourceReady: CompletableFuture<Pod>,
+    deadline: TimeMark,
+  ) {
+    awaitConnectorReadyOrTerminal(sourceReady, deadline, PodType.SOURCE, "Source")
+  }
+
+  @Trace(operationName = WAIT_DESTINATION_OPERATION_NAME)
+  fun waitDestinationReadyOrTerminalInit(
+    destinationReady: CompletableFuture<Pod>,
+    deadline: TimeMark,
+  ) {
+    awaitConnectorReadyOrTerminal(destinationReady, deadline, PodType.DESTINATION, "Destination")
+  }
+
+  private fun awaitConnectorReadyOrTerminal(
+    connectorReady: CompletableFuture<Pod>,
+    deadline: TimeMark,
+    podType: PodType,
+    podLogLabel: String,
+  ) {
     try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
+      connectorReady.get((-deadline.elapsedNow()).inWholeMilliseconds.coerceAtLeast(0), TimeUnit.MILLISECONDS)
+    } catch (e: Exception) {
+      if (e is InterruptedException) {
+        Thread.currentThread().interrupt()
+      }
+      val cause = if (e is ExecutionException) e.cause ?: e else e
+      ApmTraceUtils.addExceptionToTrace(cause)
+      val reason =
+        if (cause is TimeoutException) {
+          "No ready or terminal ${podLogLabel.lowercase()} pod was observed."
+        } else {
+          cause.message ?: cause.javaClass.simpleName
+        }
       throw KubeClientException(
-        "Source pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
+        "$podLogLabel pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. ($reason)",
+        cause,
         KubeCommandType.WAIT_MAIN,
-        PodType.SOURCE,
+        podType,
       )
     }
   }
 
-  @Trace(operationName = WAIT_DESTINATION_OPERATION_NAME)
-  fun waitDestinationReadyOrTerminalInit(kubeInput: OrchestratorKubeInput) {
+  /**
+   * Starts watching for a connector pod and records, once it is ready, how long it took since the start of the launch.
+   */
+  private fun watchConnectorReadyOrTerminal(
+    labels: Map<String, String>,
+    podType: PodType,
+    step: String,
+    launchStart: TimeMark,
+  ): CompletableFuture<Pod> {
+    val connectorReady =
+      try {
+        kubePodLauncher.watchForPodReadyOrTerminal(labels)
+      } catch (e: RuntimeException) {
+        ApmTraceUtils.addExceptionToTrace(e)
+        throw KubeClientException(
+          "Failed to watch for the ${podType.name.lowercase()} pod. (${e.message})",
+          e,
+          KubeCommandType.WAIT_MAIN,
+          podType,
+        )
+      }
+    connectorReady.whenComplete { _, e ->
+      if (e !is CancellationException) {
+        recordStepDuration(step, launchStart.elapsedNow().toJavaDuration(), e == null)
+      }
+    }
+    return connectorReady
+  }
+
+  private fun <T> timeStep(
+    step: String,
+    block: () -> T,
+  ): T {
+    val start = TimeSource.Monotonic.markNow()
+    var success = false
     try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "Destination pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
-        KubeCommandType.WAIT_MAIN,
-        PodType.DESTINATION,
-      )
+      return block().also { success = true }
+    } finally {
+      recordStepDuration(step, start.elapsedNow().toJavaDuration(), success)
     }
   }
 
+  private fun recordStepDuration(
+    step: String,
+    duration: Duration,
+    success: Boolean,
+  ) {
+    metricPublisher.timer(
+      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_REPLICATION_STEP_DURATION,
+      duration,
+      MetricAttribute(STAGE_NAME_TAG, step),
+      MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
+    )
+  }
+
   override fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
@@ -319,5 +425,12 @@ class KubePodClient(
     val ORCHESTRATOR_STARTUP_TIMEOUT_VALUE: Duration = Duration.ofMinutes(1)
     val POD_INIT_TIMEOUT_VALUE: Duration = Duration.ofMinutes(15)
     val REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE: Duration = FULL_POD_TIMEOUT.plus(TIMEOUT_SLACK)
+
+    const val CREATE_ORCHESTRATOR_STEP = "create_orchestrator"
+    const val WAIT_ORCHESTRATOR_INIT_STEP = "wait_orchestrator_init"
+    const val COPY_FILES_STEP = "copy_files"
+    const val WAIT_ORCHESTRATOR_START_STEP = "wait_orchestrator_start"
+    const val DESTINATION_READY_STEP = "destination_ready"
+    const val SOURCE_READY_STEP = "source_ready"
   }
 }
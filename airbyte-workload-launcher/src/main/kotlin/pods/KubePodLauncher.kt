@@ -23,6 +23,8 @@ import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.time.Duration
 import java.util.Objects
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
 import java.util.function.Predicate
 
@@ -88,26 +90,32 @@ class KubePodLauncher(
     }
   }
 
-  fun waitForPodReadyOrTerminal(
-    labels: Map<String, String>,
-    waitDuration: Duration,
-  ) {
-    runKubeCommand(
-      {
-        kubernetesClient.pods()
-          .inNamespace(namespace)
-          .withLabels(labels)
-          .waitUntilCondition(
-            { p: Pod? ->
-              Objects.nonNull(p) &&
-                (Readiness.getInstance().isReady(p) || KubePodResourceHelper.isTerminal(p))
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
-      },
-      "wait",
-    )
+  /**
+   * Starts an informer on the pods matching the labels and returns a future completed with one of them once they all are ready
+   * or terminal, like [waitForPodReadyOrTerminalByPod]. The pod does not need to exist yet. No thread is blocked while waiting;
+   * cancelling the future stops the informer.
+   */
+  fun watchForPodReadyOrTerminal(labels: Map<String, String>): CompletableFuture<Pod> {
+    val informed =
+      runKubeCommand(
+        {
+          kubernetesClient.pods()
+            .inNamespace(namespace)
+            .withLabels(labels)
+            .informOnCondition { pods -> pods.isNotEmpty() && pods.all { isReadyOrTerminal(it) } }
+        },
+        "watch",
+      )
+
+    val readyPod = informed.thenApply { pods -> pods.first() }
+    readyPod.whenComplete { _, e ->
+      // propagates cancellation or a timeout of the caller to the informer
+      informed.cancel(true)
+      if (e != null && e !is CancellationException) {
+        countKubeError("watch")
+      }
+    }
+    return readyPod
   }
 
   fun waitForPodReadyOrTerminalByPod(
@@ -206,6 +214,10 @@ class KubePodLauncher(
       .withoutField(KUBECTL_PHASE_FIELD_NAME, KUBECTL_COMPLETED_VALUE) // filters out completed pods
   }
 
+  private fun isReadyOrTerminal(pod: Pod?): Boolean {
+    return Objects.nonNull(pod) && (Readiness.getInstance().isReady(pod) || KubePodResourceHelper.isTerminal(pod))
+  }
+
   private fun <T> runKubeCommand(
     kubeCommand: () -> T,
     commandName: String,
@@ -213,14 +225,18 @@ class KubePodLauncher(
     try {
       return Failsafe.with(kubernetesClientRetryPolicy).get { -> kubeCommand() }
     } catch (e: Exception) {
-      val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
-      val attributesArray = attributes.toTypedArray<MetricAttribute>()
-      metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+      countKubeError(commandName)
 
       throw e
     }
   }
 
+  private fun countKubeError(commandName: String) {
+    val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
+    val attributesArray = attributes.toTypedArray<MetricAttribute>()
+    metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+  }
+
   object Constants {
     // Wait why is this named like this?
     // Explanation: Kubectl displays "Completed" but the selector expects "Succeeded"
@@ -16,7 +16,7 @@ class SharedMocks {
           timer(any(), any(), *anyVararg())
         } returns Unit
         every {
-          gauge<Any>(any(), any(), any(), any())
+          gauge<Any>(any(), any(), any(), *anyVararg())
         } returns Unit
       }
 
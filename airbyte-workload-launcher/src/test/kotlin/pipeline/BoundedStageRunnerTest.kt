@@ -0,0 +1,52 @@
+package io.airbyte.workload.launcher.pipeline
+
+import fixtures.RecordFixtures
+import io.airbyte.workload.launcher.fixtures.SharedMocks.Companion.metricPublisher
+import io.airbyte.workload.launcher.fixtures.TestStage
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Flux
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+class BoundedStageRunnerTest {
+  @Test
+  fun `runs the stage on its own pool`() {
+    val threads = ConcurrentHashMap.newKeySet<String>()
+    val stage = TestStage(StageName.BUILD, { _, _ -> "".also { threads.add(Thread.currentThread().name) } })
+    val runner = BoundedStageRunner(stage, 2, metricPublisher)
+    val input = LaunchStageIO(RecordFixtures.launcherInput())
+
+    val output = runner.apply(input).block()
+
+    assertEquals(input, output)
+    assertTrue(threads.all { it.startsWith("launch-stage-build") })
+    verify { metricPublisher.timer(WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_LATENCY, any(), *anyVararg()) }
+  }
+
+  @Test
+  fun `runs at most parallelism inputs at a time`() {
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+    val stage =
+      TestStage(StageName.LAUNCH, { _, _ ->
+        maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+        Thread.sleep(20)
+        running.decrementAndGet()
+        ""
+      })
+    val runner = BoundedStageRunner(stage, 3, metricPublisher)
+
+    Flux.range(0, 20)
+      .flatMap { runner.apply(LaunchStageIO(RecordFixtures.launcherInput(workloadId = it.toString()))) }
+      .then()
+      .block()
+
+    assertEquals(3, maxRunning.get())
+  }
+}
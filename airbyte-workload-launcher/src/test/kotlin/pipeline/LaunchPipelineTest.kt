@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import fixtures.RecordFixtures
+import io.airbyte.config.Configs
+import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.launcher.ClaimedProcessor
+import io.airbyte.workload.launcher.client.LogContextFactory
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.fixtures.SharedMocks.Companion.metricPublisher
+import io.airbyte.workload.launcher.fixtures.TestStage
+import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
+import io.airbyte.workload.launcher.pipeline.handlers.FailureHandler
+import io.airbyte.workload.launcher.pipeline.handlers.SuccessHandler
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.io.File
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class LaunchPipelineTest {
+  @Test
+  fun `accept returns once the workload is claimed`() {
+    val release = CountDownLatch(1)
+    val pipeline = launchPipeline(maxInFlight = 2) { release.await() }
+
+    val done = pipeline.accept(input("1"))
+
+    assertFalse(done.isDone)
+    assertEquals(1, pipeline.getInFlightCount())
+
+    release.countDown()
+    done.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+    assertEquals(0, pipeline.getInFlightCount())
+  }
+
+  @Test
+  fun `accept blocks while the pipeline is full`() {
+    val release = CountDownLatch(1)
+    val pipeline = launchPipeline(maxInFlight = 2) { release.await() }
+
+    val first = pipeline.accept(input("1"))
+    val second = pipeline.accept(input("2"))
+    val accepting = CountDownLatch(1)
+    val third =
+      CompletableFuture.supplyAsync {
+        accepting.countDown()
+        pipeline.accept(input("3"))
+      }
+
+    assertTrue(accepting.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+    assertFalse(third.isDone)
+    assertEquals(2, pipeline.getInFlightCount())
+
+    release.countDown()
+    third.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+    first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+    second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+    assertEquals(0, pipeline.getInFlightCount())
+  }
+
+  @Test
+  fun `accept gives the permit back when the pipeline cannot be built`() {
+    val ctxFactory: LogContextFactory =
+      mockk {
+        every { create(any()) } throws IllegalStateException("boom")
+      }
+    val pipeline = launchPipeline(maxInFlight = 1, ctxFactory = ctxFactory) {}
+
+    assertThrows(IllegalStateException::class.java) { pipeline.accept(input("1")) }
+    assertThrows(IllegalStateException::class.java) { pipeline.accept(input("2")) }
+    assertEquals(0, pipeline.getInFlightCount())
+  }
+
+  @Test
+  fun `resumed claims share the in-flight bound of the pipeline`() {
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+    val pipeline =
+      launchPipeline(maxInFlight = 2) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+        Thread.sleep(20)
+        running.decrementAndGet()
+      }
+    val processor = ClaimedProcessor(mockk<WorkloadApi>(), pipeline, metricPublisher, "dataplane_id", 5)
+
+    processor.processMessages((1..10).map { input(it.toString()) })
+
+    assertEquals(2, maxRunning.get())
+    assertEquals(0, pipeline.getInFlightCount())
+  }
+
+  companion object {
+    private const val TIMEOUT_SECONDS = 10L
+
+    private val apiClient: WorkloadApiClient = mockk(relaxed = true)
+
+    private fun input(workloadId: String): LauncherInput =
+      RecordFixtures.launcherInput(
+        workloadId = workloadId,
+        logPath = File.createTempFile("launch-pipeline", ".txt").absolutePath,
+      )
+
+    private fun launchPipeline(
+      maxInFlight: Int,
+      ctxFactory: LogContextFactory = LogContextFactory(Configs.WorkerEnvironment.DOCKER),
+      onLaunch: () -> Unit,
+    ) = LaunchPipeline(
+      "dataplane_id",
+      TestStage(StageName.CLAIM, { _, _ -> "" }),
+      TestStage(StageName.CHECK_STATUS, { _, _ -> "" }),
+      TestStage(StageName.BUILD, { _, _ -> "" }),
+      TestStage(StageName.MUTEX, { _, _ -> "" }),
+      TestStage(StageName.LAUNCH, { _, _ -> "".also { onLaunch() } }),
+      SuccessHandler(apiClient, metricPublisher, Optional.empty()),
+      FailureHandler(apiClient, metricPublisher, Optional.empty()),
+      metricPublisher,
+      ctxFactory,
+      maxInFlight = maxInFlight,
+      stageParallelism = 5,
+      launchStageParallelism = 5,
+    )
+  }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.params.provider.ValueSource
 import java.io.File
 import java.nio.file.Files
 import java.util.Optional
+import java.util.concurrent.TimeUnit
 import java.util.function.Function
 import java.util.stream.Stream
 import kotlin.io.path.Path
@@ -41,9 +42,10 @@ class LogPathTest {
 
     val msgs = inputMsgs()
 
-    msgs.parallelStream().forEach { msg ->
-      pipeline.accept(msg)
-    }
+    msgs.parallelStream()
+      .map { msg -> pipeline.accept(msg) }
+      .toList()
+      .forEach { it.get(10, TimeUnit.SECONDS) }
 
     msgs.forEach { msg ->
       val logLines = readTestLogs(msg.logPath)
@@ -151,6 +153,9 @@ class LogPathTest {
         failureHandler,
         metricPublisher,
         LogContextFactory(Configs.WorkerEnvironment.DOCKER),
+        maxInFlight = 10,
+        stageParallelism = 2,
+        launchStageParallelism = 2,
       )
 
     fun readTestLogs(logPath: String): List<String> = Files.readAllLines(Path(logPath)).filter { line -> line.contains(TEST_LOG_PREFIX) }
@@ -11,6 +11,7 @@ import io.airbyte.workers.models.CheckConnectionInput
 import io.airbyte.workers.models.DiscoverCatalogInput
 import io.airbyte.workers.models.SpecInput
 import io.airbyte.workers.process.KubePodInfo
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
 import io.airbyte.workload.launcher.model.setDestinationLabels
 import io.airbyte.workload.launcher.model.setSourceLabels
 import io.airbyte.workload.launcher.pods.KubePodClient.Companion.ORCHESTRATOR_STARTUP_TIMEOUT_VALUE
@@ -35,12 +36,17 @@ import io.mockk.junit5.MockKExtension
 import io.mockk.slot
 import io.mockk.spyk
 import io.mockk.verify
+import io.mockk.verifyOrder
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
 import java.lang.RuntimeException
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
+import kotlin.time.TimeSource
 
 @ExtendWith(MockKExtension::class)
 class KubePodClientTest {
@@ -71,6 +77,9 @@ class KubePodClientTest {
   @MockK
   private lateinit var podFactory: ConnectorPodFactory
 
+  @MockK(relaxed = true)
+  private lateinit var metricPublisher: CustomMetricPublisher
+
   private lateinit var client: KubePodClient
 
   private lateinit var replInput: ReplicationInput
@@ -95,6 +104,7 @@ class KubePodClientTest {
         checkPodFactory,
         discoverPodFactory,
         specPodFactory,
+        metricPublisher,
       )
 
     replInput =
@@ -153,7 +163,7 @@ class KubePodClientTest {
     every { launcher.waitForPodInit(any(), any()) } returns Unit
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), any()) } returns Unit
     every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns Unit
-    every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns Unit
+    every { launcher.watchForPodReadyOrTerminal(any()) } answers { CompletableFuture.completedFuture(pod) }
   }
 
   @Test
@@ -184,11 +194,39 @@ class KubePodClientTest {
 
     verify { launcher.copyFilesToKubeConfigVolumeMain(orchestrator, replKubeInput.fileMap) }
 
-    verify { launcher.waitForPodReadyOrTerminal(replKubeInput.destinationLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify { launcher.watchForPodReadyOrTerminal(replKubeInput.destinationLabels) }
 
     verify { launcher.waitForPodReadyOrTerminalByPod(orchestrator, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE) }
 
-    verify { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify { launcher.watchForPodReadyOrTerminal(replKubeInput.sourceLabels) }
+  }
+
+  @Test
+  fun `launchReplication watches the connector pods while waiting on the orchestrator`() {
+    client.launchReplication(replInput, replLauncherInput)
+
+    verifyOrder {
+      launcher.create(any())
+      launcher.watchForPodReadyOrTerminal(replKubeInput.destinationLabels)
+      launcher.watchForPodReadyOrTerminal(replKubeInput.sourceLabels)
+      launcher.waitForPodInit(any(), POD_INIT_TIMEOUT_VALUE)
+    }
+  }
+
+  @Test
+  fun `launchReplication stops watching the connector pods if the orchestrator fails`() {
+    val destinationReady = CompletableFuture<Pod>()
+    val sourceReady = CompletableFuture<Pod>()
+    every { launcher.watchForPodReadyOrTerminal(replKubeInput.destinationLabels) } returns destinationReady
+    every { launcher.watchForPodReadyOrTerminal(replKubeInput.sourceLabels) } returns sourceReady
+    every { launcher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
+
+    assertThrows<KubeClientException> {
+      client.launchReplication(replInput, replLauncherInput)
+    }
+
+    assertTrue(destinationReady.isCancelled)
+    assertTrue(sourceReady.isCancelled)
   }
 
   @Test
@@ -217,9 +255,9 @@ class KubePodClientTest {
 
     verify { launcher.copyFilesToKubeConfigVolumeMain(orchestrator, replKubeInput.fileMap) }
 
-    verify(exactly = 0) { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify(exactly = 0) { launcher.watchForPodReadyOrTerminal(replKubeInput.sourceLabels) }
 
-    verify { launcher.waitForPodReadyOrTerminal(replKubeInput.destinationLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify { launcher.watchForPodReadyOrTerminal(replKubeInput.destinationLabels) }
   }
 
   @Test
@@ -263,25 +301,34 @@ class KubePodClientTest {
 
   @Test
   fun `launchReplication propagates source wait for init error`() {
-    every { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.watchForPodReadyOrTerminal(replKubeInput.sourceLabels) } returns CompletableFuture.failedFuture(RuntimeException("bang"))
 
-    assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
-    }
+    val exception =
+      assertThrows<KubeClientException> {
+        client.launchReplication(replInput, replLauncherInput)
+      }
+    assertEquals(PodType.SOURCE, exception.podType)
   }
 
   @Test
   fun `launchReplication propagates destination wait for init error`() {
-    every {
-      launcher.waitForPodReadyOrTerminal(
-        replKubeInput.destinationLabels,
-        REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE,
-      )
-    } throws RuntimeException("bang")
+    every { launcher.watchForPodReadyOrTerminal(replKubeInput.destinationLabels) } returns CompletableFuture.failedFuture(RuntimeException("bang"))
 
-    assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
-    }
+    val exception =
+      assertThrows<KubeClientException> {
+        client.launchReplication(replInput, replLauncherInput)
+      }
+    assertEquals(PodType.DESTINATION, exception.podType)
+  }
+
+  @Test
+  fun `waitSourceReadyOrTerminalInit reports a timeout when no pod was observed`() {
+    val exception =
+      assertThrows<KubeClientException> {
+        client.waitSourceReadyOrTerminalInit(CompletableFuture(), TimeSource.Monotonic.markNow())
+      }
+    assertEquals(PodType.SOURCE, exception.podType)
+    assertTrue(exception.message!!.endsWith("(No ready or terminal source pod was observed.)"))
   }
 
   @Test
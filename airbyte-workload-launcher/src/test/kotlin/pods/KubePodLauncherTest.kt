@@ -8,23 +8,27 @@ import io.airbyte.workload.launcher.config.ApplicationBeanFactory
 import io.fabric8.kubernetes.api.model.HasMetadata
 import io.fabric8.kubernetes.api.model.ObjectMeta
 import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
 import io.fabric8.kubernetes.api.model.PodList
 import io.fabric8.kubernetes.client.KubernetesClient
 import io.fabric8.kubernetes.client.KubernetesClientException
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable
 import io.fabric8.kubernetes.client.dsl.MixedOperation
+import io.fabric8.kubernetes.client.dsl.NamespaceableResource
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation
 import io.fabric8.kubernetes.client.dsl.PodResource
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
+import io.mockk.slot
 import io.mockk.verify
 import okhttp3.internal.http2.ErrorCode
 import okhttp3.internal.http2.StreamResetException
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
@@ -32,8 +36,10 @@ import org.junit.jupiter.api.extension.ExtendWith
 import java.io.IOException
 import java.net.SocketTimeoutException
 import java.time.Duration
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Predicate
 
 @ExtendWith(MockKExtension::class)
 class KubePodLauncherTest {
@@ -94,8 +100,8 @@ class KubePodLauncherTest {
   @Test
   fun `test fail to wait for pod ready or terminal`() {
     assertThrows<IllegalStateException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(
-        mapOf(),
+      kubePodLauncher.waitForPodReadyOrTerminalByPod(
+        mockk(),
         Duration.ZERO,
       )
     }
@@ -103,6 +109,68 @@ class KubePodLauncherTest {
     checkMetricSend("wait")
   }
 
+  @Test
+  fun `test fail to watch for pod ready or terminal`() {
+    assertThrows<IllegalStateException> {
+      kubePodLauncher.watchForPodReadyOrTerminal(mapOf())
+    }
+
+    checkMetricSend("watch")
+  }
+
+  @Test
+  fun `watch for pod ready or terminal stops the informer when cancelled`() {
+    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
+    val namespaceable: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
+    val labels: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val informed = CompletableFuture<List<Pod>>()
+
+    every { pods.inNamespace(any()) } returns namespaceable
+    every { namespaceable.withLabels(any()) } returns labels
+    every { labels.informOnCondition(any()) } returns informed
+    every { kubernetesClient.pods() } returns pods
+
+    val readyPod = kubePodLauncher.watchForPodReadyOrTerminal(mapOf("label" to "value"))
+    assertFalse(readyPod.isDone)
+
+    readyPod.cancel(true)
+    assertTrue(informed.isCancelled)
+  }
+
+  @Test
+  fun `watch for pod ready or terminal waits for all the matching pods`() {
+    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
+    val namespaceable: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
+    val labels: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val condition = slot<Predicate<List<Pod>>>()
+
+    every { pods.inNamespace(any()) } returns namespaceable
+    every { namespaceable.withLabels(any()) } returns labels
+    every { labels.informOnCondition(capture(condition)) } returns CompletableFuture()
+    every { kubernetesClient.pods() } returns pods
+
+    kubePodLauncher.watchForPodReadyOrTerminal(mapOf("label" to "value"))
+
+    val readyPod =
+      PodBuilder()
+        .withNewStatus()
+        .addNewCondition()
+        .withType("Ready")
+        .withStatus("True")
+        .endCondition()
+        .endStatus()
+        .build()
+    val pendingPod =
+      PodBuilder()
+        .withNewStatus()
+        .withPhase("Pending")
+        .endStatus()
+        .build()
+    assertFalse(condition.captured.test(listOf()))
+    assertFalse(condition.captured.test(listOf(readyPod, pendingPod)))
+    assertTrue(condition.captured.test(listOf(readyPod, readyPod)))
+  }
+
   @Test
   fun `test fail to check if pod exist`() {
     assertFalse(kubePodLauncher.podsExist(mapOf()))
@@ -134,15 +202,11 @@ class KubePodLauncherTest {
         .withMaxRetries(maxRetries)
         .build()
 
-    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
-    val namespaceable: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
-    val labels: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val resource: NamespaceableResource<Pod> = mockk()
 
-    every { pods.inNamespace(any()) } returns namespaceable
-    every { namespaceable.withLabels(any()) } returns labels
-    every { labels.waitUntilCondition(any(), any(), any()) } throws
+    every { resource.waitUntilCondition(any(), any(), any()) } throws
       KubernetesClientException("An error has occurred", SocketTimeoutException("timeout"))
-    every { kubernetesClient.pods() } returns pods
+    every { kubernetesClient.resource(any<Pod>()) } returns resource
 
     val kubePodLauncher =
       KubePodLauncher(
@@ -154,7 +218,7 @@ class KubePodLauncherTest {
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminalByPod(mockk(), Duration.ofSeconds(30))
     }
     assertEquals(maxRetries, counter.get())
   }
@@ -172,15 +236,11 @@ class KubePodLauncherTest {
         .withMaxRetries(maxRetries)
         .build()
 
-    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
-    val namespaceable: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
-    val labels: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val resource: NamespaceableResource<Pod> = mockk()
 
-    every { pods.inNamespace(any()) } returns namespaceable
-    every { namespaceable.withLabels(any()) } returns labels
-    every { labels.waitUntilCondition(any(), any(), any()) } throws
+    every { resource.waitUntilCondition(any(), any(), any()) } throws
       KubernetesClientException("An error has occurred", IOException("stream refused", StreamResetException(ErrorCode.INTERNAL_ERROR)))
-    every { kubernetesClient.pods() } returns pods
+    every { kubernetesClient.resource(any<Pod>()) } returns resource
 
     val kubePodLauncher =
       KubePodLauncher(
@@ -192,7 +252,7 @@ class KubePodLauncherTest {
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminalByPod(mockk(), Duration.ofSeconds(30))
     }
     assertEquals(maxRetries, counter.get())
   }
@@ -210,18 +270,14 @@ class KubePodLauncherTest {
         .withMaxRetries(maxRetries)
         .build()
 
-    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
-    val namespaceable: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
-    val labels: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val resource: NamespaceableResource<Pod> = mockk()
     val hasMetadata: HasMetadata = mockk()
 
     every { hasMetadata.kind } returns "kind"
     every { hasMetadata.metadata } returns ObjectMeta()
-    every { pods.inNamespace(any()) } returns namespaceable
-    every { namespaceable.withLabels(any()) } returns labels
-    every { labels.waitUntilCondition(any(), any(), any()) } throws
+    every { resource.waitUntilCondition(any(), any(), any()) } throws
       KubernetesClientTimeoutException(hasMetadata, 2L, TimeUnit.SECONDS)
-    every { kubernetesClient.pods() } returns pods
+    every { kubernetesClient.resource(any<Pod>()) } returns resource
 
     val kubePodLauncher =
       KubePodLauncher(
@@ -233,7 +289,7 @@ class KubePodLauncherTest {
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminalByPod(mockk(), Duration.ofSeconds(30))
     }
     assertEquals(0, counter.get())
   }
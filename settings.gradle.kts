@@ -121,6 +121,7 @@ include(":airbyte-keycloak")
 include(":airbyte-keycloak-setup")
 include(":airbyte-metrics:reporter")
 include(":airbyte-proxy")
+include(":airbyte-replication-benchmarks")
 include(":airbyte-server")
 include(":airbyte-temporal")
 include(":airbyte-tests")